@@ -0,0 +1,4 @@
+# Build type "benchmark": R8 sama dengan release, tapi nama class tidak di-obfuscate.
+# Baseline profile yang di-generate dari build ini berisi nama asli; AGP menulis
+# ulang profile tersebut lewat mapping R8 saat membangun release.
+-dontobfuscate
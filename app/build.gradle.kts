@@ -20,12 +20,27 @@ android {
 
     buildTypes {
         release {
-            isMinifyEnabled = false
+            // R8 full mode: shrink + optimize + obfuscate (lihat proguard-rules.pro)
+            isMinifyEnabled = true
+            isShrinkResources = true
             proguardFiles(
                 getDefaultProguardFile("proguard-android-optimize.txt"),
                 "proguard-rules.pro"
             )
         }
+        // Build untuk :macrobenchmark: seperti release (tidak debuggable),
+        // ditandatangani debug key supaya bisa di-install dari Gradle
+        create("benchmark") {
+            initWith(getByName("release"))
+            signingConfig = signingConfigs.getByName("debug")
+            matchingFallbacks += listOf("release")
+            // Tanpa obfuscation: baseline profile di-generate dengan nama class asli
+            proguardFiles("benchmark-rules.pro")
+        }
+    }
+    buildFeatures {
+        // BuildConfig.DEBUG: body logging HTTP hanya di debug build
+        buildConfig = true
     }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
@@ -38,29 +53,52 @@ dependencies {
     implementation(libs.material)
     implementation(libs.activity)
     implementation(libs.constraintlayout)
+    // Trace section (AppTrace) untuk systrace / Perfetto / macrobenchmark
+    implementation(libs.tracing)
+    // Pasang baseline profile (src/main/baseline-prof.txt) saat app di-install di luar Play Store
+    implementation(libs.profileinstaller)
     
     // Retrofit & Gson
     implementation(libs.retrofit)
     implementation(libs.retrofit.gson)
     implementation(libs.okhttp)
     implementation(libs.okhttp.logging)
+    implementation(libs.okhttp.brotli)
     implementation(libs.gson)
+    // Histogram latency network per fase (NetworkMetrics)
+    implementation(libs.hdrhistogram)
     
     // Glide for Image Loading
     implementation(libs.glide)
+    annotationProcessor(libs.glide.compiler)
+    // Glide memakai OkHttp client bersama (pool & dispatcher sama dengan Retrofit)
+    implementation(libs.glide.okhttp3)
+    // RecyclerViewPreloader: prefetch gambar untuk baris yang belum terlihat
+    implementation(libs.glide.recyclerview)
     
     // CardView for Grid Item Card
     implementation(libs.cardview)
+
+    // RecyclerView (grid + DiffUtil)
+    implementation(libs.recyclerview)
     
     // MVVM - Lifecycle, ViewModel, LiveData
     implementation(libs.lifecycle.viewmodel)
     implementation(libs.lifecycle.livedata)
     
+    // Background sync terjadwal (RestaurantSyncWorker): unmetered + charging
+    implementation(libs.work.runtime)
+
     // Coroutines for async operations
     implementation(libs.coroutines.core)
     implementation(libs.coroutines.android)
 
     testImplementation(libs.junit)
+    testImplementation(libs.okhttp.mockwebserver)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
+    // TestDriver WorkManager + server lokal untuk RestaurantSyncWorkerTest
+    androidTestImplementation(libs.work.testing)
+    androidTestImplementation(libs.okhttp.mockwebserver)
+    androidTestImplementation(libs.metrics.performance)
 }
\ No newline at end of file
@@ -1,21 +1,24 @@
-# Add project specific ProGuard rules here.
-# You can control the set of applied configuration files using the
-# proguardFiles setting in build.gradle.
-#
-# For more details, see
-#   http://developer.android.com/guide/developing/tools/proguard.html
+# R8 full mode (gradle.properties: android.enableR8.fullMode=true) membuang
+# constructor, field dan generic signature yang tidak dipakai secara langsung.
+# Aturan di bawah hanya menjaga yang diakses lewat reflection.
 
-# If your project uses WebView with JS, uncomment the following
-# and specify the fully qualified class name to the JavaScript interface
-# class:
-#-keepclassmembers class fqcn.of.javascript.interface.for.webview {
-#   public *;
-#}
+# Stack trace crash report tetap terbaca (mapping.txt untuk de-obfuscate)
+-keepattributes SourceFile,LineNumberTable
+-renamesourcefileattribute SourceFile
 
-# Uncomment this to preserve the line number information for
-# debugging stack traces.
-#-keepattributes SourceFile,LineNumberTable
+# ---- Gson ----
+# DTO (RestaurantDto, RestaurantResponse, detail) di-parse oleh DtoTypeAdapterFactory
+# lewat akses field langsung, jadi TIDAK perlu keep rule: R8 boleh rename/inline field.
+# Signature tetap dibutuhkan Retrofit untuk membaca tipe generic Call<T>.
+-keepattributes Signature,*Annotation*,InnerClasses,EnclosingMethod
+# Gson 2.10 belum membawa consumer rules sendiri
+-keep,allowobfuscation,allowshrinking class com.google.gson.reflect.TypeToken
+-keep,allowobfuscation,allowshrinking class * extends com.google.gson.reflect.TypeToken
 
-# If you keep the line number information, uncomment this to
-# hide the original source file name.
-#-renamesourcefileattribute SourceFile
\ No newline at end of file
+# ---- Retrofit (full mode) ----
+# Retrofit 2.9 membawa rules dasar; full mode butuh generic Call<T>/Response<T> tetap utuh
+# supaya tipe body (List<Restaurant>, RestaurantDelta, RestaurantDetailResponse) terbaca.
+-keep,allowobfuscation,allowshrinking interface retrofit2.Call
+-keep,allowobfuscation,allowshrinking class retrofit2.Response
+-if interface * { @retrofit2.http.* public *** *(...); }
+-keep,allowoptimization,allowshrinking,allowobfuscation class <3>
@@ -0,0 +1,183 @@
+package com.example.restaurantapps.data.sync;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.work.Configuration;
+import androidx.work.ListenableWorker;
+import androidx.work.NetworkType;
+import androidx.work.WorkInfo;
+import androidx.work.WorkManager;
+import androidx.work.WorkerFactory;
+import androidx.work.WorkerParameters;
+import androidx.work.testing.SynchronousExecutor;
+import androidx.work.testing.TestDriver;
+import androidx.work.testing.WorkManagerTestInitHelper;
+
+import com.example.restaurantapps.data.local.CachePolicy;
+import com.example.restaurantapps.data.local.OfflineFirstRestaurantRepository;
+import com.example.restaurantapps.data.local.RestaurantLocalDataSource;
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryImpl;
+import com.example.restaurantapps.data.repository.SingleFlightRestaurantRepository;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Instrumented test: jadwal sync lewat TestDriver WorkManager + MockWebServer.
+ * - constraint (UNMETERED + charging) belum terpenuhi → tidak ada request
+ * - run pertama refresh list & pre-warm thumbnail, interval berikutnya dipersingkat
+ * - periode berikutnya dalam TTL cache → FRESH tanpa request, interval kembali naik
+ *
+ * MockWebServer berjalan di http://localhost: cleartext diizinkan lewat
+ * network_security_config di source set debug.
+ */
+@RunWith(AndroidJUnit4.class)
+public class RestaurantSyncWorkerTest {
+
+    private static final String LIST = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"a\",\"name\":\"Kafe Kita\",\"pictureId\":\"25\",\"city\":\"Gorontalo\",\"rating\":4.2},"
+            + "{\"id\":\"b\",\"name\":\"Melting Pot\",\"pictureId\":\"14\",\"city\":\"Medan\",\"rating\":4.5},"
+            + "{\"id\":\"c\",\"name\":\"Bring Your Phone\",\"pictureId\":\"03\",\"city\":\"Surabaya\",\"rating\":4.0}]}";
+
+    private Context context;
+    private MockWebServer server;
+    private ExecutorService networkIO;
+    private File cacheDir;
+    private final AtomicInteger listCalls = new AtomicInteger();
+    private final List<String> prefetched = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() throws Exception {
+        context = ApplicationProvider.getApplicationContext();
+        context.getSharedPreferences(RestaurantSyncScheduler.PREFS_NAME, Context.MODE_PRIVATE)
+                .edit().clear().commit();
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                listCalls.incrementAndGet();
+                return new MockResponse().setBody(LIST);
+            }
+        });
+        server.start();
+        networkIO = Executors.newFixedThreadPool(2);
+        cacheDir = new File(context.getCacheDir(), "sync-worker-test");
+        deleteRecursively(cacheDir);
+
+        RestaurantSync sync = new RestaurantSync(newRepository(), urls -> {
+            prefetched.addAll(urls);
+            return urls.size();
+        }, new ImageUrlBuilder("https://img.test/"), 3);
+
+        Configuration config = new Configuration.Builder()
+                .setExecutor(new SynchronousExecutor())
+                .setWorkerFactory(new WorkerFactory() {
+                    @Override
+                    public ListenableWorker createWorker(@NonNull Context appContext,
+                                                         @NonNull String workerClassName,
+                                                         @NonNull WorkerParameters params) {
+                        return new RestaurantSyncWorker(appContext, params, sync);
+                    }
+                })
+                .build();
+        WorkManagerTestInitHelper.initializeTestWorkManager(context, config);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        networkIO.shutdownNow();
+        server.shutdown();
+        deleteRecursively(cacheDir);
+    }
+
+    @Test
+    public void scheduledSync_waitsForConstraintsThenRefreshesAndPrefetches() throws Exception {
+        RestaurantSyncScheduler.schedule(context);
+        WorkInfo info = scheduledWork();
+
+        assertEquals(NetworkType.UNMETERED, info.getConstraints().getRequiredNetworkType());
+        assertTrue(info.getConstraints().requiresCharging());
+        assertEquals(0, listCalls.get());
+
+        testDriver().setAllConstraintsMet(info.getId());
+
+        assertEquals(1, listCalls.get());
+        assertEquals(3, prefetched.size());
+        assertEquals("https://img.test/small/25", prefetched.get(0));
+        // CHANGED → interval dipersingkat
+        assertEquals(SyncSchedule.DEFAULT_INTERVAL_MILLIS / 2, RestaurantSyncScheduler.getIntervalMillis(context));
+    }
+
+    @Test
+    public void nextPeriodWithinTtl_isFreshAndBacksOff() throws Exception {
+        RestaurantSyncScheduler.schedule(context);
+        UUID id = scheduledWork().getId();
+        testDriver().setAllConstraintsMet(id);
+
+        testDriver().setPeriodDelayMet(id);
+
+        // Cache masih FRESH: tanpa request baru, thumbnail tetap di-warm dari list lokal
+        assertEquals(1, listCalls.get());
+        assertEquals(6, prefetched.size());
+        assertEquals(SyncSchedule.DEFAULT_INTERVAL_MILLIS, RestaurantSyncScheduler.getIntervalMillis(context));
+        assertEquals(WorkInfo.State.ENQUEUED, scheduledWork().getState());
+    }
+
+    private OfflineFirstRestaurantRepository newRepository() {
+        RestaurantApiService api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        SingleFlightRestaurantRepository remote = new SingleFlightRestaurantRepository(
+                new RestaurantRepositoryImpl(api, networkIO), 0L);
+        return new OfflineFirstRestaurantRepository(remote, new RestaurantLocalDataSource(cacheDir),
+                CachePolicy.defaultPolicy(), Runnable::run);
+    }
+
+    private WorkInfo scheduledWork() throws Exception {
+        List<WorkInfo> infos = WorkManager.getInstance(context)
+                .getWorkInfosForUniqueWork(RestaurantSyncScheduler.WORK_NAME).get();
+        assertEquals(1, infos.size());
+        return infos.get(0);
+    }
+
+    private TestDriver testDriver() {
+        TestDriver driver = WorkManagerTestInitHelper.getTestDriver(context);
+        assertNotNull(driver);
+        return driver;
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.restaurantapps.presentation.ui.activity;
+
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.lifecycle.ViewModelProvider;
+import androidx.metrics.performance.FrameData;
+import androidx.metrics.performance.JankStats;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.restaurantapps.R;
+import com.example.restaurantapps.presentation.image.ImageLoadStats;
+import com.example.restaurantapps.presentation.viewmodel.RestaurantViewModel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Instrumented test: ukur frame time & jank grid saat scroll dan saat refresh.
+ *
+ * Hasil dikirim sebagai instrumentation status (terlihat di output
+ * "am instrument -r") dan Logcat tag GridJankTest, format:
+ *   phase=scroll frames=.. jank=..% p50=..ms p90=..ms p99=..ms
+ * plus satu baris statistik image (hit ratio, decode time) untuk fase scroll.
+ * Jalankan di build sebelum & sesudah perubahan adapter untuk membandingkan.
+ * Butuh koneksi (atau cache) supaya grid berisi data.
+ */
+@RunWith(AndroidJUnit4.class)
+public class GridJankTest {
+
+    private static final String TAG = "GridJankTest";
+    private static final long DATA_TIMEOUT_MS = 15_000;
+    private static final int SCROLL_STEPS = 20;
+    private static final int REFRESH_COUNT = 5;
+
+    @Test
+    public void scrollAndRefresh_reportFrameStats() {
+        try (ActivityScenario<MainActivity> scenario = ActivityScenario.launch(MainActivity.class)) {
+            waitForItems(scenario);
+            ImageLoadStats.getInstance().reset();
+
+            FrameRecorder scroll = new FrameRecorder();
+            track(scenario, scroll);
+            for (int i = 0; i < SCROLL_STEPS; i++) {
+                int direction = i < SCROLL_STEPS / 2 ? 1 : -1;
+                scenario.onActivity(activity -> {
+                    RecyclerView grid = activity.findViewById(R.id.recyclerViewRestaurant);
+                    grid.smoothScrollBy(0, direction * grid.getHeight() / 2);
+                });
+                SystemClock.sleep(250);
+            }
+            report("scroll", scroll.stop(scenario));
+            sendLine("images", ImageLoadStats.getInstance().summary());
+
+            FrameRecorder refresh = new FrameRecorder();
+            track(scenario, refresh);
+            for (int i = 0; i < REFRESH_COUNT; i++) {
+                scenario.onActivity(activity ->
+                        new ViewModelProvider(activity).get(RestaurantViewModel.class).loadRestaurants());
+                SystemClock.sleep(1_000);
+            }
+            FrameStats refreshStats = refresh.stop(scenario);
+            report("refresh", refreshStats);
+
+            assertTrue("Tidak ada frame yang tercatat", refreshStats.frames > 0);
+        }
+    }
+
+    private static void waitForItems(ActivityScenario<MainActivity> scenario) {
+        long deadline = SystemClock.uptimeMillis() + DATA_TIMEOUT_MS;
+        int[] count = {0};
+        while (count[0] == 0 && SystemClock.uptimeMillis() < deadline) {
+            scenario.onActivity(activity -> {
+                RecyclerView grid = activity.findViewById(R.id.recyclerViewRestaurant);
+                count[0] = grid.getAdapter() != null ? grid.getAdapter().getItemCount() : 0;
+            });
+            SystemClock.sleep(100);
+        }
+        assertTrue("Grid tidak terisi dalam " + DATA_TIMEOUT_MS + " ms", count[0] > 0);
+    }
+
+    private static void track(ActivityScenario<MainActivity> scenario, FrameRecorder recorder) {
+        // JankStats wajib dibuat di UI thread
+        scenario.onActivity(activity ->
+                recorder.jankStats = JankStats.createAndTrack(activity.getWindow(), recorder));
+    }
+
+    private static void report(String phase, FrameStats stats) {
+        String line = String.format(Locale.US, "phase=%s frames=%d jank=%.1f%% p50=%.1fms p90=%.1fms p99=%.1fms",
+                phase, stats.frames, stats.jankPercent, stats.p50Ms, stats.p90Ms, stats.p99Ms);
+        sendLine(phase, line);
+    }
+
+    private static void sendLine(String key, String line) {
+        Log.i(TAG, line);
+
+        Bundle results = new Bundle();
+        results.putString(TAG + "." + key, line);
+        InstrumentationRegistry.getInstrumentation().sendStatus(0, results);
+    }
+
+    private static class FrameRecorder implements JankStats.OnFrameListener {
+        JankStats jankStats;
+        private final List<Long> durationsNanos = new ArrayList<>();
+        private int jankFrames;
+
+        @Override
+        public void onFrame(FrameData frameData) {
+            // Dipanggil di UI thread
+            durationsNanos.add(frameData.getFrameDurationUiNanos());
+            if (frameData.isJank()) {
+                jankFrames++;
+            }
+        }
+
+        FrameStats stop(ActivityScenario<MainActivity> scenario) {
+            FrameStats[] stats = new FrameStats[1];
+            scenario.onActivity(activity -> {
+                jankStats.setTrackingEnabled(false);
+                stats[0] = new FrameStats(durationsNanos, jankFrames);
+            });
+            return stats[0];
+        }
+    }
+
+    private static class FrameStats {
+        final int frames;
+        final double jankPercent;
+        final double p50Ms;
+        final double p90Ms;
+        final double p99Ms;
+
+        FrameStats(List<Long> durationsNanos, int jankFrames) {
+            List<Long> sorted = new ArrayList<>(durationsNanos);
+            Collections.sort(sorted);
+            frames = sorted.size();
+            jankPercent = frames == 0 ? 0 : jankFrames * 100.0 / frames;
+            p50Ms = percentile(sorted, 0.50);
+            p90Ms = percentile(sorted, 0.90);
+            p99Ms = percentile(sorted, 0.99);
+        }
+
+        private static double percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1);
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
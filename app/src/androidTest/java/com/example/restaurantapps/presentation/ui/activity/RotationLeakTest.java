@@ -0,0 +1,147 @@
+package com.example.restaurantapps.presentation.ui.activity;
+
+import android.content.pm.ActivityInfo;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.lifecycle.Lifecycle;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.bumptech.glide.Glide;
+import com.example.restaurantapps.R;
+import com.example.restaurantapps.presentation.image.ImageLoadStats;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Instrumented test: rotate layar 50x, lalu cek
+ * - heap terpakai (setelah GC & clear memory cache Glide) tetap datar
+ * - Activity lama bisa di-GC (tidak ada yang menahan reference)
+ * - request image yang berjalan tidak pernah melebihi jumlah cell Activity saat ini,
+ *   dan kembali ke 0 setelah Activity terakhir destroy
+ *
+ * Hasil dikirim sebagai instrumentation status & Logcat tag RotationLeakTest.
+ */
+@RunWith(AndroidJUnit4.class)
+public class RotationLeakTest {
+
+    private static final String TAG = "RotationLeakTest";
+    private static final int ROTATIONS = 50;
+    private static final int WARMUP_ROTATIONS = 5;
+    private static final long MAX_HEAP_GROWTH_BYTES = 4L * 1024 * 1024;
+    private static final long RECREATE_TIMEOUT_MS = 5_000;
+
+    @Test
+    public void rotate50Times_heapStaysFlatAndNoOrphanRequests() {
+        List<WeakReference<MainActivity>> destroyed = new ArrayList<>();
+        long baselineHeap = 0;
+        long finalHeap;
+        int maxExcessRequests = 0;
+
+        try (ActivityScenario<MainActivity> scenario = ActivityScenario.launch(MainActivity.class)) {
+            for (int i = 0; i < ROTATIONS; i++) {
+                destroyed.add(new WeakReference<>(rotate(scenario)));
+
+                // Request Activity lama sudah di-clear: sisa request ≤ cell yang terpasang sekarang
+                int[] excess = {0};
+                scenario.onActivity(activity -> {
+                    RecyclerView grid = activity.findViewById(R.id.recyclerViewRestaurant);
+                    excess[0] = ImageLoadStats.getInstance().getOutstandingRequests() - grid.getChildCount();
+                });
+                maxExcessRequests = Math.max(maxExcessRequests, excess[0]);
+
+                if (i + 1 == WARMUP_ROTATIONS) {
+                    baselineHeap = usedHeapAfterGc(scenario);
+                }
+            }
+            finalHeap = usedHeapAfterGc(scenario);
+        }
+        InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+        forceGc();
+
+        int leakedActivities = 0;
+        for (WeakReference<MainActivity> reference : destroyed) {
+            if (reference.get() != null) {
+                leakedActivities++;
+            }
+        }
+        int outstandingAfterClose = ImageLoadStats.getInstance().getOutstandingRequests();
+        long heapGrowth = finalHeap - baselineHeap;
+
+        report(String.format(Locale.US,
+                "rotations=%d heapGrowth=%dKB leakedActivities=%d maxExcessRequests=%d outstandingAfterClose=%d",
+                ROTATIONS, heapGrowth / 1024, leakedActivities, maxExcessRequests, outstandingAfterClose));
+
+        assertTrue("Heap naik " + heapGrowth / 1024 + " KB setelah " + ROTATIONS + " rotasi",
+                heapGrowth <= MAX_HEAP_GROWTH_BYTES);
+        // Toleransi 1: reference terakhir bisa masih tertahan di stack frame test
+        assertTrue(leakedActivities + " Activity lama tidak ter-GC", leakedActivities <= 1);
+        assertTrue("Request Activity lama masih berjalan", maxExcessRequests <= 0);
+        assertEquals("Request yatim setelah Activity destroy", 0, outstandingAfterClose);
+    }
+
+    /**
+     * Rotate ke orientasi sebaliknya lalu tunggu Activity baru RESUMED. Mengembalikan Activity lama.
+     */
+    private static MainActivity rotate(ActivityScenario<MainActivity> scenario) {
+        MainActivity[] current = {null};
+        scenario.onActivity(activity -> {
+            current[0] = activity;
+            boolean landscape = activity.getResources().getConfiguration().orientation
+                    == Configuration.ORIENTATION_LANDSCAPE;
+            activity.setRequestedOrientation(landscape
+                    ? ActivityInfo.SCREEN_ORIENTATION_PORTRAIT
+                    : ActivityInfo.SCREEN_ORIENTATION_LANDSCAPE);
+        });
+        MainActivity previous = current[0];
+
+        long deadline = SystemClock.uptimeMillis() + RECREATE_TIMEOUT_MS;
+        while (SystemClock.uptimeMillis() < deadline) {
+            InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+            scenario.onActivity(activity -> current[0] = activity);
+            if (current[0] != previous && scenario.getState() == Lifecycle.State.RESUMED) {
+                return previous;
+            }
+            SystemClock.sleep(50);
+        }
+        fail("Activity tidak di-recreate dalam " + RECREATE_TIMEOUT_MS + " ms");
+        return previous;
+    }
+
+    private static long usedHeapAfterGc(ActivityScenario<MainActivity> scenario) {
+        // Memory cache Glide sengaja dikosongkan: yang diukur hanya objek yang tertahan
+        scenario.onActivity(activity -> Glide.get(activity).clearMemory());
+        forceGc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void forceGc() {
+        for (int i = 0; i < 3; i++) {
+            Runtime.getRuntime().gc();
+            System.runFinalization();
+            SystemClock.sleep(100);
+        }
+    }
+
+    private static void report(String line) {
+        Log.i(TAG, line);
+
+        Bundle results = new Bundle();
+        results.putString(TAG, line);
+        InstrumentationRegistry.getInstrumentation().sendStatus(0, results);
+    }
+}
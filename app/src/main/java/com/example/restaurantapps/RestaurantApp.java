@@ -0,0 +1,49 @@
+package com.example.restaurantapps;
+
+import android.app.Application;
+
+import androidx.tracing.Trace;
+
+import com.example.restaurantapps.data.executor.AppExecutors;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryProvider;
+import com.example.restaurantapps.data.sync.RestaurantSyncScheduler;
+import com.example.restaurantapps.data.trace.AppTrace;
+import com.example.restaurantapps.presentation.image.GlideThumbnailPrefetcher;
+
+/**
+ * Application: titik paling awal cold start yang bisa kita ukur.
+ *
+ * Hanya memasang tracer dan memulai warm-up network. Inisialisasi berat
+ * (Retrofit, repository, koneksi TLS) berjalan di background thread,
+ * paralel dengan inflate Activity, tidak menambah waktu sebelum frame pertama.
+ *
+ * Background sync (WorkManager) juga dijadwalkan dari sini, di diskIO:
+ * inisialisasi WorkManager membuka database-nya sendiri.
+ */
+public class RestaurantApp extends Application {
+
+    @Override
+    public void onCreate() {
+        // Tracer dipasang sebelum section pertama: semua fase startup terlihat di Perfetto
+        AppTrace.setTracer(new AppTrace.Tracer() {
+            @Override
+            public void beginSection(String name) {
+                Trace.beginSection(name);
+            }
+
+            @Override
+            public void endSection() {
+                Trace.endSection();
+            }
+        });
+        AppTrace.begin("RestaurantApp.onCreate");
+        try {
+            super.onCreate();
+            RestaurantRepositoryProvider.configureThumbnailPrefetcher(new GlideThumbnailPrefetcher(this));
+            RestaurantRepositoryProvider.warmUp(this);
+            AppExecutors.getInstance().diskIO().execute(() -> RestaurantSyncScheduler.schedule(this));
+        } finally {
+            AppTrace.end();
+        }
+    }
+}
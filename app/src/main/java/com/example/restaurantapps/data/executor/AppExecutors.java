@@ -0,0 +1,92 @@
+package com.example.restaurantapps.data.executor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DATA LAYER: Executor bersama (Singleton)
+ *
+ * - diskIO()    : 1 thread, menjaga urutan baca/tulis cache disk
+ * - networkIO() : pool kecil & BOUNDED untuk request + parsing + mapping.
+ *                 Antrian penuh → RejectedExecutionException (dilaporkan sebagai
+ *                 error ke callback), bukan thread baru tanpa batas.
+ *
+ * Bisa di-inject lewat constructor (misal executor langsung di unit test).
+ *
+ * Interview Q: "Kenapa tidak pakai enqueue() Retrofit saja?"
+ * A: enqueue() memakai thread pool OkHttp yang tidak dibatasi, dan di Android
+ *    callback-nya dikirim ke main thread. Dengan executor sendiri, parsing,
+ *    mapping dan callback jelas berjalan di background dan jumlah thread terkendali.
+ */
+public class AppExecutors {
+
+    private static final int NETWORK_THREADS = 3;
+    private static final int NETWORK_QUEUE_CAPACITY = 64;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static AppExecutors instance;
+
+    private final Executor diskIO;
+    private final Executor networkIO;
+
+    public AppExecutors(Executor diskIO, Executor networkIO) {
+        this.diskIO = diskIO;
+        this.networkIO = networkIO;
+    }
+
+    public static synchronized AppExecutors getInstance() {
+        if (instance == null) {
+            instance = new AppExecutors(newDiskExecutor(), newNetworkExecutor());
+        }
+        return instance;
+    }
+
+    public Executor diskIO() {
+        return diskIO;
+    }
+
+    public Executor networkIO() {
+        return networkIO;
+    }
+
+    private static ExecutorService newDiskExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory("restaurant-disk"));
+    }
+
+    private static ExecutorService newNetworkExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(NETWORK_THREADS, NETWORK_THREADS,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(NETWORK_QUEUE_CAPACITY),
+                new NamedThreadFactory("restaurant-net"));
+        // Thread idle dimatikan supaya tidak menahan resource saat app diam
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Nama thread yang jelas memudahkan membaca trace/profiler & test threading.
+     */
+    static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            // Di bawah prioritas UI thread
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    }
+}
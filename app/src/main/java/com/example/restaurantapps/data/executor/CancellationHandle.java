@@ -0,0 +1,49 @@
+package com.example.restaurantapps.data.executor;
+
+import com.example.restaurantapps.domain.repository.Cancellable;
+
+/**
+ * Cancellable untuk pekerjaan asynchronous bertahap (misal baca disk dulu,
+ * lalu request network). Tahap berikutnya didaftarkan lewat setDelegate():
+ * jika handle sudah di-cancel, delegate langsung ikut di-cancel.
+ *
+ * Thread-safe: cancel() biasanya dari main thread, setDelegate() dari executor.
+ */
+public final class CancellationHandle implements Cancellable {
+
+    private Cancellable delegate;
+    private boolean cancelled;
+
+    public void setDelegate(Cancellable delegate) {
+        boolean cancelNow;
+        synchronized (this) {
+            cancelNow = cancelled;
+            if (!cancelled) {
+                this.delegate = delegate;
+            }
+        }
+        if (cancelNow) {
+            delegate.cancel();
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+        Cancellable toCancel;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            toCancel = delegate;
+            delegate = null;
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.restaurantapps.data.executor;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * DATA LAYER: Threading Contract (runtime check)
+ *
+ * Kontrak threading aplikasi:
+ * - Main thread  : hanya UI + setValue() LiveData
+ * - Background   : network, parsing JSON, mapping DTO → domain, disk I/O
+ *                  (lihat AppExecutors), hasil dikirim ke UI lewat postValue()
+ *
+ * Kode berat memanggil assertNotMainThread() di awal, jadi pelanggaran
+ * langsung crash saat development (seperti Room untuk query di main thread),
+ * bukan diam-diam menyebabkan frame drop.
+ *
+ * Checker bisa diganti: di Android memakai Looper (lihat RestaurantRepositoryProvider),
+ * di unit test JVM bisa memakai thread test sebagai "main thread".
+ */
+public final class ThreadContract {
+
+    // Default: tidak ada main thread (JVM murni, misal modul benchmark)
+    private static volatile BooleanSupplier mainThreadChecker = () -> false;
+
+    private ThreadContract() {
+    }
+
+    public static void setMainThreadChecker(BooleanSupplier checker) {
+        mainThreadChecker = checker != null ? checker : () -> false;
+    }
+
+    public static boolean isMainThread() {
+        return mainThreadChecker.getAsBoolean();
+    }
+
+    /**
+     * @param operation nama pekerjaan untuk pesan error, misal "Parsing response"
+     * @throws IllegalStateException jika dipanggil dari main thread
+     */
+    public static void assertNotMainThread(String operation) {
+        if (isMainThread()) {
+            throw new IllegalStateException(operation + " tidak boleh dijalankan di main thread");
+        }
+    }
+}
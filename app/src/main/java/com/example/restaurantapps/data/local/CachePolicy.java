@@ -0,0 +1,68 @@
+package com.example.restaurantapps.data.local;
+
+/**
+ * DATA LAYER: Cache Policy (TTL + stale-while-revalidate)
+ *
+ * Menentukan seberapa "segar" data cache berdasarkan umurnya:
+ * - FRESH   : umur < ttl → tampilkan cache, TIDAK perlu ke network
+ * - STALE   : ttl ≤ umur < ttl + staleWhileRevalidate → tampilkan cache,
+ *             lalu refresh dari network di background
+ * - EXPIRED : umur ≥ ttl + staleWhileRevalidate → cache terlalu lama,
+ *             tunggu network (cache hanya dipakai sebagai fallback saat offline)
+ *
+ * Interview Q: "Apa itu stale-while-revalidate?"
+ * A: Strategi cache: tampilkan data lama secepatnya, sambil ambil data baru
+ *    di background. User tidak menunggu network untuk melihat sesuatu.
+ */
+public class CachePolicy {
+
+    public enum Freshness {
+        FRESH,
+        STALE,
+        EXPIRED
+    }
+
+    public static final long DEFAULT_TTL_MILLIS = 5 * 60 * 1000L;                       // 5 menit
+    public static final long DEFAULT_STALE_WHILE_REVALIDATE_MILLIS = 7 * 24 * 60 * 60 * 1000L; // 7 hari
+
+    private final long ttlMillis;
+    private final long staleWhileRevalidateMillis;
+
+    public CachePolicy(long ttlMillis, long staleWhileRevalidateMillis) {
+        if (ttlMillis < 0 || staleWhileRevalidateMillis < 0) {
+            throw new IllegalArgumentException("ttl dan staleWhileRevalidate tidak boleh negatif");
+        }
+        this.ttlMillis = ttlMillis;
+        this.staleWhileRevalidateMillis = staleWhileRevalidateMillis;
+    }
+
+    public static CachePolicy defaultPolicy() {
+        return new CachePolicy(DEFAULT_TTL_MILLIS, DEFAULT_STALE_WHILE_REVALIDATE_MILLIS);
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public long getStaleWhileRevalidateMillis() {
+        return staleWhileRevalidateMillis;
+    }
+
+    /**
+     * Hitung freshness dari waktu simpan cache.
+     * Jam device bisa mundur (savedAt > now) → anggap STALE supaya tetap di-refresh.
+     */
+    public Freshness evaluate(long savedAtMillis, long nowMillis) {
+        long age = nowMillis - savedAtMillis;
+        if (age < 0) {
+            return Freshness.STALE;
+        }
+        if (age < ttlMillis) {
+            return Freshness.FRESH;
+        }
+        if (age < ttlMillis + staleWhileRevalidateMillis) {
+            return Freshness.STALE;
+        }
+        return Freshness.EXPIRED;
+    }
+}
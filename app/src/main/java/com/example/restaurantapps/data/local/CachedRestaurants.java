@@ -0,0 +1,55 @@
+package com.example.restaurantapps.data.local;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DATA LAYER: Cache Entry
+ *
+ * Snapshot list restaurant yang tersimpan di disk + metadata waktu simpan.
+ * Metadata ini yang dipakai CachePolicy untuk menentukan FRESH/STALE/EXPIRED.
+ * syncVersion = versi katalog server untuk delta sync (0 = belum diketahui).
+ * complete = false: hanya halaman awal katalog (paging yang belum sampai halaman
+ * terakhir). Cukup untuk cold start grid, bukan pengganti list penuh.
+ */
+public class CachedRestaurants {
+
+    private final List<Restaurant> restaurants;
+    private final long savedAtMillis;
+    private final long syncVersion;
+    private final boolean complete;
+
+    public CachedRestaurants(List<Restaurant> restaurants, long savedAtMillis) {
+        this(restaurants, savedAtMillis, 0L);
+    }
+
+    public CachedRestaurants(List<Restaurant> restaurants, long savedAtMillis, long syncVersion) {
+        this(restaurants, savedAtMillis, syncVersion, true);
+    }
+
+    public CachedRestaurants(List<Restaurant> restaurants, long savedAtMillis, long syncVersion,
+                             boolean complete) {
+        this.restaurants = Collections.unmodifiableList(restaurants);
+        this.savedAtMillis = savedAtMillis;
+        this.syncVersion = syncVersion;
+        this.complete = complete;
+    }
+
+    public List<Restaurant> getRestaurants() {
+        return restaurants;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    public long getSyncVersion() {
+        return syncVersion;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,584 @@
+package com.example.restaurantapps.data.local;
+
+import com.example.restaurantapps.data.executor.CancellationHandle;
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantDeltaSource;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * DATA LAYER: Offline-first Repository (Decorator)
+ *
+ * Membungkus repository remote dengan cache disk:
+ * 1. Baca cache (memory dulu, lalu disk) → kirim ke callback SEGERA
+ * 2. Cek CachePolicy:
+ *    - FRESH   → selesai, tidak perlu network
+ *    - STALE   → refresh dari network di background, kirim update ke callback
+ *    - EXPIRED → tunggu network, cache hanya dipakai kalau network gagal
+ * 3. Hasil network disimpan ke disk untuk cold start berikutnya
+ *
+ * Karena itu onSuccess() bisa dipanggil DUA kali (cache lalu network).
+ *
+ * Paging:
+ * - Cache masih layak → halaman dipotong dari cache (instan). Page 0 dari cache
+ *   STALE di-revalidate tanpa download katalog: delta (cache lengkap + syncVersion)
+ *   atau page 0 dari endpoint paging, lalu page 0 dikirim ulang dengan data baru.
+ * - Tidak ada cache / halaman di luar cache → paging ke remote. Halaman yang datang
+ *   berurutan disimpan SETIAP halaman sebagai cache parsial (complete = false),
+ *   jadi cold start berikutnya tetap punya grid walau user tidak scroll sampai akhir.
+ *   Penulisan disk di-coalesce: burst halaman = satu tulis snapshot terbaru.
+ * - Cache parsial tidak dianggap list penuh: getRestaurants()/sync() tetap ke network.
+ *
+ * Delta sync (jika deltaSource dipasang):
+ * - Refresh mengirim syncVersion cache → server membalas hanya upsert + delete
+ * - Delta digabung ke list cache (applyTo) dan di-append ke journal disk;
+ *   snapshot penuh ditulis ulang setiap MAX_JOURNAL_ENTRIES delta (compaction)
+ * - Server tanpa endpoint delta (404/400/501) → kembali ke list penuh, dan
+ *   endpoint delta tidak dicoba lagi selama process hidup
+ *
+ * Background sync (sync(), dipanggil RestaurantSyncWorker):
+ * - Memakai cache & jalur refresh yang sama dengan UI, jadi otomatis tidak dobel:
+ *   cache masih FRESH (UI baru saja refresh) → tanpa network; refresh yang sedang
+ *   berjalan → ikut flight yang sama (SingleFlightRestaurantRepository)
+ * - Error dilaporkan apa adanya (tidak diganti data cache) supaya worker bisa retry
+ *
+ * Interview Q: "Kenapa pakai decorator, bukan ubah RestaurantRepositoryImpl?"
+ * A: Single responsibility. RestaurantRepositoryImpl tetap fokus ke API,
+ *    class ini fokus ke caching. ViewModel tidak perlu tahu bedanya
+ *    karena keduanya implementasi RestaurantRepository.
+ */
+public class OfflineFirstRestaurantRepository implements RestaurantRepository {
+
+    /**
+     * Hasil sync(). Dipanggil tepat sekali (kecuali di-cancel), dari background thread.
+     */
+    public interface SyncCallback {
+        /**
+         * @param refreshed false jika cache masih FRESH (tidak ada request network)
+         * @param changed   true jika isi list berbeda dari cache sebelumnya
+         */
+        void onSynced(List<Restaurant> restaurants, boolean refreshed, boolean changed);
+
+        void onError(String error);
+    }
+
+    private final RestaurantRepository remoteRepository;
+    private final RestaurantLocalDataSource localDataSource;
+    private final CachePolicy cachePolicy;
+    private final Executor diskExecutor;
+    private final LongSupplier clock;
+    private final RestaurantDeltaSource deltaSource;
+
+    // false setelah server menjawab endpoint delta tidak ada
+    private volatile boolean deltaSupported = true;
+
+    // Cache di memory: Activity recreation tidak perlu baca disk lagi
+    private volatile CachedRestaurants memoryCache;
+
+    // Halaman remote yang sudah diterima berurutan (untuk disimpan ke cache)
+    private final List<Restaurant> remotePages = new ArrayList<>();
+    private int nextRemotePageKey;
+    // Waktu halaman tertua di remotePages: umur cache parsial = umur data tertuanya
+    private long remotePagesSavedAt;
+
+    // Snapshot halaman yang menunggu ditulis (null = tidak ada tulis yang terjadwal)
+    private final AtomicReference<CachedRestaurants> pendingPagePersist = new AtomicReference<>();
+
+    public OfflineFirstRestaurantRepository(RestaurantRepository remoteRepository,
+                                            RestaurantLocalDataSource localDataSource,
+                                            CachePolicy cachePolicy,
+                                            Executor diskExecutor) {
+        this(remoteRepository, localDataSource, cachePolicy, diskExecutor, System::currentTimeMillis);
+    }
+
+    public OfflineFirstRestaurantRepository(RestaurantRepository remoteRepository,
+                                            RestaurantLocalDataSource localDataSource,
+                                            CachePolicy cachePolicy,
+                                            Executor diskExecutor,
+                                            LongSupplier clock) {
+        this(remoteRepository, null, localDataSource, cachePolicy, diskExecutor, clock);
+    }
+
+    /**
+     * @param deltaSource sumber delta sync, null = selalu refresh list penuh
+     */
+    public OfflineFirstRestaurantRepository(RestaurantRepository remoteRepository,
+                                            RestaurantDeltaSource deltaSource,
+                                            RestaurantLocalDataSource localDataSource,
+                                            CachePolicy cachePolicy,
+                                            Executor diskExecutor) {
+        this(remoteRepository, deltaSource, localDataSource, cachePolicy, diskExecutor,
+                System::currentTimeMillis);
+    }
+
+    public OfflineFirstRestaurantRepository(RestaurantRepository remoteRepository,
+                                            RestaurantDeltaSource deltaSource,
+                                            RestaurantLocalDataSource localDataSource,
+                                            CachePolicy cachePolicy,
+                                            Executor diskExecutor,
+                                            LongSupplier clock) {
+        this.remoteRepository = remoteRepository;
+        this.deltaSource = deltaSource;
+        this.localDataSource = localDataSource;
+        this.cachePolicy = cachePolicy;
+        this.diskExecutor = diskExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public Cancellable getRestaurants(RestaurantCallback callback) {
+        CancellationHandle handle = new CancellationHandle();
+        RestaurantCallback guarded = guard(callback, handle);
+
+        // Disk I/O tidak boleh di main thread
+        diskExecutor.execute(() -> {
+            if (handle.isCancelled()) {
+                return;
+            }
+            CachedRestaurants cached = loadCache();
+            CachePolicy.Freshness freshness = cached != null
+                    ? cachePolicy.evaluate(cached.getSavedAtMillis(), clock.getAsLong())
+                    : CachePolicy.Freshness.EXPIRED;
+
+            boolean servedFromCache = cached != null && freshness != CachePolicy.Freshness.EXPIRED;
+            if (servedFromCache) {
+                // Step 1: First paint dari cache, tanpa menunggu network
+                guarded.onSuccess(cached.getRestaurants());
+            }
+
+            if (freshness == CachePolicy.Freshness.FRESH && cached.isComplete()) {
+                return;
+            }
+
+            // Step 2: Revalidate dari network (cache parsial: list penuh belum pernah diambil)
+            handle.setDelegate(refreshFromNetwork(guarded, cached,
+                    error -> deliverRefreshError(guarded, cached, servedFromCache, error)));
+        });
+        return handle;
+    }
+
+    @Override
+    public Cancellable getRestaurantPage(PageRequest request, PageCallback callback) {
+        CancellationHandle handle = new CancellationHandle();
+        PageCallback guarded = guard(callback, handle);
+
+        diskExecutor.execute(() -> {
+            if (handle.isCancelled()) {
+                return;
+            }
+            CachedRestaurants cached = loadCache();
+            CachePolicy.Freshness freshness = cached != null
+                    ? cachePolicy.evaluate(cached.getSavedAtMillis(), clock.getAsLong())
+                    : CachePolicy.Freshness.EXPIRED;
+
+            if (cached != null && freshness != CachePolicy.Freshness.EXPIRED && covers(cached, request)) {
+                guarded.onPage(slice(cached, request));
+                if (freshness == CachePolicy.Freshness.STALE && request.getPageKey() == 0) {
+                    // Revalidate sekali per "refresh" (page 0), lalu kirim ulang page 0
+                    handle.setDelegate(revalidateFirstPage(request, cached, guarded));
+                }
+                return;
+            }
+
+            handle.setDelegate(remoteRepository.getRestaurantPage(request, new PageCallback() {
+                @Override
+                public void onPage(RestaurantPage page) {
+                    collectRemotePage(page, request, cached);
+                    guarded.onPage(page);
+                }
+
+                @Override
+                public void onError(String error) {
+                    if (cached != null && covers(cached, request)) {
+                        // Offline: halaman dari cache EXPIRED
+                        guarded.onPage(slice(cached, request));
+                    } else {
+                        guarded.onError(error);
+                    }
+                }
+            }));
+        });
+        return handle;
+    }
+
+    /**
+     * Refresh tanpa UI: cache FRESH → selesai tanpa network, selain itu revalidate
+     * (delta atau list penuh) dan simpan ke disk seperti refresh biasa.
+     */
+    public Cancellable sync(SyncCallback callback) {
+        CancellationHandle handle = new CancellationHandle();
+        diskExecutor.execute(() -> {
+            if (handle.isCancelled()) {
+                return;
+            }
+            CachedRestaurants cached = loadCache();
+            if (cached != null && cached.isComplete()
+                    && cachePolicy.evaluate(cached.getSavedAtMillis(), clock.getAsLong())
+                    == CachePolicy.Freshness.FRESH) {
+                callback.onSynced(cached.getRestaurants(), false, false);
+                return;
+            }
+            handle.setDelegate(refreshFromNetwork(guard(new RestaurantCallback() {
+                @Override
+                public void onSuccess(List<Restaurant> restaurants) {
+                    boolean changed = cached == null || !sameContent(cached.getRestaurants(), restaurants);
+                    callback.onSynced(restaurants, true, changed);
+                }
+
+                @Override
+                public void onError(String error) {
+                    callback.onError(error);
+                }
+            }, handle), cached, error -> {
+                if (!handle.isCancelled()) {
+                    callback.onError(error);
+                }
+            }));
+        });
+        return handle;
+    }
+
+    /**
+     * Kumpulkan halaman remote yang datang berurutan (0, 1, 2, ...) dan simpan
+     * setiap kali sebagai cache: parsial sampai halaman terakhir tiba.
+     *
+     * @param cached cache saat request dibuat; cache parsial dilanjutkan jika
+     *               halaman ini tepat menyambung di akhirnya (cold start lalu scroll)
+     */
+    private void collectRemotePage(RestaurantPage page, PageRequest request, CachedRestaurants cached) {
+        CachedRestaurants snapshot;
+        synchronized (remotePages) {
+            if (page.getPageKey() == 0) {
+                remotePages.clear();
+                nextRemotePageKey = 0;
+                remotePagesSavedAt = clock.getAsLong();
+            } else if (remotePages.isEmpty() && cached != null && !cached.isComplete()
+                    && cached.getRestaurants().size() == request.getOffset()) {
+                remotePages.addAll(cached.getRestaurants());
+                nextRemotePageKey = page.getPageKey();
+                remotePagesSavedAt = cached.getSavedAtMillis();
+            }
+            if (page.getPageKey() != nextRemotePageKey) {
+                return;
+            }
+            remotePages.addAll(page.getItems());
+            nextRemotePageKey++;
+            snapshot = new CachedRestaurants(new ArrayList<>(remotePages), remotePagesSavedAt, 0L,
+                    page.isLastPage());
+            if (page.isLastPage()) {
+                remotePages.clear();
+                nextRemotePageKey = 0;
+            }
+        }
+        CachedRestaurants current = memoryCache;
+        if (!snapshot.isComplete() && current != null && current.isComplete()
+                && current.getSavedAtMillis() >= snapshot.getSavedAtMillis()) {
+            return; // list penuh yang lebih baru sudah ada (misal refresh untuk search)
+        }
+        memoryCache = snapshot;
+        persistLatest(snapshot);
+    }
+
+    /**
+     * Revalidate page 0 dari cache STALE tanpa download seluruh katalog:
+     * delta jika cache lengkap & punya versi sync, selain itu page 0 dari endpoint paging.
+     * Error di-swallow: cache sudah tampil.
+     */
+    private Cancellable revalidateFirstPage(PageRequest request, CachedRestaurants cached, PageCallback callback) {
+        long sinceVersion = cached.getSyncVersion();
+        if (deltaSource == null || !deltaSupported || !cached.isComplete() || sinceVersion <= 0) {
+            return revalidateFirstPageRemote(request, cached, callback);
+        }
+        CancellationHandle handle = new CancellationHandle();
+        handle.setDelegate(deltaSource.getDelta(sinceVersion, new RestaurantDeltaSource.DeltaCallback() {
+            @Override
+            public void onDelta(RestaurantDelta delta) {
+                callback.onPage(slice(applyDelta(delta, cached, sinceVersion), request));
+            }
+
+            @Override
+            public void onUnsupported() {
+                deltaSupported = false;
+                handle.setDelegate(revalidateFirstPageRemote(request, cached, callback));
+            }
+
+            @Override
+            public void onError(String error) {
+            }
+        }));
+        return handle;
+    }
+
+    private Cancellable revalidateFirstPageRemote(PageRequest request, CachedRestaurants cached,
+                                                  PageCallback callback) {
+        return remoteRepository.getRestaurantPage(request, new PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                CachedRestaurants merged = mergeFirstPage(cached, page, request);
+                memoryCache = merged;
+                persistLatest(merged);
+                callback.onPage(slice(merged, request));
+            }
+
+            @Override
+            public void onError(String error) {
+            }
+        });
+    }
+
+    /**
+     * Page 0 baru + sisa cache setelah page 0 (item yang pindah ke page 0 tidak diduplikasi).
+     * Sisa cache belum di-revalidate: savedAt lama dipertahankan, dan jika anggota
+     * page 0 berubah cache ditandai parsial (item bisa bergeser keluar dari page 0
+     * tanpa tercatat), jadi list penuh diambil ulang saat dibutuhkan.
+     */
+    private CachedRestaurants mergeFirstPage(CachedRestaurants cached, RestaurantPage page, PageRequest request) {
+        if (page.isLastPage()) {
+            // Seluruh katalog muat di page 0
+            return new CachedRestaurants(new ArrayList<>(page.getItems()), clock.getAsLong(), 0L, true);
+        }
+        List<Restaurant> cachedItems = cached.getRestaurants();
+        int oldFirstPageEnd = Math.min(request.getPageSize(), cachedItems.size());
+        Set<String> firstPageIds = new HashSet<>();
+        for (Restaurant restaurant : page.getItems()) {
+            firstPageIds.add(restaurant.getId());
+        }
+        boolean sameMembers = oldFirstPageEnd == firstPageIds.size();
+        for (int i = 0; i < oldFirstPageEnd && sameMembers; i++) {
+            sameMembers = firstPageIds.contains(cachedItems.get(i).getId());
+        }
+
+        List<Restaurant> merged = new ArrayList<>(page.getItems());
+        for (int i = oldFirstPageEnd; i < cachedItems.size(); i++) {
+            Restaurant restaurant = cachedItems.get(i);
+            if (!firstPageIds.contains(restaurant.getId())) {
+                merged.add(restaurant);
+            }
+        }
+        return new CachedRestaurants(merged, cached.getSavedAtMillis(), 0L,
+                cached.isComplete() && sameMembers);
+    }
+
+    /**
+     * Halaman request seluruhnya ada di cache (cache lengkap selalu mencakup semua halaman).
+     */
+    private static boolean covers(CachedRestaurants cached, PageRequest request) {
+        return cached.isComplete()
+                || request.getOffset() + request.getPageSize() <= cached.getRestaurants().size();
+    }
+
+    private static RestaurantPage slice(CachedRestaurants cached, PageRequest request) {
+        RestaurantPage page = RestaurantPage.slice(cached.getRestaurants(), request);
+        if (page.isLastPage() && !cached.isComplete()) {
+            // Cache parsial berakhir di sini, server masih punya halaman berikutnya
+            return new RestaurantPage(page.getPageKey(), page.getItems(), request.getPageKey() + 1);
+        }
+        return page;
+    }
+
+    /**
+     * @param onError dipanggil jika refresh gagal (callback.onError() tidak dipakai)
+     */
+    private Cancellable refreshFromNetwork(RestaurantCallback callback,
+                                           CachedRestaurants cached,
+                                           Consumer<String> onError) {
+        if (deltaSource == null || !deltaSupported) {
+            return refreshFullList(callback, onError);
+        }
+
+        long sinceVersion = cached != null ? cached.getSyncVersion() : 0L;
+        CancellationHandle handle = new CancellationHandle();
+        handle.setDelegate(deltaSource.getDelta(sinceVersion, new RestaurantDeltaSource.DeltaCallback() {
+            @Override
+            public void onDelta(RestaurantDelta delta) {
+                callback.onSuccess(applyDelta(delta, cached, sinceVersion).getRestaurants());
+            }
+
+            @Override
+            public void onUnsupported() {
+                // Server lama: pakai list penuh untuk refresh ini dan seterusnya
+                deltaSupported = false;
+                handle.setDelegate(refreshFullList(callback, onError));
+            }
+
+            @Override
+            public void onError(String error) {
+                onError.accept(error);
+            }
+        }));
+        return handle;
+    }
+
+    private Cancellable refreshFullList(RestaurantCallback callback, Consumer<String> onError) {
+        return remoteRepository.getRestaurants(new RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                CachedRestaurants fresh = new CachedRestaurants(restaurants, clock.getAsLong());
+                memoryCache = fresh;
+                diskExecutor.execute(() -> persist(fresh));
+                callback.onSuccess(fresh.getRestaurants());
+            }
+
+            @Override
+            public void onError(String error) {
+                onError.accept(error);
+            }
+        });
+    }
+
+    /**
+     * Gabungkan delta ke cache. Snapshot penuh (delta.isFull() atau belum ada
+     * versi lokal) menggantikan list dan ditulis utuh; delta biasa di-append ke journal.
+     */
+    private CachedRestaurants applyDelta(RestaurantDelta delta, CachedRestaurants cached, long sinceVersion) {
+        boolean incremental = !delta.isFull() && cached != null && sinceVersion > 0;
+        List<Restaurant> merged = incremental
+                ? delta.applyTo(cached.getRestaurants())
+                : new ArrayList<>(delta.getUpserts());
+        CachedRestaurants fresh = new CachedRestaurants(merged, clock.getAsLong(), delta.getVersion());
+        memoryCache = fresh;
+        if (incremental) {
+            diskExecutor.execute(() -> persistDelta(delta, sinceVersion, fresh));
+        } else {
+            diskExecutor.execute(() -> persist(fresh));
+        }
+        return fresh;
+    }
+
+    private static void deliverRefreshError(RestaurantCallback callback,
+                                            CachedRestaurants cached,
+                                            boolean servedFromCache,
+                                            String error) {
+        if (servedFromCache) {
+            // User sudah melihat data cache, error refresh tidak perlu ditampilkan
+            return;
+        }
+        if (cached != null) {
+            // Offline: cache EXPIRED tetap lebih baik daripada layar kosong
+            callback.onSuccess(cached.getRestaurants());
+        } else {
+            callback.onError(error);
+        }
+    }
+
+    /**
+     * Sama isi & urutan: id, field yang tampil di grid, dan description.
+     */
+    private static boolean sameContent(List<Restaurant> before, List<Restaurant> after) {
+        if (before.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.size(); i++) {
+            Restaurant a = before.get(i);
+            Restaurant b = after.get(i);
+            if (!Objects.equals(a.getId(), b.getId())
+                    || !Objects.equals(a.getName(), b.getName())
+                    || !Objects.equals(a.getCity(), b.getCity())
+                    || !Objects.equals(a.getPictureId(), b.getPictureId())
+                    || a.getRating() != b.getRating()
+                    || !a.hasSameDescription(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Callback yang berhenti meneruskan hasil setelah handle di-cancel.
+     */
+    private static RestaurantCallback guard(RestaurantCallback callback, CancellationHandle handle) {
+        return new RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                if (!handle.isCancelled()) {
+                    callback.onSuccess(restaurants);
+                }
+            }
+
+            @Override
+            public void onError(String error) {
+                if (!handle.isCancelled()) {
+                    callback.onError(error);
+                }
+            }
+        };
+    }
+
+    private static PageCallback guard(PageCallback callback, CancellationHandle handle) {
+        return new PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                if (!handle.isCancelled()) {
+                    callback.onPage(page);
+                }
+            }
+
+            @Override
+            public void onError(String error) {
+                if (!handle.isCancelled()) {
+                    callback.onError(error);
+                }
+            }
+        };
+    }
+
+    private CachedRestaurants loadCache() {
+        CachedRestaurants cached = memoryCache;
+        if (cached == null) {
+            cached = localDataSource.read();
+            memoryCache = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Tulis snapshot halaman terbaru. Jika tulis sebelumnya belum jalan, snapshot
+     * diganti saja (satu tulis untuk beberapa halaman yang datang beruntun).
+     */
+    private void persistLatest(CachedRestaurants entry) {
+        if (pendingPagePersist.getAndSet(entry) == null) {
+            diskExecutor.execute(() -> {
+                CachedRestaurants latest = pendingPagePersist.getAndSet(null);
+                if (latest != null) {
+                    persist(latest);
+                }
+            });
+        }
+    }
+
+    private void persist(CachedRestaurants entry) {
+        try {
+            localDataSource.write(entry.getRestaurants(), entry.getSavedAtMillis(), entry.getSyncVersion(),
+                    entry.isComplete());
+        } catch (IOException e) {
+            // Gagal simpan cache tidak fatal: data tetap tampil dari network
+        }
+    }
+
+    private void persistDelta(RestaurantDelta delta, long fromVersion, CachedRestaurants merged) {
+        try {
+            int journalEntries = localDataSource.appendDelta(delta, fromVersion, merged.getSavedAtMillis());
+            if (journalEntries >= RestaurantLocalDataSource.MAX_JOURNAL_ENTRIES) {
+                // Compaction: replay journal panjang memperlambat cold start
+                persist(merged);
+            }
+        } catch (IOException e) {
+            // Journal tidak bisa ditulis (misal snapshot hilang) → tulis snapshot penuh
+            persist(merged);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.example.restaurantapps.data.local;
+
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.domain.model.DescriptionTable;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DATA LAYER: Local Data Source (Disk Cache)
+ *
+ * Menyimpan list restaurant terakhir ke file JSON di storage aplikasi.
+ * Dipakai OfflineFirstRestaurantRepository supaya grid bisa langsung tampil
+ * saat cold start tanpa menunggu network.
+ *
+ * Kenapa JsonReader/JsonWriter manual (bukan Gson.toJson(list))?
+ * - Format file tidak ikut berubah kalau field domain Restaurant berubah
+ * - Streaming: tidak perlu build String JSON besar di memory
+ *
+ * Delta sync: perubahan kecil TIDAK menulis ulang seluruh file. Delta ditambahkan
+ * (append) ke file journal, read() = snapshot + replay journal. Setelah
+ * MAX_JOURNAL_ENTRIES delta, pemanggil menulis snapshot baru (write()) yang
+ * sekaligus mengosongkan journal (compaction).
+ *
+ * Semua method BLOCKING (disk I/O) → jangan dipanggil dari main thread.
+ */
+public class RestaurantLocalDataSource {
+
+    // Versi 2: + syncVersion (file versi 1 dianggap tidak ada cache)
+    private static final int FORMAT_VERSION = 2;
+    private static final String FILE_NAME = "restaurants_cache.json";
+    private static final String JOURNAL_FILE_NAME = "restaurants_delta.jsonl";
+
+    public static final int MAX_JOURNAL_ENTRIES = 32;
+
+    private final File cacheFile;
+    private final File journalFile;
+    // Jumlah delta di journal, -1 = belum dihitung
+    private int journalEntries = -1;
+
+    public RestaurantLocalDataSource(File directory) {
+        this.cacheFile = new File(directory, FILE_NAME);
+        this.journalFile = new File(directory, JOURNAL_FILE_NAME);
+    }
+
+    /**
+     * Baca cache dari disk.
+     *
+     * @return null jika belum ada cache atau file rusak/format lama
+     */
+    public synchronized CachedRestaurants read() {
+        ThreadContract.assertNotMainThread("Baca cache disk");
+        if (!cacheFile.exists()) {
+            return null;
+        }
+        CachedRestaurants snapshot;
+        try (JsonReader reader = new JsonReader(new BufferedReader(
+                new InputStreamReader(new FileInputStream(cacheFile), StandardCharsets.UTF_8)))) {
+            snapshot = readEntry(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            // File rusak (misal app di-kill saat menulis versi lama) → anggap tidak ada cache
+            cacheFile.delete();
+            journalFile.delete();
+            return null;
+        }
+        return snapshot != null ? replayJournal(snapshot) : null;
+    }
+
+    /**
+     * Tulis cache ke disk secara atomic: tulis ke file sementara lalu rename.
+     * Jadi reader tidak pernah melihat file setengah jadi.
+     */
+    public synchronized void write(List<Restaurant> restaurants, long savedAtMillis) throws IOException {
+        write(restaurants, savedAtMillis, 0L);
+    }
+
+    /**
+     * Tulis snapshot penuh beserta versi sync. Journal delta dikosongkan.
+     */
+    public synchronized void write(List<Restaurant> restaurants, long savedAtMillis, long syncVersion)
+            throws IOException {
+        write(restaurants, savedAtMillis, syncVersion, true);
+    }
+
+    /**
+     * @param complete false = hanya halaman awal katalog (lihat CachedRestaurants.isComplete())
+     */
+    public synchronized void write(List<Restaurant> restaurants, long savedAtMillis, long syncVersion,
+                                   boolean complete) throws IOException {
+        ThreadContract.assertNotMainThread("Tulis cache disk");
+        File directory = cacheFile.getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Tidak bisa membuat direktori cache: " + directory);
+        }
+
+        File tempFile = new File(cacheFile.getPath() + ".tmp");
+        try (JsonWriter writer = new JsonWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8)))) {
+            writeEntry(writer, restaurants, savedAtMillis, syncVersion, complete);
+        }
+
+        if (!tempFile.renameTo(cacheFile)) {
+            tempFile.delete();
+            throw new IOException("Gagal menyimpan cache ke " + cacheFile);
+        }
+        journalFile.delete();
+        journalEntries = 0;
+    }
+
+    /**
+     * Tambahkan 1 delta ke journal (append 1 baris, bukan tulis ulang katalog).
+     *
+     * @param fromVersion versi sync snapshot+journal saat ini (delta harus melanjutkan versi ini)
+     * @return jumlah delta di journal setelah append (untuk keputusan compaction)
+     * @throws IOException jika belum ada snapshot, pemanggil menulis snapshot penuh
+     */
+    public synchronized int appendDelta(RestaurantDelta delta, long fromVersion, long savedAtMillis)
+            throws IOException {
+        ThreadContract.assertNotMainThread("Tulis journal delta");
+        if (!cacheFile.exists()) {
+            throw new IOException("Belum ada snapshot untuk journal delta");
+        }
+        if (journalEntries < 0) {
+            journalEntries = countJournalEntries();
+        }
+        StringWriter line = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(line)) {
+            writer.beginObject();
+            writer.name("from").value(fromVersion);
+            writer.name("syncVersion").value(delta.getVersion());
+            writer.name("savedAt").value(savedAtMillis);
+            writer.name("upserts").beginArray();
+            for (Restaurant restaurant : delta.getUpserts()) {
+                writeRestaurant(writer, restaurant);
+            }
+            writer.endArray();
+            writer.name("deletes").beginArray();
+            for (String id : delta.getDeletedIds()) {
+                writer.value(id);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(journalFile, true), StandardCharsets.UTF_8)) {
+            out.write(line.toString());
+            out.write('\n');
+        }
+        return ++journalEntries;
+    }
+
+    public synchronized void clear() {
+        cacheFile.delete();
+        journalFile.delete();
+        journalEntries = 0;
+    }
+
+    /**
+     * Terapkan delta di journal berurutan. Baris rusak (app di-kill saat append)
+     * atau delta yang tidak melanjutkan versi sebelumnya menghentikan replay.
+     */
+    private CachedRestaurants replayJournal(CachedRestaurants snapshot) {
+        journalEntries = 0;
+        if (!journalFile.exists()) {
+            return snapshot;
+        }
+        List<Restaurant> restaurants = snapshot.getRestaurants();
+        long syncVersion = snapshot.getSyncVersion();
+        long savedAt = snapshot.getSavedAtMillis();
+        try (BufferedReader lines = new BufferedReader(
+                new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                JournalEntry entry = readJournalEntry(new JsonReader(new StringReader(line)));
+                if (entry.fromVersion != syncVersion) {
+                    break;
+                }
+                restaurants = entry.delta.applyTo(restaurants);
+                syncVersion = entry.delta.getVersion();
+                savedAt = entry.savedAtMillis;
+                journalEntries++;
+            }
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            // Sisa journal rusak diabaikan: refresh berikutnya melanjutkan dari versi terakhir yang valid
+        }
+        return new CachedRestaurants(restaurants, savedAt, syncVersion, snapshot.isComplete());
+    }
+
+    private JournalEntry readJournalEntry(JsonReader reader) throws IOException {
+        long from = -1;
+        long syncVersion = -1;
+        long savedAt = 0L;
+        List<Restaurant> upserts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "from":
+                    from = reader.nextLong();
+                    break;
+                case "syncVersion":
+                    syncVersion = reader.nextLong();
+                    break;
+                case "savedAt":
+                    savedAt = reader.nextLong();
+                    break;
+                case "upserts":
+                    upserts = readRestaurants(reader);
+                    break;
+                case "deletes":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        deletes.add(reader.nextString());
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        if (syncVersion < 0) {
+            throw new IOException("Journal delta tanpa syncVersion");
+        }
+        return new JournalEntry(from, savedAt, new RestaurantDelta(syncVersion, false, upserts, deletes));
+    }
+
+    private int countJournalEntries() {
+        if (!journalFile.exists()) {
+            return 0;
+        }
+        int count = 0;
+        try (BufferedReader lines = new BufferedReader(
+                new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+            while (lines.readLine() != null) {
+                count++;
+            }
+        } catch (IOException e) {
+            // Tidak terbaca: anggap penuh supaya compaction segera terjadi
+            return MAX_JOURNAL_ENTRIES;
+        }
+        return count;
+    }
+
+    private static final class JournalEntry {
+        final long fromVersion;
+        final long savedAtMillis;
+        final RestaurantDelta delta;
+
+        JournalEntry(long fromVersion, long savedAtMillis, RestaurantDelta delta) {
+            this.fromVersion = fromVersion;
+            this.savedAtMillis = savedAtMillis;
+            this.delta = delta;
+        }
+    }
+
+    private CachedRestaurants readEntry(JsonReader reader) throws IOException {
+        int version = -1;
+        long savedAt = 0L;
+        long syncVersion = 0L;
+        // File tanpa field "complete" (sebelum cache parsial) selalu list penuh
+        boolean complete = true;
+        List<Restaurant> restaurants = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "version":
+                    version = reader.nextInt();
+                    break;
+                case "savedAt":
+                    savedAt = reader.nextLong();
+                    break;
+                case "syncVersion":
+                    syncVersion = reader.nextLong();
+                    break;
+                case "complete":
+                    complete = reader.nextBoolean();
+                    break;
+                case "restaurants":
+                    restaurants = readRestaurants(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (version != FORMAT_VERSION || restaurants == null) {
+            return null;
+        }
+        return new CachedRestaurants(restaurants, savedAt, syncVersion, complete);
+    }
+
+    private List<Restaurant> readRestaurants(JsonReader reader) throws IOException {
+        List<Restaurant> restaurants = new ArrayList<>();
+        DescriptionTable descriptions = new DescriptionTable();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String id = null;
+            String restaurantName = null;
+            int descriptionIndex = DescriptionTable.NO_DESCRIPTION;
+            String pictureId = null;
+            String city = null;
+            double rating = 0.0;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "id":
+                        id = reader.nextString();
+                        break;
+                    case "name":
+                        restaurantName = reader.nextString();
+                        break;
+                    case "description":
+                        descriptionIndex = descriptions.append(reader.nextString());
+                        break;
+                    case "pictureId":
+                        pictureId = reader.nextString();
+                        break;
+                    case "city":
+                        city = reader.nextString();
+                        break;
+                    case "rating":
+                        rating = reader.nextDouble();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+            restaurants.add(new Restaurant(id, restaurantName, descriptions, descriptionIndex, pictureId, city, rating));
+        }
+        reader.endArray();
+        descriptions.trimToSize();
+        return restaurants;
+    }
+
+    private void writeEntry(JsonWriter writer, List<Restaurant> restaurants, long savedAtMillis,
+                            long syncVersion, boolean complete) throws IOException {
+        writer.beginObject();
+        writer.name("version").value(FORMAT_VERSION);
+        writer.name("savedAt").value(savedAtMillis);
+        writer.name("syncVersion").value(syncVersion);
+        writer.name("complete").value(complete);
+        writer.name("restaurants").beginArray();
+        for (Restaurant restaurant : restaurants) {
+            writeRestaurant(writer, restaurant);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    private static void writeRestaurant(JsonWriter writer, Restaurant restaurant) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(restaurant.getId());
+        writer.name("name").value(restaurant.getName());
+        writer.name("description").value(restaurant.getDescription());
+        writer.name("pictureId").value(restaurant.getPictureId());
+        writer.name("city").value(restaurant.getCity());
+        // Float.toString: 4.2f ditulis "4.2", bukan 4.199999809265137
+        writer.name("rating").value(Float.valueOf(restaurant.getRating()));
+        writer.endObject();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.restaurantapps.data.mapper;
+
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.data.remote.response.RestaurantDetailDto;
+import com.example.restaurantapps.data.remote.response.RestaurantDto;
+import com.example.restaurantapps.domain.model.CustomerReview;
+import com.example.restaurantapps.domain.model.DescriptionTable;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DATA LAYER: Mapper DTO → Domain
+ *
+ * Konversi RestaurantDto (API layer) → Restaurant (Domain)
+ * 
+ * Penting! Ini adalah Translation layer:
+ * - DTO adalah struktur API (from JSON)
+ * - Domain Restaurant adalah model bisnis (pure Java)
+ * 
+ * Keuntungan:
+ * 1. Decoupling: Domain tidak tahu API format
+ * 2. Flexibility: Bisa add business logic waktu konversi
+ * 3. Testing: Bisa test konversi tanpa API
+ *
+ * Dipakai jalur Gson binding (RestaurantResponse). Endpoint list utama sudah
+ * memakai RestaurantStreamParser yang langsung menghasilkan domain object.
+ */
+public final class RestaurantMapper {
+
+    private RestaurantMapper() {
+    }
+
+    /**
+     * Mapping list besar = O(n) alokasi, WAJIB di background thread.
+     */
+    public static List<Restaurant> convertDtoToDomain(List<RestaurantDto> dtoList) {
+        ThreadContract.assertNotMainThread("Mapping DTO");
+        List<Restaurant> restaurants = new ArrayList<>(dtoList.size());
+        DescriptionTable descriptions = new DescriptionTable(dtoList.size(), dtoList.size() * 256);
+        
+        for (RestaurantDto dto : dtoList) {
+            restaurants.add(convertDtoToDomain(dto, descriptions));
+        }
+        descriptions.trimToSize();
+        
+        return restaurants;
+    }
+
+    public static Restaurant convertDtoToDomain(RestaurantDto dto) {
+        return new Restaurant(dto.getId(), dto.getName(), dto.getDescription(),
+                dto.getPictureId(), dto.getCity(), dto.getRating());
+    }
+
+    private static Restaurant convertDtoToDomain(RestaurantDto dto, DescriptionTable descriptions) {
+        return new Restaurant(dto.getId(), dto.getName(), descriptions, descriptions.append(dto.getDescription()),
+                dto.getPictureId(), dto.getCity(), dto.getRating());
+    }
+
+    /**
+     * Detail DTO → domain. Field list yang null dari server menjadi list kosong.
+     */
+    public static RestaurantDetail convertDetailDtoToDomain(RestaurantDetailDto dto) {
+        RestaurantDetailDto.MenusDto menus = dto.getMenus();
+        List<CustomerReview> reviews = new ArrayList<>();
+        if (dto.getCustomerReviews() != null) {
+            for (RestaurantDetailDto.CustomerReviewDto review : dto.getCustomerReviews()) {
+                reviews.add(new CustomerReview(review.getName(), review.getReview(), review.getDate()));
+            }
+        }
+        return new RestaurantDetail(dto.getId(), dto.getName(), dto.getDescription(), dto.getCity(),
+                dto.getAddress(), dto.getPictureId(), dto.getRating(),
+                names(dto.getCategories()),
+                names(menus != null ? menus.getFoods() : null),
+                names(menus != null ? menus.getDrinks() : null),
+                reviews);
+    }
+
+    private static List<String> names(List<RestaurantDetailDto.NameDto> dtos) {
+        List<String> names = new ArrayList<>(dtos != null ? dtos.size() : 0);
+        if (dtos != null) {
+            for (RestaurantDetailDto.NameDto dto : dtos) {
+                names.add(dto.getName());
+            }
+        }
+        return names;
+    }
+}
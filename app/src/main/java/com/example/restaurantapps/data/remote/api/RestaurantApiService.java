@@ -1,7 +1,18 @@
 package com.example.restaurantapps.data.remote.api;
 
+import com.example.restaurantapps.data.remote.converter.CborRestaurantConverterFactory;
+import com.example.restaurantapps.data.remote.response.RestaurantDetailResponse;
 import com.example.restaurantapps.data.remote.response.RestaurantResponse;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+
+import java.util.List;
+
 import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.Headers;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
 
 /**
  * DATA LAYER: API Interface
@@ -11,6 +22,50 @@ import retrofit2.http.GET;
  */
 public interface RestaurantApiService {
     
+    /**
+     * Jalur Gson binding: JSON → RestaurantResponse (DTO) utuh di memory.
+     */
     @GET("list")
     retrofit2.Call<RestaurantResponse> getRestaurantList();
+
+    /**
+     * Jalur streaming: JSON → List<Restaurant> langsung (StreamingRestaurantConverterFactory).
+     *
+     * Conditional request: kirim validator dari response sebelumnya.
+     * Jika data tidak berubah, server balas 304 tanpa body.
+     * Header bernilai null tidak dikirim oleh Retrofit.
+     *
+     * Accept: CBOR jika server mendukung, JSON jika tidak (CborRestaurantConverterFactory).
+     */
+    @GET("list")
+    @Headers(CborRestaurantConverterFactory.ACCEPT_HEADER)
+    retrofit2.Call<List<Restaurant>> streamRestaurantList(
+            @Header("If-None-Match") String eTag,
+            @Header("If-Modified-Since") String lastModified);
+
+    /**
+     * Paging: page mulai dari 1 (konvensi server), limit = jumlah item per halaman.
+     * Server lama mengabaikan parameter ini dan mengirim list penuh;
+     * RestaurantRepositoryImpl mendeteksi itu dan memotong halaman di client.
+     */
+    @GET("list")
+    @Headers(CborRestaurantConverterFactory.ACCEPT_HEADER)
+    retrofit2.Call<List<Restaurant>> streamRestaurantPage(
+            @Query("page") int page,
+            @Query("limit") int limit);
+
+    /**
+     * Delta sync: hanya upsert + delete sejak sinceVersion (0 = snapshot penuh).
+     * Server tanpa endpoint ini membalas 404 → RestaurantRepositoryImpl
+     * melaporkan onUnsupported() dan refresh kembali ke list penuh.
+     */
+    @GET("list/delta")
+    retrofit2.Call<RestaurantDelta> getRestaurantDelta(@Query("since") long sinceVersion);
+
+    /**
+     * Detail 1 restaurant (alamat, kategori, menu, review). Dipakai per item,
+     * lewat RestaurantDetailRepositoryImpl (LRU cache + prefetch).
+     */
+    @GET("detail/{id}")
+    retrofit2.Call<RestaurantDetailResponse> getRestaurantDetail(@Path("id") String restaurantId);
 }
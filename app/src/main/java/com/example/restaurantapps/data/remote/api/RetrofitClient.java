@@ -1,6 +1,35 @@
 package com.example.restaurantapps.data.remote.api;
 
+import com.example.restaurantapps.data.remote.converter.CborRestaurantConverterFactory;
+import com.example.restaurantapps.data.remote.converter.RestaurantField;
+import com.example.restaurantapps.data.remote.converter.StreamingRestaurantConverterFactory;
+import com.example.restaurantapps.data.remote.metrics.MetricsEventListener;
+import com.example.restaurantapps.data.remote.metrics.NetworkMetrics;
+import com.example.restaurantapps.data.remote.metrics.TimedConverterFactory;
+import com.example.restaurantapps.data.remote.resilience.CircuitBreaker;
+import com.example.restaurantapps.data.remote.resilience.HedgingCallFactory;
+import com.example.restaurantapps.data.remote.resilience.NetworkPolicy;
+import com.example.restaurantapps.data.remote.resilience.RetryInterceptor;
+import com.example.restaurantapps.data.remote.routing.EndpointRoutingInterceptor;
+import com.example.restaurantapps.data.remote.routing.EndpointSelector;
+import com.example.restaurantapps.data.remote.response.DtoTypeAdapterFactory;
+import com.example.restaurantapps.data.trace.AppTrace;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.brotli.BrotliInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
@@ -10,31 +39,262 @@ import retrofit2.converter.gson.GsonConverterFactory;
  * 
  * Konfigurasi Retrofit client.
  * Hanya dibuat 1 instance (Singleton pattern) untuk efficiency.
+ *
+ * HTTP Cache:
+ * - OkHttp menyimpan response di disk sesuai header Cache-Control server
+ * - Response yang punya ETag / Last-Modified bisa di-revalidate (304 Not Modified)
+ * - Panggil configureCache() SEBELUM getClient() pertama kali
+ *
+ * Instrumentasi:
+ * - Setiap call diukur per fase (DNS, connect, TLS, TTFB, body, parse) ke NetworkMetrics
+ * - Body logging hanya untuk debug build (configureDebugLogging(BuildConfig.DEBUG)):
+ *   Level.BODY mem-buffer seluruh body ke String, mahal untuk list besar
+ *
+ * Ketahanan (NetworkPolicy, lihat configureNetworkPolicy()):
+ * - Timeout connect/read/write + callTimeout sebagai batas total
+ * - Interceptor: CircuitBreaker → RetryInterceptor → network
+ * - Retrofit memakai HedgingCallFactory: GET lambat dikirim ulang setelah hedgeDelay
+ *
+ * Multi-region (configureEndpoints()):
+ * - Base URL Retrofit = endpoint primary, EndpointRoutingInterceptor mengarahkan
+ *   request ke endpoint tercepat yang sehat (RTT probe di background)
+ * - Tanpa konfigurasi: BASE_URL saja
+ *
+ * Satu OkHttp stack (getSharedHttpClient()):
+ * - API (Retrofit) dan gambar (Glide okhttp3-integration) berbagi connection pool.
+ *   Host yang sama + HTTP/2 = satu koneksi TLS untuk semuanya
+ * - Client API = newBuilder() dari client bersama + interceptor/cache/timeout dan
+ *   dispatcher sendiri: HedgingCallFactory meng-enqueue setiap GET API, jadi slot
+ *   per host dispatcher gambar tidak ikut terpakai saat grid memuat thumbnail
+ * - preconnect() membuka koneksi sebelum request pertama (lihat
+ *   RestaurantRepositoryProvider.warmUp, dipanggil dari RestaurantApp)
+ *
+ * Ukuran payload:
+ * - BrotliInterceptor: kirim "Accept-Encoding: br,gzip" dan decode response-nya
+ * - Endpoint list menawarkan CBOR (CborRestaurantConverterFactory), JSON tetap fallback
  */
 public class RetrofitClient {
     
     private static final String BASE_URL = "https://restaurant-api.dicoding.dev/";
+    public static final long DEFAULT_CACHE_SIZE_BYTES = 10L * 1024 * 1024; // 10 MB
+
+    // List & delta di-parse lengkap: list ini juga isi cache offline dan sumber search
+    // index (token nama, kota DAN description). RestaurantField.GRID hanya untuk
+    // pemakai yang tidak menyimpan/mencari list, description tetap disimpan kompak
+    // di DescriptionTable
+    private static final Set<RestaurantField> LIST_PROJECTION = RestaurantField.ALL;
+
+    // HTTP/2 multiplexing: cukup sedikit koneksi idle; keep-alive melewati jeda scroll/navigasi
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    // Batas dispatcher untuk enqueue(). Glide dan API (HedgingCallFactory meng-enqueue
+    // cabang primary & hedge) masing-masing punya dispatcher sendiri dengan batas ini
+    private static final int MAX_REQUESTS = 32;
+    private static final int MAX_REQUESTS_PER_HOST = 8;
+
     private static Retrofit retrofit;
+    private static OkHttpClient sharedClient;
+    private static Dispatcher apiDispatcher;
+    private static File cacheDirectory;
+    private static long cacheSizeBytes = DEFAULT_CACHE_SIZE_BYTES;
+    private static boolean debugLogging;
+    private static NetworkPolicy networkPolicy = NetworkPolicy.defaultPolicy();
+    private static EndpointSelector endpointSelector;
+    private static Executor probeExecutor;
+
+    /**
+     * Atur lokasi dan ukuran HTTP disk cache.
+     * Tidak berpengaruh jika client sudah terlanjur dibuat.
+     */
+    public static synchronized void configureCache(File directory, long maxSizeBytes) {
+        cacheDirectory = directory;
+        cacheSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Aktifkan HttpLoggingInterceptor Level.BODY. Default mati (release build).
+     * Tidak berpengaruh jika client sudah terlanjur dibuat.
+     */
+    public static synchronized void configureDebugLogging(boolean enabled) {
+        debugLogging = enabled;
+    }
 
-    public static Retrofit getClient() {
+    /**
+     * Ganti timeout / retry / hedging / circuit breaker.
+     * Tidak berpengaruh jika client sudah terlanjur dibuat.
+     */
+    public static synchronized void configureNetworkPolicy(NetworkPolicy policy) {
+        networkPolicy = policy;
+    }
+
+    public static synchronized NetworkPolicy getNetworkPolicy() {
+        return networkPolicy;
+    }
+
+    /**
+     * Aktifkan routing multi-region. Probe RTT berjalan di probeExecutor (background).
+     * Tidak berpengaruh jika client sudah terlanjur dibuat.
+     */
+    public static synchronized void configureEndpoints(EndpointSelector selector, Executor executor) {
+        endpointSelector = selector;
+        probeExecutor = executor;
+    }
+
+    public static synchronized Retrofit getClient() {
         if (retrofit == null) {
+            // Lazy init pertama biasanya di main thread (ViewModel → repository): terlihat di trace
+            AppTrace.begin("RetrofitClient.init");
+            try {
+                Cache cache = cacheDirectory != null ? new Cache(cacheDirectory, cacheSizeBytes) : null;
+                OkHttpClient client = buildHttpClient(cache);
+                String baseUrl = BASE_URL;
+                if (endpointSelector != null) {
+                    client = EndpointRoutingInterceptor.install(client, endpointSelector, probeExecutor);
+                    baseUrl = endpointSelector.getPrimary().getApiBaseUrl().toString();
+                }
+                retrofit = create(baseUrl, client);
+            } finally {
+                AppTrace.end();
+            }
+        }
+        return retrofit;
+    }
+
+    /**
+     * Client dasar yang dipakai bersama API dan Glide: connection pool.
+     * Dispatcher client ini dipakai Glide; client API memakai getApiDispatcher().
+     * Tanpa interceptor, HTTP cache maupun EventListener (gambar punya disk cache Glide,
+     * dan NetworkMetrics hanya untuk API).
+     */
+    public static synchronized OkHttpClient getSharedHttpClient() {
+        if (sharedClient == null) {
+            sharedClient = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                    .dispatcher(newDispatcher())
+                    .build();
+        }
+        return sharedClient;
+    }
+
+    /**
+     * Dispatcher semua client API (satu instance: thread pool & batas per host bersama).
+     * Terpisah dari dispatcher Glide supaya request list tidak antri di belakang gambar.
+     */
+    private static synchronized Dispatcher getApiDispatcher() {
+        if (apiDispatcher == null) {
+            apiDispatcher = newDispatcher();
+        }
+        return apiDispatcher;
+    }
+
+    private static Dispatcher newDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        return dispatcher;
+    }
+
+    /**
+     * Buka koneksi (DNS + TCP + TLS + negosiasi HTTP/2) ke setiap host sebelum
+     * request pertama: HEAD ke URL pertama per host, status response diabaikan.
+     * Koneksi masuk ke pool dan dipakai ulang oleh client mana pun yang
+     * dibuat dari client yang sama (newBuilder()).
+     *
+     * Blocking: panggil dari background thread.
+     *
+     * @return jumlah host yang berhasil dihubungi
+     */
+    public static int preconnect(OkHttpClient client, List<HttpUrl> urls) {
+        AppTrace.begin("Network.preconnect");
+        try {
+            Set<String> hosts = new LinkedHashSet<>();
+            int connected = 0;
+            for (HttpUrl url : urls) {
+                if (!hosts.add(url.scheme() + "://" + url.host() + ":" + url.port())) {
+                    continue;
+                }
+                Request request = new Request.Builder().url(url).head().build();
+                try {
+                    // Status diabaikan; close() mengembalikan koneksi ke pool
+                    client.newCall(request).execute().close();
+                    connected++;
+                } catch (IOException e) {
+                    // Gagal di sini tidak apa-apa: request asli akan connect sendiri
+                }
+            }
+            return connected;
+        } finally {
+            AppTrace.end();
+        }
+    }
+
+    /**
+     * Setup OkHttpClient. Dipisah supaya test bisa pakai konfigurasi yang sama.
+     *
+     * @param cache boleh null (tanpa HTTP cache)
+     */
+    public static OkHttpClient buildHttpClient(Cache cache) {
+        return buildHttpClient(cache, getNetworkPolicy());
+    }
+
+    public static OkHttpClient buildHttpClient(Cache cache, NetworkPolicy policy) {
+        OkHttpClient.Builder builder = getSharedHttpClient().newBuilder()
+                .dispatcher(getApiDispatcher())
+                .eventListenerFactory(MetricsEventListener.factory(NetworkMetrics.getInstance()))
+                .connectTimeout(policy.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(policy.getReadTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(policy.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .callTimeout(policy.getCallTimeoutMillis(), TimeUnit.MILLISECONDS);
+        // Breaker di luar retry: call yang ditolak tidak di-retry,
+        // dan satu kegagalan breaker = satu call yang sudah habis retry-nya
+        if (policy.isCircuitBreakerEnabled()) {
+            builder.addInterceptor(new CircuitBreaker(
+                    policy.getBreakerFailureThreshold(), policy.getBreakerOpenMillis()));
+        }
+        if (policy.getMaxAttempts() > 1) {
+            builder.addInterceptor(new RetryInterceptor(policy.getMaxAttempts(),
+                    policy.getBaseBackoffMillis(), policy.getMaxBackoffMillis()));
+        }
+        if (isDebugLogging()) {
             // Setup logging untuk debugging
             HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
             loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
+            builder.addInterceptor(loggingInterceptor);
+        }
+        // Paling dalam: interceptor di atasnya (dan logging) melihat body yang sudah
+        // di-decode. Tanpa ini OkHttp hanya meminta gzip.
+        builder.addInterceptor(BrotliInterceptor.INSTANCE);
+        if (cache != null) {
+            builder.cache(cache);
+        }
+        return builder.build();
+    }
 
-            // Setup OkHttpClient
-            OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                    .addInterceptor(loggingInterceptor)
-                    .build();
+    private static synchronized boolean isDebugLogging() {
+        return debugLogging;
+    }
 
-            // Build Retrofit
-            retrofit = new Retrofit.Builder()
-                    .baseUrl(BASE_URL)
-                    .client(okHttpClient)
-                    .addConverterFactory(GsonConverterFactory.create())
-                    .build();
-        }
-        return retrofit;
+    /**
+     * Build Retrofit untuk base URL tertentu (misal MockWebServer di unit test).
+     */
+    public static Retrofit create(String baseUrl, OkHttpClient okHttpClient) {
+        return create(baseUrl, okHttpClient, getNetworkPolicy());
+    }
+
+    public static Retrofit create(String baseUrl, OkHttpClient okHttpClient, NetworkPolicy policy) {
+        return new Retrofit.Builder()
+                .baseUrl(baseUrl)
+                .callFactory(HedgingCallFactory.create(okHttpClient, policy))
+                // Urutan penting: List<Restaurant> CBOR atau streaming JSON (sesuai
+                // Content-Type), RestaurantDelta streaming, sisanya Gson
+                .addConverterFactory(TimedConverterFactory.wrap(
+                        CborRestaurantConverterFactory.create(
+                                StreamingRestaurantConverterFactory.create(LIST_PROJECTION), LIST_PROJECTION),
+                        NetworkMetrics.getInstance()))
+                // Gson dengan adapter DTO eksplisit: tanpa reflection saat parse
+                .addConverterFactory(TimedConverterFactory.wrap(
+                        GsonConverterFactory.create(DtoTypeAdapterFactory.gson()), NetworkMetrics.getInstance()))
+                .build();
     }
 
     public static RestaurantApiService getApiService() {
@@ -0,0 +1,339 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import okio.BufferedSource;
+
+/**
+ * DATA LAYER: Pembaca CBOR (RFC 8949) minimal
+ *
+ * Hanya yang dibutuhkan RestaurantCborParser: map/array (panjang tetap maupun
+ * indefinite), text, integer, float16/32/64, bool dan null. Tag dilewati,
+ * byte string hanya bisa di-skip.
+ *
+ * Text dibaca ke buffer scratch yang dipakai ulang: nama field dicocokkan
+ * langsung dengan byte UTF-8 (tanpa String), description disalin ke
+ * DescriptionTable apa adanya.
+ */
+final class CborReader {
+
+    static final int MAJOR_UNSIGNED = 0;
+    static final int MAJOR_NEGATIVE = 1;
+    static final int MAJOR_BYTES = 2;
+    static final int MAJOR_TEXT = 3;
+    static final int MAJOR_ARRAY = 4;
+    static final int MAJOR_MAP = 5;
+    static final int MAJOR_TAG = 6;
+    static final int MAJOR_SIMPLE = 7;
+
+    /** Panjang array/map/string tidak diketahui di depan, diakhiri byte break. */
+    static final long INDEFINITE = -1;
+
+    private static final int SIMPLE_FALSE = 20;
+    private static final int SIMPLE_TRUE = 21;
+    private static final int SIMPLE_NULL = 22;
+    private static final int SIMPLE_UNDEFINED = 23;
+    private static final int FLOAT_16 = 25;
+    private static final int FLOAT_32 = 26;
+    private static final int FLOAT_64 = 27;
+    private static final int BREAK = 0xff;
+
+    private final BufferedSource source;
+    private byte[] scratch = new byte[256];
+
+    // Hasil readHead(): major type, additional info dan argumennya
+    private int major;
+    private int info;
+    private long argument;
+
+    CborReader(BufferedSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Major type item berikutnya tanpa mengonsumsinya. Tag di depan item dibuang.
+     */
+    int peekMajor() throws IOException {
+        while (peekByte() >>> 5 == MAJOR_TAG) {
+            readHead();
+        }
+        return peekByte() >>> 5;
+    }
+
+    boolean peekNull() throws IOException {
+        int initial = peekByte();
+        return initial == (MAJOR_SIMPLE << 5 | SIMPLE_NULL)
+                || initial == (MAJOR_SIMPLE << 5 | SIMPLE_UNDEFINED);
+    }
+
+    /**
+     * Untuk loop array/map: {@code for (long i = 0; reader.hasNext(length, i); i++)}.
+     * Pada panjang INDEFINITE, byte break ikut dikonsumsi.
+     */
+    boolean hasNext(long length, long index) throws IOException {
+        if (length != INDEFINITE) {
+            return index < length;
+        }
+        if (peekByte() == BREAK) {
+            source.skip(1);
+            return false;
+        }
+        return true;
+    }
+
+    /** @return jumlah item, atau INDEFINITE */
+    long readArrayStart() throws IOException {
+        expect(MAJOR_ARRAY);
+        return argument;
+    }
+
+    /** @return jumlah pasangan key/value, atau INDEFINITE */
+    long readMapStart() throws IOException {
+        expect(MAJOR_MAP);
+        return argument;
+    }
+
+    void readNull() throws IOException {
+        expect(MAJOR_SIMPLE);
+        if (info != SIMPLE_NULL && info != SIMPLE_UNDEFINED) {
+            throw malformed("null", major);
+        }
+    }
+
+    boolean readBoolean() throws IOException {
+        expect(MAJOR_SIMPLE);
+        if (info == SIMPLE_TRUE) {
+            return true;
+        }
+        if (info == SIMPLE_FALSE) {
+            return false;
+        }
+        throw malformed("boolean", major);
+    }
+
+    long readLong() throws IOException {
+        readHead();
+        if (major == MAJOR_UNSIGNED && argument >= 0) {
+            return argument;
+        }
+        if (major == MAJOR_NEGATIVE && argument >= 0) {
+            return -1 - argument;
+        }
+        throw malformed("integer", major);
+    }
+
+    /**
+     * Angka apa pun (integer atau float16/32/64) sebagai double.
+     */
+    double readDouble() throws IOException {
+        readHead();
+        if (major == MAJOR_UNSIGNED) {
+            return argument;
+        }
+        if (major == MAJOR_NEGATIVE) {
+            return -1.0 - argument;
+        }
+        if (major == MAJOR_SIMPLE) {
+            switch (info) {
+                case FLOAT_16:
+                    return halfToFloat((int) argument);
+                case FLOAT_32:
+                    return Float.intBitsToFloat((int) argument);
+                case FLOAT_64:
+                    return Double.longBitsToDouble(argument);
+                default:
+                    break;
+            }
+        }
+        throw malformed("angka", major);
+    }
+
+    /**
+     * Baca text string ke buffer scratch (lihat scratch()).
+     * Text indefinite (beberapa chunk) digabung jadi satu.
+     *
+     * @return jumlah byte UTF-8 di scratch
+     */
+    int readTextBytes() throws IOException {
+        expect(MAJOR_TEXT);
+        if (argument != INDEFINITE) {
+            return readInto(0, argument);
+        }
+        int length = 0;
+        while (hasNext(INDEFINITE, 0)) {
+            expect(MAJOR_TEXT);
+            if (argument == INDEFINITE) {
+                throw new IOException("CBOR tidak valid: chunk text bersarang");
+            }
+            length = readInto(length, argument);
+        }
+        return length;
+    }
+
+    /** @return null jika item berikutnya null */
+    String readStringOrNull() throws IOException {
+        if (peekMajor() == MAJOR_SIMPLE && peekNull()) {
+            readNull();
+            return null;
+        }
+        int length = readTextBytes();
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Buffer milik reader, isinya valid sampai readTextBytes() berikutnya.
+     */
+    byte[] scratch() {
+        return scratch;
+    }
+
+    /**
+     * Baca key map dan cocokkan dengan daftar nama (UTF-8) tanpa membuat String.
+     * Key yang bukan text di-skip.
+     *
+     * @return index di names, atau -1 jika tidak dikenal
+     */
+    int readKey(byte[][] names) throws IOException {
+        if (peekMajor() != MAJOR_TEXT) {
+            skipValue();
+            return -1;
+        }
+        int length = readTextBytes();
+        for (int i = 0; i < names.length; i++) {
+            if (matches(names[i], length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Arrays.equals() versi range baru ada di API 33
+    private boolean matches(byte[] name, int length) {
+        if (name.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name[i] != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lewati satu item utuh (termasuk isi array/map) tanpa membuat object.
+     */
+    void skipValue() throws IOException {
+        readHead();
+        switch (major) {
+            case MAJOR_BYTES:
+            case MAJOR_TEXT:
+                if (argument != INDEFINITE) {
+                    source.skip(argument);
+                    return;
+                }
+                while (hasNext(INDEFINITE, 0)) {
+                    skipValue();
+                }
+                return;
+            case MAJOR_ARRAY:
+            case MAJOR_MAP:
+                long items = argument;
+                if (items != INDEFINITE && major == MAJOR_MAP) {
+                    items *= 2;
+                }
+                for (long i = 0; hasNext(items, i); i++) {
+                    skipValue();
+                }
+                return;
+            case MAJOR_SIMPLE:
+                if (argument == INDEFINITE) {
+                    throw new IOException("CBOR tidak valid: break di luar item indefinite");
+                }
+                return;
+            default:
+                // Integer: argumen sudah dibaca readHead()
+        }
+    }
+
+    private int readInto(int offset, long length) throws IOException {
+        if (length > Integer.MAX_VALUE - offset) {
+            throw new IOException("CBOR tidak valid: text terlalu panjang");
+        }
+        int end = offset + (int) length;
+        if (end > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(end, scratch.length * 2));
+        }
+        while (offset < end) {
+            int read = source.read(scratch, offset, end - offset);
+            if (read == -1) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        return end;
+    }
+
+    private void expect(int expectedMajor) throws IOException {
+        readHead();
+        if (major != expectedMajor) {
+            throw malformed("major type " + expectedMajor, major);
+        }
+    }
+
+    /**
+     * Baca initial byte + argumen. Tag dilewati, major type 7 menyimpan bit float
+     * mentah di argument.
+     */
+    private void readHead() throws IOException {
+        do {
+            int initial = source.readByte() & 0xff;
+            major = initial >>> 5;
+            info = initial & 0x1f;
+            if (info < 24) {
+                argument = info;
+            } else if (info == 24) {
+                argument = source.readByte() & 0xffL;
+            } else if (info == 25) {
+                argument = source.readShort() & 0xffffL;
+            } else if (info == 26) {
+                argument = source.readInt() & 0xffffffffL;
+            } else if (info == 27) {
+                argument = source.readLong();
+            } else if (info == 31 && major != MAJOR_UNSIGNED && major != MAJOR_NEGATIVE
+                    && major != MAJOR_TAG) {
+                argument = INDEFINITE;
+            } else {
+                throw new IOException("CBOR tidak valid: additional info " + info);
+            }
+        } while (major == MAJOR_TAG);
+    }
+
+    private int peekByte() throws IOException {
+        source.require(1);
+        return source.getBuffer().getByte(0) & 0xff;
+    }
+
+    private static IOException malformed(String expected, int actualMajor) {
+        return new IOException("CBOR tidak valid: diharapkan " + expected
+                + ", dapat major type " + actualMajor);
+    }
+
+    static float halfToFloat(int half) {
+        int sign = (half & 0x8000) << 16;
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+        if (exponent == 0) {
+            // Subnormal / nol
+            float value = mantissa * 0x1p-24f;
+            return sign != 0 ? -value : value;
+        }
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f800000 | mantissa << 13);
+        }
+        return Float.intBitsToFloat(sign | (exponent + 112) << 23 | mantissa << 13);
+    }
+}
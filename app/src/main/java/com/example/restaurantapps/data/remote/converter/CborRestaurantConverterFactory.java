@@ -0,0 +1,103 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * DATA LAYER: Retrofit Converter (negosiasi format)
+ *
+ * Endpoint list mengirim ACCEPT_HEADER: server yang mendukung membalas
+ * "application/cbor", server lama tetap membalas JSON. Converter memilih parser
+ * per response berdasarkan Content-Type, jadi app tetap jalan di kedua server.
+ *
+ * Semua tipe selain List<Restaurant> (dan response JSON) diserahkan ke jsonFallback.
+ *
+ * Interview Q: "Kompresi atau format biner, mana yang lebih berpengaruh?"
+ * A: Beda yang diukur. Payload list didominasi teks description, jadi ukuran
+ *    di jaringan terutama turun karena gzip/brotli (BrotliInterceptor di
+ *    RetrofitClient). CBOR menghemat waktu decode dan alokasi di device:
+ *    tanpa escape, tanpa decode char, key dicocokkan sebagai byte.
+ */
+public class CborRestaurantConverterFactory extends Converter.Factory {
+
+    public static final String MEDIA_TYPE = "application/cbor";
+    /** JSON tetap diterima (q lebih rendah) supaya server lama tidak membalas 406. */
+    public static final String ACCEPT_HEADER = "Accept: " + MEDIA_TYPE + ", application/json;q=0.9";
+
+    private final Converter.Factory jsonFallback;
+    private final Set<RestaurantField> projection;
+    private final int chunkSize;
+
+    private CborRestaurantConverterFactory(Converter.Factory jsonFallback, Set<RestaurantField> projection,
+                                           int chunkSize) {
+        this.jsonFallback = jsonFallback;
+        this.projection = projection;
+        this.chunkSize = chunkSize;
+    }
+
+    public static CborRestaurantConverterFactory create(Converter.Factory jsonFallback) {
+        return create(jsonFallback, RestaurantField.ALL);
+    }
+
+    public static CborRestaurantConverterFactory create(Converter.Factory jsonFallback,
+                                                        Set<RestaurantField> projection) {
+        return new CborRestaurantConverterFactory(jsonFallback, projection,
+                RestaurantStreamParser.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        // Bukan nextResponseBodyConverter(): factory ini biasanya dibungkus
+        // TimedConverterFactory, pencarian "next" akan kembali ke sini
+        Converter<ResponseBody, ?> json = jsonFallback.responseBodyConverter(type, annotations, retrofit);
+        if (!isRestaurantList(type)) {
+            return json;
+        }
+        RestaurantCborParser parser = new RestaurantCborParser(projection, chunkSize);
+        return new Converter<ResponseBody, Object>() {
+            @Override
+            public Object convert(ResponseBody body) throws IOException {
+                if (!isCbor(body.contentType())) {
+                    if (json == null) {
+                        body.close();
+                        throw new IOException("Content-Type tidak didukung: " + body.contentType());
+                    }
+                    return json.convert(body);
+                }
+                ThreadContract.assertNotMainThread("Parsing response");
+                try {
+                    return parser.parse(body.source());
+                } finally {
+                    body.close();
+                }
+            }
+        };
+    }
+
+    static boolean isCbor(MediaType contentType) {
+        return contentType != null
+                && "application".equals(contentType.type())
+                && "cbor".equals(contentType.subtype());
+    }
+
+    private static boolean isRestaurantList(Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType parameterized = (ParameterizedType) type;
+        return parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == Restaurant.class;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.domain.model.DescriptionTable;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import okio.BufferedSource;
+
+/**
+ * DATA LAYER: Streaming CBOR Parser
+ *
+ * Pasangan RestaurantStreamParser untuk response "application/cbor".
+ * Struktur datanya sama persis dengan JSON (lihat RestaurantCborWriter):
+ *
+ *   {"error":bool, "message":text, "count":int, "restaurants":[
+ *       {"id", "name", "description", "pictureId", "city", "rating": float32}, ...]}
+ *
+ * Bedanya dengan JSON: panjang text ada di depan, jadi tidak ada escape yang
+ * di-scan byte per byte dan tidak ada decode char. Nama field dicocokkan di level
+ * byte, description langsung disalin ke DescriptionTable sebagai UTF-8.
+ * Projection dan chunking sama dengan versi JSON.
+ */
+public class RestaurantCborParser {
+
+    private static final int KEY_ERROR = 0;
+    private static final int KEY_MESSAGE = 1;
+    private static final int KEY_RESTAURANTS = 2;
+    private static final byte[][] ENVELOPE_KEYS = utf8("error", "message", "restaurants");
+
+    // Urutan sama dengan RestaurantField.values()
+    private static final RestaurantField[] FIELDS = RestaurantField.values();
+    private static final byte[][] FIELD_KEYS = fieldKeys();
+
+    private final Set<RestaurantField> projection;
+    private final int chunkSize;
+
+    public RestaurantCborParser() {
+        this(RestaurantField.ALL, RestaurantStreamParser.DEFAULT_CHUNK_SIZE);
+    }
+
+    public RestaurantCborParser(Set<RestaurantField> projection, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize harus > 0");
+        }
+        this.projection = projection.isEmpty()
+                ? EnumSet.noneOf(RestaurantField.class)
+                : EnumSet.copyOf(projection);
+        this.chunkSize = chunkSize;
+    }
+
+    public List<Restaurant> parse(BufferedSource body) throws IOException {
+        List<Restaurant> result = new ArrayList<>();
+        parse(body, result::addAll);
+        return result;
+    }
+
+    /**
+     * Jika server mengirim error=true, lempar IOException dengan message server.
+     */
+    public void parse(BufferedSource body, RestaurantStreamParser.ChunkConsumer consumer) throws IOException {
+        CborReader reader = new CborReader(body);
+        boolean error = false;
+        String message = null;
+
+        long size = reader.readMapStart();
+        for (long i = 0; reader.hasNext(size, i); i++) {
+            switch (reader.readKey(ENVELOPE_KEYS)) {
+                case KEY_ERROR:
+                    error = reader.readBoolean();
+                    break;
+                case KEY_MESSAGE:
+                    message = reader.readStringOrNull();
+                    break;
+                case KEY_RESTAURANTS:
+                    if (reader.peekNull()) {
+                        reader.readNull();
+                    } else {
+                        readRestaurants(reader, consumer);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+
+        if (error) {
+            throw new IOException(message != null ? message : "Server mengembalikan error");
+        }
+    }
+
+    private void readRestaurants(CborReader reader, RestaurantStreamParser.ChunkConsumer consumer)
+            throws IOException {
+        DescriptionTable descriptions = new DescriptionTable(chunkSize, chunkSize * 256);
+        List<Restaurant> chunk = new ArrayList<>(chunkSize);
+        long length = reader.readArrayStart();
+        for (long i = 0; reader.hasNext(length, i); i++) {
+            chunk.add(readRestaurant(reader, descriptions));
+            if (chunk.size() == chunkSize) {
+                consumer.onChunk(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        descriptions.trimToSize();
+        if (!chunk.isEmpty()) {
+            consumer.onChunk(chunk);
+        }
+    }
+
+    private Restaurant readRestaurant(CborReader reader, DescriptionTable descriptions) throws IOException {
+        String id = null;
+        String name = null;
+        int descriptionIndex = DescriptionTable.NO_DESCRIPTION;
+        String pictureId = null;
+        String city = null;
+        double rating = 0.0;
+        long size = reader.readMapStart();
+        for (long i = 0; reader.hasNext(size, i); i++) {
+            int key = reader.readKey(FIELD_KEYS);
+            if (key < 0 || !projection.contains(FIELDS[key]) || reader.peekNull()) {
+                reader.skipValue();
+                continue;
+            }
+            switch (FIELDS[key]) {
+                case ID:
+                    id = reader.readStringOrNull();
+                    break;
+                case NAME:
+                    name = reader.readStringOrNull();
+                    break;
+                case DESCRIPTION:
+                    int length = reader.readTextBytes();
+                    descriptionIndex = descriptions.appendUtf8(reader.scratch(), 0, length);
+                    break;
+                case PICTURE_ID:
+                    pictureId = reader.readStringOrNull();
+                    break;
+                case CITY:
+                    city = reader.readStringOrNull();
+                    break;
+                case RATING:
+                    rating = reader.readDouble();
+                    break;
+            }
+        }
+        return new Restaurant(id, name, descriptions, descriptionIndex, pictureId, city, rating);
+    }
+
+    private static byte[][] fieldKeys() {
+        byte[][] keys = new byte[FIELDS.length][];
+        for (int i = 0; i < FIELDS.length; i++) {
+            keys[i] = FIELDS[i].getJsonName().getBytes(StandardCharsets.UTF_8);
+        }
+        return keys;
+    }
+
+    private static byte[][] utf8(String... names) {
+        byte[][] keys = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            keys[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return keys;
+    }
+}
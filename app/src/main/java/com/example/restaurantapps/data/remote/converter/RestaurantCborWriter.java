@@ -0,0 +1,107 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.io.IOException;
+import java.util.List;
+
+import okio.Buffer;
+import okio.BufferedSink;
+
+/**
+ * DATA LAYER: Encoder CBOR referensi untuk response "list"
+ *
+ * Menulis format yang dibaca RestaurantCborParser, dengan key yang sama dengan JSON.
+ * Aplikasi sendiri tidak pernah mengirim CBOR: class ini kontrak format untuk
+ * server, test dan stand-in server di benchmark.
+ *
+ * - Text dengan panjang minimal (1/2/3/5/9 byte header)
+ * - rating sebagai float32 (Restaurant menyimpan float)
+ * - indefiniteArray: array restaurants tanpa jumlah di depan, untuk server yang
+ *   men-stream hasil query tanpa tahu totalnya
+ */
+public final class RestaurantCborWriter {
+
+    private RestaurantCborWriter() {
+    }
+
+    public static byte[] encode(List<Restaurant> restaurants) {
+        Buffer buffer = new Buffer();
+        try {
+            write(restaurants, buffer, false);
+        } catch (IOException e) {
+            // Buffer in-memory tidak pernah gagal
+            throw new IllegalStateException(e);
+        }
+        return buffer.readByteArray();
+    }
+
+    public static void write(List<Restaurant> restaurants, BufferedSink sink, boolean indefiniteArray)
+            throws IOException {
+        writeHead(sink, CborReader.MAJOR_MAP, 4);
+        writeText(sink, "error");
+        writeBoolean(sink, false);
+        writeText(sink, "message");
+        writeText(sink, "success");
+        writeText(sink, "count");
+        writeHead(sink, CborReader.MAJOR_UNSIGNED, restaurants.size());
+        writeText(sink, "restaurants");
+        if (indefiniteArray) {
+            sink.writeByte(CborReader.MAJOR_ARRAY << 5 | 31);
+        } else {
+            writeHead(sink, CborReader.MAJOR_ARRAY, restaurants.size());
+        }
+        for (Restaurant restaurant : restaurants) {
+            writeRestaurant(sink, restaurant);
+        }
+        if (indefiniteArray) {
+            sink.writeByte(0xff);
+        }
+    }
+
+    private static void writeRestaurant(BufferedSink sink, Restaurant restaurant) throws IOException {
+        writeHead(sink, CborReader.MAJOR_MAP, RestaurantField.ALL.size());
+        writeText(sink, RestaurantField.ID.getJsonName());
+        writeText(sink, restaurant.getId());
+        writeText(sink, RestaurantField.NAME.getJsonName());
+        writeText(sink, restaurant.getName());
+        writeText(sink, RestaurantField.DESCRIPTION.getJsonName());
+        writeText(sink, restaurant.getDescription());
+        writeText(sink, RestaurantField.PICTURE_ID.getJsonName());
+        writeText(sink, restaurant.getPictureId());
+        writeText(sink, RestaurantField.CITY.getJsonName());
+        writeText(sink, restaurant.getCity());
+        writeText(sink, RestaurantField.RATING.getJsonName());
+        sink.writeByte(CborReader.MAJOR_SIMPLE << 5 | 26);
+        sink.writeInt(Float.floatToIntBits(restaurant.getRating()));
+    }
+
+    private static void writeText(BufferedSink sink, String value) throws IOException {
+        if (value == null) {
+            sink.writeByte(CborReader.MAJOR_SIMPLE << 5 | 22);
+            return;
+        }
+        Buffer utf8 = new Buffer().writeUtf8(value);
+        writeHead(sink, CborReader.MAJOR_TEXT, utf8.size());
+        sink.writeAll(utf8);
+    }
+
+    private static void writeBoolean(BufferedSink sink, boolean value) throws IOException {
+        sink.writeByte(CborReader.MAJOR_SIMPLE << 5 | (value ? 21 : 20));
+    }
+
+    private static void writeHead(BufferedSink sink, int major, long argument) throws IOException {
+        int type = major << 5;
+        if (argument < 24) {
+            sink.writeByte(type | (int) argument);
+        } else if (argument <= 0xff) {
+            sink.writeByte(type | 24).writeByte((int) argument);
+        } else if (argument <= 0xffff) {
+            sink.writeByte(type | 25).writeShort((int) argument);
+        } else if (argument <= 0xffffffffL) {
+            sink.writeByte(type | 26).writeInt((int) argument);
+        } else {
+            sink.writeByte(type | 27).writeLong(argument);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * DATA LAYER: Field Projection
+ *
+ * Daftar field restaurant di JSON. Parser hanya membaca field yang diminta,
+ * value field lain di-skip di level token (isinya tidak pernah jadi String di memory).
+ *
+ * Contoh: grid tidak menampilkan description → pakai GRID supaya
+ * description (bagian terbesar payload) tidak dialokasikan.
+ */
+public enum RestaurantField {
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    PICTURE_ID("pictureId"),
+    CITY("city"),
+    RATING("rating");
+
+    public static final Set<RestaurantField> ALL = EnumSet.allOf(RestaurantField.class);
+    public static final Set<RestaurantField> GRID = EnumSet.complementOf(EnumSet.of(DESCRIPTION));
+
+    private final String jsonName;
+
+    RestaurantField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Lookup tanpa alokasi (switch string), dipanggil untuk setiap field di JSON.
+     *
+     * @return null jika nama field tidak dikenal
+     */
+    static RestaurantField fromJsonName(String name) {
+        switch (name) {
+            case "id":
+                return ID;
+            case "name":
+                return NAME;
+            case "description":
+                return DESCRIPTION;
+            case "pictureId":
+                return PICTURE_ID;
+            case "city":
+                return CITY;
+            case "rating":
+                return RATING;
+            default:
+                return null;
+        }
+    }
+}
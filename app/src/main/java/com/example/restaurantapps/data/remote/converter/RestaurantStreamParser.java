@@ -0,0 +1,246 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.domain.model.DescriptionTable;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DATA LAYER: Streaming JSON Parser
+ *
+ * Membaca response endpoint "list" token demi token (JsonReader) dan langsung
+ * membuat domain Restaurant. Bandingkan dengan jalur Gson biasa:
+ *
+ *   Gson binding : JSON → RestaurantResponse + List<RestaurantDto> → List<Restaurant>
+ *   Streaming    : JSON → List<Restaurant>   (tanpa DTO perantara)
+ *
+ * Fitur:
+ * - Field projection: value field di luar projection di-skip di level token
+ *   (skipValue(), tanpa String untuk isinya). Nama field tetap dibaca lewat
+ *   nextName(), yang mengalokasikan String kecil per field
+ * - Chunking: hasil dikirim per chunk ke ChunkConsumer, jadi consumer bisa mulai
+ *   bekerja sebelum seluruh body selesai dibaca
+ *
+ * Interview Q: "Kapan streaming parser lebih baik dari Gson.fromJson()?"
+ * A: Saat payload besar. fromJson() membangun seluruh object graph dulu,
+ *    streaming hanya menyimpan apa yang benar-benar dibutuhkan.
+ */
+public class RestaurantStreamParser {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * Menerima hasil parsing per chunk. List chunk milik consumer (tidak dipakai ulang parser).
+     */
+    public interface ChunkConsumer {
+        void onChunk(List<Restaurant> chunk);
+    }
+
+    private final Set<RestaurantField> projection;
+    private final int chunkSize;
+
+    public RestaurantStreamParser() {
+        this(RestaurantField.ALL, DEFAULT_CHUNK_SIZE);
+    }
+
+    public RestaurantStreamParser(Set<RestaurantField> projection, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize harus > 0");
+        }
+        this.projection = projection.isEmpty()
+                ? EnumSet.noneOf(RestaurantField.class)
+                : EnumSet.copyOf(projection);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parse seluruh body lalu kembalikan sebagai 1 list.
+     */
+    public List<Restaurant> parse(Reader body) throws IOException {
+        List<Restaurant> result = new ArrayList<>();
+        parse(body, result::addAll);
+        return result;
+    }
+
+    /**
+     * Parse envelope {"error":..,"message":..,"count":..,"restaurants":[...]}.
+     * Jika server mengirim error=true, lempar IOException dengan message server.
+     */
+    public void parse(Reader body, ChunkConsumer consumer) throws IOException {
+        JsonReader reader = new JsonReader(body);
+        boolean error = false;
+        String message = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "error":
+                    error = reader.nextBoolean();
+                    break;
+                case "message":
+                    message = nextStringOrNull(reader);
+                    break;
+                case "restaurants":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        readRestaurants(reader, consumer);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (error) {
+            throw new IOException(message != null ? message : "Server mengembalikan error");
+        }
+    }
+
+    /**
+     * Parse response delta sync:
+     * {"error":..,"message":..,"version":N,"full":bool,"upserts":[restaurant...],"deletes":["id"...]}
+     */
+    public RestaurantDelta parseDelta(Reader body) throws IOException {
+        JsonReader reader = new JsonReader(body);
+        boolean error = false;
+        String message = null;
+        long version = -1;
+        boolean full = false;
+        List<Restaurant> upserts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "error":
+                    error = reader.nextBoolean();
+                    break;
+                case "message":
+                    message = nextStringOrNull(reader);
+                    break;
+                case "version":
+                    version = reader.nextLong();
+                    break;
+                case "full":
+                    full = reader.nextBoolean();
+                    break;
+                case "upserts":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        readRestaurants(reader, upserts::addAll);
+                    }
+                    break;
+                case "deletes":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            deletes.add(reader.nextString());
+                        }
+                        reader.endArray();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (error) {
+            throw new IOException(message != null ? message : "Server mengembalikan error");
+        }
+        if (version < 0) {
+            throw new IOException("Response delta tanpa version");
+        }
+        return new RestaurantDelta(version, full, upserts, deletes);
+    }
+
+    private void readRestaurants(JsonReader reader, ChunkConsumer consumer) throws IOException {
+        // Satu tabel description untuk seluruh response (bukan satu String per item)
+        DescriptionTable descriptions = new DescriptionTable(chunkSize, chunkSize * 256);
+        List<Restaurant> chunk = new ArrayList<>(chunkSize);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            chunk.add(readRestaurant(reader, descriptions));
+            if (chunk.size() == chunkSize) {
+                consumer.onChunk(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        reader.endArray();
+        descriptions.trimToSize();
+        if (!chunk.isEmpty()) {
+            consumer.onChunk(chunk);
+        }
+    }
+
+    private Restaurant readRestaurant(JsonReader reader, DescriptionTable descriptions) throws IOException {
+        String id = null;
+        String name = null;
+        int descriptionIndex = DescriptionTable.NO_DESCRIPTION;
+        String pictureId = null;
+        String city = null;
+        double rating = 0.0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            RestaurantField field = RestaurantField.fromJsonName(reader.nextName());
+            if (field == null || !projection.contains(field)) {
+                // Skip di level token: value tidak pernah dibuat jadi String
+                reader.skipValue();
+                continue;
+            }
+            switch (field) {
+                case ID:
+                    id = nextStringOrNull(reader);
+                    break;
+                case NAME:
+                    name = nextStringOrNull(reader);
+                    break;
+                case DESCRIPTION:
+                    descriptionIndex = descriptions.append(nextStringOrNull(reader));
+                    break;
+                case PICTURE_ID:
+                    pictureId = nextStringOrNull(reader);
+                    break;
+                case CITY:
+                    city = nextStringOrNull(reader);
+                    break;
+                case RATING:
+                    rating = nextDoubleOrZero(reader);
+                    break;
+            }
+        }
+        reader.endObject();
+        return new Restaurant(id, name, descriptions, descriptionIndex, pictureId, city, rating);
+    }
+
+    private static String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    private static double nextDoubleOrZero(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0.0;
+        }
+        return reader.nextDouble();
+    }
+}
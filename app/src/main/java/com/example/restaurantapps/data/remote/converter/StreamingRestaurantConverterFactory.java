@@ -0,0 +1,99 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * DATA LAYER: Retrofit Converter (Streaming)
+ *
+ * Menangani endpoint yang return type-nya List<Restaurant> atau RestaurantDelta.
+ * Tipe lain (misal RestaurantResponse) diteruskan ke converter berikutnya (Gson).
+ *
+ * Parsing terjadi di thread pemanggil call.execute() (background, lihat
+ * RestaurantRepositoryImpl) langsung dari stream body, jadi body tidak pernah
+ * di-buffer utuh sebagai String. Parsing di main thread → IllegalStateException.
+ *
+ * Chunk dari RestaurantStreamParser.ChunkConsumer tidak diteruskan ke pemanggil:
+ * Converter Retrofit mengembalikan satu value per call, dan penerima List ini
+ * (cache disk offline-first, single-flight, delta merge) butuh list lengkap.
+ * Endpoint yang besar sudah di-page (streamRestaurantPage): satu halaman sudah
+ * kecil, jadi menunggu body selesai tidak menunda render secara berarti. Konsumen
+ * yang butuh hasil per chunk memakai RestaurantStreamParser.parse(Reader, ChunkConsumer)
+ * langsung.
+ */
+public class StreamingRestaurantConverterFactory extends Converter.Factory {
+
+    private final Set<RestaurantField> projection;
+    private final int chunkSize;
+
+    private StreamingRestaurantConverterFactory(Set<RestaurantField> projection, int chunkSize) {
+        this.projection = projection;
+        this.chunkSize = chunkSize;
+    }
+
+    public static StreamingRestaurantConverterFactory create() {
+        return create(RestaurantField.ALL);
+    }
+
+    public static StreamingRestaurantConverterFactory create(Set<RestaurantField> projection) {
+        return new StreamingRestaurantConverterFactory(projection, RestaurantStreamParser.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        RestaurantStreamParser parser = new RestaurantStreamParser(projection, chunkSize);
+        if (type == RestaurantDelta.class) {
+            return new Converter<ResponseBody, RestaurantDelta>() {
+                @Override
+                public RestaurantDelta convert(ResponseBody body) throws IOException {
+                    ThreadContract.assertNotMainThread("Parsing response");
+                    try {
+                        return parser.parseDelta(body.charStream());
+                    } catch (IllegalStateException | NumberFormatException e) {
+                        throw new IOException("Format response tidak valid", e);
+                    } finally {
+                        body.close();
+                    }
+                }
+            };
+        }
+        if (!isRestaurantList(type)) {
+            return null;
+        }
+        return new Converter<ResponseBody, List<Restaurant>>() {
+            @Override
+            public List<Restaurant> convert(ResponseBody body) throws IOException {
+                ThreadContract.assertNotMainThread("Parsing response");
+                try {
+                    return parser.parse(body.charStream());
+                } catch (IllegalStateException | NumberFormatException e) {
+                    // JSON tidak sesuai format → laporkan sebagai IOException ke onFailure
+                    throw new IOException("Format response tidak valid", e);
+                } finally {
+                    body.close();
+                }
+            }
+        };
+    }
+
+    private static boolean isRestaurantList(Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType parameterized = (ParameterizedType) type;
+        return parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == Restaurant.class;
+    }
+}
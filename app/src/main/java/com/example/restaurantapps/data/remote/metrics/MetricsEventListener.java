@@ -0,0 +1,127 @@
+package com.example.restaurantapps.data.remote.metrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * DATA LAYER: OkHttp EventListener yang mengukur fase setiap call
+ *
+ * Satu instance per call (lewat factory()), jadi field tidak perlu synchronization:
+ * OkHttp memanggil event satu call secara berurutan.
+ * Biayanya hanya System.nanoTime() per event, aman untuk release build.
+ */
+public final class MetricsEventListener extends EventListener {
+
+    private final NetworkMetrics metrics;
+
+    private long callStartNanos;
+    private long dnsStartNanos;
+    private long connectStartNanos;
+    private long tlsStartNanos;
+    private long requestSentNanos;
+    private long bodyStartNanos;
+    private boolean firstByteRecorded;
+
+    MetricsEventListener(NetworkMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public static EventListener.Factory factory(NetworkMetrics metrics) {
+        return call -> new MetricsEventListener(metrics);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        metrics.recordPhase(NetworkMetrics.Phase.DNS, System.nanoTime() - dnsStartNanos);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        metrics.recordPhase(NetworkMetrics.Phase.TLS, System.nanoTime() - tlsStartNanos);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        // Termasuk TLS handshake: CONNECT = TCP + TLS
+        metrics.recordPhase(NetworkMetrics.Phase.CONNECT, System.nanoTime() - connectStartNanos);
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestSentNanos = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestSentNanos = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        if (!firstByteRecorded) {
+            firstByteRecorded = true;
+            metrics.recordFirstByte(System.nanoTime() - callStartNanos);
+        }
+        if (requestSentNanos != 0) {
+            metrics.recordPhase(NetworkMetrics.Phase.TTFB, System.nanoTime() - requestSentNanos);
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        // Redirect / retry di connection yang sama: TTFB berikutnya dihitung dari request baru
+        requestSentNanos = 0;
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        bodyStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        metrics.recordPhase(NetworkMetrics.Phase.BODY_READ, System.nanoTime() - bodyStartNanos);
+        metrics.recordPayload(byteCount);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        metrics.recordPhase(NetworkMetrics.Phase.CALL, System.nanoTime() - callStartNanos);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        metrics.recordPhase(NetworkMetrics.Phase.CALL, System.nanoTime() - callStartNanos);
+        metrics.recordFailure();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.restaurantapps.data.remote.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DATA LAYER: Metrik performa network per fase (thread-safe)
+ *
+ * Setiap fase disimpan di HdrHistogram (mikrodetik), jadi p50/p90/p99 tetap
+ * akurat walau ribuan call tanpa menyimpan setiap sampel:
+ * - DNS, CONNECT, TLS : hanya muncul saat koneksi baru (bukan dari connection pool)
+ * - TTFB              : request terkirim → header response pertama
+ * - FIRST_BYTE        : call dimulai → header response pertama (termasuk DNS/connect/TLS
+ *                       jika koneksi baru). Nilai call PERTAMA disimpan terpisah
+ *                       (getFirstCallFirstByteMicros): itu yang dihemat preconnect saat cold start
+ * - BODY_READ         : byte pertama body → body ditutup. Converter streaming membaca
+ *                       body sambil parsing, jadi fase ini ikut memuat PARSE
+ * - PARSE             : waktu converter Retrofit (JSON → object)
+ * - MAP               : DTO → domain model (parser streaming langsung menghasilkan domain)
+ * - CALL              : total call, termasuk response dari HTTP cache
+ * Ukuran payload = byte body di wire (sebelum gunzip).
+ *
+ * Export: summary() untuk Logcat / layar debug, dump() untuk file .hgrm
+ * (bisa dibuka di HdrHistogram plotter).
+ *
+ * Interview Q: "Kenapa histogram, bukan rata-rata?"
+ * A: Latency network punya ekor panjang. Rata-rata 80 ms bisa menyembunyikan
+ *    p99 2 detik yang justru dirasakan user sebagai "app lemot".
+ */
+public final class NetworkMetrics {
+
+    public enum Phase {
+        DNS, CONNECT, TLS, TTFB, FIRST_BYTE, BODY_READ, PARSE, MAP, CALL
+    }
+
+    // 2 digit presisi: ±1%, cukup untuk latency dan jauh lebih hemat memory dari 3 digit
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final long MAX_PAYLOAD_BYTES = 512L * 1024 * 1024;
+
+    private static final NetworkMetrics INSTANCE = new NetworkMetrics();
+
+    private final Map<Phase, ConcurrentHistogram> phases = new EnumMap<>(Phase.class);
+    private final ConcurrentHistogram payloadBytes =
+            new ConcurrentHistogram(1, MAX_PAYLOAD_BYTES, SIGNIFICANT_DIGITS);
+    private final AtomicLong failedCalls = new AtomicLong();
+    // -1 = belum ada call yang menerima response
+    private final AtomicLong firstCallFirstByteMicros = new AtomicLong(-1);
+
+    public static NetworkMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public NetworkMetrics() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new ConcurrentHistogram(1, MAX_MICROS, SIGNIFICANT_DIGITS));
+        }
+    }
+
+    public void recordPhase(Phase phase, long elapsedNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        phases.get(phase).recordValue(clamp(micros, MAX_MICROS));
+    }
+
+    void recordFirstByte(long elapsedNanos) {
+        recordPhase(Phase.FIRST_BYTE, elapsedNanos);
+        firstCallFirstByteMicros.compareAndSet(-1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    public void recordPayload(long bytes) {
+        payloadBytes.recordValue(clamp(bytes, MAX_PAYLOAD_BYTES));
+    }
+
+    void recordFailure() {
+        failedCalls.incrementAndGet();
+    }
+
+    /**
+     * Salinan histogram fase (mikrodetik), aman dibaca sementara call lain terus merekam.
+     */
+    public Histogram snapshot(Phase phase) {
+        return phases.get(phase).copy();
+    }
+
+    public Histogram payloadSnapshot() {
+        return payloadBytes.copy();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.get();
+    }
+
+    /**
+     * @return FIRST_BYTE call pertama sejak process start / reset() (mikrodetik), -1 jika belum ada
+     */
+    public long getFirstCallFirstByteMicros() {
+        return firstCallFirstByteMicros.get();
+    }
+
+    /**
+     * Satu baris per fase yang punya sampel, waktu dalam milidetik.
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder("network");
+        for (Phase phase : Phase.values()) {
+            Histogram histogram = snapshot(phase);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            summary.append(String.format(Locale.US, "%n%-9s n=%d p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                    phase, histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())));
+        }
+        Histogram payload = payloadSnapshot();
+        if (payload.getTotalCount() > 0) {
+            summary.append(String.format(Locale.US, "%npayload   n=%d p50=%.1fKB p99=%.1fKB max=%.1fKB",
+                    payload.getTotalCount(),
+                    payload.getValueAtPercentile(50) / 1024.0,
+                    payload.getValueAtPercentile(99) / 1024.0,
+                    payload.getMaxValue() / 1024.0));
+        }
+        long firstCall = firstCallFirstByteMicros.get();
+        if (firstCall >= 0) {
+            summary.append(String.format(Locale.US, "%n1st call  first byte=%.1fms", millis(firstCall)));
+        }
+        summary.append(String.format(Locale.US, "%nfailed    %d", failedCalls.get()));
+        return summary.toString();
+    }
+
+    /**
+     * Tulis distribusi persentil setiap fase (milidetik) dan payload (KB) ke file.
+     * Disk I/O: panggil dari background thread.
+     */
+    public void dump(File file) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file), false, "UTF-8")) {
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = snapshot(phase);
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                out.println("# " + phase + " (ms)");
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            Histogram payload = payloadSnapshot();
+            if (payload.getTotalCount() > 0) {
+                out.println("# payload (KB)");
+                payload.outputPercentileDistribution(out, 1024.0);
+            }
+        }
+    }
+
+    public void reset() {
+        for (ConcurrentHistogram histogram : phases.values()) {
+            histogram.reset();
+        }
+        payloadBytes.reset();
+        failedCalls.set(0);
+        firstCallFirstByteMicros.set(-1);
+    }
+
+    private static long clamp(long value, long max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
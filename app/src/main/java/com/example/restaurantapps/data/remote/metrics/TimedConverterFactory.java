@@ -0,0 +1,61 @@
+package com.example.restaurantapps.data.remote.metrics;
+
+import com.example.restaurantapps.data.trace.AppTrace;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * DATA LAYER: Decorator Converter.Factory yang mencatat waktu parse response
+ * (fase PARSE di NetworkMetrics + trace section "Retrofit.parse").
+ * Converter asli tidak perlu tahu soal metrik.
+ */
+public final class TimedConverterFactory extends Converter.Factory {
+
+    private final Converter.Factory delegate;
+    private final NetworkMetrics metrics;
+
+    private TimedConverterFactory(Converter.Factory delegate, NetworkMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public static TimedConverterFactory wrap(Converter.Factory delegate, NetworkMetrics metrics) {
+        return new TimedConverterFactory(delegate, metrics);
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations,
+                                                            Retrofit retrofit) {
+        Converter<ResponseBody, ?> converter = delegate.responseBodyConverter(type, annotations, retrofit);
+        if (converter == null) {
+            return null;
+        }
+        return body -> {
+            long start = System.nanoTime();
+            AppTrace.begin("Retrofit.parse");
+            try {
+                return converter.convert(body);
+            } finally {
+                AppTrace.end();
+                metrics.recordPhase(NetworkMetrics.Phase.PARSE, System.nanoTime() - start);
+            }
+        };
+    }
+
+    @Override
+    public Converter<?, RequestBody> requestBodyConverter(Type type, Annotation[] parameterAnnotations,
+                                                          Annotation[] methodAnnotations, Retrofit retrofit) {
+        return delegate.requestBodyConverter(type, parameterAnnotations, methodAnnotations, retrofit);
+    }
+
+    @Override
+    public Converter<?, String> stringConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        return delegate.stringConverter(type, annotations, retrofit);
+    }
+}
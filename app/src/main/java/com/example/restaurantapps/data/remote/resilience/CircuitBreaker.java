@@ -0,0 +1,129 @@
+package com.example.restaurantapps.data.remote.resilience;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * DATA LAYER: Circuit Breaker (OkHttp application interceptor)
+ *
+ * State:
+ * - CLOSED    : normal, kegagalan berturut-turut dihitung
+ * - OPEN      : failureThreshold tercapai → semua call langsung CircuitOpenException
+ *               selama openMillis, tanpa DNS/connect/timeout
+ * - HALF_OPEN : openMillis lewat → SATU call percobaan boleh lewat;
+ *               sukses = CLOSED, gagal = OPEN lagi
+ *
+ * Gagal = IOException atau 5xx (kecuali 501, dipakai server untuk "endpoint tidak ada").
+ * Call yang di-cancel (misal hedge yang kalah) tidak dihitung.
+ *
+ * Dipasang DI LUAR RetryInterceptor: satu kegagalan = satu call yang sudah
+ * menghabiskan semua retry-nya, dan call yang ditolak tidak di-retry.
+ */
+public final class CircuitBreaker implements Interceptor {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    // Dijaga oleh this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, () -> System.nanoTime() / 1_000_000L);
+    }
+
+    /**
+     * @param clock waktu monotonic dalam ms (test memakai jam palsu)
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold minimal 1");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        acquire();
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException e) {
+            if (chain.call().isCanceled()) {
+                onIgnored();
+            } else {
+                onFailure();
+            }
+            throw e;
+        }
+        if (isServerFailure(response.code())) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+        return response;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAtMillis >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized void acquire() throws CircuitOpenException {
+        State current = getState();
+        if (current == State.CLOSED) {
+            return;
+        }
+        if (current == State.HALF_OPEN && !probeInFlight) {
+            state = State.HALF_OPEN;
+            probeInFlight = true;
+            return;
+        }
+        long retryAfter = state == State.OPEN
+                ? Math.max(0L, openedAtMillis + openMillis - clock.getAsLong())
+                : openMillis;
+        throw new CircuitOpenException(retryAfter);
+    }
+
+    private synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtMillis = clock.getAsLong();
+        }
+        probeInFlight = false;
+    }
+
+    private synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            // Probe di-cancel: izinkan call berikutnya menjadi probe
+            probeInFlight = false;
+        }
+    }
+
+    static boolean isServerFailure(int code) {
+        return code >= 500 && code != 501;
+    }
+}
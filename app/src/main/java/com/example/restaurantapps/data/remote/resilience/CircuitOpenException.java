@@ -0,0 +1,16 @@
+package com.example.restaurantapps.data.remote.resilience;
+
+import java.io.IOException;
+
+/**
+ * Call ditolak tanpa menyentuh network karena circuit sedang OPEN.
+ * Turunan IOException: Retrofit melaporkannya ke onFailure() seperti error network lain.
+ */
+public final class CircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(long retryAfterMillis) {
+        super("Circuit open, coba lagi dalam " + retryAfterMillis + " ms");
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.restaurantapps.data.remote.resilience;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Timeout;
+
+/**
+ * DATA LAYER: Hedged request untuk GET (Call.Factory untuk Retrofit)
+ *
+ * GET yang belum mendapat jawaban setelah hedgeDelay dikirim sekali lagi
+ * (clone call yang sama). Response pertama yang bukan 5xx menang, call yang
+ * kalah di-cancel dan body-nya ditutup. Maksimal 2 request per call, jadi
+ * beban tambahan hanya untuk call yang sudah lebih lambat dari hedgeDelay.
+ *
+ * Hedging di level Call (bukan interceptor) karena setiap cabang butuh
+ * koneksi/stream sendiri; retry & circuit breaker tetap berlaku per cabang.
+ * POST dan method lain langsung memakai client tanpa hedging.
+ *
+ * Interview Q: "Apa bedanya hedging dengan retry?"
+ * A: Retry menunggu kegagalan dulu. Hedging tidak menunggu: request kedua
+ *    dikirim saat request pertama masih berjalan, jadi memotong tail latency
+ *    (request yang "nyangkut" di koneksi lambat) tanpa menunggu timeout.
+ */
+public final class HedgingCallFactory implements Call.Factory {
+
+    private final OkHttpClient client;
+    private final long hedgeDelayMillis;
+
+    private HedgingCallFactory(OkHttpClient client, long hedgeDelayMillis) {
+        this.client = client;
+        this.hedgeDelayMillis = hedgeDelayMillis;
+    }
+
+    /**
+     * @return client apa adanya jika hedging nonaktif di policy
+     */
+    public static Call.Factory create(OkHttpClient client, NetworkPolicy policy) {
+        if (!policy.isHedgingEnabled()) {
+            return client;
+        }
+        return new HedgingCallFactory(client, policy.getHedgeDelayMillis());
+    }
+
+    @Override
+    public Call newCall(Request request) {
+        if (!"GET".equals(request.method())) {
+            return client.newCall(request);
+        }
+        return new HedgedCall(request);
+    }
+
+    private final class HedgedCall implements Call {
+
+        private final Request request;
+        private final Call primary;
+        private final AtomicBoolean executed = new AtomicBoolean();
+        private volatile Call hedge;
+        private volatile boolean canceled;
+
+        HedgedCall(Request request) {
+            this.request = request;
+            this.primary = client.newCall(request);
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Response execute() throws IOException {
+            if (!executed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Already Executed");
+            }
+            Race race = new Race();
+            primary.enqueue(race);
+            try {
+                int pending = 0;
+                Outcome first = race.outcomes.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (!canceled) {
+                        // Primary lambat: kirim hedge, siapa pun yang duluan menang
+                        Call second = primary.clone();
+                        hedge = second;
+                        second.enqueue(race);
+                        pending = 1;
+                    }
+                    first = race.outcomes.take();
+                }
+                return race.resolve(first, pending);
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Hedged call dibatalkan");
+            }
+        }
+
+        @Override
+        public void enqueue(Callback responseCallback) {
+            // Retrofit di repo ini memakai execute(); enqueue() disediakan untuk kelengkapan
+            client.dispatcher().executorService().execute(() -> {
+                Response response;
+                try {
+                    response = execute();
+                } catch (IOException e) {
+                    responseCallback.onFailure(this, e);
+                    return;
+                }
+                try {
+                    responseCallback.onResponse(this, response);
+                } catch (IOException e) {
+                    responseCallback.onFailure(this, e);
+                }
+            });
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            primary.cancel();
+            Call second = hedge;
+            if (second != null) {
+                second.cancel();
+            }
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return executed.get();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return primary.timeout();
+        }
+
+        @Override
+        public Call clone() {
+            return new HedgedCall(request);
+        }
+
+        /**
+         * Kumpulkan hasil cabang (Response atau IOException) dari thread dispatcher OkHttp.
+         */
+        private final class Race implements Callback {
+
+            final BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+            private boolean decided;
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                synchronized (this) {
+                    if (!decided) {
+                        outcomes.add(new Outcome(call, response, null));
+                        return;
+                    }
+                }
+                // Pemenang sudah ada: cabang yang kalah cukup ditutup
+                response.close();
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                outcomes.add(new Outcome(call, null, e));
+            }
+
+            /**
+             * Response non-5xx pertama menang. Jika semua cabang gagal:
+             * 5xx (kalau ada) dikembalikan, kalau tidak IOException pertama dilempar.
+             *
+             * @param pending jumlah cabang yang hasilnya belum masuk
+             */
+            Response resolve(Outcome outcome, int pending) throws IOException, InterruptedException {
+                Outcome serverError = null;
+                IOException failure = null;
+                while (true) {
+                    if (outcome.response != null) {
+                        if (outcome.response.code() < 500) {
+                            closeQuietly(serverError);
+                            return decide(outcome);
+                        }
+                        if (serverError == null) {
+                            serverError = outcome;
+                        } else {
+                            outcome.response.close();
+                        }
+                    } else if (failure == null) {
+                        failure = outcome.error;
+                    }
+                    if (pending == 0) {
+                        break;
+                    }
+                    pending--;
+                    outcome = outcomes.take();
+                }
+                if (serverError != null) {
+                    return decide(serverError);
+                }
+                synchronized (this) {
+                    decided = true;
+                }
+                throw failure;
+            }
+
+            private Response decide(Outcome winner) {
+                synchronized (this) {
+                    decided = true;
+                }
+                // Cancel cabang lain; cabang pemenang tidak boleh di-cancel (body belum dibaca)
+                Call second = hedge;
+                if (winner.call != primary) {
+                    primary.cancel();
+                } else if (second != null) {
+                    second.cancel();
+                }
+                // Hasil yang terlanjur masuk antrian sebelum keputusan
+                for (Outcome late; (late = outcomes.poll()) != null; ) {
+                    closeQuietly(late);
+                }
+                return winner.response;
+            }
+        }
+    }
+
+    private static final class Outcome {
+
+        final Call call;
+        final Response response;
+        final IOException error;
+
+        Outcome(Call call, Response response, IOException error) {
+            this.call = call;
+            this.response = response;
+            this.error = error;
+        }
+    }
+
+    private static void closeQuietly(Outcome outcome) {
+        if (outcome != null && outcome.response != null) {
+            outcome.response.close();
+        }
+    }
+}
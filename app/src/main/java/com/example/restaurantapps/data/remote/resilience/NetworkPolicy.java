@@ -0,0 +1,200 @@
+package com.example.restaurantapps.data.remote.resilience;
+
+/**
+ * DATA LAYER: Network Policy (timeout, retry, hedging, circuit breaker)
+ *
+ * Satu tempat untuk semua angka ketahanan network, dipasang ke OkHttp oleh
+ * RetrofitClient.buildHttpClient(). Immutable: buat lewat Builder.
+ *
+ * - Timeout     : connect / read / write per request, callTimeout = batas TOTAL
+ *                 satu call termasuk semua retry (tail latency punya batas atas)
+ * - Retry       : hanya GET/HEAD (idempotent), backoff eksponensial dengan jitter
+ * - Hedging     : GET yang belum dijawab setelah hedgeDelay dikirim sekali lagi,
+ *                 jawaban pertama yang menang (0 = nonaktif)
+ * - Circuit     : setelah N kegagalan berturut-turut, call langsung gagal selama
+ *                 openDuration → repository offline-first memakai cache tanpa menunggu
+ *
+ * Interview Q: "Kenapa retry harus pakai jitter?"
+ * A: Tanpa jitter semua client yang gagal bersamaan akan retry bersamaan juga
+ *    (thundering herd) dan server yang baru pulih langsung jatuh lagi.
+ */
+public final class NetworkPolicy {
+
+    public static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 5_000L;
+    public static final long DEFAULT_READ_TIMEOUT_MILLIS = 10_000L;
+    public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 10_000L;
+    public static final long DEFAULT_CALL_TIMEOUT_MILLIS = 20_000L;
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_BASE_BACKOFF_MILLIS = 200L;
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 2_000L;
+    public static final long DEFAULT_HEDGE_DELAY_MILLIS = 2_000L;
+    public static final int DEFAULT_BREAKER_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_BREAKER_OPEN_MILLIS = 30_000L;
+
+    private final long connectTimeoutMillis;
+    private final long readTimeoutMillis;
+    private final long writeTimeoutMillis;
+    private final long callTimeoutMillis;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long hedgeDelayMillis;
+    private final int breakerFailureThreshold;
+    private final long breakerOpenMillis;
+
+    private NetworkPolicy(Builder builder) {
+        this.connectTimeoutMillis = builder.connectTimeoutMillis;
+        this.readTimeoutMillis = builder.readTimeoutMillis;
+        this.writeTimeoutMillis = builder.writeTimeoutMillis;
+        this.callTimeoutMillis = builder.callTimeoutMillis;
+        this.maxAttempts = builder.maxAttempts;
+        this.baseBackoffMillis = builder.baseBackoffMillis;
+        this.maxBackoffMillis = builder.maxBackoffMillis;
+        this.hedgeDelayMillis = builder.hedgeDelayMillis;
+        this.breakerFailureThreshold = builder.breakerFailureThreshold;
+        this.breakerOpenMillis = builder.breakerOpenMillis;
+    }
+
+    public static NetworkPolicy defaultPolicy() {
+        return new Builder().build();
+    }
+
+    public Builder newBuilder() {
+        return new Builder(this);
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public long getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public long getWriteTimeoutMillis() {
+        return writeTimeoutMillis;
+    }
+
+    public long getCallTimeoutMillis() {
+        return callTimeoutMillis;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getBaseBackoffMillis() {
+        return baseBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public long getHedgeDelayMillis() {
+        return hedgeDelayMillis;
+    }
+
+    public boolean isHedgingEnabled() {
+        return hedgeDelayMillis > 0;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public long getBreakerOpenMillis() {
+        return breakerOpenMillis;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return breakerFailureThreshold > 0;
+    }
+
+    public static final class Builder {
+
+        private long connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+        private long readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+        private long writeTimeoutMillis = DEFAULT_WRITE_TIMEOUT_MILLIS;
+        private long callTimeoutMillis = DEFAULT_CALL_TIMEOUT_MILLIS;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private long baseBackoffMillis = DEFAULT_BASE_BACKOFF_MILLIS;
+        private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+        private long hedgeDelayMillis = DEFAULT_HEDGE_DELAY_MILLIS;
+        private int breakerFailureThreshold = DEFAULT_BREAKER_FAILURE_THRESHOLD;
+        private long breakerOpenMillis = DEFAULT_BREAKER_OPEN_MILLIS;
+
+        public Builder() {
+        }
+
+        private Builder(NetworkPolicy policy) {
+            connectTimeoutMillis = policy.connectTimeoutMillis;
+            readTimeoutMillis = policy.readTimeoutMillis;
+            writeTimeoutMillis = policy.writeTimeoutMillis;
+            callTimeoutMillis = policy.callTimeoutMillis;
+            maxAttempts = policy.maxAttempts;
+            baseBackoffMillis = policy.baseBackoffMillis;
+            maxBackoffMillis = policy.maxBackoffMillis;
+            hedgeDelayMillis = policy.hedgeDelayMillis;
+            breakerFailureThreshold = policy.breakerFailureThreshold;
+            breakerOpenMillis = policy.breakerOpenMillis;
+        }
+
+        /**
+         * 0 = tanpa batas (default OkHttp untuk callTimeout).
+         */
+        public Builder timeouts(long connectMillis, long readMillis, long writeMillis, long callMillis) {
+            if (connectMillis < 0 || readMillis < 0 || writeMillis < 0 || callMillis < 0) {
+                throw new IllegalArgumentException("timeout tidak boleh negatif");
+            }
+            connectTimeoutMillis = connectMillis;
+            readTimeoutMillis = readMillis;
+            writeTimeoutMillis = writeMillis;
+            callTimeoutMillis = callMillis;
+            return this;
+        }
+
+        /**
+         * @param maxAttempts 1 = tanpa retry
+         */
+        public Builder retry(int maxAttempts, long baseBackoffMillis, long maxBackoffMillis) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts minimal 1");
+            }
+            if (baseBackoffMillis < 0 || maxBackoffMillis < baseBackoffMillis) {
+                throw new IllegalArgumentException("backoff harus 0 ≤ base ≤ max");
+            }
+            this.maxAttempts = maxAttempts;
+            this.baseBackoffMillis = baseBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
+        /**
+         * @param hedgeDelayMillis 0 = hedging nonaktif
+         */
+        public Builder hedgeDelay(long hedgeDelayMillis) {
+            if (hedgeDelayMillis < 0) {
+                throw new IllegalArgumentException("hedgeDelay tidak boleh negatif");
+            }
+            this.hedgeDelayMillis = hedgeDelayMillis;
+            return this;
+        }
+
+        /**
+         * @param failureThreshold 0 = circuit breaker nonaktif
+         */
+        public Builder circuitBreaker(int failureThreshold, long openMillis) {
+            if (failureThreshold < 0 || openMillis < 0) {
+                throw new IllegalArgumentException("circuit breaker tidak boleh negatif");
+            }
+            this.breakerFailureThreshold = failureThreshold;
+            this.breakerOpenMillis = openMillis;
+            return this;
+        }
+
+        public NetworkPolicy build() {
+            return new NetworkPolicy(this);
+        }
+    }
+}
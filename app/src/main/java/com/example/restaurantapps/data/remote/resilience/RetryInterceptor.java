@@ -0,0 +1,93 @@
+package com.example.restaurantapps.data.remote.resilience;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * DATA LAYER: Retry dengan exponential backoff + full jitter (OkHttp application interceptor)
+ *
+ * - Hanya GET/HEAD: mengulang POST bisa membuat data dobel
+ * - Diulang: IOException (timeout, disconnect, connection refused) dan
+ *   408 / 429 / 500 / 502 / 503 / 504
+ * - Jeda sebelum retry ke-n: random(0, min(maxBackoff, base * 2^(n-1)))
+ * - Call yang di-cancel tidak di-retry; callTimeout OkHttp tetap membatasi
+ *   total waktu semua percobaan
+ *
+ * Catatan: retryOnConnectionFailure OkHttp (default true) tetap aktif. Itu hanya
+ * mengulang koneksi pool yang ternyata basi, bukan pengganti policy ini.
+ */
+public final class RetryInterceptor implements Interceptor {
+
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public RetryInterceptor(int maxAttempts, long baseBackoffMillis, long maxBackoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!isIdempotent(request.method())) {
+            return chain.proceed(request);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= maxAttempts;
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                if (lastAttempt || chain.call().isCanceled()) {
+                    throw e;
+                }
+                sleep(attempt);
+                continue;
+            }
+            if (lastAttempt || !isRetryable(response.code())) {
+                return response;
+            }
+            // Body harus ditutup sebelum proceed() lagi (koneksi kembali ke pool)
+            response.close();
+            sleep(attempt);
+        }
+    }
+
+    private void sleep(int attempt) throws IOException {
+        try {
+            Thread.sleep(backoffMillis(attempt, baseBackoffMillis, maxBackoffMillis,
+                    ThreadLocalRandom.current().nextDouble()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Retry dibatalkan");
+        }
+    }
+
+    /**
+     * Full jitter: jeda acak di [0, cap], cap = min(max, base * 2^(attempt-1)).
+     *
+     * @param random nilai acak di [0, 1)
+     */
+    static long backoffMillis(int attempt, long baseMillis, long maxMillis, double random) {
+        int shift = Math.min(attempt - 1, 30);
+        long cap = Math.min(maxMillis, baseMillis << shift);
+        return (long) (cap * random);
+    }
+
+    static boolean isIdempotent(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    static boolean isRetryable(int code) {
+        return code == 408 || code == 429 || code == 500
+                || code == 502 || code == 503 || code == 504;
+    }
+}
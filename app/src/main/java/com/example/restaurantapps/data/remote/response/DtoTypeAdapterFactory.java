@@ -0,0 +1,398 @@
+package com.example.restaurantapps.data.remote.response;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DATA LAYER: TypeAdapter Gson tanpa reflection untuk semua DTO
+ *
+ * Gson default (ReflectiveTypeAdapterFactory) untuk setiap DTO:
+ * - saat adapter pertama dibuat: scan field + annotation lewat reflection
+ * - saat parse: set field lewat Field.set(), boxing untuk double/int/boolean
+ * - rusak jika R8 mengganti nama / membuang field & constructor
+ * Adapter di sini ditulis seperti kode hasil generator: switch nama JSON →
+ * assign field langsung. Stateless, jadi satu instance dipakai bersama.
+ *
+ * Menambah field DTO = tambah case di read() dan baris di write().
+ * DtoTypeAdapterFactoryTest membandingkan hasilnya dengan Gson reflektif,
+ * jadi field yang terlewat langsung ketahuan.
+ *
+ * Interview Q: "Kenapa tidak pakai Gson biasa saja?"
+ * A: Biaya reflection dibayar di cold start (adapter dibuat saat request pertama)
+ *    dan field DTO harus di-keep dari R8. Adapter eksplisit tidak butuh keduanya.
+ */
+public final class DtoTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final DtoTypeAdapterFactory INSTANCE = new DtoTypeAdapterFactory();
+
+    static final TypeAdapter<RestaurantDto> RESTAURANT_DTO = new RestaurantDtoAdapter().nullSafe();
+    static final TypeAdapter<RestaurantResponse> RESTAURANT_RESPONSE = new RestaurantResponseAdapter().nullSafe();
+    static final TypeAdapter<RestaurantDetailDto.NameDto> NAME_DTO = new NameDtoAdapter().nullSafe();
+    static final TypeAdapter<RestaurantDetailDto.MenusDto> MENUS_DTO = new MenusDtoAdapter().nullSafe();
+    static final TypeAdapter<RestaurantDetailDto.CustomerReviewDto> CUSTOMER_REVIEW_DTO =
+            new CustomerReviewDtoAdapter().nullSafe();
+    static final TypeAdapter<RestaurantDetailDto> RESTAURANT_DETAIL_DTO = new RestaurantDetailDtoAdapter().nullSafe();
+    static final TypeAdapter<RestaurantDetailResponse> RESTAURANT_DETAIL_RESPONSE =
+            new RestaurantDetailResponseAdapter().nullSafe();
+
+    private DtoTypeAdapterFactory() {
+    }
+
+    public static DtoTypeAdapterFactory create() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gson dengan adapter DTO terdaftar (dipakai GsonConverterFactory di RetrofitClient).
+     */
+    public static Gson gson() {
+        return new GsonBuilder().registerTypeAdapterFactory(INSTANCE).create();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == RestaurantResponse.class) {
+            return (TypeAdapter<T>) RESTAURANT_RESPONSE;
+        } else if (raw == RestaurantDto.class) {
+            return (TypeAdapter<T>) RESTAURANT_DTO;
+        } else if (raw == RestaurantDetailResponse.class) {
+            return (TypeAdapter<T>) RESTAURANT_DETAIL_RESPONSE;
+        } else if (raw == RestaurantDetailDto.class) {
+            return (TypeAdapter<T>) RESTAURANT_DETAIL_DTO;
+        } else if (raw == RestaurantDetailDto.NameDto.class) {
+            return (TypeAdapter<T>) NAME_DTO;
+        } else if (raw == RestaurantDetailDto.MenusDto.class) {
+            return (TypeAdapter<T>) MENUS_DTO;
+        } else if (raw == RestaurantDetailDto.CustomerReviewDto.class) {
+            return (TypeAdapter<T>) CUSTOMER_REVIEW_DTO;
+        }
+        return null;
+    }
+
+    private static final class RestaurantResponseAdapter extends TypeAdapter<RestaurantResponse> {
+        @Override
+        public RestaurantResponse read(JsonReader in) throws IOException {
+            RestaurantResponse response = new RestaurantResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "error":
+                        response.error = in.nextBoolean();
+                        break;
+                    case "message":
+                        response.message = readString(in);
+                        break;
+                    case "count":
+                        response.count = in.nextInt();
+                        break;
+                    case "restaurants":
+                        response.restaurants = readList(in, RESTAURANT_DTO);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantResponse response) throws IOException {
+            out.beginObject();
+            out.name("error").value(response.error);
+            out.name("message").value(response.message);
+            out.name("count").value(response.count);
+            out.name("restaurants");
+            writeList(out, response.restaurants, RESTAURANT_DTO);
+            out.endObject();
+        }
+    }
+
+    private static final class RestaurantDtoAdapter extends TypeAdapter<RestaurantDto> {
+        @Override
+        public RestaurantDto read(JsonReader in) throws IOException {
+            RestaurantDto dto = new RestaurantDto();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        dto.id = readString(in);
+                        break;
+                    case "name":
+                        dto.name = readString(in);
+                        break;
+                    case "description":
+                        dto.description = readString(in);
+                        break;
+                    case "pictureId":
+                        dto.pictureId = readString(in);
+                        break;
+                    case "city":
+                        dto.city = readString(in);
+                        break;
+                    case "rating":
+                        dto.rating = in.nextDouble();
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return dto;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantDto dto) throws IOException {
+            out.beginObject();
+            out.name("id").value(dto.id);
+            out.name("name").value(dto.name);
+            out.name("description").value(dto.description);
+            out.name("pictureId").value(dto.pictureId);
+            out.name("city").value(dto.city);
+            out.name("rating").value(dto.rating);
+            out.endObject();
+        }
+    }
+
+    private static final class RestaurantDetailResponseAdapter extends TypeAdapter<RestaurantDetailResponse> {
+        @Override
+        public RestaurantDetailResponse read(JsonReader in) throws IOException {
+            RestaurantDetailResponse response = new RestaurantDetailResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "error":
+                        response.error = in.nextBoolean();
+                        break;
+                    case "message":
+                        response.message = readString(in);
+                        break;
+                    case "restaurant":
+                        response.restaurant = RESTAURANT_DETAIL_DTO.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantDetailResponse response) throws IOException {
+            out.beginObject();
+            out.name("error").value(response.error);
+            out.name("message").value(response.message);
+            out.name("restaurant");
+            RESTAURANT_DETAIL_DTO.write(out, response.restaurant);
+            out.endObject();
+        }
+    }
+
+    private static final class RestaurantDetailDtoAdapter extends TypeAdapter<RestaurantDetailDto> {
+        @Override
+        public RestaurantDetailDto read(JsonReader in) throws IOException {
+            RestaurantDetailDto dto = new RestaurantDetailDto();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        dto.id = readString(in);
+                        break;
+                    case "name":
+                        dto.name = readString(in);
+                        break;
+                    case "description":
+                        dto.description = readString(in);
+                        break;
+                    case "city":
+                        dto.city = readString(in);
+                        break;
+                    case "address":
+                        dto.address = readString(in);
+                        break;
+                    case "pictureId":
+                        dto.pictureId = readString(in);
+                        break;
+                    case "rating":
+                        dto.rating = in.nextDouble();
+                        break;
+                    case "categories":
+                        dto.categories = readList(in, NAME_DTO);
+                        break;
+                    case "menus":
+                        dto.menus = MENUS_DTO.read(in);
+                        break;
+                    case "customerReviews":
+                        dto.customerReviews = readList(in, CUSTOMER_REVIEW_DTO);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return dto;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantDetailDto dto) throws IOException {
+            out.beginObject();
+            out.name("id").value(dto.id);
+            out.name("name").value(dto.name);
+            out.name("description").value(dto.description);
+            out.name("city").value(dto.city);
+            out.name("address").value(dto.address);
+            out.name("pictureId").value(dto.pictureId);
+            out.name("rating").value(dto.rating);
+            out.name("categories");
+            writeList(out, dto.categories, NAME_DTO);
+            out.name("menus");
+            MENUS_DTO.write(out, dto.menus);
+            out.name("customerReviews");
+            writeList(out, dto.customerReviews, CUSTOMER_REVIEW_DTO);
+            out.endObject();
+        }
+    }
+
+    private static final class NameDtoAdapter extends TypeAdapter<RestaurantDetailDto.NameDto> {
+        @Override
+        public RestaurantDetailDto.NameDto read(JsonReader in) throws IOException {
+            RestaurantDetailDto.NameDto dto = new RestaurantDetailDto.NameDto();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("name".equals(in.nextName())) {
+                    dto.name = readString(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return dto;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantDetailDto.NameDto dto) throws IOException {
+            out.beginObject();
+            out.name("name").value(dto.name);
+            out.endObject();
+        }
+    }
+
+    private static final class MenusDtoAdapter extends TypeAdapter<RestaurantDetailDto.MenusDto> {
+        @Override
+        public RestaurantDetailDto.MenusDto read(JsonReader in) throws IOException {
+            RestaurantDetailDto.MenusDto dto = new RestaurantDetailDto.MenusDto();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "foods":
+                        dto.foods = readList(in, NAME_DTO);
+                        break;
+                    case "drinks":
+                        dto.drinks = readList(in, NAME_DTO);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return dto;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantDetailDto.MenusDto dto) throws IOException {
+            out.beginObject();
+            out.name("foods");
+            writeList(out, dto.foods, NAME_DTO);
+            out.name("drinks");
+            writeList(out, dto.drinks, NAME_DTO);
+            out.endObject();
+        }
+    }
+
+    private static final class CustomerReviewDtoAdapter extends TypeAdapter<RestaurantDetailDto.CustomerReviewDto> {
+        @Override
+        public RestaurantDetailDto.CustomerReviewDto read(JsonReader in) throws IOException {
+            RestaurantDetailDto.CustomerReviewDto dto = new RestaurantDetailDto.CustomerReviewDto();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name":
+                        dto.name = readString(in);
+                        break;
+                    case "review":
+                        dto.review = readString(in);
+                        break;
+                    case "date":
+                        dto.date = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return dto;
+        }
+
+        @Override
+        public void write(JsonWriter out, RestaurantDetailDto.CustomerReviewDto dto) throws IOException {
+            out.beginObject();
+            out.name("name").value(dto.name);
+            out.name("review").value(dto.review);
+            out.name("date").value(dto.date);
+            out.endObject();
+        }
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    private static <T> List<T> readList(JsonReader in, TypeAdapter<T> element) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<T> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(element.read(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    private static <T> void writeList(JsonWriter out, List<T> list, TypeAdapter<T> element) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T item : list) {
+            element.write(out, item);
+        }
+        out.endArray();
+    }
+}
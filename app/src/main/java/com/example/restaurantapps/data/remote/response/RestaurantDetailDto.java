@@ -0,0 +1,141 @@
+package com.example.restaurantapps.data.remote.response;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * DATA LAYER: DTO detail restaurant
+ *
+ * Struktur JSON:
+ *   {"id":..,"name":..,"description":..,"city":..,"address":..,"pictureId":..,"rating":..,
+ *    "categories":[{"name":..}],"menus":{"foods":[{"name":..}],"drinks":[{"name":..}]},
+ *    "customerReviews":[{"name":..,"review":..,"date":..}]}
+ *
+ * Field package-private supaya bisa diisi DtoTypeAdapterFactory.
+ */
+public class RestaurantDetailDto {
+    @SerializedName("id")
+    String id;
+
+    @SerializedName("name")
+    String name;
+
+    @SerializedName("description")
+    String description;
+
+    @SerializedName("city")
+    String city;
+
+    @SerializedName("address")
+    String address;
+
+    @SerializedName("pictureId")
+    String pictureId;
+
+    @SerializedName("rating")
+    double rating;
+
+    @SerializedName("categories")
+    List<NameDto> categories;
+
+    @SerializedName("menus")
+    MenusDto menus;
+
+    @SerializedName("customerReviews")
+    List<CustomerReviewDto> customerReviews;
+
+    public RestaurantDetailDto() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getPictureId() {
+        return pictureId;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public List<NameDto> getCategories() {
+        return categories;
+    }
+
+    public MenusDto getMenus() {
+        return menus;
+    }
+
+    public List<CustomerReviewDto> getCustomerReviews() {
+        return customerReviews;
+    }
+
+    /**
+     * Kategori & item menu: {"name": ".."}
+     */
+    public static class NameDto {
+        @SerializedName("name")
+        String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class MenusDto {
+        @SerializedName("foods")
+        List<NameDto> foods;
+
+        @SerializedName("drinks")
+        List<NameDto> drinks;
+
+        public List<NameDto> getFoods() {
+            return foods;
+        }
+
+        public List<NameDto> getDrinks() {
+            return drinks;
+        }
+    }
+
+    public static class CustomerReviewDto {
+        @SerializedName("name")
+        String name;
+
+        @SerializedName("review")
+        String review;
+
+        @SerializedName("date")
+        String date;
+
+        public String getName() {
+            return name;
+        }
+
+        public String getReview() {
+            return review;
+        }
+
+        public String getDate() {
+            return date;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.restaurantapps.data.remote.response;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * DATA LAYER: API Response Model endpoint detail/{id}
+ */
+public class RestaurantDetailResponse {
+    @SerializedName("error")
+    boolean error;
+
+    @SerializedName("message")
+    String message;
+
+    @SerializedName("restaurant")
+    RestaurantDetailDto restaurant;
+
+    public RestaurantDetailResponse() {
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public RestaurantDetailDto getRestaurant() {
+        return restaurant;
+    }
+}
@@ -7,25 +7,28 @@ import com.google.gson.annotations.SerializedName;
  * 
  * DTO adalah object untuk transfer data dari API.
  * Kemudian di-convert ke domain Restaurant entity.
+ *
+ * Field package-private: diisi DtoTypeAdapterFactory tanpa reflection.
+ * @SerializedName tetap menjadi kontrak nama JSON.
  */
 public class RestaurantDto {
     @SerializedName("id")
-    private String id;
+    String id;
     
     @SerializedName("name")
-    private String name;
+    String name;
     
     @SerializedName("description")
-    private String description;
+    String description;
     
     @SerializedName("pictureId")
-    private String pictureId;
+    String pictureId;
     
     @SerializedName("city")
-    private String city;
+    String city;
     
     @SerializedName("rating")
-    private double rating;
+    double rating;
 
     public RestaurantDto() {
     }
@@ -8,19 +8,21 @@ import java.util.List;
  * 
  * Model ini hanya untuk mapping JSON dari API.
  * Berbeda dengan domain Restaurant - ini spesifik untuk API.
+ *
+ * Di-parse oleh DtoTypeAdapterFactory (lihat RestaurantDto).
  */
 public class RestaurantResponse {
     @SerializedName("error")
-    private boolean error;
+    boolean error;
     
     @SerializedName("message")
-    private String message;
+    String message;
     
     @SerializedName("count")
-    private int count;
+    int count;
     
     @SerializedName("restaurants")
-    private List<RestaurantDto> restaurants;
+    List<RestaurantDto> restaurants;
 
     public RestaurantResponse() {
     }
@@ -0,0 +1,53 @@
+package com.example.restaurantapps.data.remote.routing;
+
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+
+import okhttp3.HttpUrl;
+
+/**
+ * DATA LAYER: Satu region API (base URL API + base URL gambar)
+ */
+public final class Endpoint {
+
+    private final String name;
+    private final HttpUrl apiBaseUrl;
+    private final String imageBaseUrl;
+
+    /**
+     * @param apiBaseUrl   diakhiri "/", misal "https://restaurant-api.dicoding.dev/"
+     * @param imageBaseUrl misal "https://restaurant-api.dicoding.dev/images/"
+     */
+    public Endpoint(String name, String apiBaseUrl, String imageBaseUrl) {
+        this.name = name;
+        this.apiBaseUrl = HttpUrl.get(ImageUrlBuilder.normalize(apiBaseUrl));
+        this.imageBaseUrl = ImageUrlBuilder.normalize(imageBaseUrl);
+    }
+
+    /**
+     * Format konfigurasi (res/values/endpoints.xml): "name|apiBaseUrl|imageBaseUrl".
+     */
+    public static Endpoint parse(String spec) {
+        String[] parts = spec.split("\\|");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Endpoint harus name|apiBaseUrl|imageBaseUrl: " + spec);
+        }
+        return new Endpoint(parts[0].trim(), parts[1].trim(), parts[2].trim());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HttpUrl getApiBaseUrl() {
+        return apiBaseUrl;
+    }
+
+    public String getImageBaseUrl() {
+        return imageBaseUrl;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + apiBaseUrl + ")";
+    }
+}
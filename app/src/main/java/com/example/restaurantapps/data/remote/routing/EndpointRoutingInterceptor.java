@@ -0,0 +1,77 @@
+package com.example.restaurantapps.data.remote.routing;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * DATA LAYER: Arahkan request ke endpoint (region) yang dipilih EndpointSelector
+ *
+ * Retrofit selalu membangun URL dari endpoint primary; interceptor ini mengganti
+ * prefix primary dengan base URL endpoint aktif. Request ke host lain tidak disentuh.
+ *
+ * Dipasang paling dalam (setelah CircuitBreaker & RetryInterceptor): setiap retry
+ * memilih endpoint lagi, jadi kegagalan satu region langsung di-retry ke region
+ * sehat berikutnya (fallback), dan tetap di sana untuk request selanjutnya (sticky).
+ */
+public final class EndpointRoutingInterceptor implements Interceptor {
+
+    private final EndpointSelector selector;
+    private final RttProbe probe;
+    private final Executor probeExecutor;
+    private final String primaryPrefix;
+
+    EndpointRoutingInterceptor(EndpointSelector selector, RttProbe probe, Executor probeExecutor) {
+        this.selector = selector;
+        this.probe = probe;
+        this.probeExecutor = probeExecutor;
+        this.primaryPrefix = selector.getPrimary().getApiBaseUrl().toString();
+    }
+
+    /**
+     * Client baru (connection pool, dispatcher & interceptor yang sama) dengan routing
+     * sebagai interceptor terakhir, plus RttProbe yang berjalan di probeExecutor.
+     */
+    public static OkHttpClient install(OkHttpClient client, EndpointSelector selector, Executor probeExecutor) {
+        RttProbe probe = RttProbe.create(client, selector, RttProbe.DEFAULT_INTERVAL_MILLIS);
+        return client.newBuilder()
+                .addInterceptor(new EndpointRoutingInterceptor(selector, probe, probeExecutor))
+                .build();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String url = request.url().toString();
+        if (!url.startsWith(primaryPrefix)) {
+            return chain.proceed(request);
+        }
+        probe.probeIfStale(probeExecutor);
+
+        Endpoint target = selector.current();
+        if (target != selector.getPrimary()) {
+            HttpUrl routed = HttpUrl.get(target.getApiBaseUrl() + url.substring(primaryPrefix.length()));
+            request = request.newBuilder().url(routed).build();
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            if (!chain.call().isCanceled()) {
+                selector.markFailed(target);
+            }
+            throw e;
+        }
+        if (response.code() >= 500 && response.code() != 501) {
+            // Region bermasalah (501 = endpoint tidak ada, bukan masalah region)
+            selector.markFailed(target);
+        }
+        return response;
+    }
+}
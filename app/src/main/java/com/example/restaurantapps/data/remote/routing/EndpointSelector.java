@@ -0,0 +1,163 @@
+package com.example.restaurantapps.data.remote.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * DATA LAYER: Pemilih endpoint (region) tercepat yang sehat
+ *
+ * - RTT per endpoint dari RttProbe, dihaluskan dengan EWMA (satu probe lambat
+ *   tidak langsung memindahkan region)
+ * - Endpoint yang gagal (IOException / 5xx) ditandai tidak sehat selama unhealthyMillis
+ * - Sticky: endpoint aktif hanya diganti jika
+ *   a) endpoint aktif tidak sehat → fallback ke endpoint sehat tercepat, atau
+ *   b) ada endpoint sehat yang RTT-nya < SWITCH_RATIO × RTT endpoint aktif
+ *   Setelah fallback, endpoint lama yang pulih TIDAK otomatis dipakai lagi.
+ *   Pindah region = koneksi baru (TLS) dan cache key gambar baru, jadi harus jarang.
+ *
+ * Endpoint pertama = primary (base URL Retrofit) dan endpoint awal sebelum probe.
+ *
+ * Interview Q: "Kenapa tidak selalu pakai endpoint dengan RTT terendah?"
+ * A: RTT berfluktuasi. Tanpa histeresis, app bolak-balik antar region setiap
+ *    probe, dan setiap perpindahan membayar handshake + cache miss.
+ */
+public final class EndpointSelector {
+
+    public static final long DEFAULT_UNHEALTHY_MILLIS = 30_000L;
+    static final double SWITCH_RATIO = 0.8;
+    static final double EWMA_ALPHA = 0.3;
+
+    private final List<Endpoint> endpoints;
+    private final long unhealthyMillis;
+    private final LongSupplier clock;
+
+    // Dijaga oleh this; NaN = RTT belum diketahui
+    private final double[] rttMillis;
+    private final long[] unhealthyUntilMillis;
+    private volatile int current;
+
+    public EndpointSelector(List<Endpoint> endpoints) {
+        this(endpoints, DEFAULT_UNHEALTHY_MILLIS, () -> System.nanoTime() / 1_000_000L);
+    }
+
+    /**
+     * @param clock waktu monotonic dalam ms (test memakai jam palsu)
+     */
+    public EndpointSelector(List<Endpoint> endpoints, long unhealthyMillis, LongSupplier clock) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Minimal 1 endpoint");
+        }
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints));
+        this.unhealthyMillis = unhealthyMillis;
+        this.clock = clock;
+        this.rttMillis = new double[endpoints.size()];
+        this.unhealthyUntilMillis = new long[endpoints.size()];
+        Arrays.fill(rttMillis, Double.NaN);
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public Endpoint getPrimary() {
+        return endpoints.get(0);
+    }
+
+    /**
+     * Endpoint untuk request berikutnya. Lock-free (dibaca di setiap request & bind gambar).
+     */
+    public Endpoint current() {
+        return endpoints.get(current);
+    }
+
+    public String currentImageBaseUrl() {
+        return current().getImageBaseUrl();
+    }
+
+    /**
+     * Hasil satu putaran probe, urutan sama dengan getEndpoints().
+     *
+     * @param probedRttMillis RTT dalam ms, negatif = endpoint tidak bisa dihubungi
+     */
+    public synchronized void onProbeResults(long[] probedRttMillis) {
+        long now = clock.getAsLong();
+        for (int i = 0; i < endpoints.size(); i++) {
+            long rtt = probedRttMillis[i];
+            if (rtt < 0) {
+                unhealthyUntilMillis[i] = now + unhealthyMillis;
+            } else {
+                rttMillis[i] = Double.isNaN(rttMillis[i])
+                        ? rtt
+                        : EWMA_ALPHA * rtt + (1 - EWMA_ALPHA) * rttMillis[i];
+                unhealthyUntilMillis[i] = 0L;
+            }
+        }
+        reselect(now);
+    }
+
+    /**
+     * Request ke endpoint gagal (IOException / 5xx): tandai tidak sehat, fallback jika perlu.
+     */
+    public synchronized void markFailed(Endpoint endpoint) {
+        int index = endpoints.indexOf(endpoint);
+        if (index < 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        unhealthyUntilMillis[index] = now + unhealthyMillis;
+        reselect(now);
+    }
+
+    public synchronized boolean isHealthy(Endpoint endpoint) {
+        int index = endpoints.indexOf(endpoint);
+        return index >= 0 && isHealthy(index, clock.getAsLong());
+    }
+
+    /**
+     * @return RTT ter-EWMA dalam ms, -1 jika belum pernah di-probe
+     */
+    public synchronized long getRttMillis(Endpoint endpoint) {
+        int index = endpoints.indexOf(endpoint);
+        return index < 0 || Double.isNaN(rttMillis[index]) ? -1L : Math.round(rttMillis[index]);
+    }
+
+    private void reselect(long now) {
+        int best = -1;
+        for (int i = 0; i < endpoints.size(); i++) {
+            if (isHealthy(i, now) && (best < 0 || isFaster(i, best))) {
+                best = i;
+            }
+        }
+        if (best < 0 || best == current) {
+            // Semua tidak sehat: tetap di endpoint sekarang (tidak ada yang lebih baik)
+            return;
+        }
+        if (!isHealthy(current, now)) {
+            current = best;
+            return;
+        }
+        if (!Double.isNaN(rttMillis[best])
+                && (Double.isNaN(rttMillis[current]) || rttMillis[best] < rttMillis[current] * SWITCH_RATIO)) {
+            current = best;
+        }
+    }
+
+    private boolean isHealthy(int index, long now) {
+        return now >= unhealthyUntilMillis[index];
+    }
+
+    /**
+     * RTT diketahui > belum diketahui; sama-sama belum diketahui → urutan konfigurasi.
+     */
+    private boolean isFaster(int candidate, int best) {
+        double a = rttMillis[candidate];
+        double b = rttMillis[best];
+        if (Double.isNaN(a)) {
+            return false;
+        }
+        return Double.isNaN(b) || a < b;
+    }
+}
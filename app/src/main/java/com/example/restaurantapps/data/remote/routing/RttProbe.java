@@ -0,0 +1,126 @@
+package com.example.restaurantapps.data.remote.routing;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * DATA LAYER: Probe RTT ke setiap endpoint di background
+ *
+ * - HEAD ke base URL API, PROBES_PER_ENDPOINT kali, diambil yang tercepat:
+ *   probe pertama membayar DNS + TCP + TLS, berikutnya memakai koneksi pool
+ *   (dan koneksi itu langsung siap dipakai request asli)
+ * - Status HTTP apa pun = endpoint bisa dihubungi; IOException = tidak sehat
+ * - Client probe berbagi connection pool dengan client utama, tetapi tanpa
+ *   interceptor (retry, breaker, routing) dan tanpa HTTP cache
+ * - probeIfStale(): paling sering sekali per intervalMillis, single-flight
+ */
+public final class RttProbe {
+
+    public static final long DEFAULT_INTERVAL_MILLIS = 5 * 60 * 1000L; // 5 menit
+    static final long PROBE_TIMEOUT_MILLIS = 3_000L;
+    static final int PROBES_PER_ENDPOINT = 2;
+
+    private final OkHttpClient client;
+    private final EndpointSelector selector;
+    private final long intervalMillis;
+    private final LongSupplier clock;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean probed;
+    private volatile long lastProbeMillis;
+
+    RttProbe(OkHttpClient client, EndpointSelector selector, long intervalMillis, LongSupplier clock) {
+        this.client = client;
+        this.selector = selector;
+        this.intervalMillis = intervalMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @param sharedClient client utama; hanya connection pool & dispatcher yang dipakai bersama
+     */
+    public static RttProbe create(OkHttpClient sharedClient, EndpointSelector selector, long intervalMillis) {
+        OkHttpClient.Builder builder = sharedClient.newBuilder()
+                .cache(null)
+                .callTimeout(PROBE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .connectTimeout(PROBE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .readTimeout(PROBE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        builder.interceptors().clear();
+        builder.networkInterceptors().clear();
+        return new RttProbe(builder.build(), selector, intervalMillis, () -> System.nanoTime() / 1_000_000L);
+    }
+
+    /**
+     * Jadwalkan probe di executor jika belum pernah / sudah lewat intervalMillis.
+     * Aman dipanggil di setiap request: biayanya hanya membaca 2 field volatile.
+     */
+    public void probeIfStale(Executor executor) {
+        if (selector.getEndpoints().size() < 2) {
+            // Hanya 1 region: tidak ada yang perlu dipilih
+            return;
+        }
+        if (probed && clock.getAsLong() - lastProbeMillis < intervalMillis) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    probeAll();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Executor penuh: coba lagi di request berikutnya
+            running.set(false);
+        }
+    }
+
+    /**
+     * Probe semua endpoint (blocking, jangan di main thread) lalu kirim hasilnya ke selector.
+     */
+    public void probeAll() {
+        List<Endpoint> endpoints = selector.getEndpoints();
+        long[] rtts = new long[endpoints.size()];
+        for (int i = 0; i < rtts.length; i++) {
+            rtts[i] = measure(endpoints.get(i));
+        }
+        selector.onProbeResults(rtts);
+        lastProbeMillis = clock.getAsLong();
+        probed = true;
+    }
+
+    /**
+     * @return RTT tercepat dalam ms, -1 jika endpoint tidak bisa dihubungi
+     */
+    private long measure(Endpoint endpoint) {
+        Request request = new Request.Builder()
+                .url(endpoint.getApiBaseUrl())
+                .head()
+                .build();
+        long best = -1L;
+        for (int i = 0; i < PROBES_PER_ENDPOINT; i++) {
+            long start = System.nanoTime();
+            try {
+                // HEAD tanpa body: close() hanya melepas koneksi ke pool
+                client.newCall(request).execute().close();
+                long rtt = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                best = best < 0 ? rtt : Math.min(best, rtt);
+            } catch (IOException e) {
+                return -1L;
+            }
+        }
+        return best;
+    }
+}
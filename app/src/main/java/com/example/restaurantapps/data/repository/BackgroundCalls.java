@@ -0,0 +1,78 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.executor.CancellationHandle;
+import com.example.restaurantapps.data.trace.AppTrace;
+import com.example.restaurantapps.domain.repository.Cancellable;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Jalankan Retrofit call secara sinkron di executor background.
+ * Dipakai bersama oleh repository list & detail.
+ */
+final class BackgroundCalls {
+
+    private BackgroundCalls() {
+    }
+
+    /**
+     * Converter (parsing) dan callback berjalan di thread executor yang sama,
+     * tidak pernah di main thread.
+     *
+     * cancel() membatalkan socket (call.cancel()) dan callback tidak dipanggil lagi.
+     */
+    static <T> Cancellable execute(Executor executor, Call<T> call, Callback<T> callback) {
+        return execute(executor, null, call, callback);
+    }
+
+    /**
+     * @param traceSection nama trace section untuk pekerjaan di worker (network + parse + callback),
+     *                     null = tanpa trace
+     */
+    static <T> Cancellable execute(Executor executor, String traceSection, Call<T> call, Callback<T> callback) {
+        CancellationHandle handle = new CancellationHandle();
+        handle.setDelegate(call::cancel);
+        try {
+            executor.execute(() -> {
+                if (handle.isCancelled()) {
+                    return;
+                }
+                if (traceSection != null) {
+                    AppTrace.begin(traceSection);
+                }
+                try {
+                    run(handle, call, callback);
+                } finally {
+                    if (traceSection != null) {
+                        AppTrace.end();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Antrian executor penuh: laporkan sebagai error biasa
+            callback.onFailure(call, e);
+        }
+        return handle;
+    }
+
+    private static <T> void run(CancellationHandle handle, Call<T> call, Callback<T> callback) {
+        Response<T> response;
+        try {
+            response = call.execute();
+        } catch (IOException e) {
+            if (!handle.isCancelled()) {
+                callback.onFailure(call, e);
+            }
+            return;
+        }
+        if (!handle.isCancelled()) {
+            callback.onResponse(call, response);
+        }
+    }
+}
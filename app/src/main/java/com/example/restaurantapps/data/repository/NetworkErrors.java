@@ -0,0 +1,29 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.remote.resilience.CircuitOpenException;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+
+/**
+ * Pesan error untuk user dari kegagalan Retrofit (onFailure).
+ * Dipakai bersama oleh repository list & detail.
+ */
+final class NetworkErrors {
+
+    private NetworkErrors() {
+    }
+
+    static String describe(Throwable t) {
+        if (t instanceof CircuitOpenException) {
+            // Breaker OPEN: request tidak dikirim sama sekali
+            return "Server sedang bermasalah, coba lagi nanti";
+        }
+        if (t instanceof SocketTimeoutException
+                || (t instanceof InterruptedIOException && "timeout".equals(t.getMessage()))) {
+            // Read/connect timeout, atau callTimeout OkHttp (InterruptedIOException "timeout")
+            return "Koneksi lambat (timeout)";
+        }
+        return "Error: " + t.getMessage();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.domain.model.CustomerReview;
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DATA LAYER: LRU cache detail restaurant (dibatasi UKURAN, bukan jumlah entry)
+ *
+ * Detail dengan banyak review bisa 10x lebih besar dari detail biasa, jadi batas
+ * jumlah entry tidak menjamin memory. Setiap entry ditimbang dengan
+ * estimateSizeBytes(); entry paling lama tidak diakses dibuang sampai total
+ * kembali di bawah maxSizeBytes. Entry yang sendirian lebih besar dari budget
+ * tidak di-cache sama sekali.
+ *
+ * Statistik hit/miss/eviction untuk mengukur efek prefetch.
+ * Thread-safe (synchronized), dipanggil dari thread network & pemanggil.
+ *
+ * Interview Q: "Kenapa tidak android.util.LruCache?"
+ * A: Perilakunya sama (LinkedHashMap access-order + sizeOf), tapi versi ini
+ *    pure Java sehingga bisa di-unit test di JVM tanpa Robolectric.
+ */
+public class RestaurantDetailCache {
+
+    private final long maxSizeBytes;
+    // accessOrder = true: get() memindahkan entry ke ujung (paling baru dipakai)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long evictionCount;
+
+    private static final class Entry {
+        final RestaurantDetail detail;
+        final int sizeBytes;
+
+        Entry(RestaurantDetail detail, int sizeBytes) {
+            this.detail = detail;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+
+    public RestaurantDetailCache(long maxSizeBytes) {
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeBytes harus > 0");
+        }
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Lookup untuk request user: dihitung sebagai hit / miss.
+     */
+    public synchronized RestaurantDetail get(String restaurantId) {
+        Entry entry = entries.get(restaurantId);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.detail;
+    }
+
+    /**
+     * Cek keberadaan tanpa mengubah statistik & urutan LRU (dipakai prefetch).
+     */
+    public synchronized boolean contains(String restaurantId) {
+        return entries.containsKey(restaurantId);
+    }
+
+    public synchronized void put(RestaurantDetail detail) {
+        int size = estimateSizeBytes(detail);
+        Entry previous = entries.remove(detail.getId());
+        if (previous != null) {
+            sizeBytes -= previous.sizeBytes;
+        }
+        if (size > maxSizeBytes) {
+            return;
+        }
+        entries.put(detail.getId(), new Entry(detail, size));
+        sizeBytes += size;
+        putCount++;
+        trimToSize();
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            sizeBytes -= eldest.sizeBytes;
+            evictionCount++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getPutCount() {
+        return putCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized double getHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : hitCount / (double) total;
+    }
+
+    /**
+     * Perkiraan heap yang ditahan satu detail: header object + isi String
+     * (2 byte/char, batas atas) + elemen list. Cukup untuk membandingkan
+     * detail satu dengan lainnya, bukan angka byte persis.
+     */
+    public static int estimateSizeBytes(RestaurantDetail detail) {
+        int size = 96;
+        size += stringSize(detail.getId()) + stringSize(detail.getName())
+                + stringSize(detail.getDescription()) + stringSize(detail.getAddress())
+                + stringSize(detail.getPictureId());
+        size += stringsSize(detail.getCategories()) + stringsSize(detail.getFoods())
+                + stringsSize(detail.getDrinks());
+        for (CustomerReview review : detail.getReviews()) {
+            size += 32 + stringSize(review.getName()) + stringSize(review.getReview())
+                    + stringSize(review.getDate());
+        }
+        return size;
+    }
+
+    private static int stringsSize(List<String> values) {
+        int size = 32;
+        for (String value : values) {
+            size += 8 + stringSize(value);
+        }
+        return size;
+    }
+
+    private static int stringSize(String value) {
+        return value == null ? 0 : 40 + 2 * value.length();
+    }
+}
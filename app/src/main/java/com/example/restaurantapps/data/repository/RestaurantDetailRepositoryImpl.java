@@ -0,0 +1,182 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.executor.AppExecutors;
+import com.example.restaurantapps.data.mapper.RestaurantMapper;
+import com.example.restaurantapps.data.remote.metrics.NetworkMetrics;
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.response.RestaurantDetailResponse;
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantDetailRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * DATA LAYER: Repository detail restaurant
+ *
+ * Flow getRestaurantDetail(id):
+ * 1. Cek LRU cache (RestaurantDetailCache) → hit: callback langsung, tanpa network
+ * 2. Miss: GET detail/{id} di workExecutor. Request id yang sama yang sedang
+ *    berjalan (misal hasil prefetch) TIDAK dikirim ulang, penunggu ikut menunggu
+ * 3. Hasil disimpan di cache lalu dikirim ke semua penunggu
+ *
+ * prefetch(ids): mengisi cache untuk item yang kemungkinan di-tap
+ * (lihat DetailPrefetchPolicy). Tidak menghitung hit/miss.
+ *
+ * cancel() hanya melepas callback; HTTP call tetap selesai karena hasilnya
+ * masih berguna untuk cache (1 item, murah).
+ */
+public class RestaurantDetailRepositoryImpl implements RestaurantDetailRepository {
+
+    // ±100 detail rata-rata (dengan review) per 512 KB
+    public static final long DEFAULT_CACHE_SIZE_BYTES = 512L * 1024;
+
+    private final RestaurantApiService apiService;
+    private final Executor workExecutor;
+    private final RestaurantDetailCache cache;
+
+    private final Object lock = new Object();
+    // id → penunggu. List kosong = prefetch tanpa penunggu
+    private final Map<String, List<Waiter>> inFlight = new HashMap<>();
+    private long prefetchCount;
+
+    private static final class Waiter {
+        final DetailCallback callback;
+        volatile boolean cancelled;
+
+        Waiter(DetailCallback callback) {
+            this.callback = callback;
+        }
+    }
+
+    public RestaurantDetailRepositoryImpl(RestaurantApiService apiService) {
+        this(apiService, AppExecutors.getInstance().networkIO(),
+                new RestaurantDetailCache(DEFAULT_CACHE_SIZE_BYTES));
+    }
+
+    public RestaurantDetailRepositoryImpl(RestaurantApiService apiService, Executor workExecutor,
+                                          RestaurantDetailCache cache) {
+        this.apiService = apiService;
+        this.workExecutor = workExecutor;
+        this.cache = cache;
+    }
+
+    @Override
+    public Cancellable getRestaurantDetail(String restaurantId, DetailCallback callback) {
+        RestaurantDetail cached = cache.get(restaurantId);
+        if (cached != null) {
+            callback.onDetail(cached);
+            return Cancellable.NONE;
+        }
+
+        Waiter waiter = new Waiter(callback);
+        boolean start;
+        synchronized (lock) {
+            List<Waiter> waiters = inFlight.get(restaurantId);
+            start = waiters == null;
+            if (start) {
+                waiters = new ArrayList<>();
+                inFlight.put(restaurantId, waiters);
+            }
+            waiters.add(waiter);
+        }
+        if (start) {
+            fetch(restaurantId);
+        }
+        return () -> {
+            waiter.cancelled = true;
+            synchronized (lock) {
+                List<Waiter> waiters = inFlight.get(restaurantId);
+                if (waiters != null) {
+                    waiters.remove(waiter);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void prefetch(Collection<String> restaurantIds) {
+        for (String restaurantId : restaurantIds) {
+            if (restaurantId == null || cache.contains(restaurantId)) {
+                continue;
+            }
+            synchronized (lock) {
+                if (inFlight.containsKey(restaurantId)) {
+                    continue;
+                }
+                inFlight.put(restaurantId, new ArrayList<>());
+                prefetchCount++;
+            }
+            fetch(restaurantId);
+        }
+    }
+
+    public RestaurantDetailCache getCache() {
+        return cache;
+    }
+
+    public long getPrefetchCount() {
+        synchronized (lock) {
+            return prefetchCount;
+        }
+    }
+
+    private void fetch(String restaurantId) {
+        BackgroundCalls.execute(workExecutor, "Repo.getRestaurantDetail", apiService.getRestaurantDetail(restaurantId),
+                new Callback<RestaurantDetailResponse>() {
+                    @Override
+                    public void onResponse(Call<RestaurantDetailResponse> call,
+                                           Response<RestaurantDetailResponse> response) {
+                        RestaurantDetailResponse body = response.body();
+                        if (!response.isSuccessful() || body == null || body.getRestaurant() == null) {
+                            complete(restaurantId, null, "Response tidak berhasil");
+                            return;
+                        }
+                        if (body.isError()) {
+                            complete(restaurantId, null, body.getMessage());
+                            return;
+                        }
+                        long mapStart = System.nanoTime();
+                        RestaurantDetail detail = RestaurantMapper.convertDetailDtoToDomain(body.getRestaurant());
+                        NetworkMetrics.getInstance().recordPhase(NetworkMetrics.Phase.MAP,
+                                System.nanoTime() - mapStart);
+                        cache.put(detail);
+                        complete(restaurantId, detail, null);
+                    }
+
+                    @Override
+                    public void onFailure(Call<RestaurantDetailResponse> call, Throwable t) {
+                        complete(restaurantId, null, NetworkErrors.describe(t));
+                    }
+                });
+    }
+
+    private void complete(String restaurantId, RestaurantDetail detail, String error) {
+        List<Waiter> waiters;
+        synchronized (lock) {
+            waiters = inFlight.remove(restaurantId);
+        }
+        if (waiters == null) {
+            return;
+        }
+        for (Waiter waiter : waiters) {
+            if (waiter.cancelled) {
+                continue;
+            }
+            if (detail != null) {
+                waiter.callback.onDetail(detail);
+            } else {
+                waiter.callback.onError(error);
+            }
+        }
+    }
+}
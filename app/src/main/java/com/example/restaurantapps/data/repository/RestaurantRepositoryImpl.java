@@ -1,13 +1,18 @@
 package com.example.restaurantapps.data.repository;
 
+import com.example.restaurantapps.data.executor.AppExecutors;
 import com.example.restaurantapps.data.remote.api.RestaurantApiService;
-import com.example.restaurantapps.data.remote.response.RestaurantResponse;
-import com.example.restaurantapps.data.remote.response.RestaurantDto;
+import com.example.restaurantapps.domain.model.PageRequest;
 import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantDeltaSource;
 import com.example.restaurantapps.domain.repository.RestaurantRepository;
 
-import java.util.ArrayList;
+import java.net.HttpURLConnection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -21,40 +26,103 @@ import retrofit2.Response;
  * Flow:
  * 1. ViewModel memanggil getRestaurants()
  * 2. Repository memanggil API via RestaurantApiService
- * 3. API return RestaurantDto (dari JSON)
- * 4. Repository konversi DTO → Domain Restaurant
- * 5. Repository return domain Restaurant ke ViewModel
+ * 3. StreamingRestaurantConverterFactory parse JSON langsung → domain Restaurant
+ *    (tanpa DTO perantara)
+ * 4. Repository return domain Restaurant ke ViewModel
+ *
+ * Threading:
+ * - Request dijalankan dengan call.execute() DI DALAM workExecutor (bounded),
+ *   jadi network, parsing, mapping dan callback semuanya di background thread.
+ * - TIDAK memakai enqueue(): di Android callback enqueue() dikirim ke main thread.
  * 
- * Kenapa konversi? Karena:
+ * Kenapa domain terpisah dari JSON? Karena:
  * - Domain tidak boleh tahu API structure (JSON, @SerializedName, dll)
- * - Jika API berubah, cukup ubah DTO, domain tetap aman
- * - Testable: bisa mock DTO → Restaurant tanpa API
+ * - Jika API berubah, cukup ubah parser/DTO, domain tetap aman
+ * - Testable: bisa test parsing JSON → Restaurant tanpa API
+ *
+ * Conditional request (ETag / Last-Modified):
+ * - Validator dari response terakhir dikirim sebagai If-None-Match / If-Modified-Since
+ * - 304 Not Modified → TIDAK ada body, TIDAK ada parsing,
+ *   list domain terakhir dipakai ulang
+ *
+ * Paging:
+ * - Request page/limit ke server
+ * - Jika server mengabaikan paging (body = list penuh), halaman dipotong di client
+ *   dan halaman berikutnya diambil dari list penuh (conditional request → murah)
+ *
+ * Delta sync (RestaurantDeltaSource):
+ * - GET list/delta?since=N → hanya upsert + delete, diterapkan oleh
+ *   OfflineFirstRestaurantRepository ke cache lokal
+ * - 404/400/501 = server tidak mendukung delta → onUnsupported()
+ *
+ * Kegagalan network:
+ * - Timeout, retry, hedging dan circuit breaker sudah ditangani OkHttp (NetworkPolicy);
+ *   onFailure hanya menerima hasil akhir → pesan dari NetworkErrors
  */
-public class RestaurantRepositoryImpl implements RestaurantRepository {
+public class RestaurantRepositoryImpl implements RestaurantRepository, RestaurantDeltaSource {
+
+    /**
+     * Dari mana hasil fetch terakhir berasal (untuk debugging & test).
+     */
+    public enum FetchSource {
+        NETWORK,        // body lengkap dari server
+        NOT_MODIFIED,   // 304 → list lama dipakai ulang
+        HTTP_CACHE      // dilayani (atau di-revalidate) oleh OkHttp disk cache
+    }
     
     private RestaurantApiService apiService;
+    private final Executor workExecutor;
+
+    // State revalidation: diakses dari thread callback Retrofit
+    private String lastETag;
+    private String lastModified;
+    private List<Restaurant> lastRestaurants;
+    private FetchSource lastFetchSource;
+
+    // null = belum diketahui, FALSE = server mengabaikan page/limit
+    private Boolean serverSupportsPaging;
+    private String firstPageFirstId;
     
     public RestaurantRepositoryImpl(RestaurantApiService apiService) {
+        this(apiService, AppExecutors.getInstance().networkIO());
+    }
+
+    public RestaurantRepositoryImpl(RestaurantApiService apiService, Executor workExecutor) {
         this.apiService = apiService;
+        this.workExecutor = workExecutor;
     }
     
     @Override
-    public void getRestaurants(RestaurantCallback callback) {
-        // Step 1: Panggil API
-        apiService.getRestaurantList().enqueue(new Callback<RestaurantResponse>() {
+    public Cancellable getRestaurants(RestaurantCallback callback) {
+        String eTag;
+        String modified;
+        synchronized (this) {
+            eTag = lastETag;
+            modified = lastModified;
+        }
+
+        // Step 1: Panggil API (conditional jika punya validator)
+        return executeInBackground("Repo.getRestaurants", apiService.streamRestaurantList(eTag, modified), new Callback<List<Restaurant>>() {
             @Override
-            public void onResponse(Call<RestaurantResponse> call, Response<RestaurantResponse> response) {
-                // Step 2: Cek apakah response berhasil
+            public void onResponse(Call<List<Restaurant>> call, Response<List<Restaurant>> response) {
+                // Step 2a: 304 → data tidak berubah, skip parsing
+                if (response.code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                    List<Restaurant> unchanged = onNotModified();
+                    if (unchanged != null) {
+                        callback.onSuccess(unchanged);
+                    } else {
+                        callback.onError("Response tidak berhasil");
+                    }
+                    return;
+                }
+
+                // Step 2b: Cek apakah response berhasil
                 if (response.isSuccessful() && response.body() != null) {
-                    RestaurantResponse restaurantResponse = response.body();
-                    
-                    // Step 3: Ambil list RestaurantDto dari response
-                    List<RestaurantDto> dtoList = restaurantResponse.getRestaurants();
-                    
-                    // Step 4: Konversi DTO ke domain Restaurant
-                    List<Restaurant> restaurants = convertDtoToDomain(dtoList);
+                    // Step 3: Body sudah berupa domain Restaurant (streaming converter)
+                    List<Restaurant> restaurants = response.body();
+                    onModified(response, restaurants);
                     
-                    // Step 5: Return hasil ke ViewModel
+                    // Step 4: Return hasil ke ViewModel
                     callback.onSuccess(restaurants);
                 } else {
                     callback.onError("Response tidak berhasil");
@@ -62,40 +130,132 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
             }
             
             @Override
-            public void onFailure(Call<RestaurantResponse> call, Throwable t) {
+            public void onFailure(Call<List<Restaurant>> call, Throwable t) {
                 // API error (network, timeout, dll)
-                callback.onError("Error: " + t.getMessage());
+                callback.onError(NetworkErrors.describe(t));
             }
         });
     }
     
+    @Override
+    public Cancellable getRestaurantPage(PageRequest request, PageCallback callback) {
+        boolean sliceLocally;
+        synchronized (this) {
+            sliceLocally = Boolean.FALSE.equals(serverSupportsPaging);
+        }
+        if (sliceLocally) {
+            return getPageFromFullList(request, callback);
+        }
+
+        return executeInBackground("Repo.getRestaurantPage", apiService.streamRestaurantPage(request.getPageKey() + 1, request.getPageSize()),
+                new Callback<List<Restaurant>>() {
+                    @Override
+                    public void onResponse(Call<List<Restaurant>> call, Response<List<Restaurant>> response) {
+                        if (!response.isSuccessful() || response.body() == null) {
+                            callback.onError("Response tidak berhasil");
+                            return;
+                        }
+                        List<Restaurant> items = response.body();
+                        if (ignoresPaging(request, items)) {
+                            // Body = list penuh: simpan sebagai hasil getRestaurants() lalu potong
+                            onModified(response, items);
+                            callback.onPage(RestaurantPage.slice(items, request));
+                            return;
+                        }
+                        Integer nextKey = items.size() == request.getPageSize() ? request.getPageKey() + 1 : null;
+                        callback.onPage(new RestaurantPage(request.getPageKey(), items, nextKey));
+                    }
+
+                    @Override
+                    public void onFailure(Call<List<Restaurant>> call, Throwable t) {
+                        callback.onError(NetworkErrors.describe(t));
+                    }
+                });
+    }
+
+    @Override
+    public Cancellable getDelta(long sinceVersion, DeltaCallback callback) {
+        return executeInBackground("Repo.getDelta", apiService.getRestaurantDelta(sinceVersion), new Callback<RestaurantDelta>() {
+            @Override
+            public void onResponse(Call<RestaurantDelta> call, Response<RestaurantDelta> response) {
+                int code = response.code();
+                if (code == HttpURLConnection.HTTP_NOT_FOUND
+                        || code == HttpURLConnection.HTTP_BAD_REQUEST
+                        || code == HttpURLConnection.HTTP_NOT_IMPLEMENTED) {
+                    callback.onUnsupported();
+                } else if (response.isSuccessful() && response.body() != null) {
+                    callback.onDelta(response.body());
+                } else {
+                    callback.onError("Response tidak berhasil");
+                }
+            }
+
+            @Override
+            public void onFailure(Call<RestaurantDelta> call, Throwable t) {
+                callback.onError(NetworkErrors.describe(t));
+            }
+        });
+    }
+
+    private <T> Cancellable executeInBackground(String traceSection, Call<T> call, Callback<T> callback) {
+        return BackgroundCalls.execute(workExecutor, traceSection, call, callback);
+    }
+
     /**
-     * Konversi RestaurantDto (API layer) → Restaurant (Domain)
-     * 
-     * Penting! Ini adalah Translation layer:
-     * - DTO adalah struktur API (from JSON)
-     * - Domain Restaurant adalah model bisnis (pure Java)
-     * 
-     * Keuntungan:
-     * 1. Decoupling: Domain tidak tahu API format
-     * 2. Flexibility: Bisa add business logic waktu konversi
-     * 3. Testing: Bisa test konversi tanpa API
+     * Deteksi server yang tidak mendukung paging:
+     * - body lebih besar dari limit, atau
+     * - halaman > 0 dimulai dengan item yang sama dengan halaman 0
      */
-    private List<Restaurant> convertDtoToDomain(List<RestaurantDto> dtoList) {
-        List<Restaurant> restaurants = new ArrayList<>();
-        
-        for (RestaurantDto dto : dtoList) {
-            Restaurant restaurant = new Restaurant();
-            restaurant.setId(dto.getId());
-            restaurant.setName(dto.getName());
-            restaurant.setDescription(dto.getDescription());
-            restaurant.setPictureId(dto.getPictureId());
-            restaurant.setCity(dto.getCity());
-            restaurant.setRating(dto.getRating());
-            
-            restaurants.add(restaurant);
+    private synchronized boolean ignoresPaging(PageRequest request, List<Restaurant> items) {
+        boolean ignores = items.size() > request.getPageSize();
+        if (!ignores && !items.isEmpty()) {
+            String firstId = items.get(0).getId();
+            if (request.getPageKey() == 0) {
+                firstPageFirstId = firstId;
+            } else if (firstId != null && firstId.equals(firstPageFirstId)) {
+                ignores = true;
+            }
+        }
+        if (ignores) {
+            serverSupportsPaging = Boolean.FALSE;
+        }
+        return ignores;
+    }
+
+    private Cancellable getPageFromFullList(PageRequest request, PageCallback callback) {
+        return getRestaurants(new RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                callback.onPage(RestaurantPage.slice(restaurants, request));
+            }
+
+            @Override
+            public void onError(String error) {
+                callback.onError(error);
+            }
+        });
+    }
+
+    public synchronized FetchSource getLastFetchSource() {
+        return lastFetchSource;
+    }
+
+    private synchronized List<Restaurant> onNotModified() {
+        if (lastRestaurants == null) {
+            // Tidak seharusnya terjadi; reset validator supaya request berikutnya full fetch
+            lastETag = null;
+            lastModified = null;
+            return null;
         }
-        
-        return restaurants;
+        lastFetchSource = FetchSource.NOT_MODIFIED;
+        return lastRestaurants;
+    }
+
+    private synchronized void onModified(Response<?> response, List<Restaurant> restaurants) {
+        okhttp3.Response raw = response.raw();
+        lastFetchSource = raw.cacheResponse() != null ? FetchSource.HTTP_CACHE : FetchSource.NETWORK;
+        lastETag = response.headers().get("ETag");
+        lastModified = response.headers().get("Last-Modified");
+        lastRestaurants = restaurants;
     }
 }
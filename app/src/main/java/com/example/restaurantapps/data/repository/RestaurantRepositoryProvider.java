@@ -0,0 +1,149 @@
+package com.example.restaurantapps.data.repository;
+
+import android.content.Context;
+import android.os.Looper;
+
+import com.example.restaurantapps.BuildConfig;
+import com.example.restaurantapps.R;
+import com.example.restaurantapps.data.executor.AppExecutors;
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.data.local.CachePolicy;
+import com.example.restaurantapps.data.local.OfflineFirstRestaurantRepository;
+import com.example.restaurantapps.data.local.RestaurantLocalDataSource;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.remote.routing.Endpoint;
+import com.example.restaurantapps.data.remote.routing.EndpointSelector;
+import com.example.restaurantapps.data.sync.GridCellWidthStore;
+import com.example.restaurantapps.data.sync.RestaurantSync;
+import com.example.restaurantapps.data.sync.ThumbnailPrefetcher;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.repository.RestaurantDetailRepository;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import okhttp3.HttpUrl;
+
+/**
+ * DATA LAYER: Repository Provider (Singleton)
+ *
+ * Satu instance repository untuk seluruh process, supaya cache memory
+ * di OfflineFirstRestaurantRepository tetap hidup walau ViewModel/Activity
+ * dibuat ulang.
+ */
+public class RestaurantRepositoryProvider {
+
+    private static OfflineFirstRestaurantRepository repository;
+    private static RestaurantDetailRepository detailRepository;
+    private static EndpointSelector endpointSelector;
+    private static RestaurantSync restaurantSync;
+    private static ThumbnailPrefetcher thumbnailPrefetcher = ThumbnailPrefetcher.NONE;
+
+    /**
+     * Cold start: dipanggil dari RestaurantApp.onCreate, berjalan di networkIO
+     * paralel dengan inflate MainActivity.
+     * 1. Konfigurasi + build Retrofit & repository (RetrofitClient.init tidak lagi di main thread)
+     * 2. Preconnect ke host API & gambar endpoint aktif: request list pertama
+     *    tidak membayar DNS + TCP + TLS di critical path
+     */
+    public static void warmUp(Context context) {
+        Context appContext = context.getApplicationContext();
+        AppExecutors.getInstance().networkIO().execute(() -> {
+            getRepository(appContext);
+            Endpoint endpoint = getEndpointSelector().current();
+            RetrofitClient.preconnect(RetrofitClient.getSharedHttpClient(), Arrays.asList(
+                    endpoint.getApiBaseUrl(), HttpUrl.get(endpoint.getImageBaseUrl())));
+        });
+    }
+
+    private static synchronized EndpointSelector getEndpointSelector() {
+        return endpointSelector;
+    }
+
+    public static synchronized RestaurantRepository getRepository(Context context) {
+        if (repository == null) {
+            Context appContext = context.getApplicationContext();
+
+            // Aktifkan runtime check: parsing/mapping/disk I/O di main thread → crash
+            ThreadContract.setMainThreadChecker(() -> Looper.myLooper() == Looper.getMainLooper());
+            AppExecutors executors = AppExecutors.getInstance();
+
+            // Body logging hanya di debug build: release tidak membayar biaya buffer & log
+            RetrofitClient.configureDebugLogging(BuildConfig.DEBUG);
+
+            // HTTP cache di cacheDir: boleh dihapus sistem saat storage penuh
+            RetrofitClient.configureCache(new File(appContext.getCacheDir(), "http"),
+                    RetrofitClient.DEFAULT_CACHE_SIZE_BYTES);
+
+            // Multi-region: request API & URL gambar mengikuti endpoint tercepat yang sehat
+            endpointSelector = new EndpointSelector(loadEndpoints(appContext));
+            RetrofitClient.configureEndpoints(endpointSelector, executors.networkIO());
+            ImageUrlBuilder.setDefaultBaseUrl(endpointSelector::currentImageBaseUrl);
+
+            // Remote: API via Retrofit, dijalankan di executor network yang bounded.
+            // Single-flight: request sama yang bersamaan (misal saat rotate) = 1 HTTP call
+            RestaurantRepositoryImpl api = new RestaurantRepositoryImpl(
+                    RetrofitClient.getApiService(), executors.networkIO());
+            // Delta ikut single-flight: load UI + background sync bersamaan = 1 request
+            SingleFlightRestaurantRepository remote = new SingleFlightRestaurantRepository(
+                    api, api, SingleFlightRestaurantRepository.DEFAULT_MIN_REFRESH_INTERVAL_MS);
+
+            // Local: file cache di internal storage (tidak ikut terhapus saat "Clear cache")
+            RestaurantLocalDataSource local = new RestaurantLocalDataSource(appContext.getFilesDir());
+
+            // Delta sync: refresh hanya mengunduh perubahan sejak versi cache
+            repository = new OfflineFirstRestaurantRepository(
+                    remote, remote, local, CachePolicy.defaultPolicy(), executors.diskIO());
+        }
+        return repository;
+    }
+
+    /**
+     * Dipasang RestaurantApp (implementasi Glide ada di lapisan presentation).
+     * Tidak berpengaruh jika RestaurantSync sudah terlanjur dibuat.
+     */
+    public static synchronized void configureThumbnailPrefetcher(ThumbnailPrefetcher prefetcher) {
+        thumbnailPrefetcher = prefetcher != null ? prefetcher : ThumbnailPrefetcher.NONE;
+    }
+
+    /**
+     * Background sync memakai repository yang SAMA dengan UI (cache memory,
+     * single-flight), bukan instance kedua. Varian gambar prefetch mengikuti
+     * lebar cell grid terakhir yang disimpan MainActivity.
+     */
+    public static synchronized RestaurantSync getRestaurantSync(Context context) {
+        if (restaurantSync == null) {
+            getRepository(context);
+            Context appContext = context.getApplicationContext();
+            restaurantSync = new RestaurantSync(repository, thumbnailPrefetcher, ImageUrlBuilder.getDefault(),
+                    RestaurantSync.DEFAULT_THUMBNAIL_COUNT, () -> GridCellWidthStore.get(appContext));
+        }
+        return restaurantSync;
+    }
+
+    private static List<Endpoint> loadEndpoints(Context context) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String spec : context.getResources().getStringArray(R.array.api_endpoints)) {
+            endpoints.add(Endpoint.parse(spec));
+        }
+        return endpoints;
+    }
+
+    /**
+     * Repository detail: LRU cache detail hidup selama process, dipakai bersama
+     * oleh grid (prefetch) dan layar detail.
+     */
+    public static synchronized RestaurantDetailRepository getDetailRepository(Context context) {
+        if (detailRepository == null) {
+            // Konfigurasi bersama (thread check, HTTP cache, executor) disiapkan di sini
+            getRepository(context);
+            detailRepository = new RestaurantDetailRepositoryImpl(RetrofitClient.getApiService(),
+                    AppExecutors.getInstance().networkIO(),
+                    new RestaurantDetailCache(RestaurantDetailRepositoryImpl.DEFAULT_CACHE_SIZE_BYTES));
+        }
+        return detailRepository;
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantDeltaSource;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * DATA LAYER: Single-flight Repository (Decorator)
+ *
+ * Menggabungkan request yang sama yang sedang berjalan:
+ * - Request ke resource yang sama (list penuh / page dengan key & size sama)
+ *   selama request pertama masih in-flight → TIDAK ada HTTP call baru,
+ *   semua penunggu menerima hasil yang sama (instance yang sama)
+ * - cancel() hanya melepas penunggu tersebut. Jika semua penunggu cancel,
+ *   HTTP call di bawahnya ikut dibatalkan
+ * - Throttle: request yang datang < minRefreshIntervalMillis setelah hasil
+ *   sukses terakhir dilayani dari hasil itu, tanpa network
+ *
+ * Dipasang di bawah OfflineFirstRestaurantRepository, yang memanggil dari
+ * executor disk. Hasil throttle dikirim langsung di thread pemanggil itu.
+ *
+ * Delta sync ikut digabung (key = sinceVersion) jika deltaDelegate dipasang:
+ * load dari UI dan sync background (RestaurantSyncWorker) yang jatuh bersamaan
+ * hanya mengirim satu request.
+ *
+ * Interview Q: "Rotate layar saat loading, berapa request yang terkirim?"
+ * A: Satu. Request kedua ikut menunggu flight yang sama.
+ */
+public class SingleFlightRestaurantRepository implements RestaurantRepository, RestaurantDeltaSource {
+
+    public static final long DEFAULT_MIN_REFRESH_INTERVAL_MS = 10_000L;
+
+    private static final String LIST_KEY = "list";
+    // Hasil flight delta saat server tidak punya endpoint delta
+    private static final Object DELTA_UNSUPPORTED = new Object();
+
+    /**
+     * Penerima hasil, disamakan untuk list & page.
+     */
+    private interface Sink<T> {
+        void onResult(T result);
+        void onError(String error);
+    }
+
+    private interface Starter<T> {
+        Cancellable start(Sink<T> upstreamSink);
+    }
+
+    private static final class Flight<T> {
+        final List<Sink<T>> sinks = new ArrayList<>();
+        Cancellable upstream;
+        boolean upstreamCancelled;
+    }
+
+    private static final class Completed {
+        final Object result;
+        final long completedAtMillis;
+
+        Completed(Object result, long completedAtMillis) {
+            this.result = result;
+            this.completedAtMillis = completedAtMillis;
+        }
+    }
+
+    private final RestaurantRepository delegate;
+    private final RestaurantDeltaSource deltaDelegate;
+    private final long minRefreshIntervalMillis;
+    private final LongSupplier clock;
+
+    private final Object lock = new Object();
+    private final Map<String, Flight<?>> flights = new HashMap<>();
+    private final Map<String, Completed> lastResults = new HashMap<>();
+
+    public SingleFlightRestaurantRepository(RestaurantRepository delegate, long minRefreshIntervalMillis) {
+        this(delegate, minRefreshIntervalMillis, System::currentTimeMillis);
+    }
+
+    public SingleFlightRestaurantRepository(RestaurantRepository delegate,
+                                            long minRefreshIntervalMillis,
+                                            LongSupplier clock) {
+        this(delegate, null, minRefreshIntervalMillis, clock);
+    }
+
+    /**
+     * @param deltaDelegate null = getDelta() selalu onUnsupported()
+     */
+    public SingleFlightRestaurantRepository(RestaurantRepository delegate,
+                                            RestaurantDeltaSource deltaDelegate,
+                                            long minRefreshIntervalMillis) {
+        this(delegate, deltaDelegate, minRefreshIntervalMillis, System::currentTimeMillis);
+    }
+
+    public SingleFlightRestaurantRepository(RestaurantRepository delegate,
+                                            RestaurantDeltaSource deltaDelegate,
+                                            long minRefreshIntervalMillis,
+                                            LongSupplier clock) {
+        this.delegate = delegate;
+        this.deltaDelegate = deltaDelegate;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public Cancellable getRestaurants(RestaurantCallback callback) {
+        return join(LIST_KEY, new Sink<List<Restaurant>>() {
+            @Override
+            public void onResult(List<Restaurant> result) {
+                callback.onSuccess(result);
+            }
+
+            @Override
+            public void onError(String error) {
+                callback.onError(error);
+            }
+        }, upstreamSink -> delegate.getRestaurants(new RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                upstreamSink.onResult(restaurants);
+            }
+
+            @Override
+            public void onError(String error) {
+                upstreamSink.onError(error);
+            }
+        }));
+    }
+
+    @Override
+    public Cancellable getRestaurantPage(PageRequest request, PageCallback callback) {
+        String key = "page:" + request.getPageKey() + ":" + request.getPageSize();
+        return join(key, new Sink<RestaurantPage>() {
+            @Override
+            public void onResult(RestaurantPage result) {
+                callback.onPage(result);
+            }
+
+            @Override
+            public void onError(String error) {
+                callback.onError(error);
+            }
+        }, upstreamSink -> delegate.getRestaurantPage(request, new PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                upstreamSink.onResult(page);
+            }
+
+            @Override
+            public void onError(String error) {
+                upstreamSink.onError(error);
+            }
+        }));
+    }
+
+    @Override
+    public Cancellable getDelta(long sinceVersion, DeltaCallback callback) {
+        if (deltaDelegate == null) {
+            callback.onUnsupported();
+            return Cancellable.NONE;
+        }
+        return join("delta:" + sinceVersion, new Sink<Object>() {
+            @Override
+            public void onResult(Object result) {
+                if (result == DELTA_UNSUPPORTED) {
+                    callback.onUnsupported();
+                } else {
+                    callback.onDelta((RestaurantDelta) result);
+                }
+            }
+
+            @Override
+            public void onError(String error) {
+                callback.onError(error);
+            }
+        }, upstreamSink -> deltaDelegate.getDelta(sinceVersion, new DeltaCallback() {
+            @Override
+            public void onDelta(RestaurantDelta delta) {
+                upstreamSink.onResult(delta);
+            }
+
+            @Override
+            public void onUnsupported() {
+                upstreamSink.onResult(DELTA_UNSUPPORTED);
+            }
+
+            @Override
+            public void onError(String error) {
+                upstreamSink.onError(error);
+            }
+        }));
+    }
+
+    /**
+     * Ikut flight yang sedang berjalan, layani dari hasil throttle, atau mulai flight baru.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Cancellable join(String key, Sink<T> sink, Starter<T> starter) {
+        Flight<T> flight;
+        boolean startFlight = false;
+        T recent = null;
+        synchronized (lock) {
+            flight = (Flight<T>) flights.get(key);
+            if (flight == null) {
+                Completed completed = lastResults.get(key);
+                if (completed != null
+                        && clock.getAsLong() - completed.completedAtMillis < minRefreshIntervalMillis) {
+                    recent = (T) completed.result;
+                } else {
+                    flight = new Flight<>();
+                    flights.put(key, flight);
+                    startFlight = true;
+                }
+            }
+            if (flight != null) {
+                flight.sinks.add(sink);
+            }
+        }
+
+        if (recent != null) {
+            sink.onResult(recent);
+            return Cancellable.NONE;
+        }
+
+        Flight<T> joined = flight;
+        if (startFlight) {
+            Cancellable upstream = starter.start(new Sink<T>() {
+                @Override
+                public void onResult(T result) {
+                    complete(key, joined, result, null);
+                }
+
+                @Override
+                public void onError(String error) {
+                    complete(key, joined, null, error);
+                }
+            });
+            boolean cancelNow;
+            synchronized (lock) {
+                joined.upstream = upstream;
+                cancelNow = joined.upstreamCancelled;
+            }
+            if (cancelNow) {
+                upstream.cancel();
+            }
+        }
+        return () -> leave(key, joined, sink);
+    }
+
+    private <T> void complete(String key, Flight<T> flight, T result, String error) {
+        List<Sink<T>> sinks;
+        synchronized (lock) {
+            if (flights.get(key) == flight) {
+                flights.remove(key);
+            }
+            if (result != null) {
+                lastResults.put(key, new Completed(result, clock.getAsLong()));
+            }
+            sinks = new ArrayList<>(flight.sinks);
+        }
+        for (Sink<T> sink : sinks) {
+            if (error != null) {
+                sink.onError(error);
+            } else {
+                sink.onResult(result);
+            }
+        }
+    }
+
+    private <T> void leave(String key, Flight<T> flight, Sink<T> sink) {
+        Cancellable upstream = null;
+        synchronized (lock) {
+            if (!flight.sinks.remove(sink) || !flight.sinks.isEmpty()) {
+                return;
+            }
+            // Penunggu terakhir pergi: batalkan HTTP call & lepas flight
+            if (flights.get(key) == flight) {
+                flights.remove(key);
+            }
+            if (flight.upstream != null) {
+                upstream = flight.upstream;
+            } else {
+                flight.upstreamCancelled = true;
+            }
+        }
+        if (upstream != null) {
+            upstream.cancel();
+        }
+    }
+}
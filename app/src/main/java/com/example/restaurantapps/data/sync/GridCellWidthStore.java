@@ -0,0 +1,40 @@
+package com.example.restaurantapps.data.sync;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+/**
+ * DATA LAYER: Lebar cell grid terakhir yang terukur (pixel)
+ *
+ * Background sync berjalan tanpa UI, jadi tidak bisa mengukur cell. Grid menyimpan
+ * lebarnya di sini, sync membacanya untuk memilih varian gambar (ImageVariant.forWidth)
+ * yang SAMA dengan yang akan dimuat grid: prefetch kena disk cache, bukan URL lain.
+ *
+ * SharedPreferences: panggil dari background thread (baca pertama memuat file).
+ */
+public final class GridCellWidthStore {
+
+    private static final String KEY_CELL_WIDTH_PX = "grid_cell_width_px";
+
+    private GridCellWidthStore() {
+    }
+
+    /**
+     * @return lebar terakhir, 0 jika grid belum pernah di-layout
+     */
+    public static int get(Context context) {
+        return prefs(context).getInt(KEY_CELL_WIDTH_PX, 0);
+    }
+
+    public static void save(Context context, int widthPx) {
+        if (widthPx <= 0 || widthPx == get(context)) {
+            return;
+        }
+        prefs(context).edit().putInt(KEY_CELL_WIDTH_PX, widthPx).apply();
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext()
+                .getSharedPreferences(RestaurantSyncScheduler.PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.restaurantapps.data.sync;
+
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.data.local.OfflineFirstRestaurantRepository;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.image.ImageVariant;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.repository.Cancellable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * DATA LAYER: Satu putaran background sync (dijalankan RestaurantSyncWorker)
+ *
+ * 1. Refresh store lokal lewat OfflineFirstRestaurantRepository.sync():
+ *    repository yang sama dengan UI, jadi load foreground dan sync tidak dobel
+ * 2. Pre-warm gambar untuk thumbnailCount item PERTAMA dalam urutan list
+ *    (urutan grid saat dibuka, bukan rating tertinggi). Varian = yang akan dimuat
+ *    grid: ImageVariant.forWidth(lebar cell terakhir, GridCellWidthStore).
+ *    Grid belum pernah diukur → SMALL. Untuk varian > SMALL hanya gambar utama
+ *    yang di-warm; thumbnail SMALL-nya dibatalkan Glide begitu gambar utama
+ *    selesai dari disk cache.
+ *
+ * Blocking dengan batas waktu: dipanggil dari thread worker, bukan main thread.
+ */
+public class RestaurantSync {
+
+    public static final int DEFAULT_THUMBNAIL_COUNT = 20;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60_000L;
+
+    public enum Status {
+        /** Cache masih FRESH (misal UI baru saja refresh): tanpa request network */
+        FRESH,
+        UNCHANGED,
+        CHANGED,
+        FAILED
+    }
+
+    public static final class Outcome {
+        private final Status status;
+        private final int restaurantCount;
+        private final int prefetchedThumbnails;
+        private final String error;
+
+        Outcome(Status status, int restaurantCount, int prefetchedThumbnails, String error) {
+            this.status = status;
+            this.restaurantCount = restaurantCount;
+            this.prefetchedThumbnails = prefetchedThumbnails;
+            this.error = error;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public int getRestaurantCount() {
+            return restaurantCount;
+        }
+
+        public int getPrefetchedThumbnails() {
+            return prefetchedThumbnails;
+        }
+
+        /** Pesan error (NetworkErrors), null jika sukses */
+        public String getError() {
+            return error;
+        }
+    }
+
+    private final OfflineFirstRestaurantRepository repository;
+    private final ThumbnailPrefetcher prefetcher;
+    private final ImageUrlBuilder urlBuilder;
+    private final int thumbnailCount;
+    private final IntSupplier cellWidthPx;
+
+    public RestaurantSync(OfflineFirstRestaurantRepository repository, ThumbnailPrefetcher prefetcher) {
+        this(repository, prefetcher, ImageUrlBuilder.getDefault(), DEFAULT_THUMBNAIL_COUNT);
+    }
+
+    public RestaurantSync(OfflineFirstRestaurantRepository repository, ThumbnailPrefetcher prefetcher,
+                          ImageUrlBuilder urlBuilder, int thumbnailCount) {
+        this(repository, prefetcher, urlBuilder, thumbnailCount, () -> 0);
+    }
+
+    /**
+     * @param cellWidthPx lebar cell grid terakhir (pixel), dibaca setiap run; ≤ 0 = belum diukur
+     */
+    public RestaurantSync(OfflineFirstRestaurantRepository repository, ThumbnailPrefetcher prefetcher,
+                          ImageUrlBuilder urlBuilder, int thumbnailCount, IntSupplier cellWidthPx) {
+        this.repository = repository;
+        this.prefetcher = prefetcher;
+        this.urlBuilder = urlBuilder;
+        this.thumbnailCount = thumbnailCount;
+        this.cellWidthPx = cellWidthPx;
+    }
+
+    public Outcome run() throws InterruptedException {
+        return run(DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public Outcome run(long timeoutMillis) throws InterruptedException {
+        ThreadContract.assertNotMainThread("Background sync");
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Outcome> result = new AtomicReference<>();
+        AtomicReference<List<Restaurant>> synced = new AtomicReference<>();
+        Cancellable call = repository.sync(new OfflineFirstRestaurantRepository.SyncCallback() {
+            @Override
+            public void onSynced(List<Restaurant> restaurants, boolean refreshed, boolean changed) {
+                Status status = !refreshed ? Status.FRESH : changed ? Status.CHANGED : Status.UNCHANGED;
+                synced.set(restaurants);
+                result.set(new Outcome(status, restaurants.size(), 0, null));
+                done.countDown();
+            }
+
+            @Override
+            public void onError(String error) {
+                result.set(new Outcome(Status.FAILED, 0, 0, error));
+                done.countDown();
+            }
+        });
+        if (!done.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            call.cancel();
+            return new Outcome(Status.FAILED, 0, 0, "Sync timeout");
+        }
+        Outcome outcome = result.get();
+        if (outcome.status == Status.FAILED) {
+            return outcome;
+        }
+        int prefetched = prefetcher.prefetch(thumbnailUrls(synced.get()));
+        return new Outcome(outcome.status, outcome.restaurantCount, prefetched, null);
+    }
+
+    private List<String> thumbnailUrls(List<Restaurant> restaurants) {
+        ImageVariant variant = ImageVariant.forWidth(cellWidthPx.getAsInt());
+        List<String> urls = new ArrayList<>(Math.min(thumbnailCount, restaurants.size()));
+        for (Restaurant restaurant : restaurants) {
+            if (urls.size() == thumbnailCount) {
+                break;
+            }
+            if (restaurant.getPictureId() != null) {
+                urls.add(urlBuilder.build(restaurant.getPictureId(), variant));
+            }
+        }
+        return urls;
+    }
+}
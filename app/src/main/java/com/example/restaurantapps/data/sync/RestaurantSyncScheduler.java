@@ -0,0 +1,80 @@
+package com.example.restaurantapps.data.sync;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.work.BackoffPolicy;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DATA LAYER: Jadwal background sync (WorkManager)
+ *
+ * Satu unique periodic work, hanya berjalan saat:
+ * - network UNMETERED (Wi-Fi / ethernet): list + thumbnail tidak memakan kuota
+ * - device sedang di-charge: tidak menguras baterai
+ *
+ * Interval adaptif (SyncSchedule) disimpan di SharedPreferences. Worker memanggil
+ * updateInterval() setelah setiap run; policy UPDATE mengganti interval tanpa
+ * membatalkan run yang sedang berjalan.
+ */
+public final class RestaurantSyncScheduler {
+
+    public static final String WORK_NAME = "restaurant-sync";
+
+    static final String PREFS_NAME = "restaurant_sync";
+    private static final String KEY_INTERVAL_MILLIS = "interval_millis";
+    private static final long BACKOFF_MINUTES = 10;
+
+    private RestaurantSyncScheduler() {
+    }
+
+    /**
+     * Dipanggil setiap app start. KEEP: jadwal yang sudah ada (dan waktu run
+     * berikutnya) tidak di-reset hanya karena user membuka app.
+     */
+    public static void schedule(Context context) {
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(WORK_NAME,
+                ExistingPeriodicWorkPolicy.KEEP, buildRequest(getIntervalMillis(context)));
+    }
+
+    public static void cancel(Context context) {
+        WorkManager.getInstance(context).cancelUniqueWork(WORK_NAME);
+    }
+
+    public static long getIntervalMillis(Context context) {
+        return prefs(context).getLong(KEY_INTERVAL_MILLIS, SyncSchedule.DEFAULT_INTERVAL_MILLIS);
+    }
+
+    static void updateInterval(Context context, long intervalMillis) {
+        if (intervalMillis == getIntervalMillis(context)) {
+            return;
+        }
+        prefs(context).edit().putLong(KEY_INTERVAL_MILLIS, intervalMillis).apply();
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(WORK_NAME,
+                ExistingPeriodicWorkPolicy.UPDATE, buildRequest(intervalMillis));
+    }
+
+    public static Constraints constraints() {
+        return new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .setRequiresCharging(true)
+                .build();
+    }
+
+    static PeriodicWorkRequest buildRequest(long intervalMillis) {
+        return new PeriodicWorkRequest.Builder(RestaurantSyncWorker.class, intervalMillis, TimeUnit.MILLISECONDS)
+                .setConstraints(constraints())
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.restaurantapps.data.sync;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.restaurantapps.BuildConfig;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryProvider;
+import com.example.restaurantapps.data.trace.AppTrace;
+
+/**
+ * DATA LAYER: Worker background sync (dijadwalkan RestaurantSyncScheduler)
+ *
+ * Menjalankan RestaurantSync di thread worker WorkManager, lalu menyesuaikan
+ * interval berikutnya. Gagal → retry dengan backoff eksponensial (maks
+ * MAX_RUN_ATTEMPTS), setelah itu menunggu periode berikutnya.
+ *
+ * Constructor (Context, WorkerParameters) dipakai WorkManager di produksi:
+ * dependency diambil dari RestaurantRepositoryProvider saat doWork().
+ * Test memakai WorkerFactory dengan constructor yang menerima RestaurantSync.
+ */
+public class RestaurantSyncWorker extends Worker {
+
+    private static final String TAG = "RestaurantSync";
+    static final int MAX_RUN_ATTEMPTS = 3;
+
+    private final RestaurantSync sync;
+
+    public RestaurantSyncWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        this(context, params, null);
+    }
+
+    /**
+     * @param sync null = ambil dari RestaurantRepositoryProvider
+     */
+    public RestaurantSyncWorker(@NonNull Context context, @NonNull WorkerParameters params, RestaurantSync sync) {
+        super(context, params);
+        this.sync = sync;
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        AppTrace.begin("RestaurantSyncWorker.doWork");
+        try {
+            Context context = getApplicationContext();
+            RestaurantSync restaurantSync = sync != null
+                    ? sync
+                    : RestaurantRepositoryProvider.getRestaurantSync(context);
+            RestaurantSync.Outcome outcome = restaurantSync.run();
+            if (BuildConfig.DEBUG) {
+                Log.i(TAG, outcome.getStatus() + " restaurants=" + outcome.getRestaurantCount()
+                        + " thumbnails=" + outcome.getPrefetchedThumbnails()
+                        + (outcome.getError() != null ? " error=" + outcome.getError() : ""));
+            }
+
+            if (outcome.getStatus() == RestaurantSync.Status.FAILED) {
+                return getRunAttemptCount() + 1 < MAX_RUN_ATTEMPTS ? Result.retry() : Result.failure();
+            }
+            RestaurantSyncScheduler.updateInterval(context, SyncSchedule.nextIntervalMillis(
+                    RestaurantSyncScheduler.getIntervalMillis(context), outcome.getStatus()));
+            return Result.success();
+        } catch (InterruptedException e) {
+            // Worker dihentikan (constraint tidak lagi terpenuhi): coba lagi nanti
+            Thread.currentThread().interrupt();
+            return Result.retry();
+        } finally {
+            AppTrace.end();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.restaurantapps.data.sync;
+
+/**
+ * DATA LAYER: Interval sync adaptif
+ *
+ * Data restaurant jarang berubah, jadi interval mengikuti hasil sync terakhir:
+ * - CHANGED            → interval dipersingkat setengah (data sedang aktif berubah)
+ * - UNCHANGED / FRESH  → interval digandakan (tidak ada yang baru, hemat baterai)
+ * - FAILED             → interval tetap; backoff retry diurus WorkManager
+ *
+ * Selalu di antara MIN dan MAX. MIN jauh di atas batas periodic WorkManager (15 menit).
+ *
+ * Interview Q: "Kenapa tidak sync tiap 15 menit saja?"
+ * A: Setiap run membangunkan radio dan CPU. Dengan constraint unmetered + charging
+ *    biayanya kecil, tapi tetap percuma kalau server tidak punya data baru.
+ */
+public final class SyncSchedule {
+
+    public static final long MIN_INTERVAL_MILLIS = 60 * 60 * 1000L;            // 1 jam
+    public static final long DEFAULT_INTERVAL_MILLIS = 6 * 60 * 60 * 1000L;    // 6 jam
+    public static final long MAX_INTERVAL_MILLIS = 24 * 60 * 60 * 1000L;       // 24 jam
+
+    private SyncSchedule() {
+    }
+
+    public static long nextIntervalMillis(long currentMillis, RestaurantSync.Status status) {
+        long next;
+        switch (status) {
+            case CHANGED:
+                next = currentMillis / 2;
+                break;
+            case UNCHANGED:
+            case FRESH:
+                next = currentMillis * 2;
+                break;
+            default:
+                next = currentMillis;
+                break;
+        }
+        return Math.max(MIN_INTERVAL_MILLIS, Math.min(MAX_INTERVAL_MILLIS, next));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.restaurantapps.data.sync;
+
+import java.util.List;
+
+/**
+ * DATA LAYER: Pemanasan cache gambar dari background sync
+ *
+ * Implementasi Android memakai Glide (GlideThumbnailPrefetcher, lapisan presentation),
+ * jadi data layer tidak bergantung pada library gambar.
+ */
+public interface ThumbnailPrefetcher {
+
+    ThumbnailPrefetcher NONE = urls -> 0;
+
+    /**
+     * Unduh gambar ke disk cache. Blocking: dipanggil dari thread worker.
+     *
+     * @return jumlah gambar yang sudah ada di cache setelah selesai
+     */
+    int prefetch(List<String> urls);
+}
@@ -0,0 +1,54 @@
+package com.example.restaurantapps.data.trace;
+
+/**
+ * DATA LAYER: Trace section untuk profiling startup & scroll (systrace / Perfetto)
+ *
+ * Section yang dipasang (nama sama dipakai macrobenchmark TraceSectionMetric):
+ * - RestaurantApp.onCreate, MainActivity.onCreate
+ * - RestaurantViewModel.init, RetrofitClient.init (lazy init di main thread)
+ * - RestaurantViewModel.loadRestaurants
+ * - Repo.* (network + parse di worker), Retrofit.parse, RestaurantAdapter.onBind
+ *
+ * Tracer bisa diganti seperti ThreadContract: di Android memakai androidx.tracing
+ * (lihat RestaurantApp), di JVM (unit test, benchmark) default no-op.
+ *
+ * Pemakaian: begin() lalu end() di thread yang SAMA, selalu dalam try/finally.
+ */
+public final class AppTrace {
+
+    public interface Tracer {
+        void beginSection(String name);
+
+        void endSection();
+    }
+
+    private static final Tracer NO_OP = new Tracer() {
+        @Override
+        public void beginSection(String name) {
+        }
+
+        @Override
+        public void endSection() {
+        }
+    };
+
+    private static volatile Tracer tracer = NO_OP;
+
+    private AppTrace() {
+    }
+
+    public static void setTracer(Tracer newTracer) {
+        tracer = newTracer != null ? newTracer : NO_OP;
+    }
+
+    /**
+     * @param name maksimal 127 karakter (batas atrace)
+     */
+    public static void begin(String name) {
+        tracer.beginSection(name);
+    }
+
+    public static void end() {
+        tracer.endSection();
+    }
+}
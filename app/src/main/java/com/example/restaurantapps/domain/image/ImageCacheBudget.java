@@ -0,0 +1,47 @@
+package com.example.restaurantapps.domain.image;
+
+/**
+ * DOMAIN LAYER: Budget cache gambar berdasarkan memory class device
+ *
+ * memoryClass = batas heap per app (MB, dari ActivityManager.getMemoryClass()).
+ * - Memory cache (bitmap siap tampil) : 1/8 heap (1/12 di device low-RAM)
+ * - Bitmap pool (bitmap dipakai ulang): 1/16 heap (1/24 di device low-RAM)
+ * - Disk cache                        : 32 MB low-RAM, 100 MB normal, 250 MB heap besar
+ *
+ * Hitungan murni (tanpa Android API) supaya bisa di-unit test.
+ */
+public final class ImageCacheBudget {
+
+    private static final long MB = 1024L * 1024L;
+
+    private final long memoryCacheBytes;
+    private final long bitmapPoolBytes;
+    private final long diskCacheBytes;
+
+    public ImageCacheBudget(long memoryCacheBytes, long bitmapPoolBytes, long diskCacheBytes) {
+        this.memoryCacheBytes = memoryCacheBytes;
+        this.bitmapPoolBytes = bitmapPoolBytes;
+        this.diskCacheBytes = diskCacheBytes;
+    }
+
+    public static ImageCacheBudget forMemoryClass(int memoryClassMb, boolean lowRamDevice) {
+        long heapBytes = Math.max(16, memoryClassMb) * MB;
+        if (lowRamDevice) {
+            return new ImageCacheBudget(heapBytes / 12, heapBytes / 24, 32 * MB);
+        }
+        long disk = memoryClassMb >= 256 ? 250 * MB : 100 * MB;
+        return new ImageCacheBudget(heapBytes / 8, heapBytes / 16, disk);
+    }
+
+    public long getMemoryCacheBytes() {
+        return memoryCacheBytes;
+    }
+
+    public long getBitmapPoolBytes() {
+        return bitmapPoolBytes;
+    }
+
+    public long getDiskCacheBytes() {
+        return diskCacheBytes;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.restaurantapps.domain.image;
+
+import java.util.function.Supplier;
+
+/**
+ * DOMAIN LAYER: Builder URL gambar restaurant
+ *
+ * Satu-satunya tempat yang tahu format URL gambar: {baseUrl}{variant}/{pictureId}.
+ * Adapter, detail screen dan prefetch memakai builder yang sama, jadi URL
+ * (dan cache key Glide) selalu konsisten.
+ *
+ * Base URL default bisa diganti (setDefaultBaseUrl): data layer mengarahkannya ke
+ * region endpoint yang sedang dipakai. getDefault() selalu membaca base URL terbaru,
+ * jadi builder yang sudah dipegang adapter ikut pindah region.
+ */
+public final class ImageUrlBuilder {
+
+    public static final String DEFAULT_BASE_URL = "https://restaurant-api.dicoding.dev/images/";
+
+    private static volatile Supplier<String> defaultBaseUrl = () -> DEFAULT_BASE_URL;
+
+    private static final ImageUrlBuilder DEFAULT = new ImageUrlBuilder(() -> defaultBaseUrl.get());
+
+    private final Supplier<String> baseUrl;
+
+    /**
+     * @param baseUrl diakhiri "/", misal "https://restaurant-api.dicoding.dev/images/"
+     */
+    public ImageUrlBuilder(String baseUrl) {
+        String normalized = normalize(baseUrl);
+        this.baseUrl = () -> normalized;
+    }
+
+    /**
+     * @param baseUrl dibaca setiap build(); nilainya harus sudah diakhiri "/"
+     */
+    public ImageUrlBuilder(Supplier<String> baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static ImageUrlBuilder getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param baseUrl null = kembali ke DEFAULT_BASE_URL
+     */
+    public static void setDefaultBaseUrl(Supplier<String> baseUrl) {
+        defaultBaseUrl = baseUrl != null ? baseUrl : () -> DEFAULT_BASE_URL;
+    }
+
+    public static String normalize(String baseUrl) {
+        return baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    public String build(String pictureId, ImageVariant variant) {
+        return baseUrl.get() + variant.getPath() + "/" + pictureId;
+    }
+
+    /**
+     * URL varian yang paling pas untuk lebar cell (pixel).
+     */
+    public String forWidth(String pictureId, int targetWidthPx) {
+        return build(pictureId, ImageVariant.forWidth(targetWidthPx));
+    }
+}
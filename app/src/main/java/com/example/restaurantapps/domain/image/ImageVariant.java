@@ -0,0 +1,47 @@
+package com.example.restaurantapps.domain.image;
+
+/**
+ * DOMAIN LAYER: Varian ukuran gambar dari API (images/small, images/medium, images/large).
+ *
+ * nominalWidthPx = perkiraan lebar gambar di server. Dipakai untuk memilih
+ * varian terkecil yang masih cukup tajam untuk ukuran cell (dalam pixel).
+ *
+ * Interview Q: "Kenapa tidak selalu pakai large lalu di-downsample?"
+ * A: Byte yang di-download dan waktu decode tumbuh dengan ukuran gambar.
+ *    Cell 2 kolom di HP tidak butuh gambar 1000+ px.
+ */
+public enum ImageVariant {
+    SMALL("small", 320),
+    MEDIUM("medium", 640),
+    LARGE("large", 1280);
+
+    private final String path;
+    private final int nominalWidthPx;
+
+    ImageVariant(String path, int nominalWidthPx) {
+        this.path = path;
+        this.nominalWidthPx = nominalWidthPx;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getNominalWidthPx() {
+        return nominalWidthPx;
+    }
+
+    /**
+     * Varian terkecil yang lebarnya ≥ lebar target. Lebih besar dari LARGE → LARGE.
+     *
+     * @param targetWidthPx lebar cell dalam pixel; ≤ 0 (belum diukur) → SMALL
+     */
+    public static ImageVariant forWidth(int targetWidthPx) {
+        for (ImageVariant variant : values()) {
+            if (targetWidthPx <= variant.nominalWidthPx) {
+                return variant;
+            }
+        }
+        return LARGE;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.restaurantapps.domain.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DOMAIN LAYER: Dictionary nama kota
+ *
+ * Data hanya punya beberapa puluh kota, tetapi parser membuat String baru
+ * untuk setiap restaurant. intern() mengembalikan SATU instance per nama kota,
+ * jadi 100k restaurant berbagi beberapa puluh String saja.
+ *
+ * Dibatasi MAX_ENTRIES: data aneh (kota unik per item) tidak membuat map tumbuh
+ * tanpa batas, nilai di luar batas dikembalikan apa adanya.
+ *
+ * Interview Q: "Kenapa tidak String.intern()?"
+ * A: Tabel intern VM global & tidak bisa dibatasi. Map sendiri bisa di-cap
+ *    dan lookup-nya cukup satu hash.
+ */
+public final class CityDictionary {
+
+    static final int MAX_ENTRIES = 1024;
+
+    private static final ConcurrentHashMap<String, String> CITIES = new ConcurrentHashMap<>();
+
+    private CityDictionary() {
+    }
+
+    public static String intern(String city) {
+        if (city == null) {
+            return null;
+        }
+        String existing = CITIES.get(city);
+        if (existing != null) {
+            return existing;
+        }
+        if (CITIES.size() >= MAX_ENTRIES) {
+            return city;
+        }
+        existing = CITIES.putIfAbsent(city, city);
+        return existing != null ? existing : city;
+    }
+
+    public static int size() {
+        return CITIES.size();
+    }
+}
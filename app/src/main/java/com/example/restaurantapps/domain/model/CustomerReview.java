@@ -0,0 +1,28 @@
+package com.example.restaurantapps.domain.model;
+
+/**
+ * DOMAIN LAYER: Entity review pelanggan (bagian dari RestaurantDetail).
+ */
+public final class CustomerReview {
+    private final String name;
+    private final String review;
+    private final String date;
+
+    public CustomerReview(String name, String review, String date) {
+        this.name = name;
+        this.review = review;
+        this.date = date;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getReview() {
+        return review;
+    }
+
+    public String getDate() {
+        return date;
+    }
+}
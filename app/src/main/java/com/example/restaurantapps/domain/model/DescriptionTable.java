@@ -0,0 +1,172 @@
+package com.example.restaurantapps.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * DOMAIN LAYER: Penyimpanan description yang kompak
+ *
+ * Semua description dari satu load disimpan sebagai UTF-8 dalam SATU byte[]
+ * (+ int[] offset), bukan satu String per restaurant. Restaurant hanya memegang
+ * reference ke tabel + index. String baru dibuat saat getDescription() dipanggil
+ * (detail / indexing search), tidak pernah untuk cell grid.
+ *
+ * Append dari thread parser, baca dari thread mana saja (synchronized,
+ * praktis tanpa contention karena baca terjadi setelah load selesai).
+ *
+ * Tabel hidup selama masih ada Restaurant yang memegangnya. Setelah delta sync
+ * entry milik item yang diganti/dihapus tidak terpakai lagi; RestaurantDelta
+ * menyalin entry yang tersisa ke tabel baru (appendFrom) supaya tabel lama lepas.
+ *
+ * Interview Q: "Berapa hemat dibanding String per item?"
+ * A: Per item hilang 1 object String + 1 header array (~40 byte) + padding.
+ *    Teksnya sendiri tetap sama besar.
+ */
+public final class DescriptionTable {
+
+    public static final int NO_DESCRIPTION = -1;
+
+    // Dipakai bersama oleh semua Restaurant tanpa description (tidak pernah di-append)
+    private static final DescriptionTable EMPTY = new DescriptionTable(1, 16);
+
+    private byte[] bytes;
+    private int[] ends;
+    private int size;
+    private int byteCount;
+
+    public DescriptionTable() {
+        this(16, 1024);
+    }
+
+    public DescriptionTable(int expectedEntries, int expectedBytes) {
+        bytes = new byte[Math.max(16, expectedBytes)];
+        ends = new int[Math.max(1, expectedEntries)];
+    }
+
+    /**
+     * Tabel berisi satu description di index 0 (untuk Restaurant yang dibuat satu-satu).
+     * Untuk null, pakai index NO_DESCRIPTION.
+     */
+    public static DescriptionTable of(String description) {
+        if (description == null) {
+            return EMPTY;
+        }
+        DescriptionTable table = new DescriptionTable(1, 16);
+        table.append(description);
+        table.trimToSize();
+        return table;
+    }
+
+    /**
+     * @return index untuk get(), atau NO_DESCRIPTION jika null
+     */
+    public synchronized int append(String description) {
+        if (description == null) {
+            return NO_DESCRIPTION;
+        }
+        byte[] encoded = description.getBytes(StandardCharsets.UTF_8);
+        return appendUtf8(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Append description yang sudah berupa UTF-8 (misal text string CBOR),
+     * tanpa decode ke String dulu. Byte disalin, src boleh dipakai ulang pemanggil.
+     *
+     * @return index untuk get()
+     */
+    public synchronized int appendUtf8(byte[] src, int offset, int length) {
+        if (byteCount + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, byteCount + length));
+        }
+        System.arraycopy(src, offset, bytes, byteCount, length);
+        byteCount += length;
+        if (size == ends.length) {
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        ends[size] = byteCount;
+        return size++;
+    }
+
+    /**
+     * Salin satu entry dari tabel lain (tetap UTF-8, tanpa decode ke String).
+     *
+     * @return index di tabel ini, atau NO_DESCRIPTION
+     */
+    public int appendFrom(DescriptionTable source, int index) {
+        if (index == NO_DESCRIPTION) {
+            return NO_DESCRIPTION;
+        }
+        byte[] sourceBytes;
+        int start;
+        int end;
+        synchronized (source) {
+            // Byte yang sudah di-append tidak pernah berubah, aman dibaca di luar lock
+            sourceBytes = source.bytes;
+            start = source.start(index);
+            end = source.ends[index];
+        }
+        return appendUtf8(sourceBytes, start, end - start);
+    }
+
+    public synchronized String get(int index) {
+        if (index == NO_DESCRIPTION) {
+            return null;
+        }
+        int start = start(index);
+        return new String(bytes, start, ends[index] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bandingkan dua entry tanpa membuat String.
+     */
+    public static boolean contentEquals(DescriptionTable a, int indexA, DescriptionTable b, int indexB) {
+        if (a == b && indexA == indexB) {
+            return true;
+        }
+        if (indexA == NO_DESCRIPTION || indexB == NO_DESCRIPTION) {
+            return indexA == indexB;
+        }
+        byte[] bytesA;
+        int startA;
+        int endA;
+        synchronized (a) {
+            bytesA = a.bytes;
+            startA = a.start(indexA);
+            endA = a.ends[indexA];
+        }
+        synchronized (b) {
+            int startB = b.start(indexB);
+            int length = endA - startA;
+            if (b.ends[indexB] - startB != length) {
+                return false;
+            }
+            // Arrays.equals(range) baru ada di API 33
+            for (int i = 0; i < length; i++) {
+                if (bytesA[startA + i] != b.bytes[startB + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Buang kapasitas sisa setelah load selesai.
+     */
+    public synchronized void trimToSize() {
+        if (bytes.length != byteCount) {
+            bytes = Arrays.copyOf(bytes, byteCount);
+        }
+        if (ends.length != size) {
+            ends = Arrays.copyOf(ends, Math.max(1, size));
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int start(int index) {
+        return index == 0 ? 0 : ends[index - 1];
+    }
+}
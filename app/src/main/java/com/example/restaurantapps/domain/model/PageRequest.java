@@ -0,0 +1,53 @@
+package com.example.restaurantapps.domain.model;
+
+/**
+ * DOMAIN LAYER: Paging Request
+ *
+ * Kontrak paging yang dipakai semua sumber data (remote & local):
+ * - pageKey          : nomor halaman, mulai dari 0
+ * - pageSize         : jumlah item per halaman
+ * - prefetchDistance : sisa item sebelum akhir list yang memicu load halaman berikutnya
+ *
+ * Interview Q: "Kenapa perlu paging?"
+ * A: Memory dan waktu item pertama tampil tidak lagi tumbuh linear
+ *    dengan ukuran katalog. Grid cukup memuat halaman yang dibutuhkan.
+ */
+public class PageRequest {
+
+    private final int pageKey;
+    private final int pageSize;
+    private final int prefetchDistance;
+
+    public PageRequest(int pageKey, int pageSize, int prefetchDistance) {
+        if (pageKey < 0 || pageSize <= 0 || prefetchDistance < 0) {
+            throw new IllegalArgumentException("PageRequest tidak valid: key=" + pageKey
+                    + " size=" + pageSize + " prefetch=" + prefetchDistance);
+        }
+        this.pageKey = pageKey;
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+    }
+
+    public int getPageKey() {
+        return pageKey;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPrefetchDistance() {
+        return prefetchDistance;
+    }
+
+    /**
+     * Index item pertama halaman ini di list penuh.
+     */
+    public int getOffset() {
+        return pageKey * pageSize;
+    }
+
+    public PageRequest next() {
+        return new PageRequest(pageKey + 1, pageSize, prefetchDistance);
+    }
+}
@@ -1,29 +1,64 @@
 package com.example.restaurantapps.domain.model;
 
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.image.ImageVariant;
+
 /**
  * DOMAIN LAYER: Entity
- * 
+ *
  * Representasi data yang independent dari storage atau API.
  * Class ini adalah "pure data" tanpa logic bisnis.
+ *
+ * Immutable & kompak (list bisa berisi 100k item di device low-RAM):
+ * - city di-intern lewat CityDictionary: satu String per nama kota
+ * - rating float primitif (API hanya 1 desimal)
+ * - description disimpan di DescriptionTable bersama, String dibuat saat diminta
+ *
+ * Immutable = aman dibagi antar thread (search index, facet engine, adapter)
+ * tanpa copy dan tanpa synchronization.
  */
-public class Restaurant {
-    private String id;
-    private String name;
-    private String description;
-    private String pictureId;
-    private String city;
-    private double rating;
-
-    public Restaurant() {
-    }
+public final class Restaurant {
+    private final String id;
+    private final String name;
+    private final String pictureId;
+    private final String city;
+    private final float rating;
+    private final DescriptionTable descriptions;
+    private final int descriptionIndex;
 
     public Restaurant(String id, String name, String description, String pictureId, String city, double rating) {
+        this(id, name, DescriptionTable.of(description),
+                description != null ? 0 : DescriptionTable.NO_DESCRIPTION, pictureId, city, rating);
+    }
+
+    /**
+     * Dipakai parser: description sudah di-append ke tabel bersama milik satu load.
+     */
+    public Restaurant(String id, String name, DescriptionTable descriptions, int descriptionIndex,
+                      String pictureId, String city, double rating) {
         this.id = id;
         this.name = name;
-        this.description = description;
+        this.descriptions = descriptions;
+        this.descriptionIndex = descriptionIndex;
         this.pictureId = pictureId;
-        this.city = city;
-        this.rating = rating;
+        this.city = CityDictionary.intern(city);
+        this.rating = (float) rating;
+    }
+
+    /**
+     * Restaurant yang sama dengan description dipindah ke tabel lain (compaction).
+     */
+    Restaurant withDescriptionIn(DescriptionTable table) {
+        return new Restaurant(id, name, table, table.appendFrom(descriptions, descriptionIndex),
+                pictureId, city, rating);
+    }
+
+    DescriptionTable getDescriptionTable() {
+        return descriptions;
+    }
+
+    boolean hasDescription() {
+        return descriptionIndex != DescriptionTable.NO_DESCRIPTION;
     }
 
     // Getters
@@ -35,8 +70,19 @@ public class Restaurant {
         return name;
     }
 
+    /**
+     * Decode dari DescriptionTable setiap kali dipanggil: jangan dipanggil per frame.
+     */
     public String getDescription() {
-        return description;
+        return descriptions.get(descriptionIndex);
+    }
+
+    /**
+     * Bandingkan description tanpa membuat String (dipakai update incremental).
+     */
+    public boolean hasSameDescription(Restaurant other) {
+        return DescriptionTable.contentEquals(descriptions, descriptionIndex,
+                other.descriptions, other.descriptionIndex);
     }
 
     public String getPictureId() {
@@ -47,37 +93,16 @@ public class Restaurant {
         return city;
     }
 
-    public double getRating() {
+    public float getRating() {
         return rating;
     }
 
-    // Setters
-    public void setId(String id) {
-        this.id = id;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
-    public void setPictureId(String pictureId) {
-        this.pictureId = pictureId;
-    }
-
-    public void setCity(String city) {
-        this.city = city;
-    }
-
-    public void setRating(double rating) {
-        this.rating = rating;
-    }
-
+    /**
+     * URL gambar ukuran medium. Untuk grid, pilih varian sesuai ukuran cell
+     * lewat ImageUrlBuilder.forWidth().
+     */
     public String getPictureUrl() {
-        return "https://restaurant-api.dicoding.dev/images/medium/" + pictureId;
+        return ImageUrlBuilder.getDefault().build(pictureId, ImageVariant.MEDIUM);
     }
 
     @Override
@@ -0,0 +1,131 @@
+package com.example.restaurantapps.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DOMAIN LAYER: Perubahan list restaurant sejak versi sync tertentu (delta sync)
+ *
+ * - version : versi katalog server SETELAH delta ini diterapkan
+ * - upserts : restaurant baru / berubah (id sama = ganti)
+ * - deletes : id restaurant yang dihapus
+ * - full    : server mengirim snapshot utuh (versi klien terlalu lama / belum ada),
+ *             upserts = seluruh katalog, list lama dibuang
+ *
+ * Description ada di DescriptionTable milik load yang membuatnya: item yang diganti
+ * atau dihapus meninggalkan entry mati di tabel lama. Jika entry mati sudah lebih
+ * dari 1/4 entry yang dipakai, description yang tersisa disalin ke satu tabel baru
+ * supaya tabel lama (UTF-8 seluruh response lama) bisa di-GC.
+ *
+ * Interview Q: "Kenapa tidak selalu download list penuh?"
+ * A: Katalog 10k item ≈ MB per refresh, padahal biasanya hanya 1-2 rating yang
+ *    berubah. Delta = ukuran perubahan, bukan ukuran katalog.
+ */
+public final class RestaurantDelta {
+
+    private final long version;
+    private final boolean full;
+    private final List<Restaurant> upserts;
+    private final List<String> deletedIds;
+
+    public RestaurantDelta(long version, boolean full, List<Restaurant> upserts, List<String> deletedIds) {
+        this.version = version;
+        this.full = full;
+        this.upserts = upserts == null ? Collections.emptyList() : Collections.unmodifiableList(upserts);
+        this.deletedIds = deletedIds == null ? Collections.emptyList() : Collections.unmodifiableList(deletedIds);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public List<Restaurant> getUpserts() {
+        return upserts;
+    }
+
+    public List<String> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public boolean isEmpty() {
+        return !full && upserts.isEmpty() && deletedIds.isEmpty();
+    }
+
+    /**
+     * Terapkan delta ke list lama → list baru (list lama tidak diubah).
+     *
+     * Urutan dipertahankan: item yang berubah tetap di posisinya, item baru
+     * ditambahkan di akhir. O(n + perubahan). Delta kosong → list lama dikembalikan apa adanya.
+     */
+    public List<Restaurant> applyTo(List<Restaurant> base) {
+        if (full) {
+            return new ArrayList<>(upserts);
+        }
+        if (isEmpty()) {
+            return base;
+        }
+        Map<String, Restaurant> pending = new HashMap<>(upserts.size() * 2);
+        for (Restaurant restaurant : upserts) {
+            pending.put(restaurant.getId(), restaurant);
+        }
+        Set<String> deleted = new HashSet<>(deletedIds);
+
+        List<Restaurant> result = new ArrayList<>(base.size() + upserts.size());
+        for (Restaurant restaurant : base) {
+            String id = restaurant.getId();
+            if (deleted.contains(id)) {
+                continue;
+            }
+            Restaurant replacement = pending.remove(id);
+            result.add(replacement != null ? replacement : restaurant);
+        }
+        for (Restaurant restaurant : upserts) {
+            // Sisa pending = item baru (upsert yang juga dihapus tetap dihapus)
+            Restaurant added = pending.remove(restaurant.getId());
+            if (added != null && !deleted.contains(restaurant.getId())) {
+                result.add(added);
+            }
+        }
+        return compactDescriptions(result);
+    }
+
+    /**
+     * Salin description yang masih dipakai ke satu tabel rapat jika tabel yang
+     * dipegang list sudah banyak berisi entry mati. O(total byte), hanya saat perlu.
+     */
+    static List<Restaurant> compactDescriptions(List<Restaurant> restaurants) {
+        Map<DescriptionTable, Boolean> tables = new IdentityHashMap<>();
+        int liveEntries = 0;
+        for (Restaurant restaurant : restaurants) {
+            if (restaurant.hasDescription()) {
+                tables.put(restaurant.getDescriptionTable(), Boolean.TRUE);
+                liveEntries++;
+            }
+        }
+        int totalEntries = 0;
+        for (DescriptionTable table : tables.keySet()) {
+            totalEntries += table.size();
+        }
+        if (totalEntries - liveEntries <= liveEntries / 4) {
+            return restaurants;
+        }
+
+        DescriptionTable compacted = new DescriptionTable(liveEntries, liveEntries * 256);
+        List<Restaurant> result = new ArrayList<>(restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            result.add(restaurant.hasDescription() ? restaurant.withDescriptionIn(compacted) : restaurant);
+        }
+        compacted.trimToSize();
+        return result;
+    }
+}
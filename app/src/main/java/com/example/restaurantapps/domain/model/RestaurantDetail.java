@@ -0,0 +1,91 @@
+package com.example.restaurantapps.domain.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DOMAIN LAYER: Entity detail restaurant (endpoint detail/{id})
+ *
+ * Berbeda dengan Restaurant (item grid), detail membawa alamat, kategori,
+ * menu dan review. Hanya diambil untuk item yang dibuka / di-prefetch,
+ * tidak pernah untuk seluruh list.
+ *
+ * Immutable: list dibungkus unmodifiable, aman dibagi dari cache ke banyak observer.
+ */
+public final class RestaurantDetail {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final String city;
+    private final String address;
+    private final String pictureId;
+    private final float rating;
+    private final List<String> categories;
+    private final List<String> foods;
+    private final List<String> drinks;
+    private final List<CustomerReview> reviews;
+
+    public RestaurantDetail(String id, String name, String description, String city, String address,
+                            String pictureId, double rating, List<String> categories,
+                            List<String> foods, List<String> drinks, List<CustomerReview> reviews) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.city = CityDictionary.intern(city);
+        this.address = address;
+        this.pictureId = pictureId;
+        this.rating = (float) rating;
+        this.categories = unmodifiable(categories);
+        this.foods = unmodifiable(foods);
+        this.drinks = unmodifiable(drinks);
+        this.reviews = unmodifiable(reviews);
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getPictureId() {
+        return pictureId;
+    }
+
+    public float getRating() {
+        return rating;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public List<String> getFoods() {
+        return foods;
+    }
+
+    public List<String> getDrinks() {
+        return drinks;
+    }
+
+    public List<CustomerReview> getReviews() {
+        return reviews;
+    }
+}
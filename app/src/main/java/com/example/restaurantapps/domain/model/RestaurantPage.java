@@ -0,0 +1,51 @@
+package com.example.restaurantapps.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DOMAIN LAYER: Paging Result
+ *
+ * Satu halaman restaurant + key halaman berikutnya.
+ * nextKey == null artinya sudah halaman terakhir.
+ */
+public class RestaurantPage {
+
+    private final int pageKey;
+    private final List<Restaurant> items;
+    private final Integer nextKey;
+
+    public RestaurantPage(int pageKey, List<Restaurant> items, Integer nextKey) {
+        this.pageKey = pageKey;
+        this.items = Collections.unmodifiableList(items);
+        this.nextKey = nextKey;
+    }
+
+    /**
+     * Potong 1 halaman dari list penuh (sumber yang tidak mendukung paging,
+     * misal cache disk atau server yang mengabaikan parameter page).
+     */
+    public static RestaurantPage slice(List<Restaurant> all, PageRequest request) {
+        int from = Math.min(request.getOffset(), all.size());
+        int to = Math.min(from + request.getPageSize(), all.size());
+        Integer nextKey = to < all.size() ? request.getPageKey() + 1 : null;
+        return new RestaurantPage(request.getPageKey(), new ArrayList<>(all.subList(from, to)), nextKey);
+    }
+
+    public int getPageKey() {
+        return pageKey;
+    }
+
+    public List<Restaurant> getItems() {
+        return items;
+    }
+
+    public Integer getNextKey() {
+        return nextKey;
+    }
+
+    public boolean isLastPage() {
+        return nextKey == null;
+    }
+}
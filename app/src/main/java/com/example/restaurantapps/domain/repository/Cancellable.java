@@ -0,0 +1,18 @@
+package com.example.restaurantapps.domain.repository;
+
+/**
+ * DOMAIN LAYER: Handle untuk membatalkan request repository.
+ *
+ * Setelah cancel(), callback request tersebut tidak akan dipanggil lagi.
+ * Dipanggil lebih dari 1x atau setelah request selesai = aman (no-op).
+ */
+public interface Cancellable {
+
+    /**
+     * Handle untuk request yang sudah selesai / tidak bisa dibatalkan.
+     */
+    Cancellable NONE = () -> {
+    };
+
+    void cancel();
+}
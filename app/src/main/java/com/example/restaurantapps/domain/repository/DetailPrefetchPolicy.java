@@ -0,0 +1,39 @@
+package com.example.restaurantapps.domain.repository;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DOMAIN LAYER: Pilih detail yang di-prefetch
+ *
+ * Tebakan item yang akan di-tap berikutnya: item yang TERLIHAT dengan rating
+ * tertinggi (rating sama → posisi lebih atas dulu). Dibatasi limit supaya
+ * scroll tidak memicu puluhan request detail.
+ */
+public final class DetailPrefetchPolicy {
+
+    private DetailPrefetchPolicy() {
+    }
+
+    public static List<String> select(List<Restaurant> visible, int limit) {
+        if (visible == null || visible.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<Restaurant> ranked = new ArrayList<>(visible);
+        // Sort stabil: rating sama tetap urut posisi grid
+        Collections.sort(ranked, (a, b) -> Float.compare(b.getRating(), a.getRating()));
+        List<String> ids = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Restaurant restaurant : ranked) {
+            if (ids.size() == limit) {
+                break;
+            }
+            if (restaurant.getId() != null && !ids.contains(restaurant.getId())) {
+                ids.add(restaurant.getId());
+            }
+        }
+        return ids;
+    }
+}
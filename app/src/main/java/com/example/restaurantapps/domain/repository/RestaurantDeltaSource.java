@@ -0,0 +1,27 @@
+package com.example.restaurantapps.domain.repository;
+
+import com.example.restaurantapps.domain.model.RestaurantDelta;
+
+/**
+ * DOMAIN LAYER: Sumber delta sync
+ *
+ * Server mengirim hanya perubahan (upsert + delete) sejak versi yang dikirim klien.
+ * sinceVersion = 0 → klien belum punya versi, server mengirim snapshot penuh.
+ *
+ * Kontrak threading sama dengan RestaurantRepository (callback di background thread).
+ */
+public interface RestaurantDeltaSource {
+
+    Cancellable getDelta(long sinceVersion, DeltaCallback callback);
+
+    interface DeltaCallback {
+        void onDelta(RestaurantDelta delta);
+
+        /**
+         * Server tidak punya endpoint delta: pemanggil kembali ke list penuh.
+         */
+        void onUnsupported();
+
+        void onError(String error);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.restaurantapps.domain.repository;
+
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+
+import java.util.Collection;
+
+/**
+ * DOMAIN LAYER: Repository detail restaurant
+ *
+ * Terpisah dari RestaurantRepository: detail diambil per item (lazy),
+ * list tidak perlu di-fetch ulang hanya untuk membuka 1 restaurant.
+ *
+ * Kontrak callback sama dengan RestaurantRepository: dipanggil dari background
+ * thread (atau langsung di thread pemanggil jika detail sudah ada di cache).
+ */
+public interface RestaurantDetailRepository {
+
+    /**
+     * @return handle; setelah cancel() callback tidak dipanggil lagi
+     */
+    Cancellable getRestaurantDetail(String restaurantId, DetailCallback callback);
+
+    /**
+     * Ambil detail di background untuk item yang kemungkinan dibuka berikutnya.
+     * Item yang sudah di cache / sedang diambil dilewati. Tanpa callback.
+     */
+    void prefetch(Collection<String> restaurantIds);
+
+    interface DetailCallback {
+        void onDetail(RestaurantDetail detail);
+        void onError(String error);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.restaurantapps.domain.repository;
 
+import com.example.restaurantapps.domain.model.PageRequest;
 import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantPage;
 import java.util.List;
 
 /**
@@ -22,11 +24,33 @@ public interface RestaurantRepository {
      * Interview Q: "Kenapa interface di domain layer?"
      * A: Karena domain tidak boleh tergantung teknologi (API, DB).
      *    Interface adalah kontrak: "Siapapun yang implementasi, harus sediakan data"
+     *
+     * Kontrak callback:
+     * - onSuccess() boleh dipanggil lebih dari 1x (misal data cache dulu, lalu data network)
+     * - Callback dipanggil dari BACKGROUND thread (network, parsing & mapping tidak
+     *   pernah di main thread). Penerima memakai postValue() / pindah thread sendiri.
+     *
+     * @return handle untuk membatalkan request (misal saat ViewModel cleared);
+     *         setelah cancel() callback tidak dipanggil lagi
      */
-    void getRestaurants(RestaurantCallback callback);
+    Cancellable getRestaurants(RestaurantCallback callback);
+
+    /**
+     * Dapatkan 1 halaman restaurant (paging).
+     *
+     * Kontrak callback sama dengan getRestaurants(): onPage() untuk key yang sama
+     * boleh dipanggil lagi dengan data lebih baru (misal page 0 dari cache, lalu
+     * page 0 hasil refresh network) dan menggantikan hasil sebelumnya.
+     */
+    Cancellable getRestaurantPage(PageRequest request, PageCallback callback);
     
     interface RestaurantCallback {
         void onSuccess(List<Restaurant> restaurants);
         void onError(String error);
     }
+
+    interface PageCallback {
+        void onPage(RestaurantPage page);
+        void onError(String error);
+    }
 }
@@ -0,0 +1,129 @@
+package com.example.restaurantapps.domain.search;
+
+import java.util.Objects;
+
+/**
+ * DOMAIN LAYER: Facet Query
+ *
+ * Query gabungan untuk RestaurantFacetEngine, misal
+ * "city = Medan, rating ≥ 4, urut rating tertinggi":
+ *
+ *   FacetQuery.ALL.withCity("Medan")
+ *           .withMinRating(FacetQuery.MinRating.FOUR)
+ *           .withSortOrder(FacetQuery.SortOrder.RATING_DESC)
+ *
+ * Immutable: aman dikirim antar thread (main → executor ViewModel).
+ */
+public final class FacetQuery {
+
+    public static final FacetQuery ALL = new FacetQuery(null, MinRating.ANY, SortOrder.DEFAULT);
+
+    /**
+     * Urutan hasil. DEFAULT = urutan dari repository.
+     */
+    public enum SortOrder {
+        DEFAULT,
+        RATING_DESC,
+        RATING_ASC,
+        NAME_ASC,
+        NAME_DESC
+    }
+
+    /**
+     * Filter rating minimum. Sekaligus batas bucket rating di facet
+     * (bucket: < 3, 3 - 4, 4 - 4.5, ≥ 4.5), jadi jumlah per filter bisa
+     * dijawab dari hitungan bucket tanpa scan list.
+     */
+    public enum MinRating {
+        ANY(0.0),
+        THREE(3.0),
+        FOUR(4.0),
+        FOUR_HALF(4.5);
+
+        private final double value;
+
+        MinRating(double value) {
+            this.value = value;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        /**
+         * Bucket tempat sebuah rating jatuh (index = ordinal MinRating tertinggi yang dipenuhi).
+         */
+        static int bucketOf(double rating) {
+            MinRating[] values = values();
+            for (int i = values.length - 1; i > 0; i--) {
+                if (rating >= values[i].value) {
+                    return i;
+                }
+            }
+            return 0;
+        }
+    }
+
+    private final String city;
+    private final MinRating minRating;
+    private final SortOrder sortOrder;
+
+    public FacetQuery(String city, MinRating minRating, SortOrder sortOrder) {
+        if (minRating == null || sortOrder == null) {
+            throw new IllegalArgumentException("minRating dan sortOrder tidak boleh null");
+        }
+        this.city = city;
+        this.minRating = minRating;
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * null = semua kota.
+     */
+    public String getCity() {
+        return city;
+    }
+
+    public MinRating getMinRating() {
+        return minRating;
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public boolean isUnfiltered() {
+        return city == null && minRating == MinRating.ANY && sortOrder == SortOrder.DEFAULT;
+    }
+
+    public FacetQuery withCity(String city) {
+        return new FacetQuery(city, minRating, sortOrder);
+    }
+
+    public FacetQuery withMinRating(MinRating minRating) {
+        return new FacetQuery(city, minRating, sortOrder);
+    }
+
+    public FacetQuery withSortOrder(SortOrder sortOrder) {
+        return new FacetQuery(city, minRating, sortOrder);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FacetQuery)) {
+            return false;
+        }
+        FacetQuery other = (FacetQuery) o;
+        return Objects.equals(city, other.city)
+                && minRating == other.minRating
+                && sortOrder == other.sortOrder;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(city, minRating, sortOrder);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.restaurantapps.domain.search;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DOMAIN LAYER: Facet Result
+ *
+ * - items        : restaurant yang lolos filter, sudah terurut
+ * - cityCounts   : jumlah per kota dengan filter rating query (filter kota diabaikan,
+ *                  supaya UI bisa menampilkan "Medan (12)" untuk semua pilihan kota)
+ * - ratingCounts : jumlah per MinRating (kumulatif, "≥") dengan filter kota query
+ *
+ * equals() per nilai (item dibandingkan per element): query ulang dengan hasil
+ * yang sama tidak dianggap perubahan oleh UI state.
+ */
+public class FacetResult {
+
+    private final FacetQuery query;
+    private final List<Restaurant> items;
+    private final Map<String, Integer> cityCounts;
+    private final Map<FacetQuery.MinRating, Integer> ratingCounts;
+
+    public FacetResult(FacetQuery query,
+                       List<Restaurant> items,
+                       Map<String, Integer> cityCounts,
+                       Map<FacetQuery.MinRating, Integer> ratingCounts) {
+        this.query = query;
+        this.items = Collections.unmodifiableList(items);
+        this.cityCounts = Collections.unmodifiableMap(cityCounts);
+        this.ratingCounts = Collections.unmodifiableMap(ratingCounts);
+    }
+
+    public FacetQuery getQuery() {
+        return query;
+    }
+
+    public List<Restaurant> getItems() {
+        return items;
+    }
+
+    public Map<String, Integer> getCityCounts() {
+        return cityCounts;
+    }
+
+    public Map<FacetQuery.MinRating, Integer> getRatingCounts() {
+        return ratingCounts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FacetResult)) {
+            return false;
+        }
+        FacetResult other = (FacetResult) o;
+        return Objects.equals(query, other.query)
+                && items.equals(other.items)
+                && cityCounts.equals(other.cityCounts)
+                && ratingCounts.equals(other.ratingCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, items, cityCounts, ratingCounts);
+    }
+}
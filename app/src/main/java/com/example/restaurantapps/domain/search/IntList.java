@@ -0,0 +1,48 @@
+package com.example.restaurantapps.domain.search;
+
+import java.util.Arrays;
+
+/**
+ * List int primitif yang bisa tumbuh (tanpa boxing Integer).
+ * Dipakai sebagai posting list di RestaurantSearchIndex.
+ */
+final class IntList {
+
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this(4);
+    }
+
+    IntList(int initialCapacity) {
+        values = new int[Math.max(1, initialCapacity)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int last() {
+        return values[size - 1];
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.restaurantapps.domain.search;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * DOMAIN LAYER: Facet & Sort Engine
+ *
+ * Filter kota/rating + sort tanpa sort ulang list setiap query.
+ *
+ * Struktur (per docId, array primitif):
+ * - cityCodes / ratingBuckets / ratings / nameKeys : key yang sudah dihitung sekali
+ * - byRating / byName : urutan docId yang SUDAH terurut per sort key
+ * - bucketCounts[city][bucket] : hitungan facet kota × bucket rating
+ *
+ * Incremental: update() hanya memproses restaurant baru/berubah.
+ * Item baru di-sort (k log k) lalu di-merge ke urutan yang ada (O(n)),
+ * bukan sort ulang n log n. Hitungan facet di-update +1/-1.
+ *
+ * Query = 1 scan di urutan yang sudah jadi, berhenti setelah jumlah hasil
+ * (diketahui dari bucketCounts) tercapai.
+ *
+ * TIDAK thread-safe: pakai dari 1 thread (executor ViewModel), sama seperti RestaurantSearchIndex.
+ *
+ * Interview Q: "Kenapa tidak Collections.sort() saja setiap user ganti sort?"
+ * A: Sort 100k object = n log n compare dengan boxing, setiap kali. Di sini
+ *    biaya sort dibayar sekali saat data datang, query cukup membaca array.
+ */
+public class RestaurantFacetEngine {
+
+    private static final int BUCKET_COUNT = FacetQuery.MinRating.values().length;
+
+    private interface DocComparator {
+        int compare(int a, int b);
+    }
+
+    // Data per docId. docs[doc] == null artinya dokumen sudah dihapus (tombstone)
+    private Restaurant[] docs = new Restaurant[16];
+    private int[] cityCodes = new int[16];
+    private byte[] ratingBuckets = new byte[16];
+    private double[] ratings = new double[16];
+    private String[] nameKeys = new String[16];
+    private int docCount;
+    private int liveCount;
+
+    private final Map<String, Integer> docIdsById = new HashMap<>();
+    private final Map<String, Integer> cityCodeByName = new HashMap<>();
+    private final List<String> cityNames = new ArrayList<>();
+    private final List<int[]> bucketCounts = new ArrayList<>();
+
+    private int[] defaultOrder = new int[0];
+    private int[] byRating = new int[0];
+    private int[] byName = new int[0];
+
+    // Rating tertinggi dulu, lalu nama A-Z
+    private final DocComparator ratingComparator = (a, b) -> {
+        int byRatingDesc = Double.compare(ratings[b], ratings[a]);
+        return byRatingDesc != 0 ? byRatingDesc : compareNames(a, b);
+    };
+    private final DocComparator nameComparator = this::compareNames;
+
+    /**
+     * Sinkronkan engine dengan list terbaru dari repository.
+     */
+    public void update(List<Restaurant> restaurants) {
+        Set<String> seen = new HashSet<>(restaurants.size() * 2);
+        int[] newDefaultOrder = new int[restaurants.size()];
+        int orderSize = 0;
+        IntList added = new IntList();
+        boolean removedAny = false;
+
+        for (Restaurant restaurant : restaurants) {
+            String id = restaurant.getId();
+            if (id == null || !seen.add(id)) {
+                continue;
+            }
+            Integer existing = docIdsById.get(id);
+            if (existing != null) {
+                if (sameFacetKeys(docs[existing], restaurant)) {
+                    docs[existing] = restaurant;
+                    newDefaultOrder[orderSize++] = existing;
+                    continue;
+                }
+                removeDocument(existing);
+                removedAny = true;
+            }
+            int doc = addDocument(restaurant);
+            added.add(doc);
+            newDefaultOrder[orderSize++] = doc;
+        }
+
+        if (docIdsById.size() > seen.size()) {
+            List<Integer> removed = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : docIdsById.entrySet()) {
+                if (!seen.contains(entry.getKey())) {
+                    removed.add(entry.getValue());
+                }
+            }
+            for (int doc : removed) {
+                removeDocument(doc);
+            }
+            removedAny = true;
+        }
+        defaultOrder = Arrays.copyOf(newDefaultOrder, orderSize);
+
+        if (docCount > 2 * liveCount + 64) {
+            compact();
+        } else if (!added.isEmpty() || removedAny) {
+            byRating = merge(byRating, added, ratingComparator);
+            byName = merge(byName, added, nameComparator);
+        }
+    }
+
+    public FacetResult query(FacetQuery query) {
+        int minBucket = query.getMinRating().ordinal();
+        int cityCode = -1;
+        if (query.getCity() != null) {
+            Integer code = cityCodeByName.get(query.getCity());
+            cityCode = code != null ? code : -2; // kota tidak dikenal → hasil kosong
+        }
+
+        int expected = cityCode == -2 ? 0 : countMatches(cityCode, minBucket);
+        List<Restaurant> items = new ArrayList<>(expected);
+        if (expected > 0) {
+            collect(query.getSortOrder(), cityCode, minBucket, expected, items);
+        }
+        return new FacetResult(query, items, cityCounts(minBucket), ratingCounts(cityCode));
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    // ---------------------------------------------------------------- query
+
+    private void collect(FacetQuery.SortOrder sortOrder, int cityCode, int minBucket,
+                         int expected, List<Restaurant> out) {
+        int[] order;
+        boolean reverse;
+        switch (sortOrder) {
+            case RATING_DESC:
+                order = byRating;
+                reverse = false;
+                break;
+            case RATING_ASC:
+                collectRatingAscending(cityCode, minBucket, expected, out);
+                return;
+            case NAME_ASC:
+                order = byName;
+                reverse = false;
+                break;
+            case NAME_DESC:
+                order = byName;
+                reverse = true;
+                break;
+            default:
+                order = defaultOrder;
+                reverse = false;
+                break;
+        }
+
+        for (int i = 0; i < order.length && out.size() < expected; i++) {
+            int doc = order[reverse ? order.length - 1 - i : i];
+            if (cityCode >= 0 && cityCodes[doc] != cityCode) {
+                continue;
+            }
+            if (ratingBuckets[doc] < minBucket) {
+                if (sortOrder == FacetQuery.SortOrder.RATING_DESC) {
+                    break; // sisanya pasti di bawah rating minimum
+                }
+                continue;
+            }
+            out.add(docs[doc]);
+        }
+    }
+
+    /**
+     * Rating terendah dulu, nama tetap A-Z untuk rating yang sama.
+     * byRating dibaca dari belakang per kelompok rating yang sama, dan setiap
+     * kelompok dibaca maju (membalik seluruh urutan akan membuat nama Z-A).
+     */
+    private void collectRatingAscending(int cityCode, int minBucket, int expected, List<Restaurant> out) {
+        int end = byRating.length;
+        while (end > 0 && out.size() < expected) {
+            double rating = ratings[byRating[end - 1]];
+            int start = end - 1;
+            while (start > 0 && Double.compare(ratings[byRating[start - 1]], rating) == 0) {
+                start--;
+            }
+            for (int i = start; i < end && out.size() < expected; i++) {
+                int doc = byRating[i];
+                if ((cityCode < 0 || cityCodes[doc] == cityCode) && ratingBuckets[doc] >= minBucket) {
+                    out.add(docs[doc]);
+                }
+            }
+            end = start;
+        }
+    }
+
+    private int countMatches(int cityCode, int minBucket) {
+        int count = 0;
+        for (int code = 0; code < bucketCounts.size(); code++) {
+            if (cityCode >= 0 && code != cityCode) {
+                continue;
+            }
+            int[] counts = bucketCounts.get(code);
+            for (int bucket = minBucket; bucket < BUCKET_COUNT; bucket++) {
+                count += counts[bucket];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Jumlah per kota (filter rating saja), urut jumlah terbanyak.
+     */
+    private Map<String, Integer> cityCounts(int minBucket) {
+        List<Integer> codes = new ArrayList<>();
+        int[] totals = new int[cityNames.size()];
+        for (int code = 0; code < totals.length; code++) {
+            totals[code] = countMatches(code, minBucket);
+            if (totals[code] > 0) {
+                codes.add(code);
+            }
+        }
+        codes.sort((a, b) -> {
+            int byCount = Integer.compare(totals[b], totals[a]);
+            return byCount != 0 ? byCount : cityNames.get(a).compareTo(cityNames.get(b));
+        });
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int code : codes) {
+            result.put(cityNames.get(code), totals[code]);
+        }
+        return result;
+    }
+
+    private Map<FacetQuery.MinRating, Integer> ratingCounts(int cityCode) {
+        Map<FacetQuery.MinRating, Integer> result = new EnumMap<>(FacetQuery.MinRating.class);
+        for (FacetQuery.MinRating minRating : FacetQuery.MinRating.values()) {
+            result.put(minRating, cityCode == -2 ? 0 : countMatches(cityCode, minRating.ordinal()));
+        }
+        return result;
+    }
+
+    // ---------------------------------------------------------------- indexing
+
+    private int addDocument(Restaurant restaurant) {
+        ensureCapacity(docCount + 1);
+        int doc = docCount++;
+        int cityCode = cityCodeFor(restaurant.getCity());
+        int bucket = FacetQuery.MinRating.bucketOf(restaurant.getRating());
+
+        docs[doc] = restaurant;
+        cityCodes[doc] = cityCode;
+        ratingBuckets[doc] = (byte) bucket;
+        ratings[doc] = restaurant.getRating();
+        nameKeys[doc] = restaurant.getName() != null ? restaurant.getName().toLowerCase(Locale.ROOT) : "";
+
+        bucketCounts.get(cityCode)[bucket]++;
+        docIdsById.put(restaurant.getId(), doc);
+        liveCount++;
+        return doc;
+    }
+
+    private void removeDocument(int doc) {
+        Restaurant removed = docs[doc];
+        if (removed == null) {
+            return;
+        }
+        docs[doc] = null;
+        bucketCounts.get(cityCodes[doc])[ratingBuckets[doc]]--;
+        docIdsById.remove(removed.getId());
+        liveCount--;
+    }
+
+    /**
+     * Gabungkan urutan lama (tombstone dibuang) dengan item baru yang sudah di-sort.
+     */
+    private int[] merge(int[] order, IntList added, DocComparator comparator) {
+        Integer[] sortedAdded = new Integer[added.size()];
+        for (int i = 0; i < sortedAdded.length; i++) {
+            sortedAdded[i] = added.get(i);
+        }
+        Arrays.sort(sortedAdded, comparator::compare);
+
+        int[] merged = new int[liveCount];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < order.length || j < sortedAdded.length) {
+            if (i < order.length && docs[order[i]] == null) {
+                i++;
+                continue;
+            }
+            if (j >= sortedAdded.length
+                    || (i < order.length && comparator.compare(order[i], sortedAdded[j]) <= 0)) {
+                merged[size++] = order[i++];
+            } else {
+                merged[size++] = sortedAdded[j++];
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * Terlalu banyak tombstone: bangun ulang dengan docId rapat.
+     */
+    private void compact() {
+        Restaurant[] live = new Restaurant[defaultOrder.length];
+        for (int i = 0; i < live.length; i++) {
+            live[i] = docs[defaultOrder[i]];
+        }
+        Arrays.fill(docs, 0, docCount, null);
+        docCount = 0;
+        liveCount = 0;
+        docIdsById.clear();
+        for (int[] counts : bucketCounts) {
+            Arrays.fill(counts, 0);
+        }
+
+        IntList added = new IntList(live.length);
+        int[] order = new int[live.length];
+        for (int i = 0; i < live.length; i++) {
+            order[i] = addDocument(live[i]);
+            added.add(order[i]);
+        }
+        defaultOrder = order;
+        byRating = merge(new int[0], added, ratingComparator);
+        byName = merge(new int[0], added, nameComparator);
+    }
+
+    private int cityCodeFor(String city) {
+        String key = city != null ? city : "";
+        Integer code = cityCodeByName.get(key);
+        if (code != null) {
+            return code;
+        }
+        int newCode = cityNames.size();
+        cityCodeByName.put(key, newCode);
+        cityNames.add(key);
+        bucketCounts.add(new int[BUCKET_COUNT]);
+        return newCode;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= docs.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, docs.length + (docs.length >> 1));
+        docs = Arrays.copyOf(docs, newCapacity);
+        cityCodes = Arrays.copyOf(cityCodes, newCapacity);
+        ratingBuckets = Arrays.copyOf(ratingBuckets, newCapacity);
+        ratings = Arrays.copyOf(ratings, newCapacity);
+        nameKeys = Arrays.copyOf(nameKeys, newCapacity);
+    }
+
+    private int compareNames(int a, int b) {
+        int byNameAsc = nameKeys[a].compareTo(nameKeys[b]);
+        return byNameAsc != 0 ? byNameAsc : Integer.compare(a, b);
+    }
+
+    private static boolean sameFacetKeys(Restaurant a, Restaurant b) {
+        return a != null
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getCity(), b.getCity())
+                && Double.compare(a.getRating(), b.getRating()) == 0;
+    }
+}
@@ -0,0 +1,432 @@
+package com.example.restaurantapps.domain.search;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * DOMAIN LAYER: In-memory Search Index
+ *
+ * Inverted index untuk mencari restaurant berdasarkan token name, city dan description.
+ *
+ * Struktur:
+ * - termIds      : TreeMap term → termId (terurut, untuk prefix query)
+ * - postings     : termId → IntList (docId << 3 | fieldMask), primitif tanpa boxing
+ * - trigramIndex : trigram → IntList termId, untuk kandidat typo-tolerant (fuzzy)
+ *
+ * Query:
+ * - Setiap token query harus cocok (AND) lewat exact, prefix atau fuzzy
+ *   (edit distance 1 untuk token 4-7 huruf, 2 untuk token ≥ 8 huruf)
+ * - Skor = kualitas match (exact > prefix > fuzzy) × bobot field (name > city > description)
+ *
+ * Incremental: update() hanya mengindeks restaurant yang baru/berubah.
+ * Dokumen lama ditandai terhapus dan index di-compact jika terlalu banyak tombstone.
+ *
+ * TIDAK thread-safe: pakai dari 1 thread (misal single-thread executor di ViewModel).
+ *
+ * Interview Q: "Kenapa tidak filter List<Restaurant> saja setiap ketikan?"
+ * A: Filter linear = O(n × panjang teks) per ketikan. Inverted index hanya
+ *    menyentuh posting list dari term yang cocok.
+ */
+public class RestaurantSearchIndex {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    static final int FIELD_NAME = 1;
+    static final int FIELD_CITY = 2;
+    static final int FIELD_DESCRIPTION = 4;
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+
+    private static final float QUALITY_EXACT = 1.0f;
+    private static final float QUALITY_PREFIX = 0.8f;
+    private static final float QUALITY_FUZZY_1 = 0.6f;
+    private static final float QUALITY_FUZZY_2 = 0.45f;
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 256;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    // docId → restaurant (null = sudah dihapus / tombstone)
+    private final List<Restaurant> docs = new ArrayList<>();
+    private final Map<String, Integer> docIdsById = new HashMap<>();
+    private int liveCount;
+
+    private final TreeMap<String, Integer> termIds = new TreeMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<IntList> postings = new ArrayList<>();
+    private final Map<String, IntList> trigramIndex = new HashMap<>();
+
+    // Buffer yang dipakai ulang antar query (index single-thread)
+    private int[] trigramCounts = new int[0];
+    private final IntList touchedTerms = new IntList();
+
+    /**
+     * Sinkronkan index dengan list terbaru.
+     * Restaurant baru diindeks, yang berubah diindeks ulang, yang hilang dihapus.
+     */
+    public void update(List<Restaurant> restaurants) {
+        Set<String> seen = new HashSet<>(restaurants.size() * 2);
+        for (Restaurant restaurant : restaurants) {
+            String id = restaurant.getId();
+            if (id == null || !seen.add(id)) {
+                continue;
+            }
+            Integer existing = docIdsById.get(id);
+            if (existing != null) {
+                if (sameIndexedContent(docs.get(existing), restaurant)) {
+                    docs.set(existing, restaurant); // simpan object terbaru (rating dll)
+                    continue;
+                }
+                removeDocument(existing);
+            }
+            addDocument(restaurant);
+        }
+
+        if (docIdsById.size() > seen.size()) {
+            List<Integer> removed = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : docIdsById.entrySet()) {
+                if (!seen.contains(entry.getKey())) {
+                    removed.add(entry.getValue());
+                }
+            }
+            for (int docId : removed) {
+                removeDocument(docId);
+            }
+        }
+
+        if (docs.size() > 2 * liveCount + 64) {
+            compact();
+        }
+    }
+
+    public List<Restaurant> search(String query) {
+        return search(query, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Cari restaurant. Hasil terurut skor tertinggi, lalu rating tertinggi.
+     */
+    public List<Restaurant> search(String query, int limit) {
+        List<String> queryTokens = new ArrayList<>();
+        tokenize(query, queryTokens);
+        if (queryTokens.isEmpty() || liveCount == 0) {
+            return Collections.emptyList();
+        }
+
+        float[] scores = null;
+        for (String token : queryTokens) {
+            float[] tokenScores = new float[docs.size()];
+            matchToken(token, tokenScores);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                // AND: dokumen harus cocok dengan semua token
+                for (int doc = 0; doc < scores.length; doc++) {
+                    scores[doc] = scores[doc] > 0 && tokenScores[doc] > 0 ? scores[doc] + tokenScores[doc] : 0;
+                }
+            }
+        }
+
+        IntList hits = new IntList();
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] > 0 && docs.get(doc) != null) {
+                hits.add(doc);
+            }
+        }
+        return topResults(hits, scores, limit);
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public int getTermCount() {
+        return terms.size();
+    }
+
+    public long getPostingCount() {
+        long count = 0;
+        for (IntList posting : postings) {
+            count += posting.size();
+        }
+        return count;
+    }
+
+    // ---------------------------------------------------------------- indexing
+
+    private void addDocument(Restaurant restaurant) {
+        int docId = docs.size();
+        docs.add(restaurant);
+        docIdsById.put(restaurant.getId(), docId);
+        liveCount++;
+
+        // Gabungkan field mask per term, supaya 1 term = 1 posting per dokumen
+        Map<String, Integer> termMasks = new HashMap<>();
+        collectTerms(restaurant.getName(), FIELD_NAME, termMasks);
+        collectTerms(restaurant.getCity(), FIELD_CITY, termMasks);
+        collectTerms(restaurant.getDescription(), FIELD_DESCRIPTION, termMasks);
+
+        for (Map.Entry<String, Integer> entry : termMasks.entrySet()) {
+            int termId = termIdFor(entry.getKey());
+            postings.get(termId).add(docId << FIELD_BITS | entry.getValue());
+        }
+    }
+
+    private void removeDocument(int docId) {
+        Restaurant removed = docs.set(docId, null);
+        if (removed != null) {
+            docIdsById.remove(removed.getId());
+            liveCount--;
+        }
+    }
+
+    private void compact() {
+        List<Restaurant> live = new ArrayList<>(liveCount);
+        for (Restaurant restaurant : docs) {
+            if (restaurant != null) {
+                live.add(restaurant);
+            }
+        }
+        docs.clear();
+        docIdsById.clear();
+        liveCount = 0;
+        termIds.clear();
+        terms.clear();
+        postings.clear();
+        trigramIndex.clear();
+        for (Restaurant restaurant : live) {
+            addDocument(restaurant);
+        }
+    }
+
+    private static void collectTerms(String text, int field, Map<String, Integer> termMasks) {
+        if (text == null) {
+            return;
+        }
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens);
+        for (String token : tokens) {
+            Integer mask = termMasks.get(token);
+            termMasks.put(token, mask == null ? field : mask | field);
+        }
+    }
+
+    private int termIdFor(String term) {
+        Integer termId = termIds.get(term);
+        if (termId != null) {
+            return termId;
+        }
+        int newId = terms.size();
+        termIds.put(term, newId);
+        terms.add(term);
+        postings.add(new IntList(2));
+        if (term.length() >= MIN_FUZZY_LENGTH - 1) {
+            for (String trigram : trigrams(term)) {
+                IntList termList = trigramIndex.get(trigram);
+                if (termList == null) {
+                    termList = new IntList(2);
+                    trigramIndex.put(trigram, termList);
+                }
+                if (termList.isEmpty() || termList.last() != newId) {
+                    termList.add(newId);
+                }
+            }
+        }
+        return newId;
+    }
+
+    private static boolean sameIndexedContent(Restaurant a, Restaurant b) {
+        return a != null
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getCity(), b.getCity())
+                && a.hasSameDescription(b);
+    }
+
+    // ---------------------------------------------------------------- query
+
+    private void matchToken(String token, float[] tokenScores) {
+        // Exact
+        Integer exact = termIds.get(token);
+        if (exact != null) {
+            score(exact, QUALITY_EXACT, tokenScores);
+        }
+
+        // Prefix (dibatasi supaya prefix pendek tidak menyentuh seluruh index)
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            NavigableMap<String, Integer> range =
+                    termIds.subMap(token, false, token + Character.MAX_VALUE, false);
+            int expansions = 0;
+            for (Integer termId : range.values()) {
+                score(termId, QUALITY_PREFIX, tokenScores);
+                if (++expansions == MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+            }
+        }
+
+        // Fuzzy (typo): kandidat dari trigram, diverifikasi dengan edit distance
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            int maxEdits = token.length() >= 8 ? 2 : 1;
+            float quality = maxEdits == 1 ? QUALITY_FUZZY_1 : QUALITY_FUZZY_2;
+            matchFuzzy(token, maxEdits, quality, tokenScores);
+        }
+    }
+
+    private void matchFuzzy(String token, int maxEdits, float quality, float[] tokenScores) {
+        if (trigramCounts.length < terms.size()) {
+            trigramCounts = new int[terms.size() + (terms.size() >> 1)];
+        }
+        List<String> queryTrigrams = trigrams(token);
+        for (String trigram : queryTrigrams) {
+            IntList termList = trigramIndex.get(trigram);
+            if (termList == null) {
+                continue;
+            }
+            for (int i = 0; i < termList.size(); i++) {
+                int termId = termList.get(i);
+                if (trigramCounts[termId]++ == 0) {
+                    touchedTerms.add(termId);
+                }
+            }
+        }
+
+        // q-gram lemma: setiap edit merusak paling banyak 3 trigram
+        int minShared = Math.max(1, queryTrigrams.size() - 3 * maxEdits);
+        for (int i = 0; i < touchedTerms.size(); i++) {
+            int termId = touchedTerms.get(i);
+            if (trigramCounts[termId] >= minShared
+                    && withinEditDistance(token, terms.get(termId), maxEdits)) {
+                score(termId, quality, tokenScores);
+            }
+            trigramCounts[termId] = 0;
+        }
+        touchedTerms.clear();
+    }
+
+    private void score(int termId, float quality, float[] tokenScores) {
+        IntList posting = postings.get(termId);
+        for (int i = 0; i < posting.size(); i++) {
+            int entry = posting.get(i);
+            int doc = entry >>> FIELD_BITS;
+            float score = quality * fieldWeight(entry & FIELD_MASK);
+            if (score > tokenScores[doc]) {
+                tokenScores[doc] = score;
+            }
+        }
+    }
+
+    private static float fieldWeight(int mask) {
+        if ((mask & FIELD_NAME) != 0) {
+            return 3f;
+        }
+        if ((mask & FIELD_CITY) != 0) {
+            return 2f;
+        }
+        return 1f;
+    }
+
+    /**
+     * Top-N dengan min-heap berukuran limit: O(hits × log limit), tanpa sort seluruh hasil.
+     */
+    private List<Restaurant> topResults(IntList hits, float[] scores, int limit) {
+        Comparator<Integer> ranking = (a, b) -> {
+            int byScore = Float.compare(scores[a], scores[b]);
+            if (byScore != 0) {
+                return byScore;
+            }
+            return Double.compare(docs.get(a).getRating(), docs.get(b).getRating());
+        };
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, limit), ranking);
+        for (int i = 0; i < hits.size() && limit > 0; i++) {
+            int doc = hits.get(i);
+            if (top.size() < limit) {
+                top.add(doc);
+            } else if (ranking.compare(doc, top.peek()) > 0) {
+                top.poll();
+                top.add(doc);
+            }
+        }
+
+        Restaurant[] results = new Restaurant[top.size()];
+        for (int i = results.length - 1; i >= 0; i--) {
+            results[i] = docs.get(top.poll());
+        }
+        return Arrays.asList(results);
+    }
+
+    // ---------------------------------------------------------------- text utils
+
+    /**
+     * Lowercase + pecah di karakter selain huruf/angka.
+     */
+    static void tokenize(String text, List<String> out) {
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (token.length() > 0) {
+                out.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            out.add(token.toString());
+        }
+    }
+
+    /**
+     * Trigram dengan penanda awal/akhir: "kafe" → ^ka, kaf, afe, fe$
+     */
+    static List<String> trigrams(String term) {
+        String padded = "^" + term + "$";
+        List<String> result = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    /**
+     * Levenshtein dengan batas: berhenti lebih awal jika semua sel baris > maxEdits.
+     */
+    static boolean withinEditDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.restaurantapps.presentation.image;
+
+import android.content.Context;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.Priority;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.request.FutureTarget;
+import com.example.restaurantapps.data.sync.ThumbnailPrefetcher;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pre-warm disk cache Glide dari background sync (RestaurantSyncWorker).
+ *
+ * downloadOnly() menyimpan byte asli (DiskCacheStrategy.DATA) dengan key = URL.
+ * Request grid untuk URL yang sama menemukan data itu di disk cache dan hanya
+ * perlu decode ke ukuran cell, tanpa network. Bitmap tidak dibuat di sini:
+ * ukuran cell belum diketahui saat worker berjalan.
+ */
+public class GlideThumbnailPrefetcher implements ThumbnailPrefetcher {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final Context context;
+
+    public GlideThumbnailPrefetcher(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    @Override
+    public int prefetch(List<String> urls) {
+        // Bukan main thread → RequestManager level aplikasi, tidak terikat lifecycle Activity
+        RequestManager glide = Glide.with(context);
+        List<FutureTarget<File>> targets = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            targets.add(glide.downloadOnly().load(url).priority(Priority.LOW).submit());
+        }
+        int cached = 0;
+        try {
+            for (FutureTarget<File> target : targets) {
+                try {
+                    target.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    cached++;
+                } catch (ExecutionException | TimeoutException e) {
+                    // Satu gambar gagal tidak menggagalkan sync: grid akan memuatnya sendiri
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (FutureTarget<File> target : targets) {
+                glide.clear(target);
+            }
+        }
+        return cached;
+    }
+}
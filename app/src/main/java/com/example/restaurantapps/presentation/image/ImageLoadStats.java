@@ -0,0 +1,110 @@
+package com.example.restaurantapps.presentation.image;
+
+import com.bumptech.glide.load.DataSource;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistik image loading grid (thread-safe, dipanggil dari listener Glide).
+ *
+ * - Hit ratio  : (memory + disk cache) / semua load yang tampil di cell
+ * - Decode time: rata-rata waktu load dari disk cache = baca disk + decode bitmap
+ *                (network tidak ikut, jadi mendekati biaya decode murni)
+ * - Preload    : jumlah gambar yang di-prefetch sebelum cell-nya terlihat
+ * - Outstanding: request cell yang sedang berjalan (gauge, tidak di-reset).
+ *                Setelah Activity destroy harus kembali ke 0 (tidak ada request yatim)
+ *
+ * Dilaporkan ke Logcat (tag ImageLoadStats) saat MainActivity onStop dan oleh GridJankTest.
+ */
+public final class ImageLoadStats {
+
+    private static final ImageLoadStats INSTANCE = new ImageLoadStats();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong remoteLoads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong preloads = new AtomicLong();
+    private final AtomicLong diskNanos = new AtomicLong();
+    private final AtomicLong remoteNanos = new AtomicLong();
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    public static ImageLoadStats getInstance() {
+        return INSTANCE;
+    }
+
+    void recordLoad(DataSource dataSource, long elapsedNanos, boolean preload) {
+        if (preload) {
+            preloads.incrementAndGet();
+            return;
+        }
+        switch (dataSource) {
+            case MEMORY_CACHE:
+                memoryHits.incrementAndGet();
+                break;
+            case RESOURCE_DISK_CACHE:
+            case DATA_DISK_CACHE:
+            case LOCAL:
+                diskHits.incrementAndGet();
+                diskNanos.addAndGet(elapsedNanos);
+                break;
+            default:
+                remoteLoads.incrementAndGet();
+                remoteNanos.addAndGet(elapsedNanos);
+                break;
+        }
+    }
+
+    void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    void requestStarted() {
+        outstanding.incrementAndGet();
+    }
+
+    void requestFinished() {
+        outstanding.decrementAndGet();
+    }
+
+    public int getOutstandingRequests() {
+        return outstanding.get();
+    }
+
+    public double getHitRatio() {
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + remoteLoads.get();
+        return total == 0 ? 0 : hits / (double) total;
+    }
+
+    public double getAverageDiskDecodeMillis() {
+        long count = diskHits.get();
+        return count == 0 ? 0 : diskNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getAverageRemoteMillis() {
+        long count = remoteLoads.get();
+        return count == 0 ? 0 : remoteNanos.get() / 1_000_000.0 / count;
+    }
+
+    public void reset() {
+        memoryHits.set(0);
+        diskHits.set(0);
+        remoteLoads.set(0);
+        failures.set(0);
+        preloads.set(0);
+        diskNanos.set(0);
+        remoteNanos.set(0);
+    }
+
+    public String summary() {
+        return String.format(Locale.US,
+                "hitRatio=%.1f%% memory=%d disk=%d remote=%d failed=%d preloaded=%d "
+                        + "diskDecodeAvg=%.1fms remoteAvg=%.1fms outstanding=%d",
+                getHitRatio() * 100, memoryHits.get(), diskHits.get(), remoteLoads.get(),
+                failures.get(), preloads.get(), getAverageDiskDecodeMillis(), getAverageRemoteMillis(),
+                outstanding.get());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.restaurantapps.presentation.image;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.GlideBuilder;
+import com.bumptech.glide.Registry;
+import com.bumptech.glide.annotation.Excludes;
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.integration.okhttp3.OkHttpLibraryGlideModule;
+import com.bumptech.glide.integration.okhttp3.OkHttpUrlLoader;
+import com.bumptech.glide.load.DecodeFormat;
+import com.bumptech.glide.load.engine.bitmap_recycle.LruBitmapPool;
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory;
+import com.bumptech.glide.load.engine.cache.LruResourceCache;
+import com.bumptech.glide.load.model.GlideUrl;
+import com.bumptech.glide.module.AppGlideModule;
+import com.bumptech.glide.request.RequestOptions;
+import com.example.restaurantapps.BuildConfig;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.domain.image.ImageCacheBudget;
+
+import java.io.InputStream;
+
+/**
+ * Konfigurasi Glide untuk seluruh app (di-generate annotation processor Glide).
+ *
+ * Budget memory cache, bitmap pool (dipakai bersama semua request) dan disk cache
+ * dihitung dari memory class device (lihat ImageCacheBudget).
+ * Device low-RAM memakai RGB_565 (2 byte/pixel, setengah dari ARGB_8888).
+ *
+ * Network gambar lewat OkHttp client bersama (RetrofitClient.getSharedHttpClient()),
+ * bukan HttpURLConnection: satu connection pool dengan API (dispatcher terpisah), jadi koneksi
+ * hasil preconnect dan koneksi request list langsung dipakai untuk gambar.
+ * OkHttpLibraryGlideModule di-exclude supaya tidak membuat client OkHttp kedua.
+ */
+@GlideModule
+@Excludes(OkHttpLibraryGlideModule.class)
+public class RestaurantGlideModule extends AppGlideModule {
+
+    private static final String TAG = "RestaurantGlideModule";
+    private static final String DISK_CACHE_DIR = "restaurant_images";
+
+    @Override
+    public void applyOptions(@NonNull Context context, @NonNull GlideBuilder builder) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean lowRam = activityManager.isLowRamDevice();
+        ImageCacheBudget budget = ImageCacheBudget.forMemoryClass(activityManager.getMemoryClass(), lowRam);
+
+        builder.setMemoryCache(new LruResourceCache(budget.getMemoryCacheBytes()));
+        builder.setBitmapPool(new LruBitmapPool(budget.getBitmapPoolBytes()));
+        builder.setDiskCache(new InternalCacheDiskCacheFactory(context, DISK_CACHE_DIR, budget.getDiskCacheBytes()));
+        builder.setDefaultRequestOptions(new RequestOptions()
+                .format(lowRam ? DecodeFormat.PREFER_RGB_565 : DecodeFormat.PREFER_ARGB_8888));
+
+        if (BuildConfig.DEBUG) {
+            Log.i(TAG, "memoryCache=" + budget.getMemoryCacheBytes() + " bitmapPool=" + budget.getBitmapPoolBytes()
+                    + " diskCache=" + budget.getDiskCacheBytes() + " lowRam=" + lowRam);
+        }
+    }
+
+    @Override
+    public void registerComponents(@NonNull Context context, @NonNull Glide glide, @NonNull Registry registry) {
+        registry.replace(GlideUrl.class, InputStream.class,
+                new OkHttpUrlLoader.Factory(RetrofitClient.getSharedHttpClient()));
+    }
+
+    @Override
+    public boolean isManifestParsingEnabled() {
+        // Tidak memakai GlideModule lama dari manifest: startup lebih cepat
+        return false;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.restaurantapps.presentation.image;
+
+import android.graphics.drawable.Drawable;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.request.RequestListener;
+import com.bumptech.glide.request.target.DrawableImageViewTarget;
+import com.bumptech.glide.request.target.Target;
+import com.bumptech.glide.request.transition.Transition;
+import com.example.restaurantapps.R;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.image.ImageVariant;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.util.function.IntConsumer;
+
+/**
+ * PRESENTATION LAYER: Image loader untuk cell grid
+ *
+ * - Varian URL dipilih dari ukuran cell yang terukur (pixel), bukan hardcode "small"
+ * - override(cell) + centerCrop eksplisit: decode langsung ke ukuran cell, dan
+ *   request bind & prefetch punya cache key yang SAMA (prefetch benar-benar terpakai)
+ * - Varian > SMALL memakai SMALL sebagai thumbnail selama gambar utama dimuat
+ * - clear() untuk cell yang di-recycle: request lama dibatalkan, bitmap kembali ke pool
+ *
+ * Lifecycle: RequestManager berasal dari Glide.with(Activity), bukan Context cell,
+ * sehingga semua request ikut di-pause saat onStop dan di-clear saat onDestroy
+ * (rotate tidak meninggalkan load untuk cell yang sudah hilang). Target juga
+ * clearOnDetach(): cell yang lepas dari window tidak terus men-decode.
+ * Adapter tidak menyimpan Context/Activity sama sekali.
+ *
+ * Juga menjadi PreloadSizeProvider untuk RecyclerViewPreloader (ukuran = ukuran cell).
+ * Dipakai dari main thread saja.
+ */
+public class RestaurantImageLoader implements ListPreloader.PreloadSizeProvider<Restaurant> {
+
+    private final RequestManager requestManager;
+    private final ImageUrlBuilder urlBuilder;
+    private final ImageLoadStats stats;
+
+    // 0 = cell belum pernah di-layout
+    private int cellWidthPx;
+    private int cellHeightPx;
+    private IntConsumer cellWidthListener = widthPx -> { };
+
+    public RestaurantImageLoader(RequestManager requestManager) {
+        this(requestManager, ImageUrlBuilder.getDefault(), ImageLoadStats.getInstance());
+    }
+
+    public RestaurantImageLoader(RequestManager requestManager, ImageUrlBuilder urlBuilder, ImageLoadStats stats) {
+        this.requestManager = requestManager;
+        this.urlBuilder = urlBuilder;
+        this.stats = stats;
+    }
+
+    /**
+     * Dipanggil saat lebar cell berubah (misal untuk disimpan ke GridCellWidthStore).
+     */
+    public void setCellWidthListener(IntConsumer listener) {
+        cellWidthListener = listener;
+    }
+
+    public boolean isCellMeasured() {
+        return cellWidthPx > 0;
+    }
+
+    /**
+     * Dipanggil saat ImageView cell selesai layout (semua cell grid berukuran sama),
+     * dan sekali sebelum bind pertama dengan ukuran yang dihitung MainActivity
+     * dari lebar RecyclerView.
+     */
+    public void onCellMeasured(int widthPx, int heightPx) {
+        if (widthPx > 0 && heightPx > 0) {
+            boolean widthChanged = widthPx != cellWidthPx;
+            cellWidthPx = widthPx;
+            cellHeightPx = heightPx;
+            if (widthChanged) {
+                cellWidthListener.accept(widthPx);
+            }
+        }
+    }
+
+    public void load(Restaurant restaurant, ImageView target) {
+        request(restaurant, false)
+                .placeholder(R.drawable.ic_launcher_background) // Placeholder saat loading
+                .error(R.drawable.ic_launcher_background) // Error image jika gagal
+                .into(new TrackedImageViewTarget(target, stats))
+                .clearOnDetach();
+    }
+
+    /**
+     * Request untuk RecyclerViewPreloader: URL, ukuran & transformasi sama dengan load().
+     */
+    public RequestBuilder<Drawable> preloadRequest(Restaurant restaurant) {
+        return request(restaurant, true);
+    }
+
+    public void clear(ImageView target) {
+        requestManager.clear(target);
+    }
+
+    @Nullable
+    @Override
+    public int[] getPreloadSize(@NonNull Restaurant item, int adapterPosition, int perItemPosition) {
+        // Ukuran belum diketahui → jangan preload (hasilnya tidak akan cocok dengan cache key bind)
+        return cellWidthPx > 0 ? new int[]{cellWidthPx, cellHeightPx} : null;
+    }
+
+    private RequestBuilder<Drawable> request(Restaurant restaurant, boolean preload) {
+        ImageVariant variant = ImageVariant.forWidth(cellWidthPx);
+        RequestBuilder<Drawable> builder = requestManager
+                .load(urlBuilder.build(restaurant.getPictureId(), variant))
+                .centerCrop()
+                .listener(new TimingListener(stats, System.nanoTime(), preload));
+        if (cellWidthPx > 0) {
+            builder = builder.override(cellWidthPx, cellHeightPx);
+        }
+        if (variant != ImageVariant.SMALL) {
+            builder = builder.thumbnail(requestManager
+                    .load(urlBuilder.build(restaurant.getPictureId(), ImageVariant.SMALL))
+                    .centerCrop());
+        }
+        return builder;
+    }
+
+    /**
+     * ImageView target yang menghitung request berjalan (ImageLoadStats outstanding).
+     * onLoadCleared juga dipanggil saat RequestManager destroy, jadi request milik
+     * Activity lama selalu ikut turun dari hitungan.
+     */
+    private static final class TrackedImageViewTarget extends DrawableImageViewTarget {
+        private final ImageLoadStats stats;
+        private boolean loading;
+
+        TrackedImageViewTarget(ImageView view, ImageLoadStats stats) {
+            super(view);
+            this.stats = stats;
+        }
+
+        @Override
+        public void onLoadStarted(@Nullable Drawable placeholder) {
+            super.onLoadStarted(placeholder);
+            if (!loading) {
+                loading = true;
+                stats.requestStarted();
+            }
+        }
+
+        @Override
+        public void onResourceReady(@NonNull Drawable resource, @Nullable Transition<? super Drawable> transition) {
+            super.onResourceReady(resource, transition);
+            finish();
+        }
+
+        @Override
+        public void onLoadFailed(@Nullable Drawable errorDrawable) {
+            super.onLoadFailed(errorDrawable);
+            finish();
+        }
+
+        @Override
+        public void onLoadCleared(@Nullable Drawable placeholder) {
+            super.onLoadCleared(placeholder);
+            finish();
+        }
+
+        private void finish() {
+            if (loading) {
+                loading = false;
+                stats.requestFinished();
+            }
+        }
+    }
+
+    /**
+     * Catat sumber (memory / disk / network) dan durasi setiap load.
+     */
+    private static final class TimingListener implements RequestListener<Drawable> {
+        private final ImageLoadStats stats;
+        private final long startNanos;
+        private final boolean preload;
+
+        TimingListener(ImageLoadStats stats, long startNanos, boolean preload) {
+            this.stats = stats;
+            this.startNanos = startNanos;
+            this.preload = preload;
+        }
+
+        @Override
+        public boolean onLoadFailed(@Nullable GlideException e, Object model,
+                                    Target<Drawable> target, boolean isFirstResource) {
+            stats.recordFailure();
+            return false;
+        }
+
+        @Override
+        public boolean onResourceReady(Drawable resource, Object model, Target<Drawable> target,
+                                       DataSource dataSource, boolean isFirstResource) {
+            stats.recordLoad(dataSource, System.nanoTime() - startNanos, preload);
+            return false;
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package com.example.restaurantapps.presentation.ui.activity;
 
 import android.os.Bundle;
+import android.util.Log;
 import android.view.View;
-import android.widget.GridView;
 import android.widget.ProgressBar;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.widget.SearchView;
 import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.integration.recyclerview.RecyclerViewPreloader;
+import com.example.restaurantapps.BuildConfig;
 import com.example.restaurantapps.R;
+import com.example.restaurantapps.data.executor.AppExecutors;
+import com.example.restaurantapps.data.remote.metrics.NetworkMetrics;
+import com.example.restaurantapps.data.sync.GridCellWidthStore;
+import com.example.restaurantapps.data.trace.AppTrace;
 import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.presentation.image.ImageLoadStats;
+import com.example.restaurantapps.presentation.image.RestaurantImageLoader;
 import com.example.restaurantapps.presentation.ui.adapter.RestaurantAdapter;
+import com.example.restaurantapps.presentation.viewmodel.RestaurantUiState;
 import com.example.restaurantapps.presentation.viewmodel.RestaurantViewModel;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -36,43 +52,237 @@ import java.util.List;
  */
 public class MainActivity extends AppCompatActivity {
     
-    private GridView gridViewRestaurant;
+    private static final int GRID_SPAN_COUNT = 2;
+    // Jumlah baris di luar layar yang gambarnya di-prefetch saat scroll
+    private static final int PREFETCH_ROWS = 3;
+    private static final String NETWORK_METRICS_FILE = "network_metrics.hgrm";
+
+    private RecyclerView recyclerViewRestaurant;
+    private SearchView searchViewRestaurant;
     private ProgressBar progressBar;
     private RestaurantAdapter adapter;
+    private RestaurantImageLoader imageLoader;
     private RestaurantViewModel viewModel;
+    private boolean fullyDrawnReported;
+    // Bagian state yang sudah dirender: state baru yang hanya mengubah loading
+    // tidak men-submit list atau menampilkan Toast yang sama lagi
+    private List<Restaurant> renderedItems;
+    private String shownError;
+    // submitList menunggu layout pertama RecyclerView (ukuran cell belum bisa dihitung)
+    private boolean waitingForGridLayout;
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_main);
-        
+        // Trace section: inflate, ViewModel (init repository & Retrofit) dan request pertama
+        AppTrace.begin("MainActivity.onCreate");
+        try {
+            super.onCreate(savedInstanceState);
+            setContentView(R.layout.activity_main);
+            setUpScreen();
+        } finally {
+            AppTrace.end();
+        }
+    }
+
+    private void setUpScreen() {
         // Step 1: Initialize UI components
         initializeViews();
         
-        // Step 2: Create adapter (empty list first)
-        adapter = new RestaurantAdapter(this, new ArrayList<>());
-        gridViewRestaurant.setAdapter(adapter);
+        // Step 2: Create adapter (list kosong sampai submitList pertama)
+        RequestManager glide = Glide.with(this);
+        imageLoader = new RestaurantImageLoader(glide);
+        // Background sync mem-prefetch varian gambar untuk lebar cell ini
+        imageLoader.setCellWidthListener(widthPx -> AppExecutors.getInstance().diskIO()
+                .execute(() -> GridCellWidthStore.save(getApplicationContext(), widthPx)));
+        adapter = new RestaurantAdapter(imageLoader, this::openDetail);
+        GridLayoutManager layoutManager = new GridLayoutManager(this, GRID_SPAN_COUNT);
+        recyclerViewRestaurant.setLayoutManager(layoutManager);
+        recyclerViewRestaurant.setAdapter(adapter);
+        recyclerViewRestaurant.addOnScrollListener(new RecyclerViewPreloader<>(
+                glide, adapter, imageLoader, PREFETCH_ROWS * GRID_SPAN_COUNT));
         
         // Step 3: Get ViewModel instance
         viewModel = new ViewModelProvider(this).get(RestaurantViewModel.class);
         
         // Step 4: Observe LiveData dari ViewModel
         observeViewModel();
+
+        // Paging: beri tahu ViewModel posisi terakhir yang terlihat saat scroll
+        recyclerViewRestaurant.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                viewModel.onGridScrolled(layoutManager.findLastVisibleItemPosition());
+            }
+
+            @Override
+            public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+                if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                    prefetchVisibleDetails(layoutManager);
+                }
+            }
+        });
+
+        // Search: setiap perubahan teks diteruskan ke ViewModel (debounce di sana)
+        searchViewRestaurant.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
+            @Override
+            public boolean onQueryTextSubmit(String query) {
+                viewModel.search(query);
+                return true;
+            }
+
+            @Override
+            public boolean onQueryTextChange(String newText) {
+                viewModel.search(newText);
+                return true;
+            }
+        });
         
         // Step 5: Load data
         viewModel.loadRestaurants();
     }
     
+    @Override
+    protected void onStop() {
+        super.onStop();
+        if (BuildConfig.DEBUG) {
+            // Laporan hit ratio & decode time image cache (release: tanpa log & tanpa format string)
+            Log.i("ImageLoadStats", ImageLoadStats.getInstance().summary());
+            // Latency network per fase (p50/p90/p99)
+            Log.i("NetworkMetrics", NetworkMetrics.getInstance().summary());
+            dumpNetworkMetrics();
+        }
+    }
+
+    /**
+     * Debug build: tulis histogram lengkap ke files/network_metrics.hgrm
+     * (adb shell run-as com.example.restaurantapps cat files/network_metrics.hgrm)
+     */
+    private void dumpNetworkMetrics() {
+        File file = new File(getFilesDir(), NETWORK_METRICS_FILE);
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            try {
+                NetworkMetrics.getInstance().dump(file);
+            } catch (IOException e) {
+                Log.w("NetworkMetrics", "Gagal menulis " + file, e);
+            }
+        });
+    }
+
     /**
      * Initialize semua UI components
      */
     private void initializeViews() {
-        gridViewRestaurant = findViewById(R.id.gridViewRestaurant);
+        recyclerViewRestaurant = findViewById(R.id.recyclerViewRestaurant);
         progressBar = findViewById(R.id.progressBar);
+        searchViewRestaurant = findViewById(R.id.searchViewRestaurant);
     }
     
     /**
-     * Observe ViewModel's LiveData
+     * Satu render per state: grid, progress bar dan error.
+     * state.getItems() sudah dipilih ViewModel (hasil search > hasil filter/sort > list penuh).
+     */
+    private void render(RestaurantUiState state) {
+        List<Restaurant> restaurants = state.getItems();
+        if (restaurants != renderedItems) {
+            renderedItems = restaurants;
+            submitWhenCellSized();
+        }
+
+        progressBar.setVisibility(state.isLoading() ? View.VISIBLE : View.GONE);
+
+        String error = state.getErrorMessage();
+        if (error != null && !error.isEmpty() && !error.equals(shownError)) {
+            // Tampilkan error ke user
+            Toast.makeText(this, error, Toast.LENGTH_SHORT).show();
+        }
+        shownError = error;
+    }
+
+    /**
+     * Ukuran cell dihitung dari lebar RecyclerView SEBELUM submitList pertama, jadi
+     * bind pertama sudah memakai varian & override() yang benar (bukan forWidth(0)
+     * = SMALL yang di-upscale). RecyclerView belum di-layout → submit ditunda sampai
+     * layout pertamanya; layar memang belum bisa menggambar apa pun sebelum itu.
+     */
+    private void submitWhenCellSized() {
+        if (imageLoader.isCellMeasured()) {
+            submit(renderedItems);
+            return;
+        }
+        if (recyclerViewRestaurant.getWidth() > 0) {
+            measureCell();
+            submit(renderedItems);
+            return;
+        }
+        if (waitingForGridLayout) {
+            return; // Listener yang sudah terpasang men-submit state terbaru
+        }
+        waitingForGridLayout = true;
+        recyclerViewRestaurant.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View view, int left, int top, int right, int bottom,
+                                       int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                view.removeOnLayoutChangeListener(this);
+                waitingForGridLayout = false;
+                measureCell();
+                submit(renderedItems);
+            }
+        });
+    }
+
+    /**
+     * Lebar gambar cell = (lebar RecyclerView - padding) / jumlah kolom - margin card.
+     * Nilai pasti dari layout cell (RestaurantAdapter) menimpanya setelah bind pertama.
+     */
+    private void measureCell() {
+        int contentWidth = recyclerViewRestaurant.getWidth()
+                - recyclerViewRestaurant.getPaddingLeft() - recyclerViewRestaurant.getPaddingRight();
+        int margin = getResources().getDimensionPixelSize(R.dimen.grid_item_margin);
+        imageLoader.onCellMeasured(contentWidth / GRID_SPAN_COUNT - 2 * margin,
+                getResources().getDimensionPixelSize(R.dimen.grid_item_image_height));
+    }
+
+    private void submit(List<Restaurant> restaurants) {
+        // DiffUtil di background thread, hanya cell yang berubah di-bind ulang
+        adapter.submitList(restaurants, () -> recyclerViewRestaurant.post(() -> {
+            prefetchVisibleDetails((GridLayoutManager) recyclerViewRestaurant.getLayoutManager());
+            if (!restaurants.isEmpty()) {
+                // Grid sudah berisi data (cache atau network) → akhir startup (TTFD)
+                reportFullyDrawnOnce();
+            }
+        }));
+    }
+
+    /**
+     * Time To Full Display untuk macrobenchmark StartupTimingMetric dan
+     * "Displayed ... (fully drawn)" di Logcat. Hanya laporan pertama yang dihitung sistem.
+     */
+    private void reportFullyDrawnOnce() {
+        if (!fullyDrawnReported) {
+            fullyDrawnReported = true;
+            reportFullyDrawn();
+        }
+    }
+
+    /**
+     * Item yang sedang terlihat → ViewModel memilih detail yang di-prefetch.
+     */
+    private void prefetchVisibleDetails(GridLayoutManager layoutManager) {
+        int first = layoutManager.findFirstVisibleItemPosition();
+        int last = layoutManager.findLastVisibleItemPosition();
+        List<Restaurant> items = adapter.getCurrentList();
+        if (first == RecyclerView.NO_POSITION || last >= items.size()) {
+            return;
+        }
+        viewModel.onVisibleItemsSettled(items.subList(first, last + 1));
+    }
+
+    private void openDetail(Restaurant restaurant) {
+        startActivity(RestaurantDetailActivity.newIntent(this, restaurant.getId()));
+    }
+
+    /**
+     * Observe ViewModel's UI state
      * 
      * "Observer pattern": Saat LiveData value berubah, observer callback dipanggil.
      * 
@@ -82,30 +292,6 @@ public class MainActivity extends AppCompatActivity {
      *    Observer lebih efficient.
      */
     private void observeViewModel() {
-        // Observe restaurant list
-        viewModel.getRestaurantList().observe(this, restaurants -> {
-            if (restaurants != null && !restaurants.isEmpty()) {
-                // Update adapter dengan data baru
-                adapter.clear();
-                adapter.addAll(restaurants);
-                adapter.notifyDataSetChanged();
-            }
-        });
-        
-        // Observe error message
-        viewModel.getErrorMessage().observe(this, error -> {
-            if (error != null && !error.isEmpty()) {
-                // Tampilkan error ke user
-                Toast.makeText(this, error, Toast.LENGTH_SHORT).show();
-            }
-        });
-        
-        // Observe loading state
-        viewModel.getIsLoading().observe(this, isLoading -> {
-            if (isLoading != null) {
-                // Show/hide progress bar
-                progressBar.setVisibility(isLoading ? View.VISIBLE : View.GONE);
-            }
-        });
+        viewModel.getUiStateLiveData().observe(this, this::render);
     }
 }
@@ -0,0 +1,116 @@
+package com.example.restaurantapps.presentation.ui.activity;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.ProgressBar;
+import android.widget.RatingBar;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+
+import com.bumptech.glide.Glide;
+import com.example.restaurantapps.R;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.image.ImageVariant;
+import com.example.restaurantapps.domain.model.CustomerReview;
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+import com.example.restaurantapps.presentation.viewmodel.RestaurantDetailViewModel;
+
+/**
+ * PRESENTATION LAYER: Layar detail restaurant
+ *
+ * Hanya menerima id lewat Intent (bukan object Restaurant): detail lengkap
+ * diambil RestaurantDetailViewModel, biasanya sudah ada di LRU cache karena
+ * di-prefetch dari grid.
+ */
+public class RestaurantDetailActivity extends AppCompatActivity {
+
+    private static final String EXTRA_RESTAURANT_ID = "restaurant_id";
+
+    private ImageView imageView;
+    private TextView nameTextView;
+    private TextView cityTextView;
+    private TextView addressTextView;
+    private RatingBar ratingBar;
+    private TextView categoriesTextView;
+    private TextView descriptionTextView;
+    private TextView menusTextView;
+    private TextView reviewsTextView;
+    private ProgressBar progressBar;
+
+    public static Intent newIntent(Context context, String restaurantId) {
+        return new Intent(context, RestaurantDetailActivity.class)
+                .putExtra(EXTRA_RESTAURANT_ID, restaurantId);
+    }
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_restaurant_detail);
+        initializeViews();
+
+        RestaurantDetailViewModel viewModel = new ViewModelProvider(this).get(RestaurantDetailViewModel.class);
+        viewModel.getDetail().observe(this, detail -> {
+            if (detail != null) {
+                render(detail);
+            }
+        });
+        viewModel.getIsLoading().observe(this, isLoading ->
+                progressBar.setVisibility(Boolean.TRUE.equals(isLoading) ? View.VISIBLE : View.GONE));
+        viewModel.getErrorMessage().observe(this, error -> {
+            if (error != null && !error.isEmpty()) {
+                Toast.makeText(this, error, Toast.LENGTH_SHORT).show();
+            }
+        });
+
+        viewModel.load(getIntent().getStringExtra(EXTRA_RESTAURANT_ID));
+    }
+
+    private void initializeViews() {
+        imageView = findViewById(R.id.imageViewDetail);
+        nameTextView = findViewById(R.id.textViewDetailName);
+        cityTextView = findViewById(R.id.textViewDetailCity);
+        addressTextView = findViewById(R.id.textViewDetailAddress);
+        ratingBar = findViewById(R.id.ratingBarDetail);
+        categoriesTextView = findViewById(R.id.textViewDetailCategories);
+        descriptionTextView = findViewById(R.id.textViewDetailDescription);
+        menusTextView = findViewById(R.id.textViewDetailMenus);
+        reviewsTextView = findViewById(R.id.textViewDetailReviews);
+        progressBar = findViewById(R.id.progressBarDetail);
+    }
+
+    private void render(RestaurantDetail detail) {
+        setTitle(detail.getName());
+        nameTextView.setText(detail.getName());
+        cityTextView.setText(detail.getCity());
+        addressTextView.setText(detail.getAddress());
+        ratingBar.setRating(detail.getRating());
+        categoriesTextView.setText(TextUtils.join(", ", detail.getCategories()));
+        descriptionTextView.setText(detail.getDescription());
+        menusTextView.setText(getString(R.string.detail_menus,
+                TextUtils.join(", ", detail.getFoods()), TextUtils.join(", ", detail.getDrinks())));
+
+        StringBuilder reviews = new StringBuilder();
+        for (CustomerReview review : detail.getReviews()) {
+            if (reviews.length() > 0) {
+                reviews.append("\n\n");
+            }
+            reviews.append(review.getName()).append(" · ").append(review.getDate())
+                    .append('\n').append(review.getReview());
+        }
+        reviewsTextView.setText(reviews);
+
+        // Layar penuh: varian large (grid memakai varian sesuai ukuran cell)
+        Glide.with(this)
+                .load(ImageUrlBuilder.getDefault().build(detail.getPictureId(), ImageVariant.LARGE))
+                .placeholder(R.drawable.ic_launcher_background)
+                .error(R.drawable.ic_launcher_background)
+                .into(imageView);
+    }
+}
@@ -1,136 +1,204 @@
 package com.example.restaurantapps.presentation.ui.adapter;
 
-import android.content.Context;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.BaseAdapter;
 import android.widget.ImageView;
 import android.widget.RatingBar;
 import android.widget.TextView;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.cardview.widget.CardView;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
 import com.example.restaurantapps.R;
+import com.example.restaurantapps.data.trace.AppTrace;
 import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.presentation.image.RestaurantImageLoader;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * PRESENTATION LAYER: RestaurantAdapter
  * 
- * Adapter adalah "bridge" antara data dan UI components di GridView.
+ * Adapter adalah "bridge" antara data dan UI components di RecyclerView grid.
  * Adapter menentukan: bagaimana data ditampilkan di setiap cell.
+ *
+ * ListAdapter + DiffUtil:
+ * - submitList() menghitung perbedaan list lama vs baru di BACKGROUND thread
+ * - Hanya cell yang berubah yang di-bind ulang (dan load image ulang)
+ * - Stable ID dari Restaurant.getId() (hash 64-bit), bukan posisi
  * 
- * ViewHolder pattern:
- * - Menghindari findViewById() berulang kali
- * - Lebih efficient (caching references)
- * 
- * Interview Q: "Kenapa perlu ViewHolder pattern?"
- * A: GridView menggunakan cell recycling (reuse cell saat scroll).
- *    ViewHolder menyimpan references supaya tidak perlu findViewById lagi.
- *    Tanpa ViewHolder, setiap bind cell= findViewById berulang kali = lag.
+ * Interview Q: "Kenapa tidak notifyDataSetChanged()?"
+ * A: notifyDataSetChanged() = semua cell visible di-bind ulang + animasi hilang.
+ *    DiffUtil hanya mengirim notifyItemInserted/Removed/Changed yang perlu.
+ *
+ * Image: lewat RestaurantImageLoader (varian sesuai ukuran cell). Adapter juga
+ * PreloadModelProvider untuk RecyclerViewPreloader (prefetch baris berikutnya).
  */
-public class RestaurantAdapter extends BaseAdapter {
-    
-    private Context context;
-    private List<Restaurant> restaurants;
-    
-    public RestaurantAdapter(Context context, List<Restaurant> restaurants) {
-        this.context = context;
-        this.restaurants = restaurants;
+public class RestaurantAdapter extends ListAdapter<Restaurant, RestaurantAdapter.ViewHolder>
+        implements ListPreloader.PreloadModelProvider<Restaurant> {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final RestaurantImageLoader imageLoader;
+    private final OnRestaurantClickListener clickListener;
+
+    /**
+     * Tap cell → buka detail.
+     */
+    public interface OnRestaurantClickListener {
+        void onRestaurantClick(Restaurant restaurant);
     }
     
-    @Override
-    public int getCount() {
-        return restaurants != null ? restaurants.size() : 0;
+    public RestaurantAdapter(RestaurantImageLoader imageLoader, OnRestaurantClickListener clickListener) {
+        super(DIFF_CALLBACK);
+        this.imageLoader = imageLoader;
+        this.clickListener = clickListener;
+        setHasStableIds(true);
     }
     
     @Override
-    public Object getItem(int position) {
-        return restaurants.get(position);
+    public long getItemId(int position) {
+        String id = getItem(position).getId();
+        return id != null ? stableId(id) : RecyclerView.NO_ID;
     }
-    
+
+    /**
+     * String id → long id stabil (RecyclerView butuh long), dihitung langsung dari id
+     * dengan FNV-1a 64-bit: tanpa map yang terus tumbuh selama search/filter/paging.
+     * Tabrakan di 64 bit praktis tidak terjadi untuk ukuran katalog ini.
+     */
+    static long stableId(String id) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // NO_ID (-1) dicadangkan RecyclerView
+        return hash == RecyclerView.NO_ID ? 0L : hash;
+    }
+
+    @NonNull
     @Override
-    public long getItemId(int position) {
-        return position;
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        // Inflate layout hanya saat RecyclerView butuh ViewHolder baru (bukan setiap bind)
+        View itemView = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.grid_item_restaurant, parent, false);
+        ViewHolder holder = new ViewHolder(itemView);
+        // Ukuran cell terukur → dasar pemilihan varian gambar & ukuran prefetch
+        holder.imageView.addOnLayoutChangeListener((view, left, top, right, bottom,
+                                                    oldLeft, oldTop, oldRight, oldBottom) ->
+                imageLoader.onCellMeasured(right - left, bottom - top));
+        // Listener dipasang sekali per ViewHolder, posisi dibaca saat klik
+        itemView.setOnClickListener(view -> {
+            int position = holder.getBindingAdapterPosition();
+            if (position != RecyclerView.NO_POSITION) {
+                clickListener.onRestaurantClick(getItem(position));
+            }
+        });
+        return holder;
     }
     
     /**
-     * Ini method PENTING - dipanggil untuk setiap cell di GridView
+     * Dipanggil untuk cell yang baru muncul / di-recycle / berubah isinya.
      * 
-     * Interview Q: "Berapa kali getView() dipanggil saat scroll?"
-     * A: Hanya untuk cell yang VISIBLE. Jika 10 cell visible, getView() dipanggil 10x.
-     *    Saat scroll, getView() dipanggil lagi untuk cell yang di-recycle.
-     *    Tanpa ViewHolder, setiap getView() = 5 findViewById() = lag.
+     * Interview Q: "Berapa kali onBindViewHolder() dipanggil saat refresh?"
+     * A: Dengan DiffUtil: hanya untuk item yang berubah.
+     *    Dengan notifyDataSetChanged(): untuk SEMUA cell visible.
      */
     @Override
-    public View getView(int position, View convertView, ViewGroup parent) {
-        ViewHolder holder;
-        
-        if (convertView == null) {
-            // Step 1: Inflate layout untuk first time
-            LayoutInflater inflater = LayoutInflater.from(context);
-            convertView = inflater.inflate(R.layout.grid_item_restaurant, parent, false);
-            
-            // Step 2: Create ViewHolder (cache references)
-            holder = new ViewHolder();
-            holder.imageView = convertView.findViewById(R.id.imageViewRestaurant);
-            holder.nameTextView = convertView.findViewById(R.id.textViewName);
-            holder.cityTextView = convertView.findViewById(R.id.textViewCity);
-            holder.ratingBar = convertView.findViewById(R.id.ratingBarRestaurant);
-            holder.cardView = convertView.findViewById(R.id.cardViewRestaurant);
-            
-            // Step 3: Attach holder ke view (untuk reuse nanti)
-            convertView.setTag(holder);
-        } else {
-            // Step 1: Reuse existing ViewHolder
-            holder = (ViewHolder) convertView.getTag();
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        AppTrace.begin("RestaurantAdapter.onBind");
+        try {
+            // Step 1: Get data dari list
+            Restaurant restaurant = getItem(position);
+
+            // Step 2: Bind data ke UI components
+            holder.nameTextView.setText(restaurant.getName());
+            holder.cityTextView.setText(restaurant.getCity());
+            holder.ratingBar.setRating(restaurant.getRating());
+
+            // Step 3: Load image (varian sesuai ukuran cell)
+            imageLoader.load(restaurant, holder.imageView);
+        } finally {
+            AppTrace.end();
         }
-        
-        // Step 2: Get data dari list
-        Restaurant restaurant = restaurants.get(position);
-        
-        // Step 3: Bind data ke UI components
-        holder.nameTextView.setText(restaurant.getName());
-        holder.cityTextView.setText(restaurant.getCity());
-        holder.ratingBar.setRating((float) restaurant.getRating());
-        
-        // Step 4: Load image dengan Glide
-        String imageUrl = "https://restaurant-api.dicoding.dev/images/small/" + restaurant.getPictureId();
-        Glide.with(context)
-                .load(imageUrl)
-                .placeholder(R.drawable.ic_launcher_background) // Placeholder saat loading
-                .error(R.drawable.ic_launcher_background) // Error image jika gagal
-                .into(holder.imageView);
-        
-        return convertView;
     }
-    
+
     /**
-     * Helper method untuk update adapter data
+     * Cell keluar layar & masuk recycle pool: batalkan request yang belum selesai
+     * dan kembalikan bitmap ke pool, supaya tidak ada decode untuk cell yang tidak terlihat.
      */
-    public void clear() {
-        restaurants.clear();
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        super.onViewRecycled(holder);
+        imageLoader.clear(holder.imageView);
     }
-    
-    public void addAll(List<Restaurant> newRestaurants) {
-        restaurants.addAll(newRestaurants);
+
+    @NonNull
+    @Override
+    public List<Restaurant> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(getItem(position));
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Restaurant item) {
+        return imageLoader.preloadRequest(item);
     }
     
+    /**
+     * Perbandingan item untuk DiffUtil.
+     * areContentsTheSame hanya membandingkan field yang TAMPIL di cell:
+     * perubahan description tidak memicu bind ulang.
+     */
+    static final DiffUtil.ItemCallback<Restaurant> DIFF_CALLBACK = new DiffUtil.ItemCallback<Restaurant>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Restaurant oldItem, @NonNull Restaurant newItem) {
+            return Objects.equals(oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Restaurant oldItem, @NonNull Restaurant newItem) {
+            return Objects.equals(oldItem.getName(), newItem.getName())
+                    && Objects.equals(oldItem.getCity(), newItem.getCity())
+                    && Objects.equals(oldItem.getPictureId(), newItem.getPictureId())
+                    && oldItem.getRating() == newItem.getRating();
+        }
+    };
+    
     /**
      * ViewHolder pattern: cache references supaya efficient
      * 
-     * Jangan declare variable di getView() → jangan di-recycle saat convert != null
-     * Declare di ViewHolder static class → reuse across cell recycles
+     * RecyclerView mewajibkan ViewHolder: findViewById hanya sekali per cell,
+     * lalu holder di-reuse saat cell di-recycle.
      */
-    private static class ViewHolder {
-        ImageView imageView;
-        TextView nameTextView;
-        TextView cityTextView;
-        RatingBar ratingBar;
-        CardView cardView;
+    static class ViewHolder extends RecyclerView.ViewHolder {
+        final ImageView imageView;
+        final TextView nameTextView;
+        final TextView cityTextView;
+        final RatingBar ratingBar;
+        final CardView cardView;
+
+        ViewHolder(@NonNull View itemView) {
+            super(itemView);
+            imageView = itemView.findViewById(R.id.imageViewRestaurant);
+            nameTextView = itemView.findViewById(R.id.textViewName);
+            cityTextView = itemView.findViewById(R.id.textViewCity);
+            ratingBar = itemView.findViewById(R.id.ratingBarRestaurant);
+            cardView = itemView.findViewById(R.id.cardViewRestaurant);
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.example.restaurantapps.presentation.viewmodel;
+
+import android.app.Application;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.MutableLiveData;
+
+import com.example.restaurantapps.data.repository.RestaurantRepositoryProvider;
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantDetailRepository;
+
+/**
+ * PRESENTATION LAYER: ViewModel layar detail
+ *
+ * Mengambil detail 1 restaurant lewat RestaurantDetailRepository.
+ * Jika detail sudah di-prefetch dari grid, hasil datang dari LRU cache
+ * tanpa loading state yang terlihat.
+ *
+ * Rotate: ViewModel tetap hidup, load() dengan id yang sama tidak request ulang.
+ */
+public class RestaurantDetailViewModel extends AndroidViewModel {
+
+    private final MutableLiveData<RestaurantDetail> detail = new MutableLiveData<>();
+    private final MutableLiveData<String> errorMessage = new MutableLiveData<>();
+    private final MutableLiveData<Boolean> isLoading = new MutableLiveData<>();
+
+    private final RestaurantDetailRepository repository;
+    private String restaurantId;
+    private Cancellable inFlight = Cancellable.NONE;
+
+    public RestaurantDetailViewModel(@NonNull Application application) {
+        super(application);
+        repository = RestaurantRepositoryProvider.getDetailRepository(application);
+    }
+
+    public MutableLiveData<RestaurantDetail> getDetail() {
+        return detail;
+    }
+
+    public MutableLiveData<String> getErrorMessage() {
+        return errorMessage;
+    }
+
+    public MutableLiveData<Boolean> getIsLoading() {
+        return isLoading;
+    }
+
+    @MainThread
+    public void load(String id) {
+        if (id == null || (id.equals(restaurantId) && detail.getValue() != null)) {
+            return;
+        }
+        restaurantId = id;
+        inFlight.cancel();
+        isLoading.setValue(true);
+        errorMessage.setValue(null);
+
+        // Callback dari background thread (atau langsung di sini saat cache hit) → postValue
+        inFlight = repository.getRestaurantDetail(id, new RestaurantDetailRepository.DetailCallback() {
+            @Override
+            public void onDetail(RestaurantDetail result) {
+                detail.postValue(result);
+                isLoading.postValue(false);
+            }
+
+            @Override
+            public void onError(String error) {
+                errorMessage.postValue(error);
+                isLoading.postValue(false);
+            }
+        });
+    }
+
+    /**
+     * Coba lagi setelah error (restaurantId sama).
+     */
+    @MainThread
+    public void retry() {
+        String id = restaurantId;
+        restaurantId = null;
+        load(id);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        inFlight.cancel();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.restaurantapps.presentation.viewmodel;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.MainThread;
+
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * PRESENTATION LAYER: State paging grid (dipakai RestaurantViewModel)
+ *
+ * - load()    : halaman pertama, TIDAK diulang jika data sudah ada / request sedang
+ *               berjalan (Activity baru setelah rotate memanggil load() lagi)
+ * - refresh() : mulai ulang dari page 0, kedalaman scroll dipulihkan
+ * - onGridScrolled() : halaman berikutnya saat mendekati akhir
+ *
+ * Request generation lama baru di-cancel setelah generation baru menerima hasil
+ * pertamanya. OfflineFirstRestaurantRepository pindah ke disk executor dulu, jadi
+ * request baru belum ikut flight single-flight saat getRestaurantPage() return;
+ * cancel lebih awal membuat flight kehilangan penunggu terakhir dan HTTP call
+ * yang sama dikirim dua kali.
+ *
+ * Callback repository datang dari background thread: state dijaga pagingLock.
+ */
+final class RestaurantPager {
+
+    /** Penerima hasil paging (RestaurantStatePipeline) */
+    interface Listener {
+        void onLoading();
+
+        void onLoaded(List<Restaurant> items);
+
+        void onError(String error);
+    }
+
+    // 20 item per halaman, halaman berikutnya di-load 6 item sebelum akhir
+    static final int PAGE_SIZE = 20;
+    static final int PREFETCH_DISTANCE = 6;
+
+    private final RestaurantRepository repository;
+    private final Listener listener;
+
+    private final Object pagingLock = new Object();
+    private final List<Restaurant> loadedItems = new ArrayList<>();
+    private Integer nextPageKey;
+    private boolean pageInFlight;
+    private int generation;
+    private int restoreCount;
+    // Request generation aktif, dibatalkan saat refresh baru / clear()
+    private final List<Cancellable> inFlightRequests = new ArrayList<>();
+    // Request generation lama, dibatalkan saat generation baru menerima hasil pertama
+    private final List<Cancellable> supersededRequests = new ArrayList<>();
+    private boolean cleared;
+
+    RestaurantPager(RestaurantRepository repository, Listener listener) {
+        this.repository = repository;
+        this.listener = listener;
+    }
+
+    /**
+     * Load pertama. Dipanggil setiap onCreate: setelah rotate ViewModel (dan pager)
+     * masih sama, data yang sudah ada atau request yang sedang berjalan dipakai.
+     */
+    @MainThread
+    void load() {
+        synchronized (pagingLock) {
+            if (pageInFlight || !loadedItems.isEmpty()) {
+                return;
+            }
+        }
+        refresh();
+    }
+
+    @MainThread
+    void refresh() {
+        listener.onLoading();
+
+        int requestGeneration;
+        synchronized (pagingLock) {
+            // Refresh: halaman lama diabaikan, tapi kedalaman scroll dipulihkan
+            generation++;
+            requestGeneration = generation;
+            restoreCount = loadedItems.size();
+            nextPageKey = null;
+            pageInFlight = true;
+            supersededRequests.addAll(inFlightRequests);
+            inFlightRequests.clear();
+        }
+        requestPage(new PageRequest(0, PAGE_SIZE, PREFETCH_DISTANCE), requestGeneration);
+    }
+
+    /**
+     * Jika posisi terakhir yang terlihat sudah masuk prefetch distance,
+     * load halaman berikutnya.
+     */
+    @MainThread
+    void onGridScrolled(int lastVisiblePosition) {
+        PageRequest request;
+        int requestGeneration;
+        synchronized (pagingLock) {
+            if (pageInFlight || nextPageKey == null
+                    || lastVisiblePosition < loadedItems.size() - PREFETCH_DISTANCE) {
+                return;
+            }
+            pageInFlight = true;
+            requestGeneration = generation;
+            request = new PageRequest(nextPageKey, PAGE_SIZE, PREFETCH_DISTANCE);
+        }
+        requestPage(request, requestGeneration);
+    }
+
+    /**
+     * ViewModel cleared: request yang masih berjalan tidak dibutuhkan lagi.
+     * Single-flight repository membatalkan HTTP call jika tidak ada penunggu lain.
+     */
+    void clear() {
+        List<Cancellable> stale;
+        synchronized (pagingLock) {
+            cleared = true;
+            stale = new ArrayList<>(inFlightRequests);
+            stale.addAll(supersededRequests);
+            inFlightRequests.clear();
+            supersededRequests.clear();
+        }
+        cancelAll(stale);
+    }
+
+    @AnyThread
+    private void requestPage(PageRequest request, int requestGeneration) {
+        Cancellable handle = repository.getRestaurantPage(request, new RestaurantRepository.PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                onPageLoaded(page, requestGeneration);
+            }
+
+            @Override
+            public void onError(String error) {
+                List<Cancellable> superseded;
+                synchronized (pagingLock) {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    pageInFlight = false;
+                    superseded = takeSuperseded();
+                }
+                cancelAll(superseded);
+                listener.onError(error);
+            }
+        });
+
+        boolean stale;
+        synchronized (pagingLock) {
+            stale = cleared || requestGeneration != generation;
+            if (!stale) {
+                inFlightRequests.add(handle);
+            }
+        }
+        if (stale) {
+            handle.cancel();
+        }
+    }
+
+    @AnyThread
+    private void onPageLoaded(RestaurantPage page, int requestGeneration) {
+        PageRequest restoreRequest = null;
+        List<Cancellable> superseded;
+        synchronized (pagingLock) {
+            if (requestGeneration != generation) {
+                return; // hasil dari refresh sebelumnya
+            }
+            if (page.getPageKey() == 0) {
+                // Page 0 (juga versi refresh-nya) menggantikan seluruh list
+                restoreCount = Math.max(restoreCount, loadedItems.size());
+                loadedItems.clear();
+            } else if (!Objects.equals(page.getPageKey(), nextPageKey)) {
+                // Halaman duplikat / tidak berurutan, atau halaman telat setelah page 0
+                // dikirim ulang (cache lalu network) dan nextPageKey sudah berubah/null
+                return;
+            }
+            superseded = takeSuperseded();
+            loadedItems.addAll(page.getItems());
+            nextPageKey = page.getNextKey();
+            pageInFlight = false;
+
+            if (nextPageKey != null && loadedItems.size() < restoreCount) {
+                // Pulihkan kedalaman scroll sebelum refresh
+                pageInFlight = true;
+                restoreRequest = new PageRequest(nextPageKey, PAGE_SIZE, PREFETCH_DISTANCE);
+            }
+            // Snapshot (bukan list internal yang masih berubah), dikirim di dalam lock:
+            // halaman yang datang bersamaan tidak bisa menimpa snapshot yang lebih baru
+            listener.onLoaded(new ArrayList<>(loadedItems));
+        }
+        cancelAll(superseded);
+
+        if (restoreRequest != null) {
+            requestPage(restoreRequest, requestGeneration);
+        }
+    }
+
+    /** Dipanggil dengan pagingLock: generation baru sudah ikut flight-nya sendiri */
+    private List<Cancellable> takeSuperseded() {
+        if (supersededRequests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Cancellable> superseded = new ArrayList<>(supersededRequests);
+        supersededRequests.clear();
+        return superseded;
+    }
+
+    private static void cancelAll(List<Cancellable> requests) {
+        for (Cancellable request : requests) {
+            request.cancel();
+        }
+    }
+}
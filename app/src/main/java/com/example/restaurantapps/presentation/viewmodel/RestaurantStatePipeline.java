@@ -0,0 +1,223 @@
+package com.example.restaurantapps.presentation.viewmodel;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.WorkerThread;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.FacetQuery;
+import com.example.restaurantapps.domain.search.FacetResult;
+import com.example.restaurantapps.domain.search.RestaurantFacetEngine;
+import com.example.restaurantapps.domain.search.RestaurantSearchIndex;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import kotlin.coroutines.Continuation;
+import kotlin.jvm.functions.Function1;
+import kotlin.jvm.functions.Function3;
+import kotlinx.coroutines.CoroutineDispatcher;
+import kotlinx.coroutines.CoroutineScope;
+import kotlinx.coroutines.CoroutineScopeKt;
+import kotlinx.coroutines.flow.Flow;
+import kotlinx.coroutines.flow.FlowKt;
+import kotlinx.coroutines.flow.MutableStateFlow;
+import kotlinx.coroutines.flow.SharingStarted;
+import kotlinx.coroutines.flow.StateFlow;
+import kotlinx.coroutines.flow.StateFlowKt;
+
+/**
+ * PRESENTATION LAYER: Pipeline UI state untuk RestaurantViewModel
+ *
+ *   source (halaman, dataset, loading, error) ─┐
+ *                                             ├─ combine → derive() → distinctUntilChanged → stateIn
+ *   filter (query, facet) ─ debounce ────────────┘     (computeDispatcher, bukan main thread)
+ *
+ * - Sumber ditulis dari thread mana saja (callback repository = background thread)
+ *   lewat compareAndSet, tanpa postValue per field
+ * - Search & filter berjalan di dataset (list penuh dari cache, onDataset()), bukan
+ *   hanya halaman yang sudah di-scroll. Sebelum dataset tersedia, halaman yang ada dipakai
+ * - derive() (update index, search, filter/sort) berjalan di computeDispatcher.
+ *   Hasil di-memo: hanya dihitung ulang jika list atau filter berubah, perubahan
+ *   loading/error memakai hasil sebelumnya
+ * - StateFlow conflated: jika main thread sibuk, collector hanya menerima state
+ *   terbaru, bukan setiap langkah di antaranya
+ *
+ * Search index & facet engine tidak thread-safe: computeDispatcher harus
+ * single-thread (ViewModel memakai single-thread executor).
+ */
+final class RestaurantStatePipeline implements RestaurantPager.Listener {
+
+    private final MutableStateFlow<Source> source = StateFlowKt.MutableStateFlow(Source.EMPTY);
+    private final MutableStateFlow<Filter> filter = StateFlowKt.MutableStateFlow(Filter.NONE);
+    private final StateFlow<RestaurantUiState> uiState;
+
+    // Hanya disentuh di computeDispatcher
+    private final RestaurantSearchIndex searchIndex = new RestaurantSearchIndex();
+    private final RestaurantFacetEngine facetEngine = new RestaurantFacetEngine();
+    private List<Restaurant> indexedItems;
+    private List<Restaurant> derivedPages;
+    private Filter derivedFilter;
+    private List<Restaurant> derivedItems;
+    private FacetResult derivedFacets;
+
+    /**
+     * @param scope             umur pipeline (viewModelScope)
+     * @param computeDispatcher single-thread, tempat derive() berjalan
+     * @param searchDebounceMillis tunggu user berhenti mengetik; query kosong langsung diterapkan
+     */
+    RestaurantStatePipeline(CoroutineScope scope, CoroutineDispatcher computeDispatcher, long searchDebounceMillis) {
+        Function1<Filter, Long> debounce = value -> value.query.isEmpty() ? 0L : searchDebounceMillis;
+        Function3<Source, Filter, Continuation<? super RestaurantUiState>, Object> derive =
+                (current, activeFilter, continuation) -> derive(current, activeFilter);
+        Flow<RestaurantUiState> derived = FlowKt.combine(source, FlowKt.debounce(filter, debounce), derive);
+        uiState = FlowKt.stateIn(FlowKt.distinctUntilChanged(derived),
+                CoroutineScopeKt.plus(scope, computeDispatcher),
+                SharingStarted.Companion.getLazily(),
+                RestaurantUiState.INITIAL);
+    }
+
+    StateFlow<RestaurantUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Refresh dimulai: loading, error sebelumnya dihapus (satu perubahan state) */
+    @AnyThread
+    @Override
+    public void onLoading() {
+        updateSource(current -> new Source(current.items, current.dataset, true, null));
+    }
+
+    /** Snapshot list terbaru (jangan diubah lagi setelah dikirim) */
+    @AnyThread
+    @Override
+    public void onLoaded(List<Restaurant> items) {
+        updateSource(current -> new Source(items, current.dataset, false, null));
+    }
+
+    @AnyThread
+    @Override
+    public void onError(String error) {
+        updateSource(current -> new Source(current.items, current.dataset, false, error));
+    }
+
+    /** List penuh (cache / network) untuk search, terlepas dari halaman grid */
+    @AnyThread
+    void onDataset(List<Restaurant> restaurants) {
+        updateSource(current -> new Source(current.items, restaurants, current.loading, current.error));
+    }
+
+    @AnyThread
+    void setQuery(String query) {
+        updateFilter(current -> new Filter(query, current.facets));
+    }
+
+    @AnyThread
+    void setFacetQuery(FacetQuery facets) {
+        updateFilter(current -> new Filter(current.query, facets));
+    }
+
+    FacetQuery getFacetQuery() {
+        return filter.getValue().facets;
+    }
+
+    /** Grid menampilkan hasil search/filter (bukan halaman list) */
+    boolean isFiltering() {
+        Filter current = filter.getValue();
+        return !current.query.isEmpty() || !current.facets.isUnfiltered();
+    }
+
+    private void updateSource(UnaryOperator<Source> change) {
+        while (true) {
+            Source current = source.getValue();
+            if (source.compareAndSet(current, change.apply(current))) {
+                return;
+            }
+        }
+    }
+
+    private void updateFilter(UnaryOperator<Filter> change) {
+        while (true) {
+            Filter current = filter.getValue();
+            if (filter.compareAndSet(current, change.apply(current))) {
+                return;
+            }
+        }
+    }
+
+    @WorkerThread
+    private RestaurantUiState derive(Source current, Filter activeFilter) {
+        // Incremental: hanya item baru/berubah yang diindeks ulang
+        List<Restaurant> searchable = current.dataset != null ? current.dataset : current.items;
+        if (searchable != indexedItems) {
+            searchIndex.update(searchable);
+            facetEngine.update(searchable);
+            indexedItems = searchable;
+            derivedFilter = null;
+        }
+        if (current.items != derivedPages) {
+            // Grid tanpa filter = halaman yang sudah di-load
+            derivedPages = current.items;
+            derivedFilter = null;
+        }
+        if (!activeFilter.equals(derivedFilter)) {
+            derivedFacets = activeFilter.facets.isUnfiltered() ? null : facetEngine.query(activeFilter.facets);
+            if (!activeFilter.query.isEmpty()) {
+                derivedItems = Collections.unmodifiableList(searchIndex.search(activeFilter.query));
+            } else if (derivedFacets != null) {
+                derivedItems = derivedFacets.getItems();
+            } else {
+                derivedItems = Collections.unmodifiableList(current.items);
+            }
+            derivedFilter = activeFilter;
+        }
+        return new RestaurantUiState(derivedItems, current.loading, current.error, derivedFacets);
+    }
+
+    /** Data mentah dari repository. Tanpa equals: setiap update adalah perubahan */
+    private static final class Source {
+        static final Source EMPTY = new Source(Collections.emptyList(), null, false, null);
+
+        final List<Restaurant> items;
+        final List<Restaurant> dataset;
+        final boolean loading;
+        final String error;
+
+        Source(List<Restaurant> items, List<Restaurant> dataset, boolean loading, String error) {
+            this.items = items;
+            this.dataset = dataset;
+            this.loading = loading;
+            this.error = error;
+        }
+    }
+
+    /** Input user. equals: query/facet yang sama tidak memicu derivasi ulang */
+    private static final class Filter {
+        static final Filter NONE = new Filter("", FacetQuery.ALL);
+
+        final String query;
+        final FacetQuery facets;
+
+        Filter(String query, FacetQuery facets) {
+            this.query = query;
+            this.facets = facets;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Filter)) {
+                return false;
+            }
+            Filter other = (Filter) o;
+            return query.equals(other.query) && facets.equals(other.facets);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * query.hashCode() + facets.hashCode();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.restaurantapps.presentation.viewmodel;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.FacetResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * PRESENTATION LAYER: UI state layar list (immutable)
+ *
+ * Satu snapshot untuk MainActivity, menggantikan LiveData terpisah untuk list,
+ * error dan loading:
+ * - items        : yang ditampilkan grid (hasil search > hasil filter/sort > list penuh)
+ * - loading      : progress bar
+ * - errorMessage : null = tidak ada error
+ * - facetResult  : null = tanpa filter (berisi jumlah per kota/rating untuk chip filter)
+ *
+ * equals() dipakai untuk distinctUntilChanged: state yang sama tidak dikirim
+ * ulang ke main thread. List & facetResult dibandingkan per nilai (Restaurant tanpa
+ * equals, jadi identitas object per element): hasil filter yang dihitung ulang
+ * tapi sama juga tidak dirender ulang.
+ *
+ * Interview Q: "Kenapa satu state object, bukan beberapa LiveData?"
+ * A: Setiap LiveData = 1 dispatch ke main thread + 1 observer pass. Dengan satu
+ *    state, perubahan yang terjadi bersamaan (list datang + loading selesai)
+ *    menjadi 1 render, dan UI tidak pernah melihat kombinasi yang setengah jadi.
+ */
+public final class RestaurantUiState {
+
+    public static final RestaurantUiState INITIAL =
+            new RestaurantUiState(Collections.emptyList(), false, null, null);
+
+    private final List<Restaurant> items;
+    private final boolean loading;
+    private final String errorMessage;
+    private final FacetResult facetResult;
+
+    /**
+     * @param items sudah read-only; instance yang sama dipakai ulang selama
+     *              list & filter tidak berubah (View bisa skip submitList)
+     */
+    RestaurantUiState(List<Restaurant> items, boolean loading, String errorMessage, FacetResult facetResult) {
+        this.items = items;
+        this.loading = loading;
+        this.errorMessage = errorMessage;
+        this.facetResult = facetResult;
+    }
+
+    public List<Restaurant> getItems() {
+        return items;
+    }
+
+    public boolean isLoading() {
+        return loading;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public FacetResult getFacetResult() {
+        return facetResult;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RestaurantUiState)) {
+            return false;
+        }
+        RestaurantUiState other = (RestaurantUiState) o;
+        return loading == other.loading
+                && Objects.equals(errorMessage, other.errorMessage)
+                && Objects.equals(facetResult, other.facetResult)
+                && items.equals(other.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, loading, errorMessage, facetResult);
+    }
+
+    @Override
+    public String toString() {
+        return "RestaurantUiState{items=" + items.size() + ", loading=" + loading
+                + ", error=" + errorMessage + ", facets=" + (facetResult != null) + "}";
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.restaurantapps.presentation.viewmodel;
 
 import android.app.Application;
+
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
-import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.FlowLiveDataConversions;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.ViewModelKt;
 
-import com.example.restaurantapps.data.remote.api.RetrofitClient;
-import com.example.restaurantapps.data.repository.RestaurantRepositoryImpl;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryProvider;
+import com.example.restaurantapps.data.trace.AppTrace;
 import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.DetailPrefetchPolicy;
+import com.example.restaurantapps.domain.repository.RestaurantDetailRepository;
 import com.example.restaurantapps.domain.repository.RestaurantRepository;
+import com.example.restaurantapps.domain.search.FacetQuery;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import kotlinx.coroutines.ExecutorsKt;
+import kotlinx.coroutines.flow.StateFlow;
 
 /**
  * PRESENTATION LAYER: ViewModel
@@ -27,72 +40,206 @@ import java.util.List;
  * 
  * Flow MVVM:
  * Activity → ViewModel → Repository → API
- * API response → Repository → ViewModel (update LiveData) → Activity (observe)
+ * API response → Repository → ViewModel (RestaurantStatePipeline) → StateFlow<RestaurantUiState>
+ *     → asLiveData() → Activity (observe)
  */
 public class RestaurantViewModel extends AndroidViewModel {
+
+    // Detail yang di-prefetch per posisi scroll (item terlihat dengan rating tertinggi)
+    private static final int DETAIL_PREFETCH_COUNT = 3;
+
+    // Search: tunggu user berhenti mengetik sebelum query dijalankan
+    private static final long SEARCH_DEBOUNCE_MS = 250;
     
-    // LiveData adalah reactive wrapper
-    // Semua observer (Activity/Fragment) akan di-notify jika value berubah
-    private MutableLiveData<List<Restaurant>> restaurantList = new MutableLiveData<>();
-    private MutableLiveData<String> errorMessage = new MutableLiveData<>();
-    private MutableLiveData<Boolean> isLoading = new MutableLiveData<>();
-    
+    // Search index & facet engine di pipeline hanya disentuh dari stateExecutor (tidak thread-safe)
+    private final ExecutorService stateExecutor = Executors.newSingleThreadExecutor();
+    private final RestaurantStatePipeline state;
+    // Satu stream immutable untuk Activity: list/search/filter, loading dan error sekaligus
+    private final LiveData<RestaurantUiState> uiState;
+
     private RestaurantRepository repository;
+    private final RestaurantDetailRepository detailRepository;
+    // State paging (halaman yang sudah di-load, request yang sedang berjalan)
+    private final RestaurantPager pager;
+    // List penuh untuk search/filter, di-load saat pertama kali dibutuhkan (null = belum/gagal)
+    private volatile Cancellable datasetRequest;
     
     public RestaurantViewModel(@NonNull Application application) {
         super(application);
-        // Initialize repository dengan API service
-        repository = new RestaurantRepositoryImpl(RetrofitClient.getApiService());
+        // Dibuat di main thread saat cold start: init Retrofit & repository ikut terukur di trace
+        AppTrace.begin("RestaurantViewModel.init");
+        try {
+            // Repository offline-first: cache disk dulu, lalu refresh dari API
+            repository = RestaurantRepositoryProvider.getRepository(application);
+            detailRepository = RestaurantRepositoryProvider.getDetailRepository(application);
+        } finally {
+            AppTrace.end();
+        }
+        state = new RestaurantStatePipeline(ViewModelKt.getViewModelScope(this),
+                ExecutorsKt.from(stateExecutor), SEARCH_DEBOUNCE_MS);
+        uiState = FlowLiveDataConversions.asLiveData(state.getUiState());
+        pager = new RestaurantPager(repository, state);
     }
     
     /**
-     * LiveData getter: Activity akan observe ini
-     * 
-     * Interview Q: "Kenapa return LiveData, bukan List<Restaurant>?"
-     * A: LiveData adalah observable - saat value berubah, semua observer di-notify otomatis.
-     *    Activity tidak perlu polling atau callback.
+     * UI state sebagai StateFlow (read-only): selalu punya value terbaru, conflated,
+     * dan state yang sama tidak dikirim ulang. Untuk collector coroutine
+     * (repeatOnLifecycle) dan test.
+     *
+     * Interview Q: "Kenapa return StateFlow, bukan MutableStateFlow?"
+     * A: Hanya ViewModel yang boleh mengubah state. View cukup observe;
+     *    perubahan dari View lewat method (search, applyFacets, loadRestaurants).
+     *
+     * Interview Q: "Kenapa StateFlow, bukan LiveData langsung?"
+     * A: StateFlow conflated & distinctUntilChanged, derivasi (search/filter/sort)
+     *    bisa dijalankan di thread lain sebelum sampai ke main thread.
      */
-    public MutableLiveData<List<Restaurant>> getRestaurantList() {
-        return restaurantList;
+    public StateFlow<RestaurantUiState> getUiState() {
+        return state.getUiState();
     }
-    
-    public MutableLiveData<String> getErrorMessage() {
-        return errorMessage;
+
+    /**
+     * StateFlow yang sama lewat asLiveData(), untuk Activity Java: observe() sudah
+     * lifecycle-aware (collect hanya saat STARTED) tanpa coroutine di sisi View.
+     */
+    public LiveData<RestaurantUiState> getUiStateLiveData() {
+        return uiState;
     }
-    
-    public MutableLiveData<Boolean> getIsLoading() {
-        return isLoading;
+
+    /**
+     * Filter & sort gabungan, misal "city = Medan, rating ≥ 4, urut rating tertinggi".
+     * Dihitung di stateExecutor; FacetQuery.ALL mengembalikan grid ke list penuh.
+     */
+    @MainThread
+    public void applyFacets(FacetQuery query) {
+        state.setFacetQuery(query);
+        loadSearchDataset();
     }
-    
+
+    public FacetQuery getActiveFacetQuery() {
+        return state.getFacetQuery();
+    }
+
     /**
-     * Fetch restaurants dari repository
-     * 
-     * Interview Q: "Apa yang terjadi saat loadRestaurants() dipanggil?"
-     * A:
-     * 1. Set isLoading = true (tampilkan progress bar)
-     * 2. Panggil repository.getRestaurants()
-     * 3. Saat response datang, update restaurantList LiveData
-     * 4. Activity observe restaurantList, otomatis update UI
-     * 5. Set isLoading = false (hide progress bar)
+     * Dipanggil setiap teks search berubah (main thread).
+     *
+     * Debounce: query baru menggantikan query yang belum jalan, jadi mengetik
+     * "kafe" hanya menjalankan 1 query, bukan 4. Query kosong langsung
+     * mengembalikan grid ke list (tanpa menunggu debounce).
      */
-    public void loadRestaurants() {
-        isLoading.setValue(true);
-        errorMessage.setValue(null); // Clear previous error
-        
-        repository.getRestaurants(new RestaurantRepository.RestaurantCallback() {
+    @MainThread
+    public void search(String query) {
+        state.setQuery(query == null ? "" : query.trim());
+        loadSearchDataset();
+    }
+
+    /**
+     * Search/filter berjalan di list penuh, bukan hanya halaman yang sudah di-scroll.
+     * List diambil dari repository (cache disk dulu, lalu revalidate) sekali saat
+     * search/filter pertama, dan diperbarui setelah refresh().
+     */
+    @MainThread
+    private void loadSearchDataset() {
+        if (datasetRequest != null || !state.isFiltering()) {
+            return;
+        }
+        datasetRequest = repository.getRestaurants(new RestaurantRepository.RestaurantCallback() {
             @Override
             public void onSuccess(List<Restaurant> restaurants) {
-                // Update LiveData dengan data
-                restaurantList.setValue(restaurants);
-                isLoading.setValue(false);
+                state.onDataset(restaurants);
             }
-            
+
             @Override
             public void onError(String error) {
-                // Update error LiveData
-                errorMessage.setValue(error);
-                isLoading.setValue(false);
+                // Search tetap jalan di halaman yang ada; dicoba lagi di query berikutnya
+                datasetRequest = null;
             }
         });
     }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        // viewModelScope (collector pipeline) sudah dibatalkan sebelum onCleared()
+        stateExecutor.shutdownNow();
+        // Activity sudah selesai: request yang masih berjalan tidak dibutuhkan lagi
+        pager.clear();
+        Cancellable dataset = datasetRequest;
+        if (dataset != null) {
+            dataset.cancel();
+        }
+    }
+    
+    /**
+     * Fetch restaurants dari repository (mulai dari halaman pertama)
+     * 
+     * Interview Q: "Apa yang terjadi saat loadRestaurants() dipanggil?"
+     * A:
+     * 1. State loading = true, error lama dihapus (1 perubahan state, tampilkan progress bar)
+     * 2. Panggil repository.getRestaurantPage() untuk page 0
+     * 3. Saat halaman datang, pipeline menerima snapshot list + loading = false sekaligus
+     * 4. Index search/facet di-update dan query aktif dijalankan ulang di stateExecutor
+     * 5. Activity observe uiState, 1 render untuk list & progress bar
+     * 6. Halaman berikutnya di-load lewat onGridScrolled() saat user mendekati akhir
+     *
+     * Dipanggil setiap onCreate: setelah rotate, data yang sudah ada atau request
+     * yang masih berjalan dipakai lagi (tanpa request baru). Pakai refresh() untuk
+     * memaksa load ulang.
+     *
+     * Threading: callback repository SELALU dari background thread dan page 0 bisa
+     * dikirim 2x (cache lalu network). Pipeline thread-safe, tanpa postValue().
+     */
+    @MainThread
+    public void loadRestaurants() {
+        AppTrace.begin("RestaurantViewModel.loadRestaurants");
+        try {
+            pager.load();
+        } finally {
+            AppTrace.end();
+        }
+    }
+
+    /**
+     * Load ulang dari page 0 (kedalaman scroll dipulihkan). Request lama baru
+     * di-cancel setelah request baru menerima hasil, jadi request yang sama ikut
+     * flight yang sedang berjalan (single-flight) alih-alih dikirim ulang.
+     */
+    @MainThread
+    public void refresh() {
+        pager.refresh();
+        Cancellable dataset = datasetRequest;
+        datasetRequest = null;
+        if (dataset != null) {
+            dataset.cancel();
+        }
+        loadSearchDataset();
+    }
+
+    /**
+     * Dipanggil grid saat scroll. Jika posisi terakhir yang terlihat sudah
+     * masuk prefetch distance, load halaman berikutnya.
+     *
+     * Selama search/filter aktif grid berisi hasil dari list penuh, posisinya
+     * tidak berhubungan dengan halaman: paging ditunda sampai filter dihapus.
+     */
+    @MainThread
+    public void onGridScrolled(int lastVisiblePosition) {
+        if (state.isFiltering()) {
+            return;
+        }
+        pager.onGridScrolled(lastVisiblePosition);
+    }
+
+    /**
+     * Dipanggil saat scroll berhenti dengan item yang sedang terlihat.
+     * Detail untuk beberapa item dengan rating tertinggi diambil di background,
+     * jadi saat item itu di-tap layar detail langsung terisi dari cache.
+     */
+    @MainThread
+    public void onVisibleItemsSettled(List<Restaurant> visibleItems) {
+        List<String> ids = DetailPrefetchPolicy.select(visibleItems, DETAIL_PREFETCH_COUNT);
+        if (!ids.isEmpty()) {
+            detailRepository.prefetch(ids);
+        }
+    }
 }
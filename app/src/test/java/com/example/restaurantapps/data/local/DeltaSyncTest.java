@@ -0,0 +1,228 @@
+package com.example.restaurantapps.data.local;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryImpl;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Delta sync end-to-end: MockWebServer dengan katalog 10k item dan delta
+ * berskrip, repository asli (Retrofit + converter streaming + cache disk).
+ * Executor langsung (Runnable::run) supaya test deterministik.
+ */
+public class DeltaSyncTest {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final long TTL = 1_000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private RestaurantApiService api;
+    private RestaurantLocalDataSource local;
+    private long now;
+
+    // Skrip server
+    private volatile boolean deltaEndpoint = true;
+    private final AtomicInteger listCalls = new AtomicInteger();
+    private final AtomicInteger deltaCalls = new AtomicInteger();
+    private final AtomicLong listBytes = new AtomicLong();
+    private final AtomicLong deltaBytes = new AtomicLong();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath() != null ? request.getPath() : "";
+                if (path.startsWith("/list/delta")) {
+                    deltaCalls.incrementAndGet();
+                    if (!deltaEndpoint) {
+                        return new MockResponse().setResponseCode(404);
+                    }
+                    String body = "0".equals(request.getRequestUrl().queryParameter("since"))
+                            ? fullSnapshotJson()
+                            : deltaJson();
+                    deltaBytes.addAndGet(body.length());
+                    return new MockResponse().setBody(body);
+                }
+                if (path.startsWith("/list")) {
+                    listCalls.incrementAndGet();
+                    String body = listJson();
+                    listBytes.addAndGet(body.length());
+                    return new MockResponse().setBody(body);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        server.start();
+        api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        local = new RestaurantLocalDataSource(folder.getRoot());
+        now = 100_000L;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void refresh_downloadsOnlyChangesAndPersistsThem() throws Exception {
+        OfflineFirstRestaurantRepository repository = newRepository();
+
+        List<Restaurant> initial = awaitLast(repository);
+        assertEquals(CATALOG_SIZE, initial.size());
+        assertEquals(1, local.read().getSyncVersion());
+
+        now += TTL * 2;
+        List<Restaurant> merged = awaitLast(repository);
+
+        assertEquals(2, deltaCalls.get());
+        assertEquals(0, listCalls.get());
+        assertEquals(CATALOG_SIZE, merged.size());
+        assertEquals(1.5f, find(merged, "r42").getRating(), 0.0001f);
+        assertEquals("Baru", find(merged, "r10000").getName());
+        assertNull(find(merged, "r7"));
+
+        // Snapshot 10k item vs delta 3 perubahan: selisih beberapa orde besaran
+        long snapshotBytes = fullSnapshotJson().length();
+        long changeBytes = deltaBytes.get() - snapshotBytes;
+        assertTrue(changeBytes + " vs " + snapshotBytes, changeBytes * 1_000 < snapshotBytes);
+
+        // Cold start: snapshot disk + journal delta = list yang sama
+        CachedRestaurants reloaded = new RestaurantLocalDataSource(folder.getRoot()).read();
+        assertEquals(2, reloaded.getSyncVersion());
+        assertEquals(ids(merged), ids(reloaded.getRestaurants()));
+        assertEquals(1.5f, find(reloaded.getRestaurants(), "r42").getRating(), 0.0001f);
+    }
+
+    @Test
+    public void journal_isCompactedIntoSnapshot() throws Exception {
+        OfflineFirstRestaurantRepository repository = newRepository();
+        awaitLast(repository);
+
+        for (int i = 0; i < RestaurantLocalDataSource.MAX_JOURNAL_ENTRIES; i++) {
+            now += TTL * 2;
+            awaitLast(repository);
+        }
+
+        assertFalse(new File(folder.getRoot(), "restaurants_delta.jsonl").exists());
+        CachedRestaurants reloaded = new RestaurantLocalDataSource(folder.getRoot()).read();
+        assertEquals(2, reloaded.getSyncVersion());
+        assertEquals(CATALOG_SIZE, reloaded.getRestaurants().size());
+    }
+
+    @Test
+    public void serverWithoutDelta_fallsBackToFullList() throws Exception {
+        deltaEndpoint = false;
+        OfflineFirstRestaurantRepository repository = newRepository();
+
+        assertEquals(CATALOG_SIZE, awaitLast(repository).size());
+        now += TTL * 2;
+        assertEquals(CATALOG_SIZE, awaitLast(repository).size());
+
+        // Endpoint delta hanya dicoba sekali, refresh berikutnya langsung list penuh
+        assertEquals(1, deltaCalls.get());
+        assertEquals(2, listCalls.get());
+        assertEquals(0, local.read().getSyncVersion());
+    }
+
+    private OfflineFirstRestaurantRepository newRepository() {
+        RestaurantRepositoryImpl remote = new RestaurantRepositoryImpl(api, Runnable::run);
+        return new OfflineFirstRestaurantRepository(remote, remote, local,
+                new CachePolicy(TTL, Long.MAX_VALUE / 2), Runnable::run, () -> now);
+    }
+
+    private static List<Restaurant> awaitLast(RestaurantRepository repository) {
+        List<List<Restaurant>> results = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        repository.getRestaurants(new RestaurantRepository.RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                results.add(restaurants);
+            }
+
+            @Override
+            public void onError(String error) {
+                errors.add(error);
+            }
+        });
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertFalse(results.isEmpty());
+        return results.get(results.size() - 1);
+    }
+
+    private static Restaurant find(List<Restaurant> restaurants, String id) {
+        for (Restaurant restaurant : restaurants) {
+            if (restaurant.getId().equals(id)) {
+                return restaurant;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> ids(List<Restaurant> restaurants) {
+        List<String> ids = new ArrayList<>(restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            ids.add(restaurant.getId());
+        }
+        return ids;
+    }
+
+    private static String restaurantJson(int i) {
+        return "{\"id\":\"r" + i + "\",\"name\":\"Kafe " + i + "\",\"description\":\"Tempat makan nomor " + i
+                + " dengan menu lengkap\",\"pictureId\":\"" + (i % 40) + "\",\"city\":\"Kota " + (i % 25)
+                + "\",\"rating\":4.2}";
+    }
+
+    private static String catalogJson() {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(restaurantJson(i));
+        }
+        return json.toString();
+    }
+
+    private static String listJson() {
+        return "{\"error\":false,\"restaurants\":[" + catalogJson() + "]}";
+    }
+
+    private static String fullSnapshotJson() {
+        return "{\"error\":false,\"version\":1,\"full\":true,\"upserts\":[" + catalogJson() + "],\"deletes\":[]}";
+    }
+
+    // Versi 2: rating r42 berubah, r10000 baru, r7 dihapus
+    private static String deltaJson() {
+        return "{\"error\":false,\"version\":2,\"full\":false,\"upserts\":["
+                + "{\"id\":\"r42\",\"name\":\"Kafe 42\",\"city\":\"Kota 17\",\"rating\":1.5},"
+                + "{\"id\":\"r10000\",\"name\":\"Baru\",\"city\":\"Medan\",\"rating\":4.0}"
+                + "],\"deletes\":[\"r7\"]}";
+    }
+}
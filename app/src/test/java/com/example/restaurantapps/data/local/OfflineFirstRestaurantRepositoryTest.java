@@ -0,0 +1,266 @@
+package com.example.restaurantapps.data.local;
+
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test untuk OfflineFirstRestaurantRepository (JVM, tanpa Android).
+ * Executor langsung (Runnable::run) supaya test deterministik.
+ */
+public class OfflineFirstRestaurantRepositoryTest {
+
+    private static final long TTL = 1_000L;
+    private static final long STALE = 10_000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private RestaurantLocalDataSource local;
+    private FakeRemoteRepository remote;
+    private long now;
+
+    @Before
+    public void setUp() {
+        local = new RestaurantLocalDataSource(folder.getRoot());
+        remote = new FakeRemoteRepository();
+        now = 100_000L;
+    }
+
+    @Test
+    public void noCache_waitsForNetworkAndPersists() throws Exception {
+        remote.result = Collections.singletonList(restaurant("1", "Network"));
+
+        RecordingCallback callback = new RecordingCallback();
+        newRepository().getRestaurants(callback);
+
+        assertEquals(1, remote.calls);
+        assertEquals(1, callback.successes.size());
+        assertEquals("Network", callback.successes.get(0).get(0).getName());
+        assertEquals("Network", local.read().getRestaurants().get(0).getName());
+    }
+
+    @Test
+    public void freshCache_servedWithoutNetwork() throws Exception {
+        local.write(Collections.singletonList(restaurant("1", "Cached")), now - TTL / 2);
+
+        RecordingCallback callback = new RecordingCallback();
+        newRepository().getRestaurants(callback);
+
+        assertEquals(0, remote.calls);
+        assertEquals(1, callback.successes.size());
+        assertEquals("Cached", callback.successes.get(0).get(0).getName());
+    }
+
+    @Test
+    public void staleCache_servedFirstThenRevalidated() throws Exception {
+        local.write(Collections.singletonList(restaurant("1", "Cached")), now - TTL * 2);
+        remote.result = Collections.singletonList(restaurant("1", "Network"));
+
+        RecordingCallback callback = new RecordingCallback();
+        newRepository().getRestaurants(callback);
+
+        assertEquals(1, remote.calls);
+        assertEquals(2, callback.successes.size());
+        assertEquals("Cached", callback.successes.get(0).get(0).getName());
+        assertEquals("Network", callback.successes.get(1).get(0).getName());
+        assertTrue(callback.errors.isEmpty());
+    }
+
+    @Test
+    public void expiredCache_usedAsFallbackWhenOffline() throws Exception {
+        local.write(Collections.singletonList(restaurant("1", "Cached")), now - TTL - STALE - 1);
+        remote.error = "offline";
+
+        RecordingCallback callback = new RecordingCallback();
+        newRepository().getRestaurants(callback);
+
+        assertEquals(1, remote.calls);
+        assertEquals(1, callback.successes.size());
+        assertEquals("Cached", callback.successes.get(0).get(0).getName());
+        assertTrue(callback.errors.isEmpty());
+    }
+
+    @Test
+    public void noCache_offlineReportsError() {
+        remote.error = "offline";
+
+        RecordingCallback callback = new RecordingCallback();
+        newRepository().getRestaurants(callback);
+
+        assertTrue(callback.successes.isEmpty());
+        assertEquals(Collections.singletonList("offline"), callback.errors);
+    }
+
+    @Test
+    public void freshCache_pagesSlicedFromCache() throws Exception {
+        local.write(Arrays.asList(restaurant("1", "A"), restaurant("2", "B"), restaurant("3", "C")), now);
+
+        List<RestaurantPage> pages = new ArrayList<>();
+        OfflineFirstRestaurantRepository repository = newRepository();
+        repository.getRestaurantPage(new PageRequest(0, 2, 1), recordPages(pages));
+        repository.getRestaurantPage(new PageRequest(1, 2, 1), recordPages(pages));
+
+        assertEquals(0, remote.pageCalls);
+        assertEquals(2, pages.get(0).getItems().size());
+        assertEquals(Integer.valueOf(1), pages.get(0).getNextKey());
+        assertEquals("C", pages.get(1).getItems().get(0).getName());
+        assertTrue(pages.get(1).isLastPage());
+    }
+
+    @Test
+    public void noCache_remotePagesPersistedPerPage() throws Exception {
+        remote.result = Arrays.asList(restaurant("1", "A"), restaurant("2", "B"), restaurant("3", "C"));
+
+        List<RestaurantPage> pages = new ArrayList<>();
+        OfflineFirstRestaurantRepository repository = newRepository();
+        repository.getRestaurantPage(new PageRequest(0, 2, 1), recordPages(pages));
+        CachedRestaurants partial = local.read();
+        assertEquals(2, partial.getRestaurants().size());
+        assertFalse(partial.isComplete());
+        repository.getRestaurantPage(new PageRequest(1, 2, 1), recordPages(pages));
+
+        assertEquals(2, remote.pageCalls);
+        assertEquals(3, local.read().getRestaurants().size());
+        assertTrue(local.read().isComplete());
+    }
+
+    @Test
+    public void noCache_firstPageOnly_servedFromDiskByNewInstance() throws Exception {
+        remote.result = Arrays.asList(restaurant("1", "A"), restaurant("2", "B"), restaurant("3", "C"));
+        newRepository().getRestaurantPage(new PageRequest(0, 2, 1), recordPages(new ArrayList<>()));
+        assertEquals(1, remote.pageCalls);
+
+        // Cold start berikutnya: user tidak pernah scroll sampai halaman terakhir
+        List<RestaurantPage> pages = new ArrayList<>();
+        OfflineFirstRestaurantRepository restarted = newRepository();
+        restarted.getRestaurantPage(new PageRequest(0, 2, 1), recordPages(pages));
+
+        assertEquals(1, remote.pageCalls);
+        assertEquals(1, pages.size());
+        assertEquals("A", pages.get(0).getItems().get(0).getName());
+        // Cache parsial tidak boleh mengaku halaman terakhir
+        assertEquals(Integer.valueOf(1), pages.get(0).getNextKey());
+
+        // Halaman di luar cache parsial diambil dari remote dan menyambung cache di disk
+        restarted.getRestaurantPage(new PageRequest(1, 2, 1), recordPages(pages));
+        assertEquals(2, remote.pageCalls);
+        assertEquals("C", pages.get(1).getItems().get(0).getName());
+        assertTrue(local.read().isComplete());
+        assertEquals(3, local.read().getRestaurants().size());
+    }
+
+    @Test
+    public void partialCache_getRestaurantsStillFetchesFullList() throws Exception {
+        local.write(Collections.singletonList(restaurant("1", "A")), now, 0L, false);
+        remote.result = Arrays.asList(restaurant("1", "A"), restaurant("2", "B"));
+
+        RecordingCallback callback = new RecordingCallback();
+        newRepository().getRestaurants(callback);
+
+        assertEquals(1, remote.calls);
+        assertEquals(2, callback.successes.get(callback.successes.size() - 1).size());
+        assertTrue(local.read().isComplete());
+    }
+
+    @Test
+    public void staleCache_firstPageRevalidatedWithPagedEndpoint() throws Exception {
+        local.write(Arrays.asList(restaurant("1", "A"), restaurant("2", "B"), restaurant("3", "C")),
+                now - TTL * 2);
+        remote.result = Arrays.asList(restaurant("1", "A2"), restaurant("2", "B"), restaurant("3", "C"));
+
+        List<RestaurantPage> pages = new ArrayList<>();
+        newRepository().getRestaurantPage(new PageRequest(0, 2, 1), recordPages(pages));
+
+        // Tanpa download katalog penuh: hanya page 0 dari endpoint paging
+        assertEquals(0, remote.calls);
+        assertEquals(1, remote.pageCalls);
+        assertEquals(2, pages.size());
+        assertEquals("A", pages.get(0).getItems().get(0).getName());
+        assertEquals("A2", pages.get(1).getItems().get(0).getName());
+        List<Restaurant> cached = local.read().getRestaurants();
+        assertEquals("A2", cached.get(0).getName());
+        assertEquals("C", cached.get(2).getName());
+    }
+
+    private static RestaurantRepository.PageCallback recordPages(List<RestaurantPage> pages) {
+        return new RestaurantRepository.PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                pages.add(page);
+            }
+
+            @Override
+            public void onError(String error) {
+                fail(error);
+            }
+        };
+    }
+
+    private OfflineFirstRestaurantRepository newRepository() {
+        return new OfflineFirstRestaurantRepository(
+                remote, local, new CachePolicy(TTL, STALE), Runnable::run, () -> now);
+    }
+
+    private static Restaurant restaurant(String id, String name) {
+        return new Restaurant(id, name, "desc", "pic", "Medan", 4.5);
+    }
+
+    private static class FakeRemoteRepository implements RestaurantRepository {
+        List<Restaurant> result = new ArrayList<>();
+        String error;
+        int calls;
+        int pageCalls;
+
+        @Override
+        public Cancellable getRestaurants(RestaurantCallback callback) {
+            calls++;
+            if (error != null) {
+                callback.onError(error);
+            } else {
+                callback.onSuccess(result);
+            }
+            return Cancellable.NONE;
+        }
+
+        @Override
+        public Cancellable getRestaurantPage(PageRequest request, PageCallback callback) {
+            pageCalls++;
+            if (error != null) {
+                callback.onError(error);
+            } else {
+                callback.onPage(RestaurantPage.slice(result, request));
+            }
+            return Cancellable.NONE;
+        }
+    }
+
+    private static class RecordingCallback implements RestaurantRepository.RestaurantCallback {
+        final List<List<Restaurant>> successes = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void onSuccess(List<Restaurant> restaurants) {
+            successes.add(restaurants);
+        }
+
+        @Override
+        public void onError(String error) {
+            errors.add(error);
+        }
+    }
+}
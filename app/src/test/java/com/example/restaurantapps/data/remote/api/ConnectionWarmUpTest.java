@@ -0,0 +1,125 @@
+package com.example.restaurantapps.data.remote.api;
+
+import com.example.restaurantapps.data.remote.metrics.NetworkMetrics;
+import com.example.restaurantapps.data.remote.resilience.NetworkPolicy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Preconnect & client bersama: waktu header pertama (FIRST_BYTE) request list
+ * dengan dan tanpa warm-up. DNS diberi latency buatan (COLD_CONNECT_MILLIS)
+ * sebagai pengganti DNS + TCP + TLS ke server sungguhan.
+ */
+public class ConnectionWarmUpTest {
+
+    private static final long COLD_CONNECT_MILLIS = 200L;
+    private static final String BODY = "{\"error\":false,\"restaurants\":[]}";
+
+    private MockWebServer server;
+    private final NetworkMetrics metrics = NetworkMetrics.getInstance();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        metrics.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void preconnect_removesConnectFromFirstRequest() throws Exception {
+        // Cold: koneksi dibuka oleh request list sendiri
+        server.enqueue(new MockResponse().setBody(BODY));
+        long cold = firstByteOfFirstCall(slowDnsClient());
+        assertEquals(1, metrics.snapshot(NetworkMetrics.Phase.DNS).getTotalCount());
+
+        // Warm: preconnect (HEAD) di pool yang sama, lalu request list
+        server.enqueue(new MockResponse());
+        server.enqueue(new MockResponse().setBody(BODY));
+        metrics.reset();
+        OkHttpClient warmBase = slowDnsClient();
+        assertEquals(1, RetrofitClient.preconnect(warmBase,
+                Collections.singletonList(server.url("/"))));
+        long warm = firstByteOfFirstCall(warmBase);
+
+        assertEquals(0, metrics.snapshot(NetworkMetrics.Phase.DNS).getTotalCount());
+        assertEquals(0, metrics.snapshot(NetworkMetrics.Phase.CONNECT).getTotalCount());
+        assertTrue("cold=" + cold + "µs", cold >= TimeUnit.MILLISECONDS.toMicros(COLD_CONNECT_MILLIS));
+        assertTrue("warm=" + warm + "µs", warm < TimeUnit.MILLISECONDS.toMicros(COLD_CONNECT_MILLIS));
+    }
+
+    @Test
+    public void preconnect_oneRequestPerHost() throws Exception {
+        server.enqueue(new MockResponse());
+
+        int connected = RetrofitClient.preconnect(RetrofitClient.getSharedHttpClient(), Arrays.asList(
+                server.url("/"), server.url("/images/")));
+
+        assertEquals(1, connected);
+        assertEquals(1, server.getRequestCount());
+        assertEquals("HEAD", server.takeRequest().getMethod());
+    }
+
+    @Test
+    public void apiClient_sharesPoolButNotDispatcherWithImages() {
+        OkHttpClient shared = RetrofitClient.getSharedHttpClient();
+        OkHttpClient api = RetrofitClient.buildHttpClient(null);
+
+        assertSame(shared.connectionPool(), api.connectionPool());
+        // Hedging meng-enqueue GET API: slot per host Glide tidak boleh ikut terpakai
+        assertNotSame(shared.dispatcher(), api.dispatcher());
+        assertSame(api.dispatcher(), RetrofitClient.buildHttpClient(null).dispatcher());
+        assertTrue(shared.interceptors().isEmpty());
+        assertNull(shared.cache());
+    }
+
+    /**
+     * FIRST_BYTE request list pertama lewat client API yang dibuat dari base.
+     */
+    private long firstByteOfFirstCall(OkHttpClient base) throws Exception {
+        NetworkPolicy policy = new NetworkPolicy.Builder().hedgeDelay(0L).build();
+        OkHttpClient api = base.newBuilder()
+                .eventListenerFactory(RetrofitClient.buildHttpClient(null, policy).eventListenerFactory())
+                .build();
+        RetrofitClient.create(server.url("/").toString(), api, policy)
+                .create(RestaurantApiService.class)
+                .streamRestaurantList(null, null)
+                .execute();
+        return metrics.getFirstCallFirstByteMicros();
+    }
+
+    /**
+     * Client dengan pool sendiri dan DNS lambat (seperti resolver + handshake pertama di HP).
+     */
+    private static OkHttpClient slowDnsClient() {
+        return RetrofitClient.getSharedHttpClient().newBuilder()
+                .connectionPool(new ConnectionPool())
+                .dns(hostname -> {
+                    try {
+                        Thread.sleep(COLD_CONNECT_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Dns.SYSTEM.lookup(hostname);
+                })
+                .build();
+    }
+}
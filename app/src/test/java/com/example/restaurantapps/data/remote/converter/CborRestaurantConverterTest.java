@@ -0,0 +1,184 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.RestaurantSearchIndex;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import static org.junit.Assert.*;
+
+/**
+ * Format CBOR untuk endpoint list: parser, negosiasi Content-Type dan kompresi.
+ */
+public class CborRestaurantConverterTest {
+
+    private static final String JSON = "{\"error\":false,\"message\":\"success\",\"count\":2,\"restaurants\":["
+            + "{\"id\":\"a\",\"name\":\"Kafe Kita\",\"description\":\"Enak dan murah\",\"pictureId\":\"25\","
+            + "\"city\":\"Gorontalo\",\"rating\":4.2},"
+            + "{\"id\":\"b\",\"name\":\"Melting Pot\",\"description\":null,\"pictureId\":\"14\","
+            + "\"city\":\"Medan\",\"rating\":4.5}]}";
+
+    private static final List<Restaurant> RESTAURANTS = Arrays.asList(
+            new Restaurant("a", "Kafe Kita", "Enak dan murah", "25", "Gorontalo", 4.2),
+            new Restaurant("b", "Melting Pot", null, "14", "Medan", 4.5));
+
+    private MockWebServer server;
+    private RestaurantApiService api;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void parse_roundTripMatchesJsonParser() throws IOException {
+        List<Restaurant> fromCbor = new RestaurantCborParser()
+                .parse(new Buffer().write(RestaurantCborWriter.encode(RESTAURANTS)));
+        List<Restaurant> fromJson = new RestaurantStreamParser().parse(new StringReader(JSON));
+
+        assertEquals(fromJson.size(), fromCbor.size());
+        for (int i = 0; i < fromJson.size(); i++) {
+            Restaurant expected = fromJson.get(i);
+            Restaurant actual = fromCbor.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getPictureId(), actual.getPictureId());
+            assertEquals(expected.getCity(), actual.getCity());
+            assertEquals(expected.getRating(), actual.getRating(), 0.0f);
+        }
+    }
+
+    @Test
+    public void parse_gridProjectionSkipsDescription() throws IOException {
+        Buffer body = new Buffer();
+        RestaurantCborWriter.write(RESTAURANTS, body, true);
+
+        List<Restaurant> restaurants = new RestaurantCborParser(RestaurantField.GRID, 1).parse(body);
+
+        assertEquals(2, restaurants.size());
+        assertNull(restaurants.get(0).getDescription());
+        assertEquals("Kafe Kita", restaurants.get(0).getName());
+    }
+
+    @Test
+    public void parse_indefiniteLengthsTagsAndHalfFloat() throws IOException {
+        // {"restaurants": [_ {"id": (_ "x", "y"), "rating": 4.0 (float16), "extra": 1(1)} ]}
+        Buffer body = new Buffer()
+                .writeByte(0xa1).writeByte(0x6b).writeUtf8("restaurants")
+                .writeByte(0x9f)
+                .writeByte(0xa3)
+                .writeByte(0x62).writeUtf8("id")
+                .writeByte(0x7f).writeByte(0x61).writeUtf8("x").writeByte(0x61).writeUtf8("y").writeByte(0xff)
+                .writeByte(0x66).writeUtf8("rating").writeByte(0xf9).writeShort(0x4400)
+                .writeByte(0x65).writeUtf8("extra").writeByte(0xc1).writeByte(0x01)
+                .writeByte(0xff);
+
+        List<Restaurant> restaurants = new RestaurantCborParser().parse(body);
+
+        assertEquals(1, restaurants.size());
+        assertEquals("xy", restaurants.get(0).getId());
+        assertEquals(4.0f, restaurants.get(0).getRating(), 0.0f);
+    }
+
+    @Test
+    public void parse_serverErrorThrows() {
+        // {"error": true, "message": "gagal"}
+        Buffer body = new Buffer()
+                .writeByte(0xa2)
+                .writeByte(0x65).writeUtf8("error").writeByte(0xf5)
+                .writeByte(0x67).writeUtf8("message").writeByte(0x65).writeUtf8("gagal");
+        try {
+            new RestaurantCborParser().parse(body);
+            fail("error=true harus dilaporkan");
+        } catch (IOException expected) {
+            assertEquals("gagal", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void list_negotiatesCborAndFallsBackToJson() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", CborRestaurantConverterFactory.MEDIA_TYPE)
+                .setBody(new Buffer().write(RestaurantCborWriter.encode(RESTAURANTS))));
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setBody(JSON));
+
+        List<Restaurant> cbor = api.streamRestaurantList(null, null).execute().body();
+        List<Restaurant> json = api.streamRestaurantList(null, null).execute().body();
+
+        RecordedRequest request = server.takeRequest();
+        assertTrue(request.getHeader("Accept").startsWith(CborRestaurantConverterFactory.MEDIA_TYPE));
+        assertEquals(2, cbor.size());
+        assertEquals("Enak dan murah", cbor.get(0).getDescription());
+        assertEquals("Enak dan murah", json.get(0).getDescription());
+        assertEquals(2, json.size());
+        assertEquals(cbor.get(1).getName(), json.get(1).getName());
+    }
+
+    @Test
+    public void list_descriptionReachesSearchIndex() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", CborRestaurantConverterFactory.MEDIA_TYPE)
+                .setBody(new Buffer().write(RestaurantCborWriter.encode(RESTAURANTS))));
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setBody(JSON));
+
+        for (int i = 0; i < 2; i++) {
+            // Converter produksi → search index, seperti RestaurantStatePipeline
+            RestaurantSearchIndex index = new RestaurantSearchIndex();
+            index.update(api.streamRestaurantList(null, null).execute().body());
+
+            // "murah" hanya ada di description
+            List<Restaurant> found = index.search("murah");
+            assertEquals(1, found.size());
+            assertEquals("a", found.get(0).getId());
+        }
+    }
+
+    @Test
+    public void list_requestsBrotliAndDecodesGzip() throws Exception {
+        Buffer gzipped = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(gzipped))) {
+            sink.write(RestaurantCborWriter.encode(RESTAURANTS));
+        }
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", CborRestaurantConverterFactory.MEDIA_TYPE)
+                .setHeader("Content-Encoding", "gzip")
+                .setBody(gzipped));
+
+        List<Restaurant> restaurants = api.streamRestaurantPage(1, 20).execute().body();
+
+        assertTrue(server.takeRequest().getHeader("Accept-Encoding").contains("br"));
+        assertEquals(2, restaurants.size());
+        assertEquals("Gorontalo", restaurants.get(0).getCity());
+    }
+}
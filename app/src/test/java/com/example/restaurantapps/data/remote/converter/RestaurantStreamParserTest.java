@@ -0,0 +1,67 @@
+package com.example.restaurantapps.data.remote.converter;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RestaurantStreamParserTest {
+
+    private static final String BODY = "{\"error\":false,\"message\":\"success\",\"count\":3,\"restaurants\":["
+            + "{\"id\":\"a\",\"name\":\"Kafe Kita\",\"description\":\"Panjang sekali\",\"pictureId\":\"25\","
+            + "\"city\":\"Gorontalo\",\"rating\":4,\"unknown\":{\"nested\":[1,2]}},"
+            + "{\"id\":\"b\",\"name\":\"Bring Your Phone Cafe\",\"description\":null,\"pictureId\":\"03\","
+            + "\"city\":\"Surabaya\",\"rating\":4.2},"
+            + "{\"id\":\"c\",\"name\":\"Melting Pot\",\"description\":\"x\",\"pictureId\":\"14\","
+            + "\"city\":\"Medan\",\"rating\":4.5}]}";
+
+    @Test
+    public void parse_allFields() throws IOException {
+        List<Restaurant> restaurants = new RestaurantStreamParser().parse(new StringReader(BODY));
+
+        assertEquals(3, restaurants.size());
+        Restaurant first = restaurants.get(0);
+        assertEquals("a", first.getId());
+        assertEquals("Kafe Kita", first.getName());
+        assertEquals("Panjang sekali", first.getDescription());
+        assertEquals("25", first.getPictureId());
+        assertEquals("Gorontalo", first.getCity());
+        assertEquals(4.0, first.getRating(), 0.0001);
+        assertNull(restaurants.get(1).getDescription());
+    }
+
+    @Test
+    public void parse_gridProjectionSkipsDescription() throws IOException {
+        RestaurantStreamParser parser = new RestaurantStreamParser(RestaurantField.GRID, 10);
+        List<Restaurant> restaurants = parser.parse(new StringReader(BODY));
+
+        assertEquals(3, restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            assertNull(restaurant.getDescription());
+            assertNotNull(restaurant.getName());
+        }
+    }
+
+    @Test
+    public void parse_emitsChunks() throws IOException {
+        List<Integer> chunkSizes = new ArrayList<>();
+        new RestaurantStreamParser(RestaurantField.ALL, 2)
+                .parse(new StringReader(BODY), chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(2, chunkSizes.size());
+        assertEquals(2, (int) chunkSizes.get(0));
+        assertEquals(1, (int) chunkSizes.get(1));
+    }
+
+    @Test(expected = IOException.class)
+    public void parse_serverErrorThrows() throws IOException {
+        new RestaurantStreamParser().parse(new StringReader(
+                "{\"error\":true,\"message\":\"Restaurant not found\",\"restaurants\":[]}"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.restaurantapps.data.remote.metrics;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import retrofit2.Response;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test instrumentasi network: fase call terekam di NetworkMetrics dan bisa di-export.
+ */
+public class NetworkMetricsTest {
+
+    private static final String BODY = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"city\":\"Medan\",\"rating\":4.2}]}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private RestaurantApiService api;
+    private final NetworkMetrics metrics = NetworkMetrics.getInstance();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        metrics.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void call_recordsEveryPhaseAndPayloadSize() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY));
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        Response<List<Restaurant>> first = api.streamRestaurantList(null, null).execute();
+        api.streamRestaurantList(null, null).execute();
+
+        assertEquals(1, first.body().size());
+        // Koneksi kedua dari pool: DNS & connect hanya sekali
+        assertEquals(1, metrics.snapshot(NetworkMetrics.Phase.CONNECT).getTotalCount());
+        assertEquals(0, metrics.snapshot(NetworkMetrics.Phase.TLS).getTotalCount());
+        assertEquals(2, metrics.snapshot(NetworkMetrics.Phase.TTFB).getTotalCount());
+        assertEquals(2, metrics.snapshot(NetworkMetrics.Phase.BODY_READ).getTotalCount());
+        assertEquals(2, metrics.snapshot(NetworkMetrics.Phase.PARSE).getTotalCount());
+        assertEquals(2, metrics.snapshot(NetworkMetrics.Phase.CALL).getTotalCount());
+        assertEquals(BODY.length(), metrics.payloadSnapshot().getMaxValue(), BODY.length() / 100.0);
+        assertEquals(0, metrics.getFailedCalls());
+    }
+
+    @Test
+    public void failedCall_isCounted() throws Exception {
+        server.shutdown();
+
+        try {
+            api.streamRestaurantList(null, null).execute();
+            fail("Server mati, call harus gagal");
+        } catch (IOException expected) {
+            // ok
+        }
+
+        assertEquals(1, metrics.getFailedCalls());
+        assertEquals(1, metrics.snapshot(NetworkMetrics.Phase.CALL).getTotalCount());
+    }
+
+    @Test
+    public void dump_writesPercentileDistributionPerPhase() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY));
+        api.streamRestaurantList(null, null).execute();
+
+        File file = folder.newFile("network_metrics.hgrm");
+        metrics.dump(file);
+
+        String dump = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        assertTrue(dump.contains("# TTFB (ms)"));
+        assertTrue(dump.contains("# payload (KB)"));
+        assertTrue(dump.contains("#[Mean"));
+        assertTrue(metrics.summary().contains("TTFB"));
+    }
+}
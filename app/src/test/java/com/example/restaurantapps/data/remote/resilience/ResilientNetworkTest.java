@@ -0,0 +1,268 @@
+package com.example.restaurantapps.data.remote.resilience;
+
+import com.example.restaurantapps.data.local.CachePolicy;
+import com.example.restaurantapps.data.local.OfflineFirstRestaurantRepository;
+import com.example.restaurantapps.data.local.RestaurantLocalDataSource;
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryImpl;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import static org.junit.Assert.*;
+
+/**
+ * Fault injection dengan MockWebServer: 5xx, disconnect, delay.
+ * Backoff & timeout dibuat kecil supaya test cepat.
+ */
+public class ResilientNetworkTest {
+
+    private static final String BODY = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"city\":\"Medan\",\"rating\":4.2}]}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void serverErrorThenDisconnect_retriedUntilSuccess() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        List<Restaurant> restaurants = api(policy().build())
+                .streamRestaurantList(null, null).execute().body();
+
+        assertEquals(1, restaurants.size());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void retriesExhausted_lastServerErrorReturned() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+        }
+
+        retrofit2.Response<List<Restaurant>> response = api(policy().build())
+                .streamRestaurantList(null, null).execute();
+
+        assertEquals(500, response.code());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void post_isNotRetried() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        Request post = new Request.Builder()
+                .url(server.url("/review"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+        try (Response response = RetrofitClient.buildHttpClient(null, policy().build())
+                .newCall(post).execute()) {
+            assertEquals(503, response.code());
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void slowServer_failsAtReadTimeout() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(2, TimeUnit.SECONDS));
+        NetworkPolicy policy = policy()
+                .timeouts(1_000L, 200L, 1_000L, 0L)
+                .retry(1, 0L, 0L)
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            api(policy).streamRestaurantList(null, null).execute();
+            fail("Header datang setelah read timeout, call harus gagal");
+        } catch (InterruptedIOException expected) {
+            // SocketTimeoutException
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500L);
+    }
+
+    @Test
+    public void callTimeout_boundsAllRetries() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(1, TimeUnit.SECONDS));
+        }
+        NetworkPolicy policy = policy()
+                .timeouts(1_000L, 300L, 1_000L, 500L)
+                .retry(5, 10L, 10L)
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            api(policy).streamRestaurantList(null, null).execute();
+            fail("callTimeout harus memotong retry");
+        } catch (IOException expected) {
+            // InterruptedIOException "timeout" atau "Canceled"
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000L);
+    }
+
+    @Test
+    public void slowPrimary_hedgeWins() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(2, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setBody(BODY));
+        NetworkPolicy policy = policy().hedgeDelay(100L).build();
+
+        long start = System.nanoTime();
+        List<Restaurant> restaurants = api(policy).streamRestaurantList(null, null).execute().body();
+
+        assertEquals(1, restaurants.size());
+        assertEquals(2, server.getRequestCount());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500L);
+    }
+
+    @Test
+    public void fastResponse_noHedge() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY));
+        NetworkPolicy policy = policy().hedgeDelay(1_000L).build();
+
+        api(policy).streamRestaurantList(null, null).execute();
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void breakerOpen_failsFastWithoutTouchingServer() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+        }
+        RestaurantApiService api = api(policy().retry(1, 0L, 0L).circuitBreaker(2, 60_000L).build());
+
+        assertEquals(500, api.streamRestaurantList(null, null).execute().code());
+        assertEquals(500, api.streamRestaurantList(null, null).execute().code());
+        try {
+            api.streamRestaurantList(null, null).execute();
+            fail("Circuit harus OPEN setelah 2 kegagalan");
+        } catch (CircuitOpenException expected) {
+            // ok
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void halfOpen_singleProbeClosesOrReopensCircuit() throws Exception {
+        long[] now = {0L};
+        CircuitBreaker breaker = new CircuitBreaker(1, 1_000L, () -> now[0]);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(breaker).build();
+        Request request = new Request.Builder().url(server.url("/list")).build();
+
+        server.enqueue(new MockResponse().setResponseCode(502));
+        client.newCall(request).execute().close();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // Probe gagal → OPEN lagi
+        now[0] = 1_000L;
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        server.enqueue(new MockResponse().setResponseCode(503));
+        client.newCall(request).execute().close();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        try {
+            client.newCall(request).execute();
+            fail("Circuit OPEN lagi, call harus ditolak");
+        } catch (CircuitOpenException expected) {
+            // ok
+        }
+
+        // Probe sukses → CLOSED
+        now[0] = 2_000L;
+        server.enqueue(new MockResponse().setBody(BODY));
+        client.newCall(request).execute().close();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void breakerOpen_offlineFirstServesCacheImmediately() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        NetworkPolicy policy = policy().retry(1, 0L, 0L).circuitBreaker(1, 60_000L).build();
+        RestaurantLocalDataSource local = new RestaurantLocalDataSource(folder.getRoot());
+        List<Restaurant> cachedList = Collections.singletonList(
+                new Restaurant("c1", "Cached", "", "", "Medan", 4.0));
+        local.write(cachedList, 0L);
+        // Cache EXPIRED: repository menunggu network, cache hanya fallback
+        RestaurantRepository repository = new OfflineFirstRestaurantRepository(
+                new RestaurantRepositoryImpl(api(policy), Runnable::run),
+                local, new CachePolicy(1L, 1L), Runnable::run, () -> 1_000_000L);
+
+        List<String> first = load(repository);
+        List<String> second = load(repository);
+
+        assertEquals(Collections.singletonList("Cached"), first);
+        assertEquals(Collections.singletonList("Cached"), second);
+        // Refresh kedua ditolak breaker, tidak sampai ke server
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private static List<String> load(RestaurantRepository repository) {
+        List<String> names = new ArrayList<>();
+        repository.getRestaurants(new RestaurantRepository.RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                for (Restaurant restaurant : restaurants) {
+                    names.add(restaurant.getName());
+                }
+            }
+
+            @Override
+            public void onError(String error) {
+                fail("Cache harus dipakai saat network gagal: " + error);
+            }
+        });
+        return names;
+    }
+
+    private static NetworkPolicy.Builder policy() {
+        return new NetworkPolicy.Builder()
+                .timeouts(1_000L, 1_000L, 1_000L, 5_000L)
+                .retry(3, 10L, 50L)
+                .hedgeDelay(0L)
+                .circuitBreaker(0, 0L);
+    }
+
+    private RestaurantApiService api(NetworkPolicy policy) {
+        return RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null, policy), policy)
+                .create(RestaurantApiService.class);
+    }
+}
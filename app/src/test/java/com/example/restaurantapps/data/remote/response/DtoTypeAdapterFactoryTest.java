@@ -0,0 +1,71 @@
+package com.example.restaurantapps.data.remote.response;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Adapter tanpa reflection harus menghasilkan DTO yang sama persis dengan Gson reflektif.
+ * Perbandingan lewat toJson() reflektif: field yang lupa dibaca adapter langsung beda.
+ */
+public class DtoTypeAdapterFactoryTest {
+
+    private static final String LIST_JSON = "{\"error\":false,\"message\":\"success\",\"count\":2,"
+            + "\"unknown\":{\"nested\":[1,2]},\"restaurants\":["
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"description\":\"Lorem \\\"ipsum\\\"\","
+            + "\"pictureId\":\"14\",\"city\":\"Medan\",\"rating\":4.2,\"extra\":true},"
+            + "{\"id\":\"r2\",\"name\":\"Kafe Kita\",\"description\":null,\"pictureId\":\"25\","
+            + "\"city\":\"Gorontalo\",\"rating\":\"4\"}]}";
+
+    private static final String DETAIL_JSON = "{\"error\":false,\"message\":\"success\",\"restaurant\":"
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"description\":\"Lorem\",\"city\":\"Medan\","
+            + "\"address\":\"Jln. Pandeglang no 19\",\"pictureId\":\"14\",\"rating\":4.2,"
+            + "\"categories\":[{\"name\":\"Italia\"},{\"name\":\"Modern\"}],"
+            + "\"menus\":{\"foods\":[{\"name\":\"Paket rosemary\"}],\"drinks\":[{\"name\":\"Es krim\"}]},"
+            + "\"customerReviews\":[{\"name\":\"Ahmad\",\"review\":\"Tidak rekomendasi\",\"date\":\"13 November 2019\"}]}}";
+
+    private final Gson reflective = new Gson();
+    private final Gson generated = DtoTypeAdapterFactory.gson();
+
+    @Test
+    public void listResponse_matchesReflectiveGson() {
+        RestaurantResponse expected = reflective.fromJson(LIST_JSON, RestaurantResponse.class);
+        RestaurantResponse actual = generated.fromJson(LIST_JSON, RestaurantResponse.class);
+
+        assertSameJson(expected, actual);
+        assertEquals(2, actual.getRestaurants().size());
+        assertEquals(4.0, actual.getRestaurants().get(1).getRating(), 0.0);
+        assertNull(actual.getRestaurants().get(1).getDescription());
+    }
+
+    @Test
+    public void detailResponse_matchesReflectiveGson() {
+        RestaurantDetailResponse expected = reflective.fromJson(DETAIL_JSON, RestaurantDetailResponse.class);
+        RestaurantDetailResponse actual = generated.fromJson(DETAIL_JSON, RestaurantDetailResponse.class);
+
+        assertSameJson(expected, actual);
+        assertEquals("Es krim", actual.getRestaurant().getMenus().getDrinks().get(0).getName());
+    }
+
+    @Test
+    public void write_roundTripsThroughReflectiveGson() {
+        RestaurantDetailResponse parsed = generated.fromJson(DETAIL_JSON, RestaurantDetailResponse.class);
+
+        RestaurantDetailResponse reparsed = reflective.fromJson(generated.toJson(parsed), RestaurantDetailResponse.class);
+
+        assertSameJson(parsed, reparsed);
+    }
+
+    @Test
+    public void nullBody_isNull() {
+        assertNull(generated.fromJson("null", RestaurantResponse.class));
+    }
+
+    private void assertSameJson(Object expected, Object actual) {
+        assertEquals(JsonParser.parseString(reflective.toJson(expected)),
+                JsonParser.parseString(reflective.toJson(actual)));
+    }
+}
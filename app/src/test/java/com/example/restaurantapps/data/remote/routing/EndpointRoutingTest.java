@@ -0,0 +1,182 @@
+package com.example.restaurantapps.data.remote.routing;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.remote.resilience.NetworkPolicy;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.image.ImageVariant;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Routing multi-region dengan 3 MockWebServer berlatensi berbeda
+ * (far 300 ms, near 0 ms, mid 100 ms). Probe dijalankan langsung (Runnable::run).
+ */
+public class EndpointRoutingTest {
+
+    private static final String BODY = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"pictureId\":\"14\",\"city\":\"Medan\",\"rating\":4.2}]}";
+
+    private Region far;
+    private Region near;
+    private Region mid;
+    private EndpointSelector selector;
+    private OkHttpClient client;
+    private RestaurantApiService api;
+
+    @Before
+    public void setUp() throws Exception {
+        far = new Region("far", 300);
+        near = new Region("near", 0);
+        mid = new Region("mid", 100);
+        // far = primary: base URL Retrofit
+        selector = new EndpointSelector(Arrays.asList(far.endpoint, near.endpoint, mid.endpoint));
+        NetworkPolicy policy = new NetworkPolicy.Builder()
+                .retry(2, 0L, 0L)
+                .hedgeDelay(0L)
+                .circuitBreaker(0, 0L)
+                .build();
+        client = EndpointRoutingInterceptor.install(
+                RetrofitClient.buildHttpClient(null, policy), selector, Runnable::run);
+        api = RetrofitClient
+                .create(far.endpoint.getApiBaseUrl().toString(), client, policy)
+                .create(RestaurantApiService.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ImageUrlBuilder.setDefaultBaseUrl(null);
+        far.server.shutdown();
+        near.server.shutdown();
+        mid.server.shutdown();
+    }
+
+    @Test
+    public void firstRequest_probesAndRoutesToFastestRegion() throws Exception {
+        List<Restaurant> restaurants = api.streamRestaurantList(null, null).execute().body();
+
+        assertEquals(1, restaurants.size());
+        assertSame(near.endpoint, selector.current());
+        assertEquals(1, near.apiRequests());
+        assertEquals(0, far.apiRequests());
+        assertTrue(selector.getRttMillis(far.endpoint) >= 300L);
+    }
+
+    @Test
+    public void imageUrls_followSelectedRegion() throws Exception {
+        ImageUrlBuilder.setDefaultBaseUrl(selector::currentImageBaseUrl);
+        Restaurant restaurant = new Restaurant("r1", "Melting Pot", "", "14", "Medan", 4.2);
+        assertEquals(far.endpoint.getImageBaseUrl() + "medium/14", restaurant.getPictureUrl());
+
+        api.streamRestaurantList(null, null).execute();
+
+        // Builder yang sama (getDefault) ikut pindah region
+        assertEquals(near.endpoint.getImageBaseUrl() + "medium/14", restaurant.getPictureUrl());
+        assertEquals(near.endpoint.getImageBaseUrl() + "small/14",
+                ImageUrlBuilder.getDefault().build("14", ImageVariant.SMALL));
+    }
+
+    @Test
+    public void failingRegion_retriedOnNextFastestAndSticks() throws Exception {
+        api.streamRestaurantList(null, null).execute();
+        near.failing = true;
+
+        List<Restaurant> restaurants = api.streamRestaurantList(null, null).execute().body();
+
+        // 503 dari near → retry langsung ke mid (tercepat berikutnya)
+        assertEquals(1, restaurants.size());
+        assertSame(mid.endpoint, selector.current());
+        assertEquals(1, mid.apiRequests());
+
+        // near pulih, tetapi endpoint aktif tetap mid (sticky) sampai probe berikutnya
+        near.failing = false;
+        api.streamRestaurantList(null, null).execute();
+        assertSame(mid.endpoint, selector.current());
+        assertEquals(2, mid.apiRequests());
+    }
+
+    @Test
+    public void selector_switchesOnlyWhenClearlyFaster() {
+        long[] now = {0L};
+        EndpointSelector sticky = new EndpointSelector(
+                Arrays.asList(far.endpoint, near.endpoint), 1_000L, () -> now[0]);
+
+        sticky.onProbeResults(new long[]{100L, 50L});
+        assertSame(near.endpoint, sticky.current());
+
+        // EWMA far: 100 → 70 → 49. 49 < 50 tetapi belum < 0.8 × 50: tetap di near
+        sticky.onProbeResults(new long[]{0L, 50L});
+        sticky.onProbeResults(new long[]{0L, 50L});
+        assertEquals(49L, sticky.getRttMillis(far.endpoint));
+        assertSame(near.endpoint, sticky.current());
+
+        // far 34 ms: jelas lebih cepat → pindah
+        sticky.onProbeResults(new long[]{0L, 50L});
+        assertSame(far.endpoint, sticky.current());
+
+        // far gagal → fallback ke near, far kembali sehat setelah unhealthyMillis
+        sticky.markFailed(far.endpoint);
+        assertSame(near.endpoint, sticky.current());
+        assertFalse(sticky.isHealthy(far.endpoint));
+        now[0] = 1_000L;
+        assertTrue(sticky.isHealthy(far.endpoint));
+        assertSame(near.endpoint, sticky.current());
+    }
+
+    @Test
+    public void unreachableRegion_markedUnhealthyByProbe() throws Exception {
+        mid.server.shutdown();
+
+        api.streamRestaurantList(null, null).execute();
+
+        assertFalse(selector.isHealthy(mid.endpoint));
+        assertTrue(selector.isHealthy(near.endpoint));
+    }
+
+    /**
+     * Satu region = satu MockWebServer dengan latensi tetap.
+     */
+    private static final class Region {
+        final MockWebServer server = new MockWebServer();
+        final Endpoint endpoint;
+        volatile boolean failing;
+        private final AtomicInteger apiRequests = new AtomicInteger();
+
+        Region(String name, long latencyMillis) throws Exception {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    MockResponse response = new MockResponse()
+                            .setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS);
+                    if ("HEAD".equals(request.getMethod())) {
+                        return response;
+                    }
+                    apiRequests.incrementAndGet();
+                    return failing ? response.setResponseCode(503) : response.setBody(BODY);
+                }
+            });
+            server.start();
+            endpoint = new Endpoint(name, server.url("/api/").toString(), server.url("/images/").toString());
+        }
+
+        int apiRequests() {
+            return apiRequests.get();
+        }
+    }
+}
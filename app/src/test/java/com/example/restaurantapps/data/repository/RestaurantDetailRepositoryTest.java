@@ -0,0 +1,174 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantDetail;
+import com.example.restaurantapps.domain.repository.DetailPrefetchPolicy;
+import com.example.restaurantapps.domain.repository.RestaurantDetailRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test repository detail terhadap MockWebServer: hit ratio, eviction LRU
+ * berbasis ukuran, dan prefetch.
+ */
+public class RestaurantDetailRepositoryTest {
+
+    private MockWebServer server;
+    private ExecutorService worker;
+    private RestaurantApiService api;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path == null || !path.startsWith("/detail/")) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                return new MockResponse().setBody(detailJson(path.substring("/detail/".length())));
+            }
+        });
+        server.start();
+        worker = Executors.newFixedThreadPool(3);
+        api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        worker.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void repeatedDetail_servedFromCache() throws Exception {
+        RestaurantDetailRepositoryImpl repository = newRepository(RestaurantDetailRepositoryImpl.DEFAULT_CACHE_SIZE_BYTES);
+
+        RestaurantDetail first = await(repository, "r1");
+        RestaurantDetail second = await(repository, "r1");
+        await(repository, "r1");
+
+        assertEquals("Kafe r1", first.getName());
+        assertEquals(Arrays.asList("Nasi", "Sate"), first.getFoods());
+        assertEquals(1, first.getReviews().size());
+        assertSame(first, second);
+        assertEquals(1, server.getRequestCount());
+        assertEquals(2, repository.getCache().getHitCount());
+        assertEquals(1, repository.getCache().getMissCount());
+        assertEquals(2 / 3.0, repository.getCache().getHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void cacheOverBudget_evictsLeastRecentlyUsed() throws Exception {
+        // Budget pas untuk 2 detail (semua detail di test ini berukuran sama)
+        int entrySize = RestaurantDetailCache.estimateSizeBytes(await(newRepository(1 << 20), "r1"));
+        RestaurantDetailRepositoryImpl repository = newRepository(entrySize * 2 + entrySize / 2);
+        int requestsBefore = server.getRequestCount();
+
+        await(repository, "r1");
+        await(repository, "r2");
+        await(repository, "r1");   // r1 paling baru dipakai → r2 yang tertua
+        await(repository, "r3");   // melebihi budget → r2 dibuang
+
+        RestaurantDetailCache cache = repository.getCache();
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getEntryCount());
+        assertTrue(cache.getSizeBytes() <= cache.getMaxSizeBytes());
+        assertTrue(cache.contains("r1"));
+        assertFalse(cache.contains("r2"));
+
+        await(repository, "r2");   // harus ke network lagi
+        assertEquals(4, server.getRequestCount() - requestsBefore);
+    }
+
+    @Test
+    public void prefetchedDetail_isCacheHitWithoutExtraRequest() throws Exception {
+        RestaurantDetailRepositoryImpl repository = newRepository(RestaurantDetailRepositoryImpl.DEFAULT_CACHE_SIZE_BYTES);
+        Restaurant low = new Restaurant("low", "Low", null, "p", "Medan", 3.1);
+        Restaurant top = new Restaurant("top", "Top", null, "p", "Medan", 4.9);
+        Restaurant mid = new Restaurant("mid", "Mid", null, "p", "Medan", 4.2);
+
+        assertEquals(Arrays.asList("top", "mid"),
+                DetailPrefetchPolicy.select(Arrays.asList(low, top, mid), 2));
+
+        repository.prefetch(DetailPrefetchPolicy.select(Arrays.asList(low, top, mid), 2));
+        // Prefetch kedua untuk id yang sama (sedang berjalan / sudah di cache) dilewati
+        repository.prefetch(Collections.singletonList("top"));
+        awaitCached(repository, "top");
+        awaitCached(repository, "mid");
+
+        RestaurantDetail detail = await(repository, "top");
+        assertEquals("Kafe top", detail.getName());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(2, repository.getPrefetchCount());
+        // Prefetch tidak dihitung sebagai miss: tap pertama langsung hit
+        assertEquals(1, repository.getCache().getHitCount());
+        assertEquals(0, repository.getCache().getMissCount());
+    }
+
+    private RestaurantDetailRepositoryImpl newRepository(long cacheBytes) {
+        return new RestaurantDetailRepositoryImpl(api, worker, new RestaurantDetailCache(cacheBytes));
+    }
+
+    private static RestaurantDetail await(RestaurantDetailRepository repository, String id) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<RestaurantDetail> result = new AtomicReference<>();
+        AtomicReference<String> error = new AtomicReference<>();
+        repository.getRestaurantDetail(id, new RestaurantDetailRepository.DetailCallback() {
+            @Override
+            public void onDetail(RestaurantDetail detail) {
+                result.set(detail);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                error.set(message);
+                latch.countDown();
+            }
+        });
+        assertTrue("timeout", latch.await(5, TimeUnit.SECONDS));
+        assertNull(error.get());
+        return result.get();
+    }
+
+    private static void awaitCached(RestaurantDetailRepositoryImpl repository, String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!repository.getCache().contains(id) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue("Prefetch " + id + " tidak masuk cache", repository.getCache().contains(id));
+    }
+
+    private static String detailJson(String id) {
+        return "{\"error\":false,\"message\":\"success\",\"restaurant\":{"
+                + "\"id\":\"" + id + "\",\"name\":\"Kafe " + id + "\",\"description\":\"Deskripsi\","
+                + "\"city\":\"Medan\",\"address\":\"Jln. Pandeglang no 19\",\"pictureId\":\"14\","
+                + "\"categories\":[{\"name\":\"Italia\"}],"
+                + "\"menus\":{\"foods\":[{\"name\":\"Nasi\"},{\"name\":\"Sate\"}],\"drinks\":[{\"name\":\"Es teh\"}]},"
+                + "\"rating\":4.2,"
+                + "\"customerReviews\":[{\"name\":\"Ahmad\",\"review\":\"Enak\",\"date\":\"13 November 2019\"}]}}";
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.Cache;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test conditional request & HTTP cache RestaurantRepositoryImpl terhadap MockWebServer lokal.
+ */
+public class RestaurantRepositoryImplTest {
+
+    private static final String BODY = "{\"error\":false,\"message\":\"success\",\"count\":1,"
+            + "\"restaurants\":[{\"id\":\"r1\",\"name\":\"Melting Pot\",\"description\":\"desc\","
+            + "\"pictureId\":\"14\",\"city\":\"Medan\",\"rating\":4.2}]}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void fullFetch_convertsBody() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        RestaurantRepositoryImpl repository = newRepository(null);
+        List<Restaurant> restaurants = await(repository);
+
+        assertEquals(1, restaurants.size());
+        assertEquals("Melting Pot", restaurants.get(0).getName());
+        assertEquals(RestaurantRepositoryImpl.FetchSource.NETWORK, repository.getLastFetchSource());
+    }
+
+    @Test
+    public void notModified_reusesPreviousDomainList() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY)
+                .setHeader("ETag", "\"v1\"")
+                .setHeader("Last-Modified", "Mon, 01 Jan 2024 00:00:00 GMT"));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        RestaurantRepositoryImpl repository = newRepository(null);
+        List<Restaurant> first = await(repository);
+        List<Restaurant> second = await(repository);
+
+        server.takeRequest();
+        RecordedRequest conditional = server.takeRequest();
+        assertEquals("\"v1\"", conditional.getHeader("If-None-Match"));
+        assertEquals("Mon, 01 Jan 2024 00:00:00 GMT", conditional.getHeader("If-Modified-Since"));
+
+        // 304: instance list yang SAMA, tidak ada konversi ulang
+        assertSame(first, second);
+        assertEquals(RestaurantRepositoryImpl.FetchSource.NOT_MODIFIED, repository.getLastFetchSource());
+    }
+
+    @Test
+    public void cachedResponse_servedWithoutNetwork() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeader("Cache-Control", "max-age=60"));
+
+        Cache cache = new Cache(folder.newFolder("http"), 1024 * 1024);
+        List<Restaurant> first = await(newRepository(cache));
+        RestaurantRepositoryImpl coldRepository = newRepository(cache);
+        List<Restaurant> second = await(coldRepository);
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(first.get(0).getId(), second.get(0).getId());
+        assertEquals(RestaurantRepositoryImpl.FetchSource.HTTP_CACHE, coldRepository.getLastFetchSource());
+    }
+
+    @Test
+    public void paging_serverIgnoringLimitIsSlicedOnce() throws Exception {
+        String three = "{\"error\":false,\"restaurants\":["
+                + "{\"id\":\"a\",\"name\":\"A\"},{\"id\":\"b\",\"name\":\"B\"},{\"id\":\"c\",\"name\":\"C\"}]}";
+        server.enqueue(new MockResponse().setBody(three).setHeader("ETag", "\"p\""));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        RestaurantRepositoryImpl repository = newRepository(null);
+        RestaurantPage first = awaitPage(repository, new PageRequest(0, 2, 1));
+        RestaurantPage second = awaitPage(repository, new PageRequest(1, 2, 1));
+
+        assertEquals("/list?page=1&limit=2", server.takeRequest().getPath());
+        // Halaman 2: server terdeteksi tidak mendukung paging → full list (conditional)
+        RecordedRequest secondRequest = server.takeRequest();
+        assertEquals("/list", secondRequest.getPath());
+        assertEquals("\"p\"", secondRequest.getHeader("If-None-Match"));
+        assertEquals(2, first.getItems().size());
+        assertEquals(Integer.valueOf(1), first.getNextKey());
+        assertEquals("C", second.getItems().get(0).getName());
+        assertTrue(second.isLastPage());
+    }
+
+    private static RestaurantPage awaitPage(RestaurantRepository repository, PageRequest request)
+            throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<RestaurantPage> result = new AtomicReference<>();
+        repository.getRestaurantPage(request, new RestaurantRepository.PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                result.set(page);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String error) {
+                latch.countDown();
+            }
+        });
+        assertTrue("timeout", latch.await(5, TimeUnit.SECONDS));
+        assertNotNull(result.get());
+        return result.get();
+    }
+
+    private RestaurantRepositoryImpl newRepository(Cache cache) {
+        RestaurantApiService api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(cache))
+                .create(RestaurantApiService.class);
+        return new RestaurantRepositoryImpl(api);
+    }
+
+    private static List<Restaurant> await(RestaurantRepository repository) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<List<Restaurant>> result = new AtomicReference<>();
+        AtomicReference<String> error = new AtomicReference<>();
+        repository.getRestaurants(new RestaurantRepository.RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                result.set(restaurants);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                error.set(message);
+                latch.countDown();
+            }
+        });
+        assertTrue("timeout", latch.await(5, TimeUnit.SECONDS));
+        assertNull(error.get(), error.get());
+        return result.get();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.executor.ThreadContract;
+import com.example.restaurantapps.data.mapper.RestaurantMapper;
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.remote.response.RestaurantDto;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test kontrak threading: thread test berperan sebagai "main thread"
+ * (lewat ThreadContract checker). Parsing/mapping di thread ini → IllegalStateException,
+ * jadi test yang sukses membuktikan tidak ada parsing/mapping di main thread.
+ */
+public class RestaurantRepositoryThreadingTest {
+
+    private static final String BODY = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"city\":\"Medan\",\"rating\":4.2}]}";
+
+    private MockWebServer server;
+    private ExecutorService worker;
+    private Thread mainThread;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        worker = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "test-worker"));
+        mainThread = Thread.currentThread();
+        ThreadContract.setMainThreadChecker(() -> Thread.currentThread() == mainThread);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ThreadContract.setMainThreadChecker(null);
+        worker.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void parsingAndCallbackRunOnInjectedExecutor() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> callbackThread = new AtomicReference<>();
+        AtomicReference<List<Restaurant>> result = new AtomicReference<>();
+        newRepository(worker).getRestaurants(new RestaurantRepository.RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                callbackThread.set(Thread.currentThread().getName());
+                result.set(restaurants);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String error) {
+                callbackThread.set(Thread.currentThread().getName());
+                latch.countDown();
+            }
+        });
+
+        assertTrue("timeout", latch.await(5, TimeUnit.SECONDS));
+        assertEquals("test-worker", callbackThread.get());
+        assertNotNull("Parsing gagal (kontrak threading dilanggar?)", result.get());
+        assertEquals("Melting Pot", result.get().get(0).getName());
+    }
+
+    @Test
+    public void parsingOnMainThreadViolatesContract() {
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        // Executor langsung = call.execute() + parsing di "main thread"
+        RestaurantRepositoryImpl repository = newRepository(Runnable::run);
+        assertThrows(IllegalStateException.class, () -> repository.getRestaurants(
+                new RestaurantRepository.RestaurantCallback() {
+                    @Override
+                    public void onSuccess(List<Restaurant> restaurants) {
+                        fail("Parsing tidak boleh berhasil di main thread");
+                    }
+
+                    @Override
+                    public void onError(String error) {
+                        fail("Pelanggaran kontrak harus crash, bukan error biasa: " + error);
+                    }
+                }));
+    }
+
+    @Test
+    public void mappingOnMainThreadViolatesContract() {
+        List<RestaurantDto> dtos = Collections.singletonList(new RestaurantDto());
+
+        assertThrows(IllegalStateException.class, () -> RestaurantMapper.convertDtoToDomain(dtos));
+    }
+
+    private RestaurantRepositoryImpl newRepository(Executor executor) {
+        RestaurantApiService api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        return new RestaurantRepositoryImpl(api, executor);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.restaurantapps.data.repository;
+
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test single-flight: jumlah HTTP request yang benar-benar sampai ke MockWebServer.
+ */
+public class SingleFlightRestaurantRepositoryTest {
+
+    private static final String BODY = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"r1\",\"name\":\"Melting Pot\",\"city\":\"Medan\",\"rating\":4.2}]}";
+    private static final long MIN_INTERVAL = 10_000L;
+
+    private MockWebServer server;
+    private ExecutorService worker;
+    private AtomicLong now;
+    private SingleFlightRestaurantRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        worker = Executors.newFixedThreadPool(3);
+        now = new AtomicLong(100_000L);
+        RestaurantApiService api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        repository = new SingleFlightRestaurantRepository(
+                new RestaurantRepositoryImpl(api, worker), MIN_INTERVAL, now::get);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        worker.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void concurrentRequests_shareOneHttpCall() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        Recorder recorder = new Recorder(3);
+        for (int i = 0; i < 3; i++) {
+            repository.getRestaurants(recorder);
+        }
+
+        assertTrue("timeout", recorder.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+        assertSame(recorder.results.get(0), recorder.results.get(1));
+        assertSame(recorder.results.get(0), recorder.results.get(2));
+    }
+
+    @Test
+    public void refreshWithinMinInterval_isThrottled() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY));
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        awaitOne(repository);
+        now.addAndGet(MIN_INTERVAL - 1);
+        awaitOne(repository);
+        assertEquals(1, server.getRequestCount());
+
+        now.addAndGet(1);
+        awaitOne(repository);
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void cancellingOneWaiter_keepsFlightForOthers() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        Recorder cancelled = new Recorder(1);
+        Recorder kept = new Recorder(1);
+        Cancellable handle = repository.getRestaurants(cancelled);
+        repository.getRestaurants(kept);
+        handle.cancel();
+
+        assertTrue("timeout", kept.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+        assertTrue(cancelled.results.isEmpty());
+        assertTrue(cancelled.errors.isEmpty());
+    }
+
+    @Test
+    public void cancellingLastWaiter_cancelsHttpCall() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(2, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setBody(BODY));
+
+        Recorder cancelled = new Recorder(1);
+        Cancellable handle = repository.getRestaurants(cancelled);
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+        handle.cancel();
+
+        // Flight sudah dilepas: request berikutnya langsung ke network, tidak menunggu 2 detik
+        long start = System.nanoTime();
+        awaitOne(repository);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500);
+        assertEquals(2, server.getRequestCount());
+        assertFalse(cancelled.latch.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void samePageRequestedTwice_sharesOneHttpCall() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        CountDownLatch latch = new CountDownLatch(2);
+        List<RestaurantPage> pages = new CopyOnWriteArrayList<>();
+        RestaurantRepository.PageCallback callback = new RestaurantRepository.PageCallback() {
+            @Override
+            public void onPage(RestaurantPage page) {
+                pages.add(page);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String error) {
+                latch.countDown();
+            }
+        };
+        repository.getRestaurantPage(new PageRequest(0, 20, 6), callback);
+        repository.getRestaurantPage(new PageRequest(0, 20, 6), callback);
+
+        assertTrue("timeout", latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+        assertEquals(2, pages.size());
+        assertSame(pages.get(0), pages.get(1));
+    }
+
+    private static void awaitOne(RestaurantRepository repository) throws InterruptedException {
+        Recorder recorder = new Recorder(1);
+        repository.getRestaurants(recorder);
+        assertTrue("timeout", recorder.latch.await(5, TimeUnit.SECONDS));
+        assertTrue(recorder.errors.toString(), recorder.errors.isEmpty());
+    }
+
+    private static class Recorder implements RestaurantRepository.RestaurantCallback {
+        final CountDownLatch latch;
+        final List<List<Restaurant>> results = new CopyOnWriteArrayList<>();
+        final List<String> errors = new CopyOnWriteArrayList<>();
+
+        Recorder(int expected) {
+            latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onSuccess(List<Restaurant> restaurants) {
+            results.add(restaurants);
+            latch.countDown();
+        }
+
+        @Override
+        public void onError(String error) {
+            errors.add(error);
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.restaurantapps.data.sync;
+
+import com.example.restaurantapps.data.local.CachePolicy;
+import com.example.restaurantapps.data.local.OfflineFirstRestaurantRepository;
+import com.example.restaurantapps.data.local.RestaurantLocalDataSource;
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryImpl;
+import com.example.restaurantapps.data.repository.SingleFlightRestaurantRepository;
+import com.example.restaurantapps.domain.image.ImageUrlBuilder;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Background sync dengan repository asli (Retrofit + cache disk) dan MockWebServer.
+ * Worker Android-nya diuji di androidTest (RestaurantSyncWorkerTest, TestDriver WorkManager).
+ */
+public class RestaurantSyncTest {
+
+    private static final long TTL = 1_000L;
+    private static final String LIST = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"a\",\"name\":\"Kafe Kita\",\"pictureId\":\"25\",\"city\":\"Gorontalo\",\"rating\":4.2},"
+            + "{\"id\":\"b\",\"name\":\"Melting Pot\",\"pictureId\":\"14\",\"city\":\"Medan\",\"rating\":4.5},"
+            + "{\"id\":\"c\",\"name\":\"Bring Your Phone\",\"pictureId\":\"03\",\"city\":\"Surabaya\",\"rating\":4.0}]}";
+    private static final String SNAPSHOT = "{\"error\":false,\"version\":1,\"full\":true,\"upserts\":["
+            + "{\"id\":\"a\",\"name\":\"Kafe Kita\",\"pictureId\":\"25\",\"city\":\"Gorontalo\",\"rating\":4.2}],"
+            + "\"deletes\":[]}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private RestaurantApiService api;
+    private RestaurantLocalDataSource local;
+    private ExecutorService networkIO;
+    private long now;
+
+    // Skrip server
+    private volatile int listStatus = 200;
+    private volatile String listBody = LIST;
+    private final AtomicInteger listCalls = new AtomicInteger();
+    private final AtomicInteger deltaCalls = new AtomicInteger();
+    private final List<String> prefetched = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath() != null ? request.getPath() : "";
+                if (path.startsWith("/list/delta")) {
+                    deltaCalls.incrementAndGet();
+                    // Lambat: load UI masih in-flight saat sync dimulai
+                    return new MockResponse().setBody(SNAPSHOT).setBodyDelay(300, TimeUnit.MILLISECONDS);
+                }
+                listCalls.incrementAndGet();
+                return new MockResponse().setResponseCode(listStatus).setBody(listBody);
+            }
+        });
+        server.start();
+        api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        local = new RestaurantLocalDataSource(folder.getRoot());
+        networkIO = Executors.newFixedThreadPool(2);
+        now = 100_000L;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        networkIO.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void firstSync_refreshesStoreAndPrefetchesTopThumbnails() throws Exception {
+        RestaurantSync.Outcome outcome = newSync(newRepository(false), 2).run();
+
+        assertEquals(RestaurantSync.Status.CHANGED, outcome.getStatus());
+        assertEquals(3, outcome.getRestaurantCount());
+        assertEquals(2, outcome.getPrefetchedThumbnails());
+        assertEquals(2, prefetched.size());
+        assertEquals("https://img.test/small/25", prefetched.get(0));
+        assertEquals(3, local.read().getRestaurants().size());
+    }
+
+    @Test
+    public void prefetch_usesVariantOfLastMeasuredCell() throws Exception {
+        RestaurantSync sync = new RestaurantSync(newRepository(false), urls -> {
+            prefetched.addAll(urls);
+            return urls.size();
+        }, new ImageUrlBuilder("https://img.test/"), 2, () -> 540);
+
+        sync.run();
+
+        // Cell 540 px → grid memuat MEDIUM; item pertama dalam urutan list, bukan rating tertinggi
+        assertEquals(2, prefetched.size());
+        assertEquals("https://img.test/medium/25", prefetched.get(0));
+        assertEquals("https://img.test/medium/14", prefetched.get(1));
+    }
+
+    @Test
+    public void syncWithinTtl_isFreshWithoutNetwork() throws Exception {
+        RestaurantSync sync = newSync(newRepository(false), 2);
+        sync.run();
+
+        RestaurantSync.Outcome outcome = sync.run();
+
+        assertEquals(RestaurantSync.Status.FRESH, outcome.getStatus());
+        assertEquals(1, listCalls.get());
+    }
+
+    @Test
+    public void staleSyncWithSameList_isUnchanged() throws Exception {
+        RestaurantSync sync = newSync(newRepository(false), 2);
+        sync.run();
+        now += TTL * 2;
+
+        RestaurantSync.Outcome outcome = sync.run();
+
+        assertEquals(RestaurantSync.Status.UNCHANGED, outcome.getStatus());
+        assertEquals(2, listCalls.get());
+    }
+
+    @Test
+    public void failedRefresh_isReportedInsteadOfCachedList() throws Exception {
+        RestaurantSync sync = newSync(newRepository(false), 2);
+        sync.run();
+        now += TTL * 2;
+        listStatus = 404;
+        listBody = "";
+
+        RestaurantSync.Outcome outcome = sync.run();
+
+        assertEquals(RestaurantSync.Status.FAILED, outcome.getStatus());
+        assertNotNull(outcome.getError());
+        // Prefetch hanya untuk sync yang berhasil
+        assertEquals(2, prefetched.size());
+    }
+
+    @Test
+    public void foregroundLoadAndSync_shareOneRequest() throws Exception {
+        OfflineFirstRestaurantRepository repository = newRepository(true);
+        CountDownLatch foreground = new CountDownLatch(1);
+        repository.getRestaurants(new RestaurantRepository.RestaurantCallback() {
+            @Override
+            public void onSuccess(List<Restaurant> restaurants) {
+                foreground.countDown();
+            }
+
+            @Override
+            public void onError(String error) {
+                fail(error);
+            }
+        });
+
+        RestaurantSync.Outcome outcome = newSync(repository, 2).run();
+
+        assertTrue(foreground.await(5, TimeUnit.SECONDS));
+        assertEquals(RestaurantSync.Status.CHANGED, outcome.getStatus());
+        assertEquals(1, deltaCalls.get());
+    }
+
+    @Test
+    public void interval_adaptsToChangesWithinBounds() {
+        long interval = SyncSchedule.DEFAULT_INTERVAL_MILLIS;
+
+        assertEquals(interval * 2, SyncSchedule.nextIntervalMillis(interval, RestaurantSync.Status.UNCHANGED));
+        assertEquals(interval / 2, SyncSchedule.nextIntervalMillis(interval, RestaurantSync.Status.CHANGED));
+        assertEquals(interval, SyncSchedule.nextIntervalMillis(interval, RestaurantSync.Status.FAILED));
+        assertEquals(SyncSchedule.MAX_INTERVAL_MILLIS, SyncSchedule.nextIntervalMillis(
+                SyncSchedule.MAX_INTERVAL_MILLIS, RestaurantSync.Status.FRESH));
+        assertEquals(SyncSchedule.MIN_INTERVAL_MILLIS, SyncSchedule.nextIntervalMillis(
+                SyncSchedule.MIN_INTERVAL_MILLIS, RestaurantSync.Status.CHANGED));
+    }
+
+    /**
+     * Susunan sama dengan RestaurantRepositoryProvider: impl → single-flight → offline-first.
+     */
+    private OfflineFirstRestaurantRepository newRepository(boolean delta) {
+        RestaurantRepositoryImpl api = new RestaurantRepositoryImpl(this.api, networkIO);
+        SingleFlightRestaurantRepository remote = new SingleFlightRestaurantRepository(
+                api, delta ? api : null, 0L);
+        return new OfflineFirstRestaurantRepository(remote, delta ? remote : null, local,
+                new CachePolicy(TTL, Long.MAX_VALUE / 2), Runnable::run, () -> now);
+    }
+
+    private RestaurantSync newSync(OfflineFirstRestaurantRepository repository, int thumbnails) {
+        return new RestaurantSync(repository, urls -> {
+            prefetched.addAll(urls);
+            return urls.size();
+        }, new ImageUrlBuilder("https://img.test/"), thumbnails);
+    }
+}
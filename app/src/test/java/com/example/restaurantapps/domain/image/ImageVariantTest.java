@@ -0,0 +1,44 @@
+package com.example.restaurantapps.domain.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test pemilihan varian gambar, URL, dan budget cache.
+ */
+public class ImageVariantTest {
+
+    private static final long MB = 1024L * 1024L;
+
+    @Test
+    public void forWidth_picksSmallestVariantCoveringCell() {
+        assertEquals(ImageVariant.SMALL, ImageVariant.forWidth(0));
+        assertEquals(ImageVariant.SMALL, ImageVariant.forWidth(320));
+        assertEquals(ImageVariant.MEDIUM, ImageVariant.forWidth(321));
+        assertEquals(ImageVariant.MEDIUM, ImageVariant.forWidth(540));
+        assertEquals(ImageVariant.LARGE, ImageVariant.forWidth(1080));
+        assertEquals(ImageVariant.LARGE, ImageVariant.forWidth(4000));
+    }
+
+    @Test
+    public void urlBuilder_usesVariantPath() {
+        assertEquals("https://restaurant-api.dicoding.dev/images/medium/14",
+                ImageUrlBuilder.getDefault().build("14", ImageVariant.MEDIUM));
+        assertEquals("http://localhost/img/small/14",
+                new ImageUrlBuilder("http://localhost/img").forWidth("14", 200));
+    }
+
+    @Test
+    public void cacheBudget_scalesWithMemoryClass() {
+        ImageCacheBudget normal = ImageCacheBudget.forMemoryClass(256, false);
+        assertEquals(32 * MB, normal.getMemoryCacheBytes());
+        assertEquals(16 * MB, normal.getBitmapPoolBytes());
+        assertEquals(250 * MB, normal.getDiskCacheBytes());
+
+        ImageCacheBudget lowRam = ImageCacheBudget.forMemoryClass(96, true);
+        assertEquals(8 * MB, lowRam.getMemoryCacheBytes());
+        assertEquals(4 * MB, lowRam.getBitmapPoolBytes());
+        assertEquals(32 * MB, lowRam.getDiskCacheBytes());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.restaurantapps.domain.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test model kompak: city di-intern, description dari tabel bersama.
+ */
+public class RestaurantTest {
+
+    @Test
+    public void cityIsSharedAcrossInstances() {
+        Restaurant a = new Restaurant("1", "A", null, "p", new String("Medan"), 4.2);
+        Restaurant b = new Restaurant("2", "B", null, "p", new String("Medan"), 4.0);
+
+        assertSame(a.getCity(), b.getCity());
+        assertEquals(4.2f, a.getRating(), 0f);
+        assertNull(a.getDescription());
+    }
+
+    @Test
+    public void descriptionTable_decodesAndComparesWithoutStrings() {
+        DescriptionTable table = new DescriptionTable(1, 16);
+        int first = table.append("Nasi goreng é pedas");
+        int missing = table.append(null);
+        int second = table.append("Nasi goreng é pedas");
+        table.trimToSize();
+
+        Restaurant a = new Restaurant("1", "A", table, first, "p", "Medan", 4.2);
+        Restaurant b = new Restaurant("2", "B", table, second, "p", "Medan", 4.2);
+        Restaurant c = new Restaurant("3", "C", table, missing, "p", "Medan", 4.2);
+        Restaurant d = new Restaurant("4", "D", "Nasi goreng", "p", "Medan", 4.2);
+
+        assertEquals("Nasi goreng é pedas", a.getDescription());
+        assertNull(c.getDescription());
+        assertTrue(a.hasSameDescription(b));
+        assertFalse(a.hasSameDescription(c));
+        assertFalse(a.hasSameDescription(d));
+    }
+
+    @Test
+    public void deltaMerge_copiesSurvivingDescriptionsIntoCompactTable() {
+        DescriptionTable response = new DescriptionTable(8, 256);
+        List<Restaurant> base = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            base.add(new Restaurant("r" + i, "R" + i, response, response.append("Desc " + i), "p", "Medan", 4.0));
+        }
+        RestaurantDelta delta = new RestaurantDelta(2, false, Arrays.asList(
+                new Restaurant("r0", "R0", "Baru 0", "p", "Medan", 4.5),
+                new Restaurant("r1", "R1", "Baru 1", "p", "Medan", 4.5)),
+                Arrays.asList("r2", "r3"));
+
+        List<Restaurant> merged = delta.applyTo(base);
+
+        // 4 dari 8 entry tabel response sudah mati: yang tersisa disalin, tabel lama lepas
+        assertEquals(6, merged.size());
+        DescriptionTable compacted = merged.get(0).getDescriptionTable();
+        assertNotSame(response, compacted);
+        assertEquals(6, compacted.size());
+        for (Restaurant restaurant : merged) {
+            assertSame(compacted, restaurant.getDescriptionTable());
+        }
+        assertEquals("Baru 0", merged.get(0).getDescription());
+        assertEquals("Desc 4", merged.get(2).getDescription());
+        assertTrue(merged.get(2).hasSameDescription(base.get(4)));
+    }
+
+    @Test
+    public void deltaMerge_keepsTableWhileFewEntriesAreDead() {
+        DescriptionTable response = new DescriptionTable(8, 256);
+        List<Restaurant> base = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            base.add(new Restaurant("r" + i, "R" + i, response, response.append("Desc " + i), "p", "Medan", 4.0));
+        }
+        List<Restaurant> merged = new RestaurantDelta(2, false,
+                Arrays.asList(new Restaurant("r0", "R0", "Baru 0", "p", "Medan", 4.5)), null).applyTo(base);
+
+        assertSame(base.get(1), merged.get(1));
+        assertSame(response, merged.get(7).getDescriptionTable());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.restaurantapps.domain.search;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test RestaurantFacetEngine: query gabungan, hitungan facet, update incremental.
+ */
+public class RestaurantFacetEngineTest {
+
+    private RestaurantFacetEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = new RestaurantFacetEngine();
+        engine.update(Arrays.asList(
+                restaurant("1", "Kafe Kita", "Medan", 4.1),
+                restaurant("2", "Bring Your Phone", "Surabaya", 4.7),
+                restaurant("3", "Melting Pot", "Medan", 4.6),
+                restaurant("4", "Warung Lama", "Medan", 3.2)));
+    }
+
+    @Test
+    public void cityAndMinRating_sortedByRatingDesc() {
+        FacetResult result = engine.query(FacetQuery.ALL
+                .withCity("Medan")
+                .withMinRating(FacetQuery.MinRating.FOUR)
+                .withSortOrder(FacetQuery.SortOrder.RATING_DESC));
+
+        assertEquals(Arrays.asList("3", "1"), ids(result.getItems()));
+        assertEquals(Integer.valueOf(3), result.getRatingCounts().get(FacetQuery.MinRating.ANY));
+        assertEquals(Integer.valueOf(1), result.getRatingCounts().get(FacetQuery.MinRating.FOUR_HALF));
+        // Hitungan kota memakai filter rating, bukan filter kota
+        assertEquals(Integer.valueOf(2), result.getCityCounts().get("Medan"));
+        assertEquals(Integer.valueOf(1), result.getCityCounts().get("Surabaya"));
+    }
+
+    @Test
+    public void defaultAndNameOrders() {
+        assertEquals(Arrays.asList("1", "2", "3", "4"), ids(engine.query(FacetQuery.ALL).getItems()));
+        assertEquals(Arrays.asList("4", "3", "1", "2"),
+                ids(engine.query(FacetQuery.ALL.withSortOrder(FacetQuery.SortOrder.NAME_DESC)).getItems()));
+    }
+
+    @Test
+    public void update_mergesNewItemsAndAppliesChanges() {
+        List<Restaurant> next = new ArrayList<>(Arrays.asList(
+                restaurant("1", "Kafe Kita", "Medan", 4.9),
+                restaurant("2", "Bring Your Phone", "Surabaya", 4.7),
+                restaurant("4", "Warung Lama", "Medan", 3.2),
+                restaurant("5", "Depot Baru", "Bandung", 4.8)));
+        engine.update(next);
+
+        FacetResult result = engine.query(FacetQuery.ALL.withSortOrder(FacetQuery.SortOrder.RATING_DESC));
+        assertEquals(Arrays.asList("1", "5", "2", "4"), ids(result.getItems()));
+        assertEquals(Integer.valueOf(2), result.getCityCounts().get("Medan"));
+        assertEquals(4, engine.size());
+    }
+
+    @Test
+    public void ratingTies_sortedByNameInBothDirections() {
+        engine.update(Arrays.asList(
+                restaurant("1", "Kafe Kita", "Medan", 4.5),
+                restaurant("2", "Bring Your Phone", "Surabaya", 4.5),
+                restaurant("3", "Melting Pot", "Medan", 4.0),
+                restaurant("4", "Warung Lama", "Medan", 3.2),
+                restaurant("5", "Depot Baru", "Medan", 4.0)));
+
+        assertEquals(Arrays.asList("2", "1", "5", "3", "4"), ids(engine.query(
+                FacetQuery.ALL.withSortOrder(FacetQuery.SortOrder.RATING_DESC)).getItems()));
+        assertEquals(Arrays.asList("4", "5", "3", "2", "1"), ids(engine.query(
+                FacetQuery.ALL.withSortOrder(FacetQuery.SortOrder.RATING_ASC)).getItems()));
+        assertEquals(Arrays.asList("5", "3", "1"), ids(engine.query(FacetQuery.ALL
+                .withCity("Medan")
+                .withMinRating(FacetQuery.MinRating.FOUR)
+                .withSortOrder(FacetQuery.SortOrder.RATING_ASC)).getItems()));
+    }
+
+    @Test
+    public void unknownCity_returnsEmpty() {
+        assertTrue(engine.query(FacetQuery.ALL.withCity("Ambon")).getItems().isEmpty());
+    }
+
+    private static List<String> ids(List<Restaurant> restaurants) {
+        List<String> ids = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            ids.add(restaurant.getId());
+        }
+        return ids;
+    }
+
+    private static Restaurant restaurant(String id, String name, String city, double rating) {
+        return new Restaurant(id, name, "desc", "pic", city, rating);
+    }
+}
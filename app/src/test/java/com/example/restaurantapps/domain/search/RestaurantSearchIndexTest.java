@@ -0,0 +1,77 @@
+package com.example.restaurantapps.domain.search;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test RestaurantSearchIndex: exact, prefix, typo, AND antar token, update incremental.
+ */
+public class RestaurantSearchIndexTest {
+
+    private RestaurantSearchIndex index;
+
+    @Before
+    public void setUp() {
+        index = new RestaurantSearchIndex();
+        index.update(Arrays.asList(
+                restaurant("1", "Kafe Kita", "Gorontalo", "Kopi dan roti bakar", 4.0),
+                restaurant("2", "Bring Your Phone Cafe", "Surabaya", "Tempat nongkrong", 4.2),
+                restaurant("3", "Melting Pot", "Medan", "Kafe dengan menu keju", 4.5),
+                restaurant("4", "Kafein", "Medan", "Kopi spesial", 4.6)));
+    }
+
+    @Test
+    public void nameMatchRanksAboveDescriptionMatch() {
+        List<Restaurant> results = index.search("kafe");
+
+        assertEquals("1", results.get(0).getId());
+        assertEquals("3", results.get(results.size() - 1).getId());
+    }
+
+    @Test
+    public void prefixMatchesPartialWord() {
+        assertEquals(Collections.singletonList("2"), ids(index.search("sura")));
+    }
+
+    @Test
+    public void typoIsTolerated() {
+        assertEquals(Collections.singletonList("2"), ids(index.search("surbaya")));
+    }
+
+    @Test
+    public void everyTokenMustMatch() {
+        assertEquals(Collections.singletonList("4"), ids(index.search("medan kopi")));
+    }
+
+    @Test
+    public void update_reindexesChangedAndDropsRemoved() {
+        index.update(Arrays.asList(
+                restaurant("1", "Kafe Kita", "Gorontalo", "Kopi dan roti bakar", 4.0),
+                restaurant("3", "Melting Pot", "Bandung", "Kafe dengan menu keju", 4.5)));
+
+        assertEquals(2, index.size());
+        assertTrue(index.search("surabaya").isEmpty());
+        assertTrue(index.search("medan").isEmpty());
+        assertEquals(Collections.singletonList("3"), ids(index.search("bandung")));
+    }
+
+    private static List<String> ids(List<Restaurant> restaurants) {
+        String[] ids = new String[restaurants.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = restaurants.get(i).getId();
+        }
+        return Arrays.asList(ids);
+    }
+
+    private static Restaurant restaurant(String id, String name, String city, String description, double rating) {
+        return new Restaurant(id, name, description, "pic", city, rating);
+    }
+}
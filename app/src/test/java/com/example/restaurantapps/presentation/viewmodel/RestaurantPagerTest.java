@@ -0,0 +1,210 @@
+package com.example.restaurantapps.presentation.viewmodel;
+
+import com.example.restaurantapps.data.local.CachePolicy;
+import com.example.restaurantapps.data.local.OfflineFirstRestaurantRepository;
+import com.example.restaurantapps.data.local.RestaurantLocalDataSource;
+import com.example.restaurantapps.data.remote.api.RestaurantApiService;
+import com.example.restaurantapps.data.remote.api.RetrofitClient;
+import com.example.restaurantapps.data.repository.RestaurantRepositoryImpl;
+import com.example.restaurantapps.data.repository.SingleFlightRestaurantRepository;
+import com.example.restaurantapps.domain.model.PageRequest;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.model.RestaurantPage;
+import com.example.restaurantapps.domain.repository.Cancellable;
+import com.example.restaurantapps.domain.repository.RestaurantRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pager lewat rantai repository produksi: OfflineFirst (hop ke disk executor)
+ * → SingleFlight → Impl → MockWebServer. Yang dihitung: HTTP request yang sampai ke server.
+ */
+public class RestaurantPagerTest {
+
+    private static final String LIST = "{\"error\":false,\"restaurants\":["
+            + "{\"id\":\"a\",\"name\":\"Kafe Kita\",\"pictureId\":\"25\",\"city\":\"Gorontalo\",\"rating\":4.2},"
+            + "{\"id\":\"b\",\"name\":\"Melting Pot\",\"pictureId\":\"14\",\"city\":\"Medan\",\"rating\":4.5}]}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private ExecutorService networkIO;
+    private ExecutorService diskIO;
+    private RestaurantPager pager;
+    private final Recorder recorder = new Recorder();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                // Lambat: Activity baru dibuat selagi request pertama masih berjalan
+                return new MockResponse().setBody(LIST).setBodyDelay(300, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        networkIO = Executors.newFixedThreadPool(2);
+        diskIO = Executors.newSingleThreadExecutor();
+
+        RestaurantApiService api = RetrofitClient
+                .create(server.url("/").toString(), RetrofitClient.buildHttpClient(null))
+                .create(RestaurantApiService.class);
+        SingleFlightRestaurantRepository remote = new SingleFlightRestaurantRepository(
+                new RestaurantRepositoryImpl(api, networkIO), 0L);
+        OfflineFirstRestaurantRepository repository = new OfflineFirstRestaurantRepository(remote,
+                new RestaurantLocalDataSource(folder.getRoot()), CachePolicy.defaultPolicy(), diskIO);
+        pager = new RestaurantPager(repository, recorder);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pager.clear();
+        diskIO.shutdownNow();
+        networkIO.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void rotationWhileLoading_reusesInFlightRequest() throws Exception {
+        pager.load();
+        awaitFirstRequestInFlight();
+        // Activity baru setelah rotate, ViewModel (dan pager) sama
+        pager.load();
+
+        assertEquals(2, recorder.awaitLoaded().size());
+        Thread.sleep(400);
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, recorder.loadingCount);
+    }
+
+    @Test
+    public void rotationAfterLoad_keepsLoadedPages() throws Exception {
+        pager.load();
+        recorder.awaitLoaded();
+
+        pager.load();
+
+        Thread.sleep(400);
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, recorder.loaded.size());
+    }
+
+    @Test
+    public void refreshWhileLoading_joinsRunningFlight() throws Exception {
+        pager.load();
+        awaitFirstRequestInFlight();
+        pager.refresh();
+
+        assertEquals(2, recorder.awaitLoaded().size());
+        Thread.sleep(400);
+        // Request generation lama di-cancel setelah generation baru ikut flight yang sama
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, recorder.loaded.size());
+        assertTrue(recorder.errors.isEmpty());
+    }
+
+    @Test
+    public void latePageAfterCacheThenNetworkPageZero_isDropped() {
+        ScriptedRepository repository = new ScriptedRepository();
+        RestaurantPager scripted = new RestaurantPager(repository, recorder);
+        List<Restaurant> cached = restaurants(40);
+        List<Restaurant> network = restaurants(20);
+
+        scripted.load();
+        PageRequest first = repository.requests.get(0);
+        // Page 0 dari cache: masih ada halaman berikutnya
+        repository.callbacks.get(0).onPage(RestaurantPage.slice(cached, first));
+        scripted.onGridScrolled(19);
+        assertEquals(2, repository.requests.size());
+        // Page 0 dari network (revalidate): list lebih pendek, nextKey = null
+        repository.callbacks.get(0).onPage(RestaurantPage.slice(network, first));
+        // Page 1 (dari list cache) baru datang sekarang
+        repository.callbacks.get(1).onPage(RestaurantPage.slice(cached, repository.requests.get(1)));
+
+        // Halaman telat dibuang, grid tetap list dari network
+        assertEquals(2, recorder.loaded.size());
+        assertEquals(20, recorder.loaded.get(1).size());
+        assertTrue(recorder.errors.isEmpty());
+    }
+
+    /** Request pertama sudah di server (lewat disk executor & single-flight), body masih ditahan */
+    private void awaitFirstRequestInFlight() throws InterruptedException {
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+    }
+
+    private static List<Restaurant> restaurants(int count) {
+        List<Restaurant> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Restaurant("r" + i, "Resto " + i, null, "p" + i, "Medan", 4.0));
+        }
+        return items;
+    }
+
+    /** Repository yang callback-nya dipanggil test sendiri (urutan hasil diatur test) */
+    private static final class ScriptedRepository implements RestaurantRepository {
+        final List<PageRequest> requests = new ArrayList<>();
+        final List<PageCallback> callbacks = new ArrayList<>();
+
+        @Override
+        public Cancellable getRestaurants(RestaurantCallback callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Cancellable getRestaurantPage(PageRequest request, PageCallback callback) {
+            requests.add(request);
+            callbacks.add(callback);
+            return Cancellable.NONE;
+        }
+    }
+
+    private static final class Recorder implements RestaurantPager.Listener {
+        final List<List<Restaurant>> loaded = new CopyOnWriteArrayList<>();
+        final List<String> errors = new CopyOnWriteArrayList<>();
+        volatile int loadingCount;
+
+        @Override
+        public void onLoading() {
+            loadingCount++;
+        }
+
+        @Override
+        public void onLoaded(List<Restaurant> items) {
+            loaded.add(items);
+        }
+
+        @Override
+        public void onError(String error) {
+            errors.add(error);
+        }
+
+        List<Restaurant> awaitLoaded() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (loaded.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse("tidak ada halaman", loaded.isEmpty());
+            return loaded.get(0);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.restaurantapps.presentation.viewmodel;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.FacetQuery;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import kotlin.Unit;
+import kotlin.coroutines.EmptyCoroutineContext;
+import kotlinx.coroutines.CoroutineScope;
+import kotlinx.coroutines.CoroutineScopeKt;
+import kotlinx.coroutines.ExecutorsKt;
+import kotlinx.coroutines.flow.FlowKt;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pipeline UI state tanpa Android: "main thread" adalah single-thread executor
+ * yang menghitung setiap dispatch, sama seperti asLiveData() men-dispatch ke
+ * Dispatchers.Main untuk setiap state yang diterima collector.
+ *
+ * Baseline sebelumnya: 4 dispatch per refresh (setValue loading, setValue error,
+ * postValue list, postValue loading false), masing-masing dengan observer pass sendiri.
+ */
+public class RestaurantStatePipelineTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final AtomicInteger mainDispatches = new AtomicInteger();
+    private final List<RestaurantUiState> renders = Collections.synchronizedList(new ArrayList<>());
+    private ExecutorService mainThread;
+    private ExecutorService computeThread;
+    private CoroutineScope scope;
+    private CoroutineScope mainScope;
+    private RestaurantStatePipeline pipeline;
+
+    @Before
+    public void setUp() throws Exception {
+        mainThread = Executors.newSingleThreadExecutor();
+        computeThread = Executors.newSingleThreadExecutor();
+        scope = CoroutineScopeKt.CoroutineScope(EmptyCoroutineContext.INSTANCE);
+        mainScope = CoroutineScopeKt.CoroutineScope(ExecutorsKt.from(runnable -> {
+            mainDispatches.incrementAndGet();
+            mainThread.execute(runnable);
+        }));
+        pipeline = new RestaurantStatePipeline(scope, ExecutorsKt.from(computeThread), 50L);
+
+        FlowKt.launchIn(FlowKt.onEach(pipeline.getUiState(), (state, continuation) -> {
+            renders.add(state);
+            return Unit.INSTANCE;
+        }), mainScope);
+        awaitRender(state -> state == RestaurantUiState.INITIAL);
+        resetCounters();
+    }
+
+    @After
+    public void tearDown() {
+        CoroutineScopeKt.cancel(mainScope, null);
+        CoroutineScopeKt.cancel(scope, null);
+        mainThread.shutdownNow();
+        computeThread.shutdownNow();
+    }
+
+    @Test
+    public void refresh_dispatchesAtMostTwiceToMainThread() throws Exception {
+        for (int refresh = 1; refresh <= 3; refresh++) {
+            List<Restaurant> items = restaurants(refresh * 10);
+            pipeline.onLoading();
+            awaitRender(RestaurantUiState::isLoading);
+            computeThread.execute(() -> pipeline.onLoaded(items));
+            awaitRender(state -> !state.isLoading() && state.getItems().equals(items));
+
+            assertTrue("dispatch refresh " + refresh + ": " + mainDispatches.get(), mainDispatches.get() <= 2);
+            resetCounters();
+        }
+    }
+
+    @Test
+    public void burstWhileMainThreadBusy_isConflatedToLatestState() throws Exception {
+        CountDownLatch busy = new CountDownLatch(1);
+        mainThread.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Cache + beberapa halaman datang selagi main thread sibuk (misal layout)
+        List<Restaurant> last = null;
+        for (int page = 1; page <= 20; page++) {
+            last = restaurants(page * 5);
+            pipeline.onLoaded(last);
+        }
+        List<Restaurant> expected = last;
+        awaitComputeIdle();
+        busy.countDown();
+        awaitRender(state -> state.getItems().equals(expected));
+
+        assertTrue("dispatch: " + mainDispatches.get(), mainDispatches.get() <= 2);
+        assertEquals(expected, renders.get(renders.size() - 1).getItems());
+    }
+
+    @Test
+    public void unchangedStateAndFilter_areNotDispatched() throws Exception {
+        List<Restaurant> items = restaurants(10);
+        pipeline.onLoaded(items);
+        awaitRender(state -> state.getItems().equals(items));
+        resetCounters();
+
+        pipeline.setQuery("");
+        pipeline.setFacetQuery(FacetQuery.ALL);
+        // Sumber berubah (object baru), tapi hasil derivasi sama → distinctUntilChanged
+        pipeline.onLoaded(items);
+        awaitComputeIdle();
+        awaitMainIdle();
+
+        assertEquals(0, mainDispatches.get());
+        assertTrue(renders.isEmpty());
+    }
+
+    @Test
+    public void recomputedFacetResultWithSameContent_isNotDispatched() throws Exception {
+        List<Restaurant> items = restaurants(10);
+        pipeline.onLoaded(items);
+        pipeline.setFacetQuery(FacetQuery.ALL.withCity("Medan"));
+        awaitRender(state -> state.getFacetResult() != null);
+        resetCounters();
+
+        // Page 0 dikirim ulang (cache lalu network) dengan isi sama: filter dihitung
+        // ulang menjadi FacetResult baru, tapi nilainya sama
+        pipeline.onLoaded(new ArrayList<>(items));
+        awaitComputeIdle();
+        awaitMainIdle();
+
+        assertEquals(0, mainDispatches.get());
+        assertTrue(renders.isEmpty());
+    }
+
+    @Test
+    public void typing_isDebouncedToOneSearchAndOneDispatch() throws Exception {
+        pipeline.onLoaded(Arrays.asList(
+                new Restaurant("a", "Kafe Kita", null, "25", "Gorontalo", 4.2),
+                new Restaurant("b", "Melting Pot", null, "14", "Medan", 4.5)));
+        awaitRender(state -> state.getItems().size() == 2);
+        resetCounters();
+
+        for (String query : new String[]{"k", "ka", "kaf", "kafe"}) {
+            pipeline.setQuery(query);
+        }
+        awaitRender(state -> state.getItems().size() == 1);
+
+        assertEquals(1, renders.size());
+        assertEquals("a", renders.get(0).getItems().get(0).getId());
+        assertEquals(1, mainDispatches.get());
+
+        // Query kosong langsung diterapkan (tanpa debounce)
+        pipeline.setQuery("");
+        awaitRender(state -> state.getItems().size() == 2);
+    }
+
+    @Test
+    public void facetFilter_keepsResultUntilListOrFilterChanges() throws Exception {
+        List<Restaurant> items = restaurants(10);
+        pipeline.onLoaded(items);
+        pipeline.setFacetQuery(FacetQuery.ALL.withCity("Medan"));
+        awaitRender(state -> state.getFacetResult() != null);
+        RestaurantUiState filtered = renders.get(renders.size() - 1);
+
+        pipeline.onLoading();
+        RestaurantUiState loading = awaitRender(RestaurantUiState::isLoading);
+
+        // Hanya loading yang berubah: hasil filter di-reuse, bukan dihitung ulang
+        assertSame(filtered.getFacetResult(), loading.getFacetResult());
+        assertSame(filtered.getItems(), loading.getItems());
+        assertEquals(FacetQuery.ALL.withCity("Medan"), pipeline.getFacetQuery());
+    }
+
+    @Test
+    public void search_usesFullDatasetNotOnlyLoadedPages() throws Exception {
+        List<Restaurant> dataset = restaurants(60);
+        // Grid baru berisi page 0, list penuh sudah ada di cache
+        pipeline.onLoaded(new ArrayList<>(dataset.subList(0, 20)));
+        pipeline.onDataset(dataset);
+        assertFalse(pipeline.isFiltering());
+
+        pipeline.setQuery("Resto 45");
+        RestaurantUiState found = awaitRender(state -> state.getItems().size() == 1);
+
+        assertEquals("r45", found.getItems().get(0).getId());
+        assertTrue(pipeline.isFiltering());
+
+        // Query dihapus: grid kembali ke halaman yang sudah di-load, bukan list penuh
+        pipeline.setQuery("");
+        awaitRender(state -> state.getItems().size() == 20);
+        assertFalse(pipeline.isFiltering());
+    }
+
+    @Test
+    public void facetFilter_usesFullDatasetNotOnlyLoadedPages() throws Exception {
+        List<Restaurant> dataset = restaurants(60);
+        pipeline.onLoaded(new ArrayList<>(dataset.subList(0, 20)));
+        pipeline.onDataset(dataset);
+
+        pipeline.setFacetQuery(FacetQuery.ALL.withCity("Medan"));
+        RestaurantUiState filtered = awaitRender(state -> state.getFacetResult() != null);
+
+        assertEquals(30, filtered.getItems().size());
+        assertEquals(Integer.valueOf(30), filtered.getFacetResult().getCityCounts().get("Surabaya"));
+    }
+
+    private RestaurantUiState awaitRender(Predicate<RestaurantUiState> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            synchronized (renders) {
+                for (int i = renders.size() - 1; i >= 0; i--) {
+                    if (condition.test(renders.get(i))) {
+                        return renders.get(i);
+                    }
+                }
+            }
+            Thread.sleep(5);
+        }
+        fail("State tidak pernah dirender: " + renders);
+        return null;
+    }
+
+    private void resetCounters() throws Exception {
+        awaitMainIdle();
+        mainDispatches.set(0);
+        renders.clear();
+    }
+
+    private void awaitMainIdle() throws Exception {
+        mainThread.submit(() -> { }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void awaitComputeIdle() throws Exception {
+        computeThread.submit(() -> { }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Thread.sleep(20);
+        computeThread.submit(() -> { }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static List<Restaurant> restaurants(int count) {
+        List<Restaurant> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Restaurant("r" + i, "Resto " + i, null, "p" + i,
+                    i % 2 == 0 ? "Medan" : "Surabaya", 3.0 + (i % 20) / 10.0));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,109 @@
+// Modul benchmark JVM murni (JMH), terpisah dari modul Android :app.
+// Jalankan: ./gradlew :benchmark:jmh
+// Filter suite: ./gradlew :benchmark:jmh -PjmhIncludes=DataMapping
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Source app memakai karakter non-ASCII di komentar (→, ⭐)
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+// Pakai ulang source pure-Java dari :app (domain + data tanpa Android API),
+// jadi yang di-benchmark adalah kode produksi yang sama persis.
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            include(
+                "com/example/restaurantapps/domain/**",
+                "com/example/restaurantapps/data/executor/**",
+                "com/example/restaurantapps/data/mapper/**",
+                "com/example/restaurantapps/data/remote/converter/**",
+                "com/example/restaurantapps/data/remote/response/**"
+            )
+        }
+    }
+}
+
+dependencies {
+    implementation(libs.gson)
+    implementation(libs.retrofit)
+    implementation(libs.okhttp)
+    // Stand-in server localhost untuk WireFormatBenchmark / wireFormatSize
+    jmhImplementation(libs.okhttp.mockwebserver)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+
+    // thrpt = throughput, sample = distribusi latency (p50/p90/p99 per operasi)
+    benchmarkMode.set(listOf("thrpt", "sample"))
+    timeUnit.set("us")
+    // gc: alokasi per operasi (gc.alloc.rate.norm) dan allocation rate
+    profilers.set(listOf("gc"))
+
+    // Hasil machine-readable untuk dibandingkan antar run (lihat task jmhCompare)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
+// Bandingkan 2 hasil JMH:
+// ./gradlew :benchmark:jmhCompare -Pbaseline=old.json -Pcurrent=build/results/jmh/results.json
+tasks.register<JavaExec>("jmhCompare") {
+    group = "benchmark"
+    description = "Bandingkan skor, p99 dan alokasi dari 2 file hasil JMH JSON"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.restaurantapps.benchmark.JmhResultComparison")
+    args(
+        findProperty("baseline") ?: "baseline.json",
+        findProperty("current") ?: layout.buildDirectory.file("results/jmh/results.json").get().asFile.path
+    )
+}
+
+// Peak heap per jalur parsing (JMH tidak mengukur peak heap secara langsung).
+// Jalankan: ./gradlew :benchmark:parsePeakHeap
+tasks.register<JavaExec>("parsePeakHeap") {
+    group = "benchmark"
+    description = "Bandingkan peak heap Gson binding vs streaming parser untuk 20..100k restaurant"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.restaurantapps.benchmark.ParsePeakHeapReport")
+    jvmArgs("-Xmx2g", "-XX:+UseSerialGC")
+}
+
+// Footprint memory RestaurantSearchIndex (retained heap setelah build).
+// Jalankan: ./gradlew :benchmark:searchIndexFootprint
+tasks.register<JavaExec>("searchIndexFootprint") {
+    group = "benchmark"
+    description = "Ukur memory yang ditahan RestaurantSearchIndex untuk 1k..50k restaurant"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.restaurantapps.benchmark.SearchIndexFootprintReport")
+    jvmArgs("-Xmx2g", "-XX:+UseSerialGC")
+}
+
+// Heap yang ditahan list restaurant: model lama vs Restaurant kompak.
+// Jalankan: ./gradlew :benchmark:restaurantFootprint
+tasks.register<JavaExec>("restaurantFootprint") {
+    group = "benchmark"
+    description = "Bandingkan retained heap 10k..100k restaurant: bean lama vs model kompak"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.restaurantapps.benchmark.RestaurantFootprintReport")
+    jvmArgs("-Xmx2g", "-XX:+UseSerialGC")
+}
+
+// Byte di jaringan per format payload (JSON/CBOR, tanpa/dengan gzip).
+// Jalankan: ./gradlew :benchmark:wireFormatSize
+tasks.register<JavaExec>("wireFormatSize") {
+    group = "benchmark"
+    description = "Bandingkan ukuran body list di jaringan: JSON vs CBOR, tanpa/dengan gzip"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.restaurantapps.benchmark.WireFormatSizeReport")
+}
@@ -0,0 +1,45 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.mapper.RestaurantMapper;
+import com.example.restaurantapps.data.remote.response.RestaurantResponse;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Suite hot path data layer:
+ * - Gson deserialization RestaurantResponse (JSON → DTO)
+ * - RestaurantMapper.convertDtoToDomain (DTO → domain)
+ * - Restaurant.getPictureUrl() (string building per cell)
+ *
+ * Mode, profiler gc, dan format hasil diatur di benchmark/build.gradle.kts.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataMappingBenchmark {
+
+    @Benchmark
+    public RestaurantResponse gsonDeserializeResponse(RestaurantPayloadState state) {
+        return state.gson.fromJson(state.json, RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public List<Restaurant> convertDtoToDomain(RestaurantPayloadState state) {
+        return RestaurantMapper.convertDtoToDomain(state.dtos);
+    }
+
+    @Benchmark
+    public void pictureUrlForEveryItem(RestaurantPayloadState state, Blackhole blackhole) {
+        List<Restaurant> restaurants = state.restaurants;
+        for (int i = 0, n = restaurants.size(); i < n; i++) {
+            blackhole.consume(restaurants.get(i).getPictureUrl());
+        }
+    }
+}
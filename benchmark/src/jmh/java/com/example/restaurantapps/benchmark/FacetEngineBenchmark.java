@@ -0,0 +1,118 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.FacetQuery;
+import com.example.restaurantapps.domain.search.FacetResult;
+import com.example.restaurantapps.domain.search.RestaurantFacetEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * RestaurantFacetEngine vs cara naif (filter + Collections.sort per query)
+ * untuk query "city = X, rating ≥ 4, urut rating tertinggi".
+ *
+ * - build*        : biaya membangun urutan & hitungan facet dari nol
+ * - appendPage    : biaya incremental saat 1 halaman (20 item) baru datang
+ * - query*        : biaya per query setelah engine siap
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacetEngineBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private List<Restaurant> restaurants;
+    private RestaurantFacetEngine engine;
+    private FacetQuery query;
+
+    @Setup
+    public void setUp() {
+        restaurants = SyntheticPayloads.restaurants(size);
+        engine = new RestaurantFacetEngine();
+        engine.update(restaurants);
+        query = FacetQuery.ALL
+                .withCity(SyntheticPayloads.CITIES[0])
+                .withMinRating(FacetQuery.MinRating.FOUR)
+                .withSortOrder(FacetQuery.SortOrder.RATING_DESC);
+    }
+
+    @Benchmark
+    public RestaurantFacetEngine buildEngine() {
+        RestaurantFacetEngine fresh = new RestaurantFacetEngine();
+        fresh.update(restaurants);
+        return fresh;
+    }
+
+    @Benchmark
+    public RestaurantFacetEngine appendPage(AppendState state) {
+        state.engine.update(state.withNextPage);
+        return state.engine;
+    }
+
+    @Benchmark
+    public FacetResult queryEngine() {
+        return engine.query(query);
+    }
+
+    @Benchmark
+    public FacetResult queryEngineSortByName() {
+        return engine.query(FacetQuery.ALL.withSortOrder(FacetQuery.SortOrder.NAME_ASC));
+    }
+
+    @Benchmark
+    public List<Restaurant> queryNaiveFilterAndSort() {
+        List<Restaurant> result = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            if (SyntheticPayloads.CITIES[0].equals(restaurant.getCity()) && restaurant.getRating() >= 4.0) {
+                result.add(restaurant);
+            }
+        }
+        result.sort(Comparator.comparingDouble(Restaurant::getRating).reversed()
+                .thenComparing(Restaurant::getName));
+        return result;
+    }
+
+    /**
+     * State terpisah untuk appendPage: setiap invocation mulai dari engine berisi
+     * {@code size} item, lalu 1 halaman baru di-merge.
+     */
+    @State(Scope.Thread)
+    public static class AppendState {
+
+        @Param({"10000", "100000"})
+        public int size;
+
+        List<Restaurant> restaurants;
+        List<Restaurant> withNextPage;
+        RestaurantFacetEngine engine;
+
+        @Setup
+        public void setUp() {
+            withNextPage = SyntheticPayloads.restaurants(size + PAGE_SIZE);
+            restaurants = new ArrayList<>(withNextPage.subList(0, size));
+            engine = new RestaurantFacetEngine();
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            engine.update(restaurants);
+        }
+    }
+}
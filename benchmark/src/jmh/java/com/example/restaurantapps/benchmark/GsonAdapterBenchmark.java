@@ -0,0 +1,86 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.remote.response.DtoTypeAdapterFactory;
+import com.example.restaurantapps.data.remote.response.RestaurantResponse;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gson reflektif vs DtoTypeAdapterFactory untuk RestaurantResponse.
+ *
+ * - adapterCreation* : hanya membuat adapter (scan field via reflection vs lookup factory)
+ * - firstParse*      : Gson baru + parse pertama = biaya request pertama setelah cold start
+ *                      (class loading JVM tidak ikut terukur, JIT sudah hangat)
+ * - steadyState*     : Gson & adapter sudah dibuat, hanya parse
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonAdapterBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    public int size;
+
+    private byte[] payload;
+    private Gson reflectiveGson;
+    private Gson generatedGson;
+
+    @Setup
+    public void setUp() {
+        payload = SyntheticPayloads.jsonBytes(size);
+        reflectiveGson = new Gson();
+        generatedGson = DtoTypeAdapterFactory.gson();
+        // Adapter dibuat sekali di sini, steadyState* tidak membayar biaya pembuatan
+        reflectiveGson.getAdapter(RestaurantResponse.class);
+        generatedGson.getAdapter(RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public TypeAdapter<RestaurantResponse> adapterCreationReflective() {
+        return new Gson().getAdapter(RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public TypeAdapter<RestaurantResponse> adapterCreationGenerated() {
+        return DtoTypeAdapterFactory.gson().getAdapter(RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public RestaurantResponse firstParseReflective() {
+        return new Gson().fromJson(reader(), RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public RestaurantResponse firstParseGenerated() {
+        return DtoTypeAdapterFactory.gson().fromJson(reader(), RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public RestaurantResponse steadyStateReflective() {
+        return reflectiveGson.fromJson(reader(), RestaurantResponse.class);
+    }
+
+    @Benchmark
+    public RestaurantResponse steadyStateGenerated() {
+        return generatedGson.fromJson(reader(), RestaurantResponse.class);
+    }
+
+    private Reader reader() {
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.restaurantapps.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bandingkan 2 file hasil JMH (format JSON): baseline vs current.
+ *
+ * Untuk setiap benchmark+param+mode, tampilkan skor, p99 (mode sample)
+ * dan alokasi per operasi (gc.alloc.rate.norm) beserta perubahan dalam persen.
+ */
+public final class JmhResultComparison {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private JmhResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: JmhResultComparison <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, JsonObject> baseline = load(args[0]);
+        Map<String, JsonObject> current = load(args[1]);
+
+        System.out.println("benchmark,unit,baseline,current,delta%,p99Baseline,p99Current,allocBaseline,allocCurrent");
+        for (Map.Entry<String, JsonObject> entry : current.entrySet()) {
+            JsonObject now = entry.getValue();
+            JsonObject before = baseline.get(entry.getKey());
+            double scoreNow = primaryScore(now);
+            double scoreBefore = before != null ? primaryScore(before) : Double.NaN;
+            System.out.println(String.format(Locale.US, "%s,%s,%.3f,%.3f,%+.1f,%.3f,%.3f,%.1f,%.1f",
+                    entry.getKey(),
+                    now.getAsJsonObject("primaryMetric").get("scoreUnit").getAsString(),
+                    scoreBefore, scoreNow, (scoreNow - scoreBefore) / scoreBefore * 100,
+                    before != null ? p99(before) : Double.NaN, p99(now),
+                    before != null ? allocation(before) : Double.NaN, allocation(now)));
+        }
+    }
+
+    private static Map<String, JsonObject> load(String path) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            JsonArray array = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : array) {
+                JsonObject result = element.getAsJsonObject();
+                results.put(key(result), result);
+            }
+        }
+        return results;
+    }
+
+    private static String key(JsonObject result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").getAsString())
+                .append('[').append(result.get("mode").getAsString());
+        if (result.has("params")) {
+            for (Map.Entry<String, JsonElement> param : result.getAsJsonObject("params").entrySet()) {
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().getAsString());
+            }
+        }
+        return key.append(']').toString();
+    }
+
+    private static double primaryScore(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+
+    private static double p99(JsonObject result) {
+        JsonObject percentiles = result.getAsJsonObject("primaryMetric").getAsJsonObject("scorePercentiles");
+        return percentiles != null && percentiles.has("99.0") && "sample".equals(result.get("mode").getAsString())
+                ? percentiles.get("99.0").getAsDouble()
+                : Double.NaN;
+    }
+
+    private static double allocation(JsonObject result) {
+        JsonObject secondary = result.getAsJsonObject("secondaryMetrics");
+        if (secondary == null || !secondary.has(ALLOC_METRIC)) {
+            return Double.NaN;
+        }
+        return secondary.getAsJsonObject(ALLOC_METRIC).get("score").getAsDouble();
+    }
+}
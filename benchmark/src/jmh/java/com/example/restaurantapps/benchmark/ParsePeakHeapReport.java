@@ -0,0 +1,108 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.mapper.RestaurantMapper;
+import com.example.restaurantapps.data.remote.converter.RestaurantField;
+import com.example.restaurantapps.data.remote.converter.RestaurantStreamParser;
+import com.example.restaurantapps.data.remote.response.RestaurantResponse;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.google.gson.Gson;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Laporan peak heap & waktu parse per jalur parsing, untuk 20 .. 100k restaurant.
+ *
+ * Cara ukur: GC penuh, reset peak semua heap pool, parse sekali, lalu
+ * peak - baseline. Dengan SerialGC (lihat task parsePeakHeap) angka ini
+ * mendekati puncak memory yang dibutuhkan selama parsing berlangsung.
+ * Output CSV supaya mudah dibandingkan antar run.
+ */
+public final class ParsePeakHeapReport {
+
+    private static final int[] SIZES = {20, 1_000, 10_000, 100_000};
+
+    private interface ParsePath {
+        List<Restaurant> parse(Reader reader) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Gson gson = new Gson();
+        RestaurantStreamParser fullParser = new RestaurantStreamParser();
+        RestaurantStreamParser gridParser =
+                new RestaurantStreamParser(RestaurantField.GRID, RestaurantStreamParser.DEFAULT_CHUNK_SIZE);
+
+        String[] names = {"gson+mapping", "streaming", "streaming-grid"};
+        ParsePath[] paths = {
+                reader -> RestaurantMapper.convertDtoToDomain(
+                        gson.fromJson(reader, RestaurantResponse.class).getRestaurants()),
+                fullParser::parse,
+                gridParser::parse
+        };
+
+        System.out.println("path,size,peakHeapBytes,retainedBytes,parseMillis");
+        for (int size : SIZES) {
+            byte[] payload = SyntheticPayloads.jsonBytes(size);
+            for (int i = 0; i < paths.length; i++) {
+                // Warm-up supaya JIT tidak mempengaruhi waktu
+                for (int w = 0; w < 3; w++) {
+                    paths[i].parse(reader(payload));
+                }
+                measure(names[i], size, payload, paths[i]);
+            }
+        }
+    }
+
+    private static void measure(String name, int size, byte[] payload, ParsePath path) throws Exception {
+        System.gc();
+        long baseline = usedHeap();
+        resetPeaks();
+
+        long start = System.nanoTime();
+        List<Restaurant> result = path.parse(reader(payload));
+        long elapsedNanos = System.nanoTime() - start;
+
+        long peak = peakHeap();
+        System.gc();
+        long retained = usedHeap() - baseline;
+
+        System.out.println(String.format(Locale.US, "%s,%d,%d,%d,%.3f",
+                name, size, Math.max(0, peak - baseline), retained, elapsedNanos / 1_000_000.0));
+        if (result.size() != size) {
+            throw new IllegalStateException("Jumlah hasil tidak sesuai: " + result.size());
+        }
+    }
+
+    private static Reader reader(byte[] payload) {
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+
+    private static void resetPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        return total;
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.remote.converter.RestaurantStreamParser;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.google.gson.stream.JsonReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Laporan heap yang ditahan list restaurant hasil parsing: model lama (bean mutable,
+ * String per field, rating double) vs Restaurant kompak (city di-intern, rating float,
+ * description di DescriptionTable).
+ *
+ * Kedua model di-parse dari JSON yang sama, jadi setiap city benar-benar String baru
+ * seperti saat load dari network. Cara ukur sama dengan SearchIndexFootprintReport:
+ * GC penuh, parse, GC penuh → selisih heap = yang ditahan list.
+ */
+public final class RestaurantFootprintReport {
+
+    private static final int[] SIZES = {10_000, 100_000};
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("model,size,retainedBytes,bytesPerRestaurant");
+        for (int size : SIZES) {
+            byte[] json = SyntheticPayloads.jsonBytes(size);
+
+            long baseline = usedHeapAfterGc();
+            List<LegacyRestaurant> legacy = parseLegacy(json);
+            long legacyRetained = usedHeapAfterGc() - baseline;
+            print("legacy", size, legacyRetained);
+            check(legacy.size(), size);
+            legacy = null;
+
+            baseline = usedHeapAfterGc();
+            List<Restaurant> compact = new RestaurantStreamParser().parse(reader(json));
+            long compactRetained = usedHeapAfterGc() - baseline;
+            print("compact", size, compactRetained);
+            check(compact.size(), size);
+
+            System.out.println(String.format(Locale.US, "# size=%d saved=%.1f%%",
+                    size, 100.0 * (legacyRetained - compactRetained) / legacyRetained));
+        }
+    }
+
+    private static void print(String model, int size, long retained) {
+        System.out.println(String.format(Locale.US, "%s,%d,%d,%.1f",
+                model, size, retained, retained / (double) size));
+    }
+
+    private static void check(int actual, int expected) {
+        if (actual != expected) {
+            throw new IllegalStateException("Jumlah restaurant tidak sesuai: " + actual);
+        }
+    }
+
+    private static Reader reader(byte[] json) {
+        return new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8);
+    }
+
+    private static List<LegacyRestaurant> parseLegacy(byte[] json) throws IOException {
+        List<LegacyRestaurant> restaurants = new ArrayList<>();
+        JsonReader reader = new JsonReader(reader(json));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"restaurants".equals(reader.nextName())) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                LegacyRestaurant restaurant = new LegacyRestaurant();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "id":
+                            restaurant.id = reader.nextString();
+                            break;
+                        case "name":
+                            restaurant.name = reader.nextString();
+                            break;
+                        case "description":
+                            restaurant.description = reader.nextString();
+                            break;
+                        case "pictureId":
+                            restaurant.pictureId = reader.nextString();
+                            break;
+                        case "city":
+                            restaurant.city = reader.nextString();
+                            break;
+                        case "rating":
+                            restaurant.rating = reader.nextDouble();
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
+                    }
+                }
+                reader.endObject();
+                restaurants.add(restaurant);
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        return restaurants;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Salinan layout Restaurant sebelum dibuat kompak (hanya untuk pembanding).
+     */
+    private static final class LegacyRestaurant {
+        String id;
+        String name;
+        String description;
+        String pictureId;
+        String city;
+        double rating;
+    }
+}
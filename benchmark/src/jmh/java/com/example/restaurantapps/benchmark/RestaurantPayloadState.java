@@ -0,0 +1,39 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.mapper.RestaurantMapper;
+import com.example.restaurantapps.data.remote.response.RestaurantDto;
+import com.example.restaurantapps.data.remote.response.RestaurantResponse;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * State bersama untuk suite data/mapping: payload sintetis beberapa ukuran,
+ * sudah dalam bentuk JSON, DTO dan domain supaya tiap benchmark hanya
+ * mengukur satu tahap.
+ */
+@State(Scope.Benchmark)
+public class RestaurantPayloadState {
+
+    @Param({"20", "1000", "10000"})
+    public int size;
+
+    public Gson gson;
+    public String json;
+    public List<RestaurantDto> dtos;
+    public List<Restaurant> restaurants;
+
+    @Setup
+    public void setUp() {
+        gson = new Gson();
+        json = SyntheticPayloads.json(size);
+        dtos = gson.fromJson(json, RestaurantResponse.class).getRestaurants();
+        restaurants = RestaurantMapper.convertDtoToDomain(dtos);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.RestaurantSearchIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RestaurantSearchIndex: waktu build (penuh & incremental) dan latency query.
+ *
+ * Target: query < 1 ms (lihat p99 mode sample) pada 50k restaurant.
+ * Footprint memory index diukur terpisah oleh task searchIndexFootprint
+ * (SearchIndexFootprintReport), karena JMH tidak mengukur retained heap.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int size;
+
+    /**
+     * exact: "surabaya", prefix: "waru", typo: "sederhna", multi token: "kafe bandung"
+     */
+    @Param({"surabaya", "waru", "sederhna", "kafe bandung"})
+    public String query;
+
+    private List<Restaurant> restaurants;
+    private List<Restaurant> nextPage;
+    private RestaurantSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        List<Restaurant> catalog = SyntheticPayloads.restaurants(size + 20);
+        restaurants = new ArrayList<>(catalog.subList(0, size));
+        // Skenario paging: 20 item baru di atas list yang sudah diindeks
+        nextPage = catalog;
+        index = new RestaurantSearchIndex();
+        index.update(restaurants);
+    }
+
+    @Benchmark
+    public RestaurantSearchIndex buildFull() {
+        RestaurantSearchIndex fresh = new RestaurantSearchIndex();
+        fresh.update(restaurants);
+        return fresh;
+    }
+
+    @Benchmark
+    public RestaurantSearchIndex updateWithNextPage() {
+        // Setelah invocation pertama semua item sudah ada → mengukur biaya diff per update
+        RestaurantSearchIndex incremental = index;
+        incremental.update(nextPage);
+        incremental.update(restaurants);
+        return incremental;
+    }
+
+    @Benchmark
+    public List<Restaurant> query() {
+        return index.search(query);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.example.restaurantapps.domain.search.RestaurantSearchIndex;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Laporan footprint memory RestaurantSearchIndex untuk 1k .. 50k restaurant.
+ *
+ * Cara ukur: katalog dibuat dulu (tidak ikut dihitung), GC penuh, build index,
+ * GC penuh lagi → selisih heap = memory yang ditahan index saja.
+ * Output CSV supaya mudah dibandingkan antar run.
+ */
+public final class SearchIndexFootprintReport {
+
+    private static final int[] SIZES = {1_000, 10_000, 50_000};
+
+    public static void main(String[] args) {
+        System.out.println("size,terms,postings,retainedBytes,bytesPerRestaurant,buildMillis");
+        for (int size : SIZES) {
+            List<Restaurant> restaurants = SyntheticPayloads.restaurants(size);
+            // Warm-up supaya JIT tidak mempengaruhi waktu build
+            for (int w = 0; w < 3; w++) {
+                new RestaurantSearchIndex().update(restaurants);
+            }
+
+            long baseline = usedHeapAfterGc();
+            long start = System.nanoTime();
+            RestaurantSearchIndex index = new RestaurantSearchIndex();
+            index.update(restaurants);
+            long elapsedNanos = System.nanoTime() - start;
+            long retained = usedHeapAfterGc() - baseline;
+
+            System.out.println(String.format(Locale.US, "%d,%d,%d,%d,%.1f,%.3f",
+                    size, index.getTermCount(), index.getPostingCount(), retained,
+                    retained / (double) size, elapsedNanos / 1_000_000.0));
+            if (index.size() != size) {
+                throw new IllegalStateException("Jumlah dokumen tidak sesuai: " + index.size());
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.mapper.RestaurantMapper;
+import com.example.restaurantapps.data.remote.converter.RestaurantField;
+import com.example.restaurantapps.data.remote.converter.RestaurantStreamParser;
+import com.example.restaurantapps.data.remote.response.RestaurantResponse;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Waktu parse endpoint "list": jalur lama (Gson binding + convertDtoToDomain)
+ * vs RestaurantStreamParser (semua field & projection grid tanpa description).
+ *
+ * Input dibaca dari byte[] lewat Reader, sama seperti ResponseBody.charStream().
+ * Mode, profiler gc, dan format hasil diatur di benchmark/build.gradle.kts.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingParseBenchmark {
+
+    @Param({"20", "1000", "10000", "100000"})
+    public int size;
+
+    private byte[] payload;
+    private Gson gson;
+    private RestaurantStreamParser fullParser;
+    private RestaurantStreamParser gridParser;
+
+    @Setup
+    public void setUp() {
+        payload = SyntheticPayloads.jsonBytes(size);
+        gson = new Gson();
+        fullParser = new RestaurantStreamParser();
+        gridParser = new RestaurantStreamParser(RestaurantField.GRID, RestaurantStreamParser.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Benchmark
+    public List<Restaurant> gsonBindingThenMapping() {
+        RestaurantResponse response = gson.fromJson(reader(), RestaurantResponse.class);
+        return RestaurantMapper.convertDtoToDomain(response.getRestaurants());
+    }
+
+    @Benchmark
+    public List<Restaurant> streamingAllFields() throws IOException {
+        return fullParser.parse(reader());
+    }
+
+    @Benchmark
+    public List<Restaurant> streamingGridProjection() throws IOException {
+        return gridParser.parse(reader());
+    }
+
+    private Reader reader() {
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generator payload sintetis dengan bentuk yang sama seperti endpoint "list".
+ * Seed tetap → payload identik di setiap run, hasil antar run bisa dibandingkan.
+ */
+public final class SyntheticPayloads {
+
+    static final String[] CITIES = {
+            "Medan", "Gorontalo", "Surabaya", "Bali", "Aceh", "Balikpapan", "Bandung", "Ternate",
+            "Malang", "Makassar", "Jakarta", "Yogyakarta", "Semarang", "Palembang", "Padang",
+            "Pontianak", "Manado", "Kupang", "Ambon", "Jayapura"
+    };
+
+    private static final String[] WORDS = {
+            "Lorem", "ipsum", "dolor", "sit", "amet", "consectetuer", "adipiscing", "elit",
+            "Aenean", "commodo", "ligula", "eget", "massa", "Cum", "sociis", "natoque",
+            "penatibus", "et", "magnis", "dis", "parturient", "montes", "nascetur", "ridiculus"
+    };
+
+    private static final String[] NAME_HEADS = {
+            "Kafe", "Warung", "Rumah Makan", "Kedai", "Depot", "Bakso", "Sate", "Mie", "Soto", "Nasi Goreng"
+    };
+
+    private static final String[] NAME_TAILS = {
+            "Kita", "Bahagia", "Sederhana", "Mama", "Sentosa", "Jaya", "Nusantara", "Selera", "Rasa", "Kenangan"
+    };
+
+    private SyntheticPayloads() {
+    }
+
+    public static String json(int count) {
+        Random random = new Random(42);
+        StringWriter out = new StringWriter(count * 600);
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginObject();
+            writer.name("error").value(false);
+            writer.name("message").value("success");
+            writer.name("count").value(count);
+            writer.name("restaurants").beginArray();
+            for (int i = 0; i < count; i++) {
+                writer.beginObject();
+                writer.name("id").value(Long.toHexString(random.nextLong()) + i);
+                writer.name("name").value("Restaurant " + i);
+                writer.name("description").value(description(random));
+                writer.name("pictureId").value(String.valueOf(1 + random.nextInt(99)));
+                writer.name("city").value(CITIES[random.nextInt(CITIES.length)]);
+                writer.name("rating").value(Math.round((2.5 + random.nextDouble() * 2.5) * 10) / 10.0);
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Katalog domain untuk benchmark search: nama bervariasi (kosakata + nomor cabang unik)
+     * supaya jumlah term tumbuh seperti data asli, bukan "Restaurant i" yang seragam.
+     */
+    public static List<Restaurant> restaurants(int count) {
+        Random random = new Random(42);
+        List<Restaurant> restaurants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = NAME_HEADS[random.nextInt(NAME_HEADS.length)] + " "
+                    + NAME_TAILS[random.nextInt(NAME_TAILS.length)] + " " + Integer.toString(i, 36);
+            restaurants.add(new Restaurant(
+                    "id-" + i,
+                    name,
+                    description(random),
+                    String.valueOf(1 + random.nextInt(99)),
+                    CITIES[random.nextInt(CITIES.length)],
+                    Math.round((2.5 + random.nextDouble() * 2.5) * 10) / 10.0));
+        }
+        return restaurants;
+    }
+
+    public static byte[] jsonBytes(int count) {
+        return json(count).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Deskripsi ~400 karakter, mirip API asli (field terbesar di payload)
+    private static String description(Random random) {
+        StringBuilder builder = new StringBuilder(440);
+        while (builder.length() < 400) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return builder.toString().trim();
+    }
+}
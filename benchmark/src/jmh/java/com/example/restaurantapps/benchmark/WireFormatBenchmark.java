@@ -0,0 +1,94 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.benchmark.WireFormatServer.WireFormat;
+import com.example.restaurantapps.data.remote.converter.CborRestaurantConverterFactory;
+import com.example.restaurantapps.data.remote.converter.StreamingRestaurantConverterFactory;
+import com.example.restaurantapps.domain.model.Restaurant;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.GzipSource;
+import okio.Okio;
+import retrofit2.Converter;
+
+/**
+ * Format payload endpoint "list": JSON vs CBOR, masing-masing tanpa/dengan gzip.
+ *
+ * - fetchAndDecode: request ke stand-in server localhost (WireFormatServer),
+ *   negosiasi lewat header, lalu decode dengan converter produksi
+ *   (CborRestaurantConverterFactory + fallback streaming JSON)
+ * - decodeOnly: body yang sama dari memory, tanpa socket; selisih keduanya
+ *   = biaya transfer di loopback
+ *
+ * Alokasi per operasi: gc.alloc.rate.norm (profiler gc, lihat build.gradle.kts).
+ * Ukuran di jaringan per format: ./gradlew :benchmark:wireFormatSize
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"JSON", "JSON_GZIP", "CBOR", "CBOR_GZIP"})
+    public WireFormat format;
+
+    @Param({"20", "1000", "10000"})
+    public int size;
+
+    private WireFormatServer server;
+    private OkHttpClient client;
+    private Converter<ResponseBody, ?> converter;
+    private MediaType contentType;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new WireFormatServer(size);
+        client = new OkHttpClient();
+        converter = CborRestaurantConverterFactory.create(StreamingRestaurantConverterFactory.create())
+                .responseBodyConverter(TypeToken.getParameterized(List.class, Restaurant.class).getType(),
+                        new Annotation[0], null);
+        contentType = MediaType.get(format.cbor
+                ? CborRestaurantConverterFactory.MEDIA_TYPE
+                : "application/json; charset=utf-8");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Benchmark
+    public Object fetchAndDecode() throws IOException {
+        try (Response response = client.newCall(format.request(server.url())).execute()) {
+            return converter.convert(response.body());
+        }
+    }
+
+    @Benchmark
+    public Object decodeOnly() throws IOException {
+        BufferedSource source = new Buffer().write(server.body(format));
+        if (format.gzip) {
+            source = Okio.buffer(new GzipSource(source));
+        }
+        return converter.convert(ResponseBody.create(source, contentType, -1));
+    }
+}
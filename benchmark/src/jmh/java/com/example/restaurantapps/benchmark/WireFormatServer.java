@@ -0,0 +1,127 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.data.remote.converter.CborRestaurantConverterFactory;
+import com.example.restaurantapps.data.remote.converter.RestaurantCborWriter;
+import com.example.restaurantapps.data.remote.converter.RestaurantStreamParser;
+import com.example.restaurantapps.domain.model.Restaurant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Stand-in server endpoint "list" di localhost: memilih body berdasarkan
+ * Accept dan Accept-Encoding request, seperti server yang mendukung CBOR + gzip.
+ * Keempat body disiapkan sekali, jadi yang terukur hanya transfer + decode di client.
+ *
+ * Brotli tidak ikut: tidak ada encoder brotli pure-Java untuk sisi server.
+ */
+public final class WireFormatServer implements Closeable {
+
+    public enum WireFormat {
+        JSON(false, false),
+        JSON_GZIP(false, true),
+        CBOR(true, false),
+        CBOR_GZIP(true, true);
+
+        final boolean cbor;
+        final boolean gzip;
+
+        WireFormat(boolean cbor, boolean gzip) {
+            this.cbor = cbor;
+            this.gzip = gzip;
+        }
+
+        /**
+         * Request seperti yang dikirim app. Format gzip: OkHttp sendiri menambahkan
+         * "Accept-Encoding: gzip" dan men-decode body (di app: BrotliInterceptor).
+         * Tanpa gzip: "identity" supaya gzip transparan itu tidak terjadi.
+         */
+        Request request(HttpUrl url) {
+            Request.Builder builder = new Request.Builder()
+                    .url(url)
+                    .header("Accept", cbor
+                            ? CborRestaurantConverterFactory.ACCEPT_HEADER.substring("Accept: ".length())
+                            : "application/json");
+            if (!gzip) {
+                builder.header("Accept-Encoding", "identity");
+            }
+            return builder.build();
+        }
+    }
+
+    private final MockWebServer server = new MockWebServer();
+    private final byte[][] bodies = new byte[WireFormat.values().length][];
+
+    WireFormatServer(int size) throws IOException {
+        byte[] json = SyntheticPayloads.jsonBytes(size);
+        List<Restaurant> restaurants = new RestaurantStreamParser()
+                .parse(new StringReader(SyntheticPayloads.json(size)));
+        byte[] cbor = RestaurantCborWriter.encode(restaurants);
+        for (WireFormat format : WireFormat.values()) {
+            byte[] body = format.cbor ? cbor : json;
+            bodies[format.ordinal()] = format.gzip ? gzip(body) : body;
+        }
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String accept = request.getHeader("Accept");
+                String encoding = request.getHeader("Accept-Encoding");
+                WireFormat format = negotiate(
+                        accept != null && accept.contains(CborRestaurantConverterFactory.MEDIA_TYPE),
+                        encoding != null && encoding.contains("gzip"));
+                MockResponse response = new MockResponse()
+                        .setHeader("Content-Type", format.cbor
+                                ? CborRestaurantConverterFactory.MEDIA_TYPE
+                                : "application/json; charset=utf-8")
+                        .setBody(new Buffer().write(body(format)));
+                if (format.gzip) {
+                    response.setHeader("Content-Encoding", "gzip");
+                }
+                return response;
+            }
+        });
+        server.start();
+    }
+
+    HttpUrl url() {
+        return server.url("/list");
+    }
+
+    /** Body persis seperti di jaringan (sudah di-gzip jika format gzip). */
+    byte[] body(WireFormat format) {
+        return bodies[format.ordinal()];
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private static WireFormat negotiate(boolean cbor, boolean gzip) {
+        if (cbor) {
+            return gzip ? WireFormat.CBOR_GZIP : WireFormat.CBOR;
+        }
+        return gzip ? WireFormat.JSON_GZIP : WireFormat.JSON;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        Buffer out = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(out))) {
+            sink.write(body);
+        }
+        return out.readByteArray();
+    }
+}
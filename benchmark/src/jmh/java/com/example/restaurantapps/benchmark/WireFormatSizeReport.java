@@ -0,0 +1,57 @@
+package com.example.restaurantapps.benchmark;
+
+import com.example.restaurantapps.benchmark.WireFormatServer.WireFormat;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * Ukuran body endpoint "list" di jaringan per format, untuk 20 .. 10k restaurant.
+ *
+ * Byte dihitung OkHttp (EventListener.responseBodyEnd) lewat request sungguhan
+ * ke WireFormatServer, jadi negosiasi header ikut diuji. "decodedBytes" = body
+ * setelah gzip dibuka, yang dibaca parser. Output CSV.
+ */
+public final class WireFormatSizeReport {
+
+    private static final int[] SIZES = {20, 1_000, 10_000};
+
+    public static void main(String[] args) throws IOException {
+        AtomicLong wireBytes = new AtomicLong();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void responseBodyEnd(Call call, long byteCount) {
+                        wireBytes.set(byteCount);
+                    }
+                })
+                .build();
+
+        System.out.println("format,size,wireBytes,decodedBytes,wireVsJson");
+        for (int size : SIZES) {
+            try (WireFormatServer server = new WireFormatServer(size)) {
+                long jsonBytes = 0;
+                for (WireFormat format : WireFormat.values()) {
+                    long decodedBytes;
+                    try (Response response = client.newCall(format.request(server.url())).execute()) {
+                        decodedBytes = response.body().bytes().length;
+                    }
+                    if (format == WireFormat.JSON) {
+                        jsonBytes = wireBytes.get();
+                    }
+                    System.out.println(String.format(Locale.US, "%s,%d,%d,%d,%.3f",
+                            format, size, wireBytes.get(), decodedBytes,
+                            wireBytes.get() / (double) jsonBytes));
+                }
+            }
+        }
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+}
@@ -0,0 +1,49 @@
+// Macrobenchmark: ukur cold start app yang benar-benar ter-install (bukan JVM).
+// Jalankan di device fisik: ./gradlew :macrobenchmark:connectedBenchmarkAndroidTest
+plugins {
+    alias(libs.plugins.android.test)
+}
+
+android {
+    namespace = "com.example.restaurantapps.macrobenchmark"
+    compileSdk {
+        version = release(36)
+    }
+
+    defaultConfig {
+        minSdk = 24
+        targetSdk = 36
+
+        testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+    }
+
+    buildTypes {
+        // Sama dengan build type "benchmark" di :app
+        create("benchmark") {
+            isDebuggable = true
+            signingConfig = signingConfigs.getByName("debug")
+            matchingFallbacks += listOf("release")
+        }
+    }
+
+    compileOptions {
+        sourceCompatibility = JavaVersion.VERSION_11
+        targetCompatibility = JavaVersion.VERSION_11
+    }
+
+    targetProjectPath = ":app"
+    experimentalProperties["android.experimental.self-instrumenting"] = true
+}
+
+dependencies {
+    implementation(libs.ext.junit)
+    implementation(libs.uiautomator)
+    implementation(libs.benchmark.macro.junit4)
+}
+
+// Hanya variant benchmark yang masuk akal (debug build app tidak representatif)
+androidComponents {
+    beforeVariants(selector().all()) {
+        it.enable = it.buildType == "benchmark"
+    }
+}
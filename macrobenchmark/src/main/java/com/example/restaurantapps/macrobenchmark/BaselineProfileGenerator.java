@@ -0,0 +1,48 @@
+package com.example.restaurantapps.macrobenchmark;
+
+import androidx.benchmark.macro.junit4.BaselineProfileRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import kotlin.Unit;
+
+/**
+ * Generate baseline profile dari journey yang sama dengan StartupBenchmark & ScrollBenchmark.
+ *
+ * Butuh device API 33+ (atau API 28+ rooted). Hasil:
+ * macrobenchmark/build/outputs/connected_android_test_additional_output/.../
+ *     BaselineProfileGenerator_generate-baseline-prof.txt
+ * Salin ke app/src/main/baseline-prof.txt (menggantikan seed manual), lalu ukur ulang
+ * dengan StartupBenchmark / ScrollBenchmark.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BaselineProfileGenerator {
+
+    private static final int MAX_ITERATIONS = 15;
+    private static final int STABLE_ITERATIONS = 3;
+
+    @Rule
+    public BaselineProfileRule rule = new BaselineProfileRule();
+
+    @Test
+    public void generate() {
+        rule.collect(
+                RestaurantJourneys.PACKAGE_NAME,
+                MAX_ITERATIONS,
+                STABLE_ITERATIONS,
+                null,
+                // Tulis juga ...-startup-prof.txt (class startup untuk layout dex)
+                true,
+                false,
+                line -> true,
+                scope -> {
+                    scope.pressHome();
+                    RestaurantJourneys.startAndWaitForGrid(scope);
+                    RestaurantJourneys.scrollGrid(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.restaurantapps.macrobenchmark;
+
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.BySelector;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+/**
+ * User journey yang dipakai bersama oleh benchmark (startup, scroll) dan
+ * BaselineProfileGenerator, supaya profile berisi jalur yang sama persis
+ * dengan yang diukur.
+ */
+public final class RestaurantJourneys {
+
+    public static final String PACKAGE_NAME = "com.example.restaurantapps";
+
+    // Cache disk / network bisa lambat di device benchmark: beri batas yang longgar
+    private static final long GRID_TIMEOUT_MS = 10_000L;
+
+    private static final int FLINGS = 3;
+
+    private static final BySelector GRID = By.res(PACKAGE_NAME, "recyclerViewRestaurant");
+
+    private RestaurantJourneys() {
+    }
+
+    /**
+     * Cold start sampai grid berisi cell pertama (= saat reportFullyDrawn dipanggil).
+     */
+    public static void startAndWaitForGrid(MacrobenchmarkScope scope) {
+        scope.startActivityAndWait();
+        UiObject2 grid = scope.getDevice().wait(Until.findObject(GRID), GRID_TIMEOUT_MS);
+        if (grid == null) {
+            throw new AssertionError("Grid restaurant tidak muncul dalam " + GRID_TIMEOUT_MS + " ms");
+        }
+        grid.wait(Until.hasObject(By.res(PACKAGE_NAME, "textViewName")), GRID_TIMEOUT_MS);
+    }
+
+    /**
+     * Fling grid ke bawah lalu kembali ke atas: bind cell baru, paging, image loading.
+     */
+    public static void scrollGrid(MacrobenchmarkScope scope) {
+        UiObject2 grid = scope.getDevice().findObject(GRID);
+        // Margin: gesture tidak dimulai dari tepi layar (memicu navigasi gesture sistem)
+        grid.setGestureMargin(scope.getDevice().getDisplayWidth() / 5);
+        for (int i = 0; i < FLINGS; i++) {
+            grid.fling(Direction.DOWN);
+            scope.getDevice().waitForIdle();
+        }
+        grid.fling(Direction.UP);
+        scope.getDevice().waitForIdle();
+    }
+}
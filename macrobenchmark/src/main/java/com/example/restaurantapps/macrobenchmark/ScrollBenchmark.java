@@ -0,0 +1,60 @@
+package com.example.restaurantapps.macrobenchmark;
+
+import androidx.benchmark.macro.BaselineProfileMode;
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+
+import kotlin.Unit;
+
+/**
+ * Jank saat scroll grid pertama kali setelah cold start (kode bind & Glide belum ter-JIT).
+ *
+ * FrameTimingMetric: frameDurationCpuMs dan frameOverrunMs (p50/p90/p95/p99).
+ * frameOverrunMs > 0 = frame melewati deadline = jank. Bandingkan None vs Partial.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ScrollBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    @Rule
+    public MacrobenchmarkRule rule = new MacrobenchmarkRule();
+
+    @Test
+    public void scrollWithoutProfile() {
+        measureScroll(new CompilationMode.None());
+    }
+
+    @Test
+    public void scrollWithBaselineProfile() {
+        measureScroll(new CompilationMode.Partial(BaselineProfileMode.Require));
+    }
+
+    private void measureScroll(CompilationMode compilationMode) {
+        rule.measureRepeated(
+                RestaurantJourneys.PACKAGE_NAME,
+                Collections.singletonList(new FrameTimingMetric()),
+                compilationMode,
+                StartupMode.COLD,
+                ITERATIONS,
+                scope -> {
+                    // Startup tidak ikut diukur: hanya frame saat scroll
+                    scope.pressHome();
+                    RestaurantJourneys.startAndWaitForGrid(scope);
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    RestaurantJourneys.scrollGrid(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+}
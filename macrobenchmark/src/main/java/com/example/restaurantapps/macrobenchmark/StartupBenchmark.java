@@ -0,0 +1,91 @@
+package com.example.restaurantapps.macrobenchmark;
+
+import androidx.benchmark.macro.BaselineProfileMode;
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.Metric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.StartupTimingMetric;
+import androidx.benchmark.macro.TraceSectionMetric;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import kotlin.Unit;
+
+/**
+ * Cold start dari launcher sampai grid pertama tampil.
+ *
+ * Output per run (min/median/max di build/outputs/connected_android_test_additional_output):
+ * - timeToInitialDisplayMs : frame pertama Activity (TTID)
+ * - timeToFullDisplayMs    : reportFullyDrawn() setelah grid berisi data (TTFD)
+ * - <section>Ms            : durasi kemunculan pertama trace section AppTrace,
+ *                            memecah TTFD per fase (init Retrofit, ViewModel,
+ *                            network + parse, bind cell pertama)
+ *
+ * Network.preconnect berjalan paralel dengan MainActivity.onCreate (warm-up dari
+ * RestaurantApp); Repo.getRestaurantPage menunjukkan berapa network yang tersisa
+ * di critical path. Di Logcat, baris "1st call first byte" NetworkMetrics
+ * memberi waktu header pertama request list (tanpa DNS/TLS jika preconnect menang).
+ *
+ * Dua mode kompilasi dibandingkan:
+ * - None    : tanpa AOT, semua kode mulai interpreted/JIT (seperti install tanpa profile)
+ * - Partial : AOT sesuai baseline-prof.txt (seperti install dari Play Store / profileinstaller)
+ * Selisih median TTID/TTFD = keuntungan baseline profile.
+ *
+ * Jalankan di device fisik, build "benchmark" (non-debuggable, R8 seperti release).
+ */
+@RunWith(AndroidJUnit4.class)
+public class StartupBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    @Rule
+    public MacrobenchmarkRule rule = new MacrobenchmarkRule();
+
+    @Test
+    public void coldStartWithoutProfile() {
+        measureColdStart(new CompilationMode.None());
+    }
+
+    @Test
+    public void coldStartWithBaselineProfile() {
+        measureColdStart(new CompilationMode.Partial(BaselineProfileMode.Require));
+    }
+
+    private void measureColdStart(CompilationMode compilationMode) {
+        rule.measureRepeated(
+                RestaurantJourneys.PACKAGE_NAME,
+                startupMetrics(),
+                compilationMode,
+                StartupMode.COLD,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    RestaurantJourneys.startAndWaitForGrid(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+
+    private static List<Metric> startupMetrics() {
+        return Arrays.asList(
+                new StartupTimingMetric(),
+                new TraceSectionMetric("RestaurantApp.onCreate"),
+                new TraceSectionMetric("MainActivity.onCreate"),
+                new TraceSectionMetric("RestaurantViewModel.init"),
+                new TraceSectionMetric("RetrofitClient.init"),
+                new TraceSectionMetric("Network.preconnect"),
+                new TraceSectionMetric("RestaurantViewModel.loadRestaurants"),
+                new TraceSectionMetric("Repo.getRestaurantPage"),
+                new TraceSectionMetric("Retrofit.parse"),
+                new TraceSectionMetric("RestaurantAdapter.onBind"));
+    }
+}
@@ -21,3 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "Restaurant Apps"
 include(":app")
+include(":benchmark")
+include(":macrobenchmark")